@@ -0,0 +1,140 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.diagnostic.DiagnosticListener;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
+import org.wso2.ballerinalang.programfile.ProgramFileWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+
+/**
+ * Utility methods for compiling the Ballerina sources of the benchmarks.
+ * <p>
+ * The sources are packaged in the benchmarks jar under "bal/", hence they are copied to a temporary directory to be
+ * compiled.
+ *
+ * @since 0.976.1
+ */
+public class BenchmarkUtils {
+
+    private static final String SOURCE_DIR = "bal/";
+
+    /**
+     * Compiles the given Ballerina source and initializes its packages.
+     *
+     * @param fileName name of the Ballerina source
+     * @return the executable program
+     * @throws IOException if the source cannot be read
+     */
+    public static ProgramFile compileAndSetup(String fileName) throws IOException {
+        Path sourceRoot = extractSource(fileName);
+        CompileResult compileResult = BCompileUtil.compile(sourceRoot.toString(), fileName, CompilerPhase.CODE_GEN);
+        if (compileResult.getErrorCount() > 0 || compileResult.getProgFile() == null) {
+            throw new IllegalStateException("failed to compile " + fileName + ": " + compileResult);
+        }
+        BRunUtil.invokePackageInit(compileResult);
+        return compileResult.getProgFile();
+    }
+
+    /**
+     * Compiles the given Ballerina source to the binary format which is loaded by the BVM.
+     *
+     * @param fileName name of the Ballerina source
+     * @return the compiled program
+     * @throws IOException if the source cannot be read
+     */
+    public static byte[] compileToBinary(String fileName) throws IOException {
+        Path sourceRoot = extractSource(fileName);
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, sourceRoot.toString());
+        options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+        CompileResult compileResult = new CompileResult();
+        context.put(DiagnosticListener.class, compileResult::addDiagnostic);
+
+        Compiler compiler = Compiler.getInstance(context);
+        BLangPackage packageNode = compiler.compile(fileName);
+        CompiledBinaryFile.ProgramFile programFile = compiler.getExecutableProgram(packageNode);
+        if (compileResult.getErrorCount() > 0 || programFile == null) {
+            throw new IllegalStateException("failed to compile " + fileName + ": " + compileResult);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProgramFileWriter.writeProgram(programFile, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Reads a resource of the benchmarks, e.g. a payload, as a string.
+     *
+     * @param resourceName name of the resource
+     * @return content of the resource
+     * @throws IOException if the resource cannot be read
+     */
+    public static String readResource(String resourceName) throws IOException {
+        try (InputStream inputStream = getResourceAsStream(resourceName)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Path extractSource(String fileName) throws IOException {
+        Path sourceRoot = Files.createTempDirectory("ballerina-benchmarks");
+        sourceRoot.toFile().deleteOnExit();
+        Path sourcePath = sourceRoot.resolve(fileName);
+        try (InputStream inputStream = getResourceAsStream(SOURCE_DIR + fileName)) {
+            Files.copy(inputStream, sourcePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        sourcePath.toFile().deleteOnExit();
+        return sourceRoot;
+    }
+
+    private static InputStream getResourceAsStream(String resourceName) throws IOException {
+        InputStream inputStream = BenchmarkUtils.class.getClassLoader().getResourceAsStream(resourceName);
+        if (inputStream == null) {
+            throw new IOException("benchmark resource not found: " + resourceName);
+        }
+        return inputStream;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.bvm;
+
+import org.ballerinalang.benchmarks.BenchmarkUtils;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the execution of Ballerina functions by the {@code CPU}, covering function calls, loops, object
+ * method calls, record casts and string concatenation. See "bal/cpu.bal" for the executed functions.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CPUBenchmark {
+
+    private static final BValue[] FIB_ARGS = {new BInteger(20)};
+
+    private static final BValue[] LOOP_ARGS = {new BInteger(1000)};
+
+    private ProgramFile programFile;
+
+    private FunctionInfo fibInfo;
+
+    private FunctionInfo sumLoopInfo;
+
+    private FunctionInfo invokeMethodsInfo;
+
+    private FunctionInfo castRecordsInfo;
+
+    private FunctionInfo concatStringsInfo;
+
+    @Setup
+    public void setup() throws IOException {
+        programFile = BenchmarkUtils.compileAndSetup("cpu.bal");
+        PackageInfo packageInfo = programFile.getPackageInfo(programFile.getEntryPkgName());
+        fibInfo = packageInfo.getFunctionInfo("fib");
+        sumLoopInfo = packageInfo.getFunctionInfo("sumLoop");
+        invokeMethodsInfo = packageInfo.getFunctionInfo("invokeMethods");
+        castRecordsInfo = packageInfo.getFunctionInfo("castRecords");
+        concatStringsInfo = packageInfo.getFunctionInfo("concatStrings");
+    }
+
+    @Benchmark
+    public BValue[] fib() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, fibInfo, FIB_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] sumLoop() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, sumLoopInfo, LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] invokeMethods() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, invokeMethodsInfo, LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] castRecords() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, castRecordsInfo, LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] concatStrings() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, concatStringsInfo, LOOP_ARGS);
+    }
+}
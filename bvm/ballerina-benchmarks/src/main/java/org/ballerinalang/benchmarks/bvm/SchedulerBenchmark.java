@@ -0,0 +1,87 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.bvm;
+
+import org.ballerinalang.benchmarks.BenchmarkUtils;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scheduling of workers by the {@code BLangScheduler}, covering fork/join and the message passing
+ * between the workers of a function. See "bal/fork-join.bal" for the executed functions.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private static final BValue[] NO_ARGS = {};
+
+    private ProgramFile programFile;
+
+    private FunctionInfo forkJoinAllInfo;
+
+    private FunctionInfo forkJoinSomeInfo;
+
+    private FunctionInfo workersInfo;
+
+    @Setup
+    public void setup() throws IOException {
+        programFile = BenchmarkUtils.compileAndSetup("fork-join.bal");
+        PackageInfo packageInfo = programFile.getPackageInfo(programFile.getEntryPkgName());
+        forkJoinAllInfo = packageInfo.getFunctionInfo("forkJoinAll");
+        forkJoinSomeInfo = packageInfo.getFunctionInfo("forkJoinSome");
+        workersInfo = packageInfo.getFunctionInfo("workers");
+    }
+
+    @Benchmark
+    public BValue[] forkJoinAll() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, forkJoinAllInfo, NO_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] forkJoinSome() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, forkJoinSomeInfo, NO_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] workers() {
+        return BLangFunctions.invokeEntrypointCallable(programFile, workersInfo, NO_ARGS);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.bvm;
+
+import org.ballerinalang.bre.bvm.VarLock;
+import org.ballerinalang.bre.bvm.WorkerExecutionContext;
+import org.ballerinalang.bre.bvm.WorkerState;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link VarLock}s which back the {@code lock} blocks of Ballerina.
+ * <p>
+ * The contexts used here are root contexts, which have no code. Hence resuming a context which waited for a lock
+ * only marks it as ready, and the benchmark thread itself retries the lock, as the LOCK instruction would.
+ *
+ * @since 0.976.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VarLockBenchmark {
+
+    /**
+     * The lock which is shared between all the benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedLock {
+
+        VarLock lock = new VarLock();
+    }
+
+    /**
+     * The context of a single benchmark thread, a child context of it and a lock used only by the thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadContext {
+
+        VarLock lock = new VarLock();
+
+        WorkerExecutionContext ctx;
+
+        WorkerExecutionContext childCtx;
+
+        @Setup
+        public void setup() {
+            ctx = new WorkerExecutionContext((ProgramFile) null);
+            childCtx = new WorkerExecutionContext((ProgramFile) null);
+            childCtx.parent = ctx;
+        }
+    }
+
+    @Benchmark
+    public void uncontendedLock(ThreadContext threadCtx) {
+        threadCtx.lock.lock(threadCtx.ctx);
+        threadCtx.lock.unlock();
+    }
+
+    @Benchmark
+    public void reentrantLock(ThreadContext threadCtx) {
+        VarLock lock = threadCtx.lock;
+        lock.lock(threadCtx.ctx);
+        lock.lock(threadCtx.childCtx);
+        lock.unlock();
+        lock.unlock();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void contendedLock(SharedLock sharedLock, ThreadContext threadCtx) {
+        acquire(sharedLock.lock, threadCtx.ctx);
+        sharedLock.lock.unlock();
+    }
+
+    private static void acquire(VarLock lock, WorkerExecutionContext ctx) {
+        while (!lock.lock(ctx)) {
+            while (ctx.state == WorkerState.WAITING_FOR_LOCK) {
+                Thread.yield();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.sql;
+
+import org.ballerinalang.database.sql.MultiRowInsert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of inserting rows to an in-memory H2 database, as a batch of single row INSERT statements, and as the
+ * multi-row INSERT statements which a batch is rewritten to with the "b7a.sql.batch.insert.rows" configuration. The
+ * score is the number of rows inserted per second.
+ * <p>
+ * When {@code rowsPerInsert} is 1 the rows are inserted as a JDBC batch, which is how {@code sql:batchUpdate}
+ * executes a batch by default. Otherwise each chunk of rows is inserted with a single statement.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    static final int ROWS = 10000;
+
+    private static final String INSERT_QUERY = "INSERT INTO Customers (id, name, creditLimit, country) "
+            + "VALUES (?, ?, ?, ?)";
+
+    @Param({"1", "10", "100", "500"})
+    public int rowsPerInsert;
+
+    private Connection connection;
+
+    private MultiRowInsert multiRowInsert;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batchinsert;DB_CLOSE_DELAY=-1");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS Customers (id INT, name VARCHAR(50), creditLimit DOUBLE, "
+                    + "country VARCHAR(50))");
+        }
+        connection.setAutoCommit(false);
+        multiRowInsert = MultiRowInsert.parse(INSERT_QUERY);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("TRUNCATE TABLE Customers");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        return rowsPerInsert == 1 ? insertBatch() : insertMultiRow();
+    }
+
+    private int insertBatch() throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_QUERY)) {
+            for (int row = 0; row < ROWS; row++) {
+                setRow(stmt, 0, row);
+                stmt.addBatch();
+            }
+            int count = stmt.executeBatch().length;
+            connection.commit();
+            return count;
+        }
+    }
+
+    private int insertMultiRow() throws SQLException {
+        int count = 0;
+        PreparedStatement stmt = null;
+        int stmtRows = 0;
+        try {
+            for (int start = 0; start < ROWS; start += rowsPerInsert) {
+                int rows = Math.min(rowsPerInsert, ROWS - start);
+                if (rows != stmtRows) {
+                    if (stmt != null) {
+                        stmt.close();
+                    }
+                    stmt = connection.prepareStatement(multiRowInsert.getQuery(rows));
+                    stmtRows = rows;
+                }
+                int ordinal = 0;
+                for (int row = start; row < start + rows; row++) {
+                    ordinal = setRow(stmt, ordinal, row);
+                }
+                count += stmt.executeUpdate();
+            }
+            connection.commit();
+            return count;
+        } finally {
+            if (stmt != null) {
+                stmt.close();
+            }
+        }
+    }
+
+    private static int setRow(PreparedStatement stmt, int ordinal, int row) throws SQLException {
+        stmt.setInt(ordinal + 1, row);
+        stmt.setString(ordinal + 2, "customer-" + row);
+        stmt.setDouble(ordinal + 3, row * 1.5);
+        stmt.setString(ordinal + 4, "Sri Lanka");
+        return ordinal + 4;
+    }
+}
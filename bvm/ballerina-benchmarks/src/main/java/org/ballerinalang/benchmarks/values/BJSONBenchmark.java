@@ -0,0 +1,94 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.benchmarks.BenchmarkUtils;
+import org.ballerinalang.model.util.JsonNode;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link BJSON} operations, i.e. building, accessing and serializing JSON values. See
+ * "data/payload.json" for the payload.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BJSONBenchmark {
+
+    private String payload;
+
+    private BJSON json;
+
+    @Setup
+    public void setup() throws IOException {
+        payload = BenchmarkUtils.readResource("data/payload.json");
+        json = new BJSON(payload);
+    }
+
+    @Benchmark
+    public BJSON create() {
+        return new BJSON(payload);
+    }
+
+    @Benchmark
+    public double accessFields() {
+        JsonNode items = json.value().get("items");
+        double total = 0;
+        for (int i = 0; i < items.size(); i++) {
+            total += items.get(i).get("price").doubleValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public String stringValue() {
+        return json.stringValue();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serialize() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        json.serializeData(outputStream);
+        return outputStream;
+    }
+
+    @Benchmark
+    public BValue copy() {
+        return json.copy();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BRecordType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link BMap} operations, which back Ballerina maps, records and objects. The local benchmarks
+ * use maps which are not shared with other workers, and the record benchmarks use a record type with a field for
+ * each key. The record field benchmarks access the fields by their position, as the BVM does for field accesses
+ * resolved at compile time.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BMapBenchmark {
+
+    @Param({"8", "256"})
+    private int size;
+
+    private String[] keys;
+
+    private BValue[] values;
+
+    private BMap<String, BValue> map;
+
+    private BRecordType recordType;
+
+    private BMap<String, BValue> record;
+
+    @Setup
+    public void setup() {
+        keys = new String[size];
+        values = new BValue[size];
+        map = new BMap<>();
+        BField[] fields = new BField[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+            values[i] = new BInteger(i);
+            map.put(keys[i], values[i]);
+            fields[i] = new BField(BTypes.typeInt, keys[i], 0);
+        }
+        recordType = new BRecordType(null, "Record", ".", 0);
+        recordType.setFields(fields);
+        record = putRecord();
+    }
+
+    @Benchmark
+    public BMap<String, BValue> put() {
+        BMap<String, BValue> newMap = new BMap<>();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public BMap<String, BValue> putLocal() {
+        BMap<String, BValue> newMap = new BMap<>(BTypes.typeMap, false);
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public BMap<String, BValue> putRecord() {
+        BMap<String, BValue> record = new BMap<>(recordType, false);
+        for (int i = 0; i < size; i++) {
+            record.put(keys[i], values[i]);
+        }
+        return record;
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    public BMap<String, BValue> putRecordField() {
+        BMap<String, BValue> record = new BMap<>(recordType, false);
+        for (int i = 0; i < size; i++) {
+            record.putField(i, keys[i], values[i]);
+        }
+        return record;
+    }
+
+    @Benchmark
+    public void getRecord(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(record.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getRecordField(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(record.getField(i, keys[i]));
+        }
+    }
+
+    @Benchmark
+    public boolean hasKey() {
+        return map.hasKey(keys[size - 1]);
+    }
+
+    @Benchmark
+    public BValue copy() {
+        return map.copy();
+    }
+
+    @Benchmark
+    public String stringValue() {
+        return map.stringValue();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serialize() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        map.serializeData(outputStream);
+        return outputStream;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.benchmarks.BenchmarkUtils;
+import org.ballerinalang.model.util.XMLUtils;
+import org.ballerinalang.model.values.BXML;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link BXML} operations, i.e. parsing, navigating and serializing XML values. See
+ * "data/payload.xml" for the payload.
+ * <p>
+ * The navigation benchmarks select from the same document repeatedly, hence they measure navigation through the
+ * child indexes of the document. {@link #selectChildrenOfCopy()} measures the first navigation of a document.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BXMLBenchmark {
+
+    private String payload;
+
+    private BXML<?> xml;
+
+    @Setup
+    public void setup() throws IOException {
+        payload = BenchmarkUtils.readResource("data/payload.xml");
+        xml = XMLUtils.parse(payload);
+    }
+
+    @Benchmark
+    public BXML<?> parse() {
+        return XMLUtils.parse(payload);
+    }
+
+    @Benchmark
+    public BXML<?> selectElements() {
+        return xml.children().elements("item");
+    }
+
+    @Benchmark
+    public BXML<?> selectChildren() {
+        return xml.children("item");
+    }
+
+    @Benchmark
+    public BXML<?> selectNestedChildren() {
+        return xml.children("item").children("price");
+    }
+
+    @Benchmark
+    public BXML<?> selectChildrenOfCopy() {
+        return xml.copy().children("item");
+    }
+
+    @Benchmark
+    public BXML<?> selectDescendants() {
+        return xml.descendants("price");
+    }
+
+    @Benchmark
+    public String stringValue() {
+        return xml.stringValue();
+    }
+
+    @Benchmark
+    public BXML<?> copy() {
+        return xml.copy();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.benchmarks.BenchmarkUtils;
+import org.ballerinalang.model.util.JsonGenerator;
+import org.ballerinalang.model.util.JsonNode;
+import org.ballerinalang.model.util.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of parsing JSON payloads with the {@link JsonParser}. See "data/payload.json" for the payload.
+ * <p>
+ * UTF-8 encoded content is parsed directly from the bytes, while {@link #parseReader()} measures the character based
+ * parser on the same content. The pass-through benchmarks read a single field and write the payload out again, with
+ * and without lazy parsing. The records benchmarks use a generated array of identically shaped records, and the read
+ * benchmarks compare reading them from fully parsed nodes and from lazily parsed nodes which are already loaded.
+ *
+ * @since 0.976.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParserBenchmark {
+
+    private String payload;
+
+    private byte[] payloadBytes;
+
+    private byte[] recordsBytes;
+
+    private JsonNode records;
+
+    private JsonNode lazyRecords;
+
+    @Setup
+    public void setup() throws IOException {
+        payload = BenchmarkUtils.readResource("data/payload.json");
+        payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder recordsBuilder = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                recordsBuilder.append(',');
+            }
+            recordsBuilder.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i)
+                    .append("\",\"price\":").append(i * 1.25).append(",\"available\":").append(i % 2 == 0)
+                    .append(",\"ratings\":[").append(i % 5).append(',').append(i % 3).append(",4]}");
+        }
+        recordsBytes = recordsBuilder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        records = JsonParser.parse(recordsBytes);
+        lazyRecords = JsonParser.parseLazy(recordsBytes);
+        readRecords(lazyRecords);
+    }
+
+    @Benchmark
+    public JsonNode parseString() {
+        return JsonParser.parse(payload);
+    }
+
+    @Benchmark
+    public JsonNode parseInputStream() {
+        return JsonParser.parse(new ByteArrayInputStream(payloadBytes));
+    }
+
+    @Benchmark
+    public JsonNode parseBytes() {
+        return JsonParser.parse(payloadBytes);
+    }
+
+    @Benchmark
+    public JsonNode parseReader() {
+        return JsonParser.parse(new InputStreamReader(new ByteArrayInputStream(payloadBytes), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JsonNode parseBytesLazy() {
+        return JsonParser.parseLazy(payloadBytes);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream passThrough() throws IOException {
+        return passThrough(JsonParser.parse(payloadBytes));
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream passThroughLazy() throws IOException {
+        return passThrough(JsonParser.parseLazy(payloadBytes));
+    }
+
+    @Benchmark
+    public JsonNode parseRecords() {
+        return JsonParser.parse(recordsBytes);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serializeRecords() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(recordsBytes.length);
+        records.serialize(outputStream);
+        return outputStream;
+    }
+
+    @Benchmark
+    public long readRecords() {
+        return readRecords(records);
+    }
+
+    @Benchmark
+    public long readRecordsLazy() {
+        return readRecords(lazyRecords);
+    }
+
+    private static long readRecords(JsonNode node) {
+        long sum = 0;
+        for (int i = 0, size = node.size(); i < size; i++) {
+            JsonNode record = node.get(i);
+            JsonNode ratings = record.get("ratings");
+            sum += record.get("id").longValue() + ratings.size() + ratings.get(1).longValue();
+        }
+        return sum;
+    }
+
+    private ByteArrayOutputStream passThrough(JsonNode node) throws IOException {
+        node.get("store");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(payloadBytes.length);
+        JsonGenerator gen = new JsonGenerator(outputStream, StandardCharsets.UTF_8);
+        gen.setPassThrough(true);
+        node.serialize(gen);
+        gen.flush();
+        return outputStream;
+    }
+}
@@ -0,0 +1,69 @@
+type Counter object {
+    public {
+        int count;
+    }
+
+    public function increment(int step) {
+        self.count = self.count + step;
+    }
+};
+
+type Employee record {
+    string name;
+    int age;
+};
+
+type Person record {
+    string name;
+    int age;
+};
+
+function fib(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function sumLoop(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        sum = sum + i;
+        i = i + 1;
+    }
+    return sum;
+}
+
+function invokeMethods(int n) returns int {
+    Counter counter = new ();
+    int i = 0;
+    while (i < n) {
+        counter.increment(1);
+        i = i + 1;
+    }
+    return counter.count;
+}
+
+function castRecords(int n) returns int {
+    Employee employee = { name: "John", age: 30 };
+    any value = employee;
+    int ageSum = 0;
+    int i = 0;
+    while (i < n) {
+        var person = check <Person> value;
+        ageSum = ageSum + person.age;
+        i = i + 1;
+    }
+    return ageSum;
+}
+
+function concatStrings(int n) returns string {
+    string result = "";
+    int i = 0;
+    while (i < n) {
+        result = result + "a";
+        i = i + 1;
+    }
+    return result;
+}
@@ -0,0 +1,54 @@
+function forkJoinAll() returns int {
+    int result = 0;
+    fork {
+        worker w1 {
+            int a = 10;
+            a -> fork;
+        }
+        worker w2 {
+            int b = 20;
+            b -> fork;
+        }
+    } join (all) (map responses) {
+        int a = check <int> responses["w1"];
+        int b = check <int> responses["w2"];
+        result = a + b;
+    }
+    return result;
+}
+
+function forkJoinSome() returns int {
+    int result = 0;
+    fork {
+        worker w1 {
+            int a = 10;
+            a -> fork;
+        }
+        worker w2 {
+            int b = 20;
+            b -> fork;
+        }
+    } join (some 1) (map responses) {
+        if (responses.hasKey("w1")) {
+            result = 1;
+        } else {
+            result = 2;
+        }
+    }
+    return result;
+}
+
+function workers() returns int {
+    worker w1 {
+        int a = 10;
+        a -> w2;
+        int b;
+        b <- w2;
+        return a + b;
+    }
+    worker w2 {
+        int a;
+        a <- w1;
+        a -> w1;
+    }
+}
@@ -60,6 +60,10 @@ public class AsyncInvocableWorkerResponseContext extends SyncCallableWorkerRespo
         if (this.cancelled) {
             return null;
         } else {
+            /* the result can be read by any worker which waits on the future */
+            if (signal.getResult() != null) {
+                BLangVMUtils.shareRefValues(signal.getResult());
+            }
             return super.signal(signal);
         }
     }
@@ -25,6 +25,7 @@ import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.runtime.threadpool.WorkerScheduler;
 import org.ballerinalang.util.FunctionFlags;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.exceptions.BLangNullReferenceException;
@@ -35,7 +36,6 @@ import org.ballerinalang.util.program.BLangVMUtils;
 
 import java.io.PrintStream;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
@@ -103,8 +103,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ExecutorService executor = ThreadPoolFactory.getInstance().getWorkerExecutor();
-            executor.submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().getWorkerScheduler().executeLocal(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -121,7 +120,7 @@ public class BLangScheduler {
         if (runInCaller) {
             return ctx;
         } else {
-            ThreadPoolFactory.getInstance().getWorkerExecutor().submit(new WorkerExecutor(ctx));
+            ThreadPoolFactory.getInstance().getWorkerScheduler().executeLocal(new WorkerExecutor(ctx));
             return null;
         }
     }
@@ -208,9 +207,34 @@ public class BLangScheduler {
         AsyncInvocableWorkerResponseContext respCtx = new AsyncInvocableWorkerResponseContext(callableUnitInfo);
         checkAndObserveNativeAsync(nativeCtx, respCtx, callableUnitInfo, flags);
         NativeCallExecutor exec = new NativeCallExecutor(nativeCallable, nativeCtx, respCtx);
-        ThreadPoolFactory.getInstance().getWorkerExecutor().submit(exec);
+        WorkerScheduler blockingNativeScheduler = ThreadPoolFactory.getInstance().getBlockingNativeScheduler();
+        if (blockingNativeScheduler != null) {
+            blockingNativeScheduler.execute(exec);
+        } else {
+            ThreadPoolFactory.getInstance().getWorkerScheduler().execute(exec);
+        }
         return respCtx;
     }
+
+    /**
+     * Executes a blocking native call in the blocking native call scheduler, if one is configured, so that the
+     * worker threads are not blocked by it. The callback is notified once the call completes, which resumes the
+     * caller in the worker scheduler.
+     *
+     * @param nativeCallable the blocking native callable
+     * @param nativeCtx      the native call context
+     * @param callback       the callback to be notified when the call completes
+     * @return true if the call was dispatched, or false if it should be executed in the current thread
+     */
+    public static boolean executeBlockingNativeOffloaded(NativeCallableUnit nativeCallable, Context nativeCtx,
+            CallableUnitCallback callback) {
+        WorkerScheduler blockingNativeScheduler = ThreadPoolFactory.getInstance().getBlockingNativeScheduler();
+        if (blockingNativeScheduler == null) {
+            return false;
+        }
+        blockingNativeScheduler.execute(new OffloadedNativeCallExecutor(nativeCallable, nativeCtx, callback));
+        return true;
+    }
     
     public static AsyncInvocableWorkerResponseContext executeNonBlockingNativeAsync(NativeCallableUnit nativeCallable,
             Context nativeCtx, int flags) {
@@ -278,6 +302,7 @@ public class BLangScheduler {
              * scheduling a worker execution context. Afterwards, we should not call workerCountDown,
              * since it will be automatically be called by the signals sent to response context */
             workerCountUp();
+            schedulerStats.blockingNativeCallStarted();
         }
         
         @Override
@@ -287,7 +312,11 @@ public class BLangScheduler {
             WorkerData result = BLangVMUtils.createWorkerData(cui.retWorkerIndex);
             BType[] retTypes = cui.getRetParamTypes();
             try {
-                this.nativeCallable.execute(this.nativeCtx, null);
+                try {
+                    this.nativeCallable.execute(this.nativeCtx, null);
+                } finally {
+                    schedulerStats.blockingNativeCallDone();
+                }
                 BLangVMUtils.populateWorkerResultWithValues(result, this.nativeCtx.getReturnValues(), retTypes);
                 runInCaller = this.respCtx.signal(new WorkerSignal(null, SignalType.RETURN, result));
             } catch (BLangNullReferenceException e) {
@@ -301,10 +330,56 @@ public class BLangScheduler {
             } finally {
                 workerCountDown();
             }
-            executeNow(runInCaller);
+            if (runInCaller != null && ThreadPoolFactory.getInstance().getBlockingNativeScheduler() != null) {
+                /* the caller should not continue in the blocking native call thread */
+                resume(runInCaller);
+            } else {
+                executeNow(runInCaller);
+            }
         }
         
     }
+
+    /**
+     * This represents the thread used to run a blocking native call in the blocking native call scheduler, while
+     * the caller is waiting for the response.
+     */
+    private static class OffloadedNativeCallExecutor implements Runnable {
+
+        private NativeCallableUnit nativeCallable;
+
+        private Context nativeCtx;
+
+        private CallableUnitCallback callback;
+
+        public OffloadedNativeCallExecutor(NativeCallableUnit nativeCallable, Context nativeCtx,
+                CallableUnitCallback callback) {
+            this.nativeCallable = nativeCallable;
+            this.nativeCtx = nativeCtx;
+            this.callback = callback;
+            schedulerStats.blockingNativeCallStarted();
+        }
+
+        @Override
+        public void run() {
+            BMap<String, BValue> error = null;
+            try {
+                this.nativeCallable.execute(this.nativeCtx, null);
+            } catch (BLangNullReferenceException e) {
+                error = BLangVMErrors.createNullRefException(this.nativeCtx);
+            } catch (Throwable e) {
+                error = BLangVMErrors.createError(this.nativeCtx, e.getMessage());
+            } finally {
+                schedulerStats.blockingNativeCallDone();
+            }
+            if (error == null) {
+                this.callback.notifySuccess();
+            } else {
+                this.callback.notifyFailure(error);
+            }
+        }
+
+    }
     
     /**
      * This class represents the callback functionality for async non-blocking native calls.
@@ -352,6 +427,8 @@ public class BLangScheduler {
     public static class SchedulerStats {
         
         private LongAdder[] stateCounts;
+
+        private LongAdder blockingNativeCallCount = new LongAdder();
         
         public SchedulerStats() {
             this.stateCounts = new LongAdder[6];
@@ -384,6 +461,22 @@ public class BLangScheduler {
             return this.stateCounts[5].longValue();
         }
         
+        public long getBlockingNativeCallCount() {
+            return this.blockingNativeCallCount.longValue();
+        }
+
+        public void blockingNativeCallStarted() {
+            if (schedulerStatsEnabled) {
+                this.blockingNativeCallCount.increment();
+            }
+        }
+
+        public void blockingNativeCallDone() {
+            if (schedulerStatsEnabled) {
+                this.blockingNativeCallCount.decrement();
+            }
+        }
+        
         public void stateTransition(WorkerExecutionContext currentCtx, WorkerState newState) {
             if (!schedulerStatsEnabled || currentCtx.isRootContext()) {
                 return;
@@ -409,6 +502,7 @@ public class BLangScheduler {
             builder.append("\tWAITING FOR RESPONSE: " + this.getWaitingForResponseWorkerCount() + "\n");
             builder.append("\tPAUSED: " + this.getPausedWorkerCount() + "\n");
             builder.append("\tWAITING FOR LOCK: " + this.getWaitingForLockWorkerCount() + "\n");
+            builder.append("Blocking Native Calls In Flight: " + this.getBlockingNativeCallCount() + "\n");
             return builder.toString();
         }
         
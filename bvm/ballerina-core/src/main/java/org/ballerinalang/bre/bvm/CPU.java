@@ -75,11 +75,14 @@ import org.ballerinalang.util.codegen.AttachedFunctionInfo;
 import org.ballerinalang.util.codegen.ErrorTableEntry;
 import org.ballerinalang.util.codegen.ForkjoinInfo;
 import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.InlineCache;
 import org.ballerinalang.util.codegen.Instruction;
 import org.ballerinalang.util.codegen.Instruction.InstructionCALL;
 import org.ballerinalang.util.codegen.Instruction.InstructionFORKJOIN;
 import org.ballerinalang.util.codegen.Instruction.InstructionIteratorNext;
 import org.ballerinalang.util.codegen.Instruction.InstructionLock;
+import org.ballerinalang.util.codegen.Instruction.InstructionTypeCheck;
+import org.ballerinalang.util.codegen.Instruction.InstructionXMLLoad;
 import org.ballerinalang.util.codegen.Instruction.InstructionVCALL;
 import org.ballerinalang.util.codegen.Instruction.InstructionWRKSendReceive;
 import org.ballerinalang.util.codegen.InstructionCodes;
@@ -104,6 +107,7 @@ import org.ballerinalang.util.codegen.cpentries.TypeRefCPEntry;
 import org.ballerinalang.util.debugger.DebugContext;
 import org.ballerinalang.util.debugger.Debugger;
 import org.ballerinalang.util.exceptions.BLangExceptionHelper;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.RuntimeErrors;
 import org.ballerinalang.util.program.BLangFunctions;
@@ -121,6 +125,7 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.stream.LongStream;
+import javax.xml.namespace.QName;
 
 import static org.ballerinalang.util.BLangConstants.BBYTE_MAX_VALUE;
 import static org.ballerinalang.util.BLangConstants.BBYTE_MIN_VALUE;
@@ -184,95 +189,97 @@ public class CPU {
                     return;
                 }
     
-                Instruction instruction = ctx.code[ctx.ip];
-                int opcode = instruction.getOpcode();
-                int[] operands = instruction.getOperands();
+                // The opcode is followed by the operands of the instruction in the packed code. Hence after reading
+                // the opcode, pc points to the first operand.
+                int[] code = ctx.packedCode;
+                int pc = ctx.codeOffsets[ctx.ip];
+                int opcode = code[pc++];
                 ctx.ip++;
                 WorkerData sf = ctx.workerLocal;
                 switch (opcode) {
                     case InstructionCodes.ICONST:
-                        cpIndex = operands[0];
-                        i = operands[1];
+                        cpIndex = code[pc];
+                        i = code[pc + 1];
                         sf.longRegs[i] = ((IntegerCPEntry) ctx.constPool[cpIndex]).getValue();
                         break;
                     case InstructionCodes.FCONST:
-                        cpIndex = operands[0];
-                        i = operands[1];
+                        cpIndex = code[pc];
+                        i = code[pc + 1];
                         sf.doubleRegs[i] = ((FloatCPEntry) ctx.constPool[cpIndex]).getValue();
                         break;
                     case InstructionCodes.SCONST:
-                        cpIndex = operands[0];
-                        i = operands[1];
+                        cpIndex = code[pc];
+                        i = code[pc + 1];
                         sf.stringRegs[i] = ((StringCPEntry) ctx.constPool[cpIndex]).getValue();
                         break;
                     case InstructionCodes.ICONST_0:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 0;
                         break;
                     case InstructionCodes.ICONST_1:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 1;
                         break;
                     case InstructionCodes.ICONST_2:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 2;
                         break;
                     case InstructionCodes.ICONST_3:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 3;
                         break;
                     case InstructionCodes.ICONST_4:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 4;
                         break;
                     case InstructionCodes.ICONST_5:
-                        i = operands[0];
+                        i = code[pc];
                         sf.longRegs[i] = 5;
                         break;
                     case InstructionCodes.FCONST_0:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 0;
                         break;
                     case InstructionCodes.FCONST_1:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 1;
                         break;
                     case InstructionCodes.FCONST_2:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 2;
                         break;
                     case InstructionCodes.FCONST_3:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 3;
                         break;
                     case InstructionCodes.FCONST_4:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 4;
                         break;
                     case InstructionCodes.FCONST_5:
-                        i = operands[0];
+                        i = code[pc];
                         sf.doubleRegs[i] = 5;
                         break;
                     case InstructionCodes.BCONST_0:
-                        i = operands[0];
+                        i = code[pc];
                         sf.intRegs[i] = 0;
                         break;
                     case InstructionCodes.BCONST_1:
-                        i = operands[0];
+                        i = code[pc];
                         sf.intRegs[i] = 1;
                         break;
                     case InstructionCodes.RCONST_NULL:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = null;
                         break;
                     case InstructionCodes.BICONST:
-                        cpIndex = operands[0];
-                        i = operands[1];
+                        cpIndex = code[pc];
+                        i = code[pc + 1];
                         sf.intRegs[i] = ((ByteCPEntry) ctx.constPool[cpIndex]).getValue();
                         break;
                     case InstructionCodes.BACONST:
-                        cpIndex = operands[0];
-                        i = operands[1];
+                        cpIndex = code[pc];
+                        i = code[pc + 1];
                         sf.refRegs[i] = new BByteArray(((BlobCPEntry) ctx.constPool[cpIndex]).getValue());
                         break;
     
@@ -302,9 +309,15 @@ public class CPU {
                     case InstructionCodes.BFIELDLOAD:
                     case InstructionCodes.LFIELDLOAD:
                     case InstructionCodes.RFIELDLOAD:
+                    case InstructionCodes.IFIELDLOAD_IDX:
+                    case InstructionCodes.FFIELDLOAD_IDX:
+                    case InstructionCodes.SFIELDLOAD_IDX:
+                    case InstructionCodes.BFIELDLOAD_IDX:
+                    case InstructionCodes.LFIELDLOAD_IDX:
+                    case InstructionCodes.RFIELDLOAD_IDX:
                     case InstructionCodes.MAPLOAD:
                     case InstructionCodes.JSONLOAD:
-                        execLoadOpcodes(ctx, sf, opcode, operands);
+                        execLoadOpcodes(ctx, sf, opcode, code, pc);
                         break;
     
                     case InstructionCodes.IASTORE:
@@ -327,9 +340,15 @@ public class CPU {
                     case InstructionCodes.BFIELDSTORE:
                     case InstructionCodes.LFIELDSTORE:
                     case InstructionCodes.RFIELDSTORE:
+                    case InstructionCodes.IFIELDSTORE_IDX:
+                    case InstructionCodes.FFIELDSTORE_IDX:
+                    case InstructionCodes.SFIELDSTORE_IDX:
+                    case InstructionCodes.BFIELDSTORE_IDX:
+                    case InstructionCodes.LFIELDSTORE_IDX:
+                    case InstructionCodes.RFIELDSTORE_IDX:
                     case InstructionCodes.MAPSTORE:
                     case InstructionCodes.JSONSTORE:
-                        execStoreOpcodes(ctx, sf, opcode, operands);
+                        execStoreOpcodes(ctx, sf, opcode, code, pc);
                         break;
     
                     case InstructionCodes.IADD:
@@ -367,21 +386,21 @@ public class CPU {
                     case InstructionCodes.BIXOR:
                     case InstructionCodes.BISHL:
                     case InstructionCodes.BISHR:
-                        execBinaryOpCodes(ctx, sf, opcode, operands);
+                        execBinaryOpCodes(ctx, sf, opcode, code, pc);
                         break;
     
                     case InstructionCodes.LENGTHOF:
-                        calculateLength(ctx, operands, sf);
+                        calculateLength(ctx, code, pc, sf);
                         break;
                     case InstructionCodes.TYPELOAD:
-                        cpIndex = operands[0];
-                        j = operands[1];
+                        cpIndex = code[pc];
+                        j = code[pc + 1];
                         TypeRefCPEntry typeEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                         sf.refRegs[j] = new BTypeDescValue(typeEntry.getType());
                         break;
                     case InstructionCodes.TYPEOF:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         if (sf.refRegs[i] == null) {
                             sf.refRegs[j] = new BTypeDescValue(BTypes.typeNull);
                             break;
@@ -409,19 +428,34 @@ public class CPU {
                     case InstructionCodes.GOTO:
                     case InstructionCodes.SEQ_NULL:
                     case InstructionCodes.SNE_NULL:
-                        execCmpAndBranchOpcodes(ctx, sf, opcode, operands);
+                        execCmpAndBranchOpcodes(ctx, sf, opcode, code, pc);
+                        break;
+                    case InstructionCodes.IGT_BR_FALSE:
+                    case InstructionCodes.IGE_BR_FALSE:
+                    case InstructionCodes.ILT_BR_FALSE:
+                    case InstructionCodes.ILE_BR_FALSE:
+                    case InstructionCodes.IEQ_BR_FALSE:
+                    case InstructionCodes.INE_BR_FALSE:
+                        execFusedCmpAndBranchOpcodes(ctx, sf, opcode, code, pc);
+                        break;
+                    case InstructionCodes.ICONST_IADD:
+                    case InstructionCodes.ICONST_ISUB:
+                        execFusedConstArithmeticOpcodes(ctx, sf, opcode, code, pc);
+                        break;
+                    case InstructionCodes.FIELDCOPY:
+                        execFieldCopyOpcode(ctx, sf, code, pc);
                         break;
                     case InstructionCodes.INT_RANGE:
-                        execIntegerRangeOpcodes(sf, operands);
+                        execIntegerRangeOpcodes(sf, code, pc);
                         break;
                     case InstructionCodes.TR_RETRY:
-                        i = operands[0];
-                        j = operands[1];
-                        int l = operands[2];
+                        i = code[pc];
+                        j = code[pc + 1];
+                        int l = code[pc + 2];
                         retryTransaction(ctx, i, j, l);
                         break;
                     case InstructionCodes.CALL:
-                        callIns = (InstructionCALL) instruction;
+                        callIns = (InstructionCALL) ctx.code[ctx.ip - 1];
                         ctx = BLangFunctions.invokeCallable(callIns.functionInfo, ctx, callIns.argRegs,
                                 callIns.retRegs, false, callIns.flags);
                         if (ctx == null) {
@@ -429,45 +463,45 @@ public class CPU {
                         }
                         break;
                     case InstructionCodes.VCALL:
-                        InstructionVCALL vcallIns = (InstructionVCALL) instruction;
+                        InstructionVCALL vcallIns = (InstructionVCALL) ctx.code[ctx.ip - 1];
                         ctx = invokeVirtualFunction(ctx, vcallIns.receiverRegIndex, vcallIns.functionInfo,
-                                vcallIns.argRegs, vcallIns.retRegs, vcallIns.flags);
+                                vcallIns.argRegs, vcallIns.retRegs, vcallIns.flags, vcallIns.inlineCache);
                         if (ctx == null) {
                             return;
                         }
                         break;
                     case InstructionCodes.TR_BEGIN:
-                        i = operands[0];
-                        j = operands[1];
-                        int k = operands[2];
-                        int h = operands[3];
+                        i = code[pc];
+                        j = code[pc + 1];
+                        int k = code[pc + 2];
+                        int h = code[pc + 3];
                         beginTransaction(ctx, i, j, k, h);
                         break;
                     case InstructionCodes.TR_END:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         endTransaction(ctx, i, j);
                         break;
                     case InstructionCodes.WRKSEND:
-                        InstructionWRKSendReceive wrkSendIns = (InstructionWRKSendReceive) instruction;
+                        InstructionWRKSendReceive wrkSendIns = (InstructionWRKSendReceive) ctx.code[ctx.ip - 1];
                         handleWorkerSend(ctx, wrkSendIns.dataChannelInfo, wrkSendIns.type, wrkSendIns.reg);
                         break;
                     case InstructionCodes.WRKRECEIVE:
-                        InstructionWRKSendReceive wrkReceiveIns = (InstructionWRKSendReceive) instruction;
+                        InstructionWRKSendReceive wrkReceiveIns = (InstructionWRKSendReceive) ctx.code[ctx.ip - 1];
                         if (!handleWorkerReceive(ctx, wrkReceiveIns.dataChannelInfo, wrkReceiveIns.type,
                                 wrkReceiveIns.reg)) {
                             return;
                         }
                         break;
                     case InstructionCodes.FORKJOIN:
-                        InstructionFORKJOIN forkJoinIns = (InstructionFORKJOIN) instruction;
+                        InstructionFORKJOIN forkJoinIns = (InstructionFORKJOIN) ctx.code[ctx.ip - 1];
                         ctx = invokeForkJoin(ctx, forkJoinIns);
                         if (ctx == null) {
                             return;
                         }
                         break;
                     case InstructionCodes.THROW:
-                        i = operands[0];
+                        i = code[pc];
                         if (i >= 0) {
                             BMap<String, BValue> error = (BMap) sf.refRegs[i];
                             if (error == null) {
@@ -481,18 +515,18 @@ public class CPU {
                         handleError(ctx);
                         break;
                     case InstructionCodes.ERRSTORE:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = ctx.getError();
                         // clear error
                         ctx.setError(null);
                         break;
                     case InstructionCodes.FPCALL:
-                        i = operands[0];
+                        i = code[pc];
                         if (sf.refRegs[i] == null) {
                             handleNullRefError(ctx);
                             break;
                         }
-                        cpIndex = operands[1];
+                        cpIndex = code[pc + 1];
                         funcCallCPEntry = (FunctionCallCPEntry) ctx.constPool[cpIndex];
                         funcRefCPEntry = ((BFunctionPointer) sf.refRegs[i]).value();
                         functionInfo = funcRefCPEntry.getFunctionInfo();
@@ -502,14 +536,14 @@ public class CPU {
                         }
                         break;
                     case InstructionCodes.FPLOAD:
-                        i = operands[0];
-                        j = operands[1];
-                        k = operands[2];
+                        i = code[pc];
+                        j = code[pc + 1];
+                        k = code[pc + 2];
                         funcRefCPEntry = (FunctionRefCPEntry) ctx.constPool[i];
                         typeEntry = (TypeRefCPEntry) ctx.constPool[k];
                         BFunctionPointer functionPointer = new BFunctionPointer(funcRefCPEntry, typeEntry.getType());
                         sf.refRegs[j] = functionPointer;
-                        findAndAddAdditionalVarRegIndexes(ctx, operands, functionPointer);
+                        findAndAddAdditionalVarRegIndexes(ctx, code, pc, functionPointer);
                         break;
     
                     case InstructionCodes.I2ANY:
@@ -544,7 +578,7 @@ public class CPU {
                     case InstructionCodes.NULL2S:
                     case InstructionCodes.IS_ASSIGNABLE:
                     case InstructionCodes.CHECK_CONVERSION:
-                        execTypeCastOpcodes(ctx, sf, opcode, operands);
+                        execTypeCastOpcodes(ctx, sf, opcode, code, pc);
                         break;
     
                     case InstructionCodes.I2F:
@@ -577,20 +611,20 @@ public class CPU {
                     case InstructionCodes.S2JSONX:
                     case InstructionCodes.XML2S:
                     case InstructionCodes.ANY2SCONV:
-                        execTypeConversionOpcodes(ctx, sf, opcode, operands);
+                        execTypeConversionOpcodes(ctx, sf, opcode, code, pc);
                         break;
     
                     case InstructionCodes.INEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BIntArray();
                         break;
                     case InstructionCodes.BINEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BByteArray();
                         break;
                     case InstructionCodes.ARRAYLEN:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
     
                         BValue value = sf.refRegs[i];
     
@@ -607,30 +641,30 @@ public class CPU {
                         sf.longRegs[j] = ((BNewArray) value).size();
                         break;
                     case InstructionCodes.FNEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BFloatArray();
                         break;
                     case InstructionCodes.SNEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BStringArray();
                         break;
                     case InstructionCodes.BNEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BBooleanArray();
                         break;
                     case InstructionCodes.LNEWARRAY:
-                        i = operands[0];
+                        i = code[pc];
                         sf.refRegs[i] = new BBlobArray();
                         break;
                     case InstructionCodes.RNEWARRAY:
-                        i = operands[0];
-                        cpIndex = operands[1];
+                        i = code[pc];
+                        cpIndex = code[pc + 1];
                         typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                         sf.refRegs[i] = new BRefValueArray(typeRefCPEntry.getType());
                         break;
                     case InstructionCodes.JSONNEWARRAY:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         // This is a temporary solution to create n-valued JSON array
                         StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
                         for (int index = 0; index < sf.longRegs[j]; index++) {
@@ -640,83 +674,83 @@ public class CPU {
                         break;
     
                     case InstructionCodes.NEWSTRUCT:
-                        createNewStruct(ctx, operands, sf);
+                        createNewStruct(ctx, code, pc, sf);
                         break;
                     case InstructionCodes.NEWMAP:
-                        i = operands[0];
-                        cpIndex = operands[1];
+                        i = code[pc];
+                        cpIndex = code[pc + 1];
                         typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                         BMapType mapType = (BMapType) typeRefCPEntry.getType();
-                        sf.refRegs[i] = new BMap<String, BRefType>(mapType);
+                        sf.refRegs[i] = new BMap<String, BRefType>(mapType, false);
                         break;
                     case InstructionCodes.NEWJSON:
-                        i = operands[0];
-                        cpIndex = operands[1];
+                        i = code[pc];
+                        cpIndex = code[pc + 1];
                         typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                         sf.refRegs[i] = new BJSON("{}", typeRefCPEntry.getType());
                         break;
                     case InstructionCodes.NEWTABLE:
-                        i = operands[0];
-                        cpIndex = operands[1];
-                        j = operands[2];
+                        i = code[pc];
+                        cpIndex = code[pc + 1];
+                        j = code[pc + 2];
                         BMap<String, BValue> configStruct = (BMap<String, BValue>) sf.refRegs[j];
                         typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                         sf.refRegs[i] = new BTable(typeRefCPEntry.getType(), configStruct);
                         break;
                     case InstructionCodes.NEWSTREAM:
-                        i = operands[0];
-                        cpIndex = operands[1];
+                        i = code[pc];
+                        cpIndex = code[pc + 1];
                         typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
-                        StringCPEntry name = (StringCPEntry) ctx.constPool[operands[2]];
+                        StringCPEntry name = (StringCPEntry) ctx.constPool[code[pc + 2]];
                         BStream stream = new BStream(typeRefCPEntry.getType(), name.getValue());
                         sf.refRegs[i] = stream;
                         break;
                     case InstructionCodes.NEW_INT_RANGE:
-                        createNewIntRange(operands, sf);
+                        createNewIntRange(code, pc, sf);
                         break;
                     case InstructionCodes.IRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
                         callersSF.longRegs[callersRetRegIndex] = currentSF.longRegs[j];
                         break;
                     case InstructionCodes.FRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
                         callersSF.doubleRegs[callersRetRegIndex] = currentSF.doubleRegs[j];
                         break;
                     case InstructionCodes.SRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
                         callersSF.stringRegs[callersRetRegIndex] = currentSF.stringRegs[j];
                         break;
                     case InstructionCodes.BRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
                         callersSF.intRegs[callersRetRegIndex] = currentSF.intRegs[j];
                         break;
                     case InstructionCodes.LRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
                         callersSF.byteRegs[callersRetRegIndex] = currentSF.byteRegs[j];
                         break;
                     case InstructionCodes.RRET:
-                        i = operands[0];
-                        j = operands[1];
+                        i = code[pc];
+                        j = code[pc + 1];
                         currentSF = ctx.workerLocal;
                         callersSF = ctx.workerResult;
                         callersRetRegIndex = ctx.retRegIndexes[i];
@@ -742,27 +776,27 @@ public class CPU {
                     case InstructionCodes.XMLLOAD:
                     case InstructionCodes.XMLLOADALL:
                     case InstructionCodes.NEWXMLSEQ:
-                        execXMLOpcodes(ctx, sf, opcode, operands);
+                        execXMLOpcodes(ctx, sf, opcode, code, pc);
                         break;
                     case InstructionCodes.ITR_NEW:
                     case InstructionCodes.ITR_NEXT:
                     case InstructionCodes.ITR_HAS_NEXT:
-                        execIteratorOperation(ctx, sf, instruction);
+                        execIteratorOperation(ctx, sf, ctx.code[ctx.ip - 1]);
                         break;
                     case InstructionCodes.LOCK:
-                        InstructionLock instructionLock = (InstructionLock) instruction;
+                        InstructionLock instructionLock = (InstructionLock) ctx.code[ctx.ip - 1];
                         if (!handleVariableLock(ctx, instructionLock.types,
                                 instructionLock.pkgRefs, instructionLock.varRegs)) {
                             return;
                         }
                         break;
                     case InstructionCodes.UNLOCK:
-                        InstructionLock instructionUnLock = (InstructionLock) instruction;
+                        InstructionLock instructionUnLock = (InstructionLock) ctx.code[ctx.ip - 1];
                         handleVariableUnlock(ctx, instructionUnLock.types,
                                 instructionUnLock.pkgRefs, instructionUnLock.varRegs);
                         break;
                     case InstructionCodes.AWAIT:
-                        ctx = execAwait(ctx, operands);
+                        ctx = execAwait(ctx, code, pc);
                         if (ctx == null) {
                             return;
                         }
@@ -931,10 +965,10 @@ public class CPU {
         return refIndex;
     }
 
-    private static void findAndAddAdditionalVarRegIndexes(WorkerExecutionContext ctx, int[] operands,
+    private static void findAndAddAdditionalVarRegIndexes(WorkerExecutionContext ctx, int[] code, int pc,
                                                           BFunctionPointer fp) {
 
-        int h = operands[3];
+        int h = code[pc + 3];
 
         //if '0', then there are no additional indexes needs to be processed
         if (h == 0) {
@@ -944,8 +978,8 @@ public class CPU {
         //or else, this is a closure related scenario
         for (int i = 0; i < h; i++) {
             int operandIndex = i + 4;
-            int type = operands[operandIndex];
-            int index = operands[++operandIndex];
+            int type = code[pc + operandIndex];
+            int index = code[pc + operandIndex + 1];
             switch (type) {
                 case TypeTags.INT_TAG: {
                     fp.addClosureVar(new BClosure(new BInteger(ctx.workerLocal.longRegs[index])), TypeTags.INT_TAG);
@@ -972,6 +1006,8 @@ public class CPU {
                     fp.addClosureVar(new BClosure(new BBlob(ctx.workerLocal.byteRegs[index])), TypeTags.BLOB_TAG);
                     break;
                 default:
+                    // The function pointer may be invoked by another worker
+                    BMap.share(ctx.workerLocal.refRegs[index]);
                     fp.addClosureVar(new BClosure(ctx.workerLocal.refRegs[index]), TypeTags.ANY_TAG);
             }
             i++;
@@ -979,66 +1015,66 @@ public class CPU {
     }
 
     private static void execCmpAndBranchOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
-                                                int[] operands) {
+                                                int[] code, int pc) {
         int i;
         int j;
         int k;
         switch (opcode) {
             case InstructionCodes.IGT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] > sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FGT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] > sf.doubleRegs[j] ? 1 : 0;
                 break;
 
             case InstructionCodes.IGE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] >= sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FGE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] >= sf.doubleRegs[j] ? 1 : 0;
                 break;
 
             case InstructionCodes.ILT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] < sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FLT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] < sf.doubleRegs[j] ? 1 : 0;
                 break;
 
             case InstructionCodes.ILE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] <= sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FLE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] <= sf.doubleRegs[j] ? 1 : 0;
                 break;
 
             case InstructionCodes.REQ_NULL:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.refRegs[i] == null) {
                     sf.intRegs[j] = 1;
                 } else {
@@ -1046,8 +1082,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.RNE_NULL:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.refRegs[i] != null) {
                     sf.intRegs[j] = 1;
                 } else {
@@ -1055,8 +1091,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.SEQ_NULL:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.stringRegs[i] == null) {
                     sf.intRegs[j] = 1;
                 } else {
@@ -1064,8 +1100,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.SNE_NULL:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.stringRegs[i] != null) {
                     sf.intRegs[j] = 1;
                 } else {
@@ -1073,21 +1109,21 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.BR_TRUE:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.intRegs[i] == 1) {
                     ctx.ip = j;
                 }
                 break;
             case InstructionCodes.BR_FALSE:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (sf.intRegs[i] == 0) {
                     ctx.ip = j;
                 }
                 break;
             case InstructionCodes.GOTO:
-                i = operands[0];
+                i = code[pc];
                 ctx.ip = i;
                 break;
             default:
@@ -1095,21 +1131,134 @@ public class CPU {
         }
     }
 
-    private static void execIntegerRangeOpcodes(WorkerData sf, int[] operands) {
-        int i = operands[0];
-        int j = operands[1];
-        int k = operands[2];
+    private static void execFusedCmpAndBranchOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
+                                                     int[] code, int pc) {
+        long lhs = sf.longRegs[code[pc]];
+        long rhs = sf.longRegs[code[pc + 1]];
+        boolean result;
+        switch (opcode) {
+            case InstructionCodes.IGT_BR_FALSE:
+                result = lhs > rhs;
+                break;
+            case InstructionCodes.IGE_BR_FALSE:
+                result = lhs >= rhs;
+                break;
+            case InstructionCodes.ILT_BR_FALSE:
+                result = lhs < rhs;
+                break;
+            case InstructionCodes.ILE_BR_FALSE:
+                result = lhs <= rhs;
+                break;
+            case InstructionCodes.IEQ_BR_FALSE:
+                result = lhs == rhs;
+                break;
+            case InstructionCodes.INE_BR_FALSE:
+                result = lhs != rhs;
+                break;
+            default:
+                throw new BLangRuntimeException("invalid fused compare and branch opcode: " + opcode);
+        }
+
+        sf.intRegs[code[pc + 2]] = result ? 1 : 0;
+        if (result) {
+            // Skip the absorbed BR_FALSE instruction
+            ctx.ip++;
+        } else {
+            ctx.ip = code[pc + 3];
+        }
+    }
+
+    private static void execFusedConstArithmeticOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
+                                                        int[] code, int pc) {
+        long value = code[pc];
+        int i = code[pc + 2];
+        int k = code[pc + 3];
+        sf.longRegs[code[pc + 1]] = value;
+        switch (opcode) {
+            case InstructionCodes.ICONST_IADD:
+                sf.longRegs[k] = sf.longRegs[i] + value;
+                break;
+            case InstructionCodes.ICONST_ISUB:
+                sf.longRegs[k] = sf.longRegs[i] - value;
+                break;
+            default:
+                throw new BLangRuntimeException("invalid fused constant arithmetic opcode: " + opcode);
+        }
+        // Skip the absorbed IADD/ISUB instruction
+        ctx.ip++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void execFieldCopyOpcode(WorkerExecutionContext ctx, WorkerData sf, int[] code, int pc) {
+        int loadOpcode = code[pc];
+        int i = code[pc + 1];
+        int sourceFieldIndex = code[pc + 2];
+        String sourceFieldName = ((StringCPEntry) ctx.constPool[code[pc + 3]]).getValue();
+        int k = code[pc + 4];
+        int targetRegIndex = code[pc + 5];
+        int targetFieldIndex = code[pc + 6];
+        String targetFieldName = ((StringCPEntry) ctx.constPool[code[pc + 7]]).getValue();
+
+        BMap<String, BValue> source = (BMap<String, BValue>) sf.refRegs[i];
+        if (source == null) {
+            handleNullRefError(ctx);
+            return;
+        }
+
+        BValue value = source.getField(sourceFieldIndex, sourceFieldName);
+        switch (loadOpcode) {
+            case InstructionCodes.IFIELDLOAD_IDX:
+                sf.longRegs[k] = ((BInteger) value).intValue();
+                break;
+            case InstructionCodes.FFIELDLOAD_IDX:
+                sf.doubleRegs[k] = ((BFloat) value).floatValue();
+                break;
+            case InstructionCodes.SFIELDLOAD_IDX:
+                sf.stringRegs[k] = value.stringValue();
+                break;
+            case InstructionCodes.BFIELDLOAD_IDX:
+                sf.intRegs[k] = ((BBoolean) value).booleanValue() ? 1 : 0;
+                break;
+            case InstructionCodes.LFIELDLOAD_IDX:
+                sf.byteRegs[k] = ((BBlob) value).blobValue();
+                break;
+            case InstructionCodes.RFIELDLOAD_IDX:
+                sf.refRegs[k] = (BRefType<?>) value;
+                break;
+            default:
+                throw new BLangRuntimeException("invalid field load opcode in field copy: " + loadOpcode);
+        }
+
+        // Skip the absorbed field store instruction
+        ctx.ip += 1;
+
+        BMap<String, BValue> target = (BMap<String, BValue>) sf.refRegs[targetRegIndex];
+        if (target == null) {
+            handleNullRefError(ctx);
+            return;
+        }
+
+        // Field values of value types are immutable, hence the loaded value is stored as it is instead of boxing
+        // the register value again.
+        target.putField(targetFieldIndex, targetFieldName, value);
+    }
+
+    private static void execIntegerRangeOpcodes(WorkerData sf, int[] code, int pc) {
+        int i = code[pc];
+        int j = code[pc + 1];
+        int k = code[pc + 2];
         sf.refRegs[k] = new BIntArray(LongStream.rangeClosed(sf.longRegs[i], sf.longRegs[j]).toArray());
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static void execLoadOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] operands) {
+    private static void execLoadOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] code, int pc) {
         int i;
         int j;
         int k;
         int pkgIndex;
         int lvIndex; // Index of the local variable
         int fieldIndex;
+        String fieldName;
 
         BIntArray bIntArray;
         BByteArray bByteArray;
@@ -1123,39 +1272,39 @@ public class CPU {
         BJSON jsonVal;
         switch (opcode) {
             case InstructionCodes.IMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.longRegs[i] = sf.longRegs[lvIndex];
                 break;
             case InstructionCodes.FMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.doubleRegs[i] = sf.doubleRegs[lvIndex];
                 break;
             case InstructionCodes.SMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.stringRegs[i] = sf.stringRegs[lvIndex];
                 break;
             case InstructionCodes.BMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.intRegs[i] = sf.intRegs[lvIndex];
                 break;
             case InstructionCodes.LMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.byteRegs[i] = sf.byteRegs[lvIndex];
                 break;
             case InstructionCodes.RMOVE:
-                lvIndex = operands[0];
-                i = operands[1];
+                lvIndex = code[pc];
+                i = code[pc + 1];
                 sf.refRegs[i] = sf.refRegs[lvIndex];
                 break;
             case InstructionCodes.IALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bIntArray = (BIntArray) sf.refRegs[i];
                 if (bIntArray == null) {
                     handleNullRefError(ctx);
@@ -1170,9 +1319,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.BIALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bByteArray = (BByteArray) sf.refRegs[i];
                 if (bByteArray == null) {
                     handleNullRefError(ctx);
@@ -1187,9 +1336,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.FALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bFloatArray = (BFloatArray) sf.refRegs[i];
                 if (bFloatArray == null) {
                     handleNullRefError(ctx);
@@ -1204,9 +1353,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.SALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bStringArray = (BStringArray) sf.refRegs[i];
                 if (bStringArray == null) {
                     handleNullRefError(ctx);
@@ -1221,9 +1370,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.BALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bBooleanArray = (BBooleanArray) sf.refRegs[i];
                 if (bBooleanArray == null) {
                     handleNullRefError(ctx);
@@ -1238,9 +1387,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.LALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bBlobArray = (BBlobArray) sf.refRegs[i];
                 if (bBlobArray == null) {
                     handleNullRefError(ctx);
@@ -1255,9 +1404,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.RALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bArray = (BRefValueArray) sf.refRegs[i];
                 if (bArray == null) {
                     handleNullRefError(ctx);
@@ -1272,9 +1421,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.JSONALOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 jsonVal = (BJSON) sf.refRegs[i];
                 if (jsonVal == null) {
                     handleNullRefError(ctx);
@@ -1290,48 +1439,48 @@ public class CPU {
                 break;
             case InstructionCodes.IGLOAD:
                 // package index
-                pkgIndex = operands[0];
+                pkgIndex = code[pc];
                 // package level variable index
-                i = operands[1];
+                i = code[pc + 1];
                 // Stack registry index
-                j = operands[2];
+                j = code[pc + 2];
                 sf.longRegs[j] = ctx.programFile.globalMemArea.getIntField(pkgIndex, i);
                 break;
             case InstructionCodes.FGLOAD:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 sf.doubleRegs[j] = ctx.programFile.globalMemArea.getFloatField(pkgIndex, i);
                 break;
             case InstructionCodes.SGLOAD:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 sf.stringRegs[j] = ctx.programFile.globalMemArea.getStringField(pkgIndex, i);
                 break;
             case InstructionCodes.BGLOAD:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 sf.intRegs[j] = ctx.programFile.globalMemArea.getBooleanField(pkgIndex, i);
                 break;
             case InstructionCodes.LGLOAD:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 sf.byteRegs[j] = ctx.programFile.globalMemArea.getBlobField(pkgIndex, i);
                 break;
             case InstructionCodes.RGLOAD:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 sf.refRegs[j] = ctx.programFile.globalMemArea.getRefField(pkgIndex, i);
                 break;
 
             case InstructionCodes.IFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1341,9 +1490,9 @@ public class CPU {
                 sf.longRegs[k] = ((BInteger) structureType.get(sf.stringRegs[j])).intValue();
                 break;
             case InstructionCodes.FFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1353,9 +1502,9 @@ public class CPU {
                 sf.doubleRegs[k] = ((BFloat) structureType.get(sf.stringRegs[j])).floatValue();
                 break;
             case InstructionCodes.SFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1365,9 +1514,9 @@ public class CPU {
                 sf.stringRegs[k] = structureType.get(sf.stringRegs[j]).stringValue();
                 break;
             case InstructionCodes.BFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1377,9 +1526,9 @@ public class CPU {
                 sf.intRegs[k] = ((BBoolean) structureType.get(sf.stringRegs[j])).booleanValue() ? 1 : 0;
                 break;
             case InstructionCodes.LFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1389,9 +1538,9 @@ public class CPU {
                 sf.byteRegs[k] = ((BBlob) structureType.get(sf.stringRegs[j])).blobValue();
                 break;
             case InstructionCodes.RFIELDLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1400,26 +1549,104 @@ public class CPU {
 
                 sf.refRegs[k] = (BRefType<?>) structureType.get(sf.stringRegs[j]);
                 break;
+            case InstructionCodes.IFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.longRegs[k] = ((BInteger) structureType.getField(fieldIndex, fieldName)).intValue();
+                break;
+            case InstructionCodes.FFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.doubleRegs[k] = ((BFloat) structureType.getField(fieldIndex, fieldName)).floatValue();
+                break;
+            case InstructionCodes.SFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.stringRegs[k] = structureType.getField(fieldIndex, fieldName).stringValue();
+                break;
+            case InstructionCodes.BFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.intRegs[k] = ((BBoolean) structureType.getField(fieldIndex, fieldName)).booleanValue() ? 1 : 0;
+                break;
+            case InstructionCodes.LFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.byteRegs[k] = ((BBlob) structureType.getField(fieldIndex, fieldName)).blobValue();
+                break;
+            case InstructionCodes.RFIELDLOAD_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                sf.refRegs[k] = (BRefType<?>) structureType.getField(fieldIndex, fieldName);
+                break;
 
             case InstructionCodes.MAPLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bMap = (BMap<String, BRefType>) sf.refRegs[i];
                 if (bMap == null) {
                     handleNullRefError(ctx);
                     break;
                 }
 
-                IntegerCPEntry exceptCPEntry = (IntegerCPEntry) ctx.constPool[operands[3]];
+                IntegerCPEntry exceptCPEntry = (IntegerCPEntry) ctx.constPool[code[pc + 3]];
                 boolean except = exceptCPEntry.getValue() == 1;
                 sf.refRegs[k] = bMap.get(sf.stringRegs[j], except);
                 break;
 
             case InstructionCodes.JSONLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 jsonVal = (BJSON) sf.refRegs[i];
                 if (jsonVal == null) {
                     sf.refRegs[k] = null;
@@ -1434,12 +1661,13 @@ public class CPU {
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static void execStoreOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] operands) {
+    private static void execStoreOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] code, int pc) {
         int i;
         int j;
         int k;
         int pkgIndex;
         int fieldIndex;
+        String fieldName;
 
         BIntArray bIntArray;
         BByteArray bByteArray;
@@ -1453,9 +1681,9 @@ public class CPU {
         BJSON jsonVal;
         switch (opcode) {
             case InstructionCodes.IASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bIntArray = (BIntArray) sf.refRegs[i];
                 if (bIntArray == null) {
                     handleNullRefError(ctx);
@@ -1470,9 +1698,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.BIASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bByteArray = (BByteArray) sf.refRegs[i];
                 if (bByteArray == null) {
                     handleNullRefError(ctx);
@@ -1487,9 +1715,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.FASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bFloatArray = (BFloatArray) sf.refRegs[i];
                 if (bFloatArray == null) {
                     handleNullRefError(ctx);
@@ -1504,9 +1732,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.SASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bStringArray = (BStringArray) sf.refRegs[i];
                 if (bStringArray == null) {
                     handleNullRefError(ctx);
@@ -1521,9 +1749,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.BASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bBooleanArray = (BBooleanArray) sf.refRegs[i];
                 if (bBooleanArray == null) {
                     handleNullRefError(ctx);
@@ -1538,9 +1766,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.LASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bBlobArray = (BBlobArray) sf.refRegs[i];
                 if (bBlobArray == null) {
                     handleNullRefError(ctx);
@@ -1555,9 +1783,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.RASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bArray = (BRefValueArray) sf.refRegs[i];
                 if (bArray == null) {
                     handleNullRefError(ctx);
@@ -1572,9 +1800,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.JSONASTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 jsonVal = (BJSON) sf.refRegs[i];
                 if (jsonVal == null) {
                     handleNullRefError(ctx);
@@ -1589,48 +1817,48 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.IGSTORE:
-                pkgIndex = operands[0];
+                pkgIndex = code[pc];
                 // Stack reg index
-                i = operands[1];
+                i = code[pc + 1];
                 // Global var index
-                j = operands[2];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setIntField(pkgIndex, j, sf.longRegs[i]);
                 break;
             case InstructionCodes.FGSTORE:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setFloatField(pkgIndex, j, sf.doubleRegs[i]);
                 break;
             case InstructionCodes.SGSTORE:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setStringField(pkgIndex, j, sf.stringRegs[i]);
                 break;
             case InstructionCodes.BGSTORE:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setBooleanField(pkgIndex, j, sf.intRegs[i]);
                 break;
             case InstructionCodes.LGSTORE:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setBlobField(pkgIndex, j, sf.byteRegs[i]);
                 break;
             case InstructionCodes.RGSTORE:
-                pkgIndex = operands[0];
-                i = operands[1];
-                j = operands[2];
+                pkgIndex = code[pc];
+                i = code[pc + 1];
+                j = code[pc + 2];
                 ctx.programFile.globalMemArea.setRefField(pkgIndex, j, sf.refRegs[i]);
                 break;
 
             case InstructionCodes.IFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1640,9 +1868,9 @@ public class CPU {
                 structureType.put(sf.stringRegs[j], new BInteger(sf.longRegs[k]));
                 break;
             case InstructionCodes.FFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1652,9 +1880,9 @@ public class CPU {
                 structureType.put(sf.stringRegs[j], new BFloat(sf.doubleRegs[k]));
                 break;
             case InstructionCodes.SFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1664,9 +1892,9 @@ public class CPU {
                 structureType.put(sf.stringRegs[j], new BString(sf.stringRegs[k]));
                 break;
             case InstructionCodes.BFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1676,9 +1904,9 @@ public class CPU {
                 structureType.put(sf.stringRegs[j], new BBoolean(sf.intRegs[k] == 1));
                 break;
             case InstructionCodes.LFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1688,9 +1916,9 @@ public class CPU {
                 structureType.put(sf.stringRegs[j], new BBlob(sf.byteRegs[k]));
                 break;
             case InstructionCodes.RFIELDSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 structureType = (BMap<String, BValue>) sf.refRegs[i];
                 if (structureType == null) {
                     handleNullRefError(ctx);
@@ -1699,10 +1927,88 @@ public class CPU {
 
                 structureType.put(sf.stringRegs[j], sf.refRegs[k]);
                 break;
+            case InstructionCodes.IFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, new BInteger(sf.longRegs[k]));
+                break;
+            case InstructionCodes.FFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, new BFloat(sf.doubleRegs[k]));
+                break;
+            case InstructionCodes.SFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, new BString(sf.stringRegs[k]));
+                break;
+            case InstructionCodes.BFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, new BBoolean(sf.intRegs[k] == 1));
+                break;
+            case InstructionCodes.LFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, new BBlob(sf.byteRegs[k]));
+                break;
+            case InstructionCodes.RFIELDSTORE_IDX:
+                i = code[pc];
+                fieldIndex = code[pc + 1];
+                fieldName = ((StringCPEntry) ctx.constPool[code[pc + 2]]).getValue();
+                k = code[pc + 3];
+                structureType = (BMap<String, BValue>) sf.refRegs[i];
+                if (structureType == null) {
+                    handleNullRefError(ctx);
+                    break;
+                }
+
+                structureType.putField(fieldIndex, fieldName, sf.refRegs[k]);
+                break;
             case InstructionCodes.MAPSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 bMap = (BMap<String, BRefType>) sf.refRegs[i];
                 if (bMap == null) {
                     handleNullRefError(ctx);
@@ -1721,9 +2027,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.JSONSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 jsonVal = (BJSON) sf.refRegs[i];
                 if (jsonVal == null) {
                     handleNullRefError(ctx);
@@ -1737,33 +2043,33 @@ public class CPU {
     }
 
     @SuppressWarnings("rawtypes")
-    private static void execBinaryOpCodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] operands) {
+    private static void execBinaryOpCodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] code, int pc) {
         int i;
         int j;
         int k;
         switch (opcode) {
             case InstructionCodes.IADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] + sf.longRegs[j];
                 break;
             case InstructionCodes.FADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.doubleRegs[k] = sf.doubleRegs[i] + sf.doubleRegs[j];
                 break;
             case InstructionCodes.SADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.stringRegs[k] = sf.stringRegs[i] + sf.stringRegs[j];
                 break;
             case InstructionCodes.XMLADD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 BXML lhsXMLVal = (BXML) sf.refRegs[i];
                 BXML rhsXMLVal = (BXML) sf.refRegs[j];
                 if (lhsXMLVal == null || rhsXMLVal == null) {
@@ -1775,33 +2081,33 @@ public class CPU {
                 sf.refRegs[k] = XMLUtils.concatenate(lhsXMLVal, rhsXMLVal);
                 break;
             case InstructionCodes.ISUB:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] - sf.longRegs[j];
                 break;
             case InstructionCodes.FSUB:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.doubleRegs[k] = sf.doubleRegs[i] - sf.doubleRegs[j];
                 break;
             case InstructionCodes.IMUL:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] * sf.longRegs[j];
                 break;
             case InstructionCodes.FMUL:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.doubleRegs[k] = sf.doubleRegs[i] * sf.doubleRegs[j];
                 break;
             case InstructionCodes.IDIV:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.longRegs[j] == 0) {
                     ctx.setError(BLangVMErrors.createError(ctx, " / by zero"));
                     handleError(ctx);
@@ -1811,9 +2117,9 @@ public class CPU {
                 sf.longRegs[k] = sf.longRegs[i] / sf.longRegs[j];
                 break;
             case InstructionCodes.FDIV:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.doubleRegs[j] == 0) {
                     ctx.setError(BLangVMErrors.createError(ctx, " / by zero"));
                     handleError(ctx);
@@ -1823,9 +2129,9 @@ public class CPU {
                 sf.doubleRegs[k] = sf.doubleRegs[i] / sf.doubleRegs[j];
                 break;
             case InstructionCodes.IMOD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.longRegs[j] == 0) {
                     ctx.setError(BLangVMErrors.createError(ctx, " / by zero"));
                     handleError(ctx);
@@ -1835,9 +2141,9 @@ public class CPU {
                 sf.longRegs[k] = sf.longRegs[i] % sf.longRegs[j];
                 break;
             case InstructionCodes.FMOD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.doubleRegs[j] == 0) {
                     ctx.setError(BLangVMErrors.createError(ctx, " / by zero"));
                     handleError(ctx);
@@ -1847,48 +2153,48 @@ public class CPU {
                 sf.doubleRegs[k] = sf.doubleRegs[i] % sf.doubleRegs[j];
                 break;
             case InstructionCodes.INEG:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.longRegs[j] = -sf.longRegs[i];
                 break;
             case InstructionCodes.FNEG:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.doubleRegs[j] = -sf.doubleRegs[i];
                 break;
             case InstructionCodes.BNOT:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = sf.intRegs[i] == 0 ? 1 : 0;
                 break;
             case InstructionCodes.IEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] == sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] == sf.doubleRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.SEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = StringUtils.isEqual(sf.stringRegs[i], sf.stringRegs[j]) ? 1 : 0;
                 break;
             case InstructionCodes.BEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.intRegs[i] == sf.intRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.REQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.refRegs[i] == null) {
                     sf.intRegs[k] = sf.refRegs[j] == null ? 1 : 0;
                 } else {
@@ -1896,9 +2202,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.TEQ:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.refRegs[i] == null || sf.refRegs[j] == null) {
                     handleNullRefError(ctx);
                 }
@@ -1906,33 +2212,33 @@ public class CPU {
                 break;
 
             case InstructionCodes.INE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.longRegs[i] != sf.longRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.FNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.doubleRegs[i] != sf.doubleRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.SNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = !StringUtils.isEqual(sf.stringRegs[i], sf.stringRegs[j]) ? 1 : 0;
                 break;
             case InstructionCodes.BNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.intRegs[i] != sf.intRegs[j] ? 1 : 0;
                 break;
             case InstructionCodes.RNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.refRegs[i] == null) {
                     sf.intRegs[k] = (sf.refRegs[j] != null) ? 1 : 0;
                 } else {
@@ -1940,60 +2246,60 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.TNE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 if (sf.refRegs[i] == null || sf.refRegs[j] == null) {
                     handleNullRefError(ctx);
                 }
                 sf.intRegs[k] = (!sf.refRegs[i].equals(sf.refRegs[j])) ? 1 : 0;
                 break;
             case InstructionCodes.BIAND:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.intRegs[i] & sf.intRegs[j];
                 break;
             case InstructionCodes.BIOR:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.intRegs[i] | sf.intRegs[j];
                 break;
             case InstructionCodes.BIXOR:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.intRegs[k] = sf.intRegs[i] ^ sf.intRegs[j];
                 break;
             case InstructionCodes.IAND:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] & sf.longRegs[j];
                 break;
             case InstructionCodes.IOR:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] | sf.longRegs[j];
                 break;
             case InstructionCodes.IXOR:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] ^ sf.longRegs[j];
                 break;
             case InstructionCodes.BISHL:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] << sf.longRegs[j];
                 break;
             case InstructionCodes.BISHR:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 sf.longRegs[k] = sf.longRegs[i] >> sf.longRegs[j];
                 break;
             default:
@@ -2002,7 +2308,7 @@ public class CPU {
     }
 
     @SuppressWarnings("rawtypes")
-    private static void execXMLOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] operands) {
+    private static void execXMLOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] code, int pc) {
         int i;
         int j;
         int k;
@@ -2015,9 +2321,9 @@ public class CPU {
 
         switch (opcode) {
             case InstructionCodes.XMLATTRSTORE:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 xmlVal = (BXML) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2035,9 +2341,9 @@ public class CPU {
                         sf.stringRegs[k]);
                 break;
             case InstructionCodes.XMLATTRLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 xmlVal = (BXML) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2055,8 +2361,8 @@ public class CPU {
                         xmlQName.getPrefix());
                 break;
             case InstructionCodes.XML2XMLATTRS:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 xmlVal = (BXML) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2067,9 +2373,9 @@ public class CPU {
                 sf.refRegs[j] = new BXMLAttributes(xmlVal);
                 break;
             case InstructionCodes.S2QNAME:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 String qNameStr = sf.stringRegs[i];
                 int parenEndIndex = qNameStr.indexOf('}');
@@ -2084,10 +2390,10 @@ public class CPU {
 
                 break;
             case InstructionCodes.NEWQNAME:
-                localNameIndex = operands[0];
-                uriIndex = operands[1];
-                prefixIndex = operands[2];
-                i = operands[3];
+                localNameIndex = code[pc];
+                uriIndex = code[pc + 1];
+                prefixIndex = code[pc + 2];
+                i = code[pc + 3];
 
                 String localname = sf.stringRegs[localNameIndex];
                 localname = StringEscapeUtils.escapeXml11(localname);
@@ -2098,9 +2404,9 @@ public class CPU {
                 sf.refRegs[i] = new BXMLQName(localname, sf.stringRegs[uriIndex], prefix);
                 break;
             case InstructionCodes.XMLSEQLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 xmlVal = (BXML) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2112,9 +2418,9 @@ public class CPU {
                 sf.refRegs[k] = xmlVal.getItem(index);
                 break;
             case InstructionCodes.XMLLOAD:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 xmlVal = (BXML<?>) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2122,12 +2428,12 @@ public class CPU {
                     break;
                 }
 
-                String qname = sf.stringRegs[j];
+                QName qname = ((InstructionXMLLoad) ctx.code[ctx.ip - 1]).getQName(sf.stringRegs[j]);
                 sf.refRegs[k] = xmlVal.children(qname);
                 break;
             case InstructionCodes.XMLLOADALL:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 xmlVal = (BXML<?>) sf.refRegs[i];
                 if (xmlVal == null) {
@@ -2143,7 +2449,7 @@ public class CPU {
             case InstructionCodes.NEWXMLPI:
             case InstructionCodes.XMLSEQSTORE:
             case InstructionCodes.NEWXMLSEQ:
-                execXMLCreationOpcodes(ctx, sf, opcode, operands);
+                execXMLCreationOpcodes(ctx, sf, opcode, code, pc);
                 break;
             default:
                 throw new UnsupportedOperationException();
@@ -2151,7 +2457,7 @@ public class CPU {
     }
 
     @SuppressWarnings("rawtypes")
-    private static void execTypeCastOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] operands) {
+    private static void execTypeCastOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode, int[] code, int pc) {
         int i;
         int j;
         int cpIndex; // Index of the constant pool
@@ -2161,95 +2467,96 @@ public class CPU {
 
         switch (opcode) {
             case InstructionCodes.I2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BInteger(sf.longRegs[i]);
                 break;
             case InstructionCodes.BI2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BByte((byte) sf.intRegs[i]);
                 break;
             case InstructionCodes.F2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BFloat(sf.doubleRegs[i]);
                 break;
             case InstructionCodes.S2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BString(sf.stringRegs[i]);
                 break;
             case InstructionCodes.B2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BBoolean(sf.intRegs[i] == 1);
                 break;
             case InstructionCodes.L2ANY:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BBlob(sf.byteRegs[i]);
                 break;
             case InstructionCodes.ANY2I:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.longRegs[j] = ((BValueType) sf.refRegs[i]).intValue();
                 break;
             case InstructionCodes.ANY2BI:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = ((BValueType) sf.refRegs[i]).byteValue();
                 break;
             case InstructionCodes.ANY2F:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.doubleRegs[j] = ((BValueType) sf.refRegs[i]).floatValue();
                 break;
             case InstructionCodes.ANY2S:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.stringRegs[j] = sf.refRegs[i].stringValue();
                 break;
             case InstructionCodes.ANY2B:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = ((BBoolean) sf.refRegs[i]).booleanValue() ? 1 : 0;
                 break;
             case InstructionCodes.ANY2L:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.byteRegs[j] = ((BBlob) sf.refRegs[i]).blobValue();
                 break;
             case InstructionCodes.ANY2JSON:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeJSON);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeJSON);
                 break;
             case InstructionCodes.ANY2XML:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeXML);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeXML);
                 break;
             case InstructionCodes.ANY2MAP:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeMap);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeMap);
                 break;
             case InstructionCodes.ANY2TYPE:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeDesc);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeDesc);
                 break;
             case InstructionCodes.ANY2DT:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeTable);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeTable);
                 break;
             case InstructionCodes.ANY2STM:
-                handleAnyToRefTypeCast(ctx, sf, operands, BTypes.typeStream);
+                handleAnyToRefTypeCast(ctx, sf, code, pc, BTypes.typeStream);
                 break;
             case InstructionCodes.ANY2E:
             case InstructionCodes.ANY2T:
             case InstructionCodes.ANY2C:
             case InstructionCodes.CHECKCAST:
-                i = operands[0];
-                cpIndex = operands[1];
-                j = operands[2];
+                i = code[pc];
+                cpIndex = code[pc + 1];
+                j = code[pc + 2];
                 typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
 
                 bRefTypeValue = sf.refRegs[i];
 
-                if (checkCast(bRefTypeValue, typeRefCPEntry.getType())) {
+                if (checkCast((InstructionTypeCheck) ctx.code[ctx.ip - 1], bRefTypeValue,
+                        typeRefCPEntry.getType())) {
                     /* if the value is a JSON and target is a (boxed) value type, then even though
                      * they should be assignable, we can't use the same ref value, but rather, the BJSON
                      * should be converted to the respective boxed value types */
@@ -2264,51 +2571,52 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.IS_ASSIGNABLE:
-                i = operands[0];
-                cpIndex = operands[1];
-                j = operands[2];
+                i = code[pc];
+                cpIndex = code[pc + 1];
+                j = code[pc + 2];
                 typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
                 bRefTypeValue = sf.refRegs[i];
-                if (isAssignable(bRefTypeValue, typeRefCPEntry.getType())) {
+                if (isAssignable((InstructionTypeCheck) ctx.code[ctx.ip - 1], bRefTypeValue,
+                        typeRefCPEntry.getType())) {
                     sf.intRegs[j] = 1;
                 } else {
                     sf.intRegs[j] = 0;
                 }
                 break;
             case InstructionCodes.NULL2JSON:
-                j = operands[1];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BJSON("null");
                 break;
             case InstructionCodes.B2JSON:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BJSON(sf.intRegs[i] == 1 ? "true" : "false");
                 break;
             case InstructionCodes.JSON2I:
-                castJSONToInt(ctx, operands, sf);
+                castJSONToInt(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2F:
-                castJSONToFloat(ctx, operands, sf);
+                castJSONToFloat(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2S:
-                castJSONToString(ctx, operands, sf);
+                castJSONToString(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2B:
-                castJSONToBoolean(ctx, operands, sf);
+                castJSONToBoolean(ctx, code, pc, sf);
                 break;
             case InstructionCodes.NULL2S:
-                j = operands[1];
+                j = code[pc + 1];
                 sf.stringRegs[j] = null;
                 break;
             case InstructionCodes.ARRAY2JSON:
-                convertArrayToJSON(ctx, operands, sf);
+                convertArrayToJSON(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2ARRAY:
-                convertJSONToArray(ctx, operands, sf);
+                convertJSONToArray(ctx, code, pc, sf);
                 break;
             case InstructionCodes.CHECK_CONVERSION:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 bRefTypeValue = sf.refRegs[i];
                 sf.refRegs[j] = JSONUtils.convertUnionTypeToJSON(bRefTypeValue);
                 break;
@@ -2319,7 +2627,7 @@ public class CPU {
 
     @SuppressWarnings("rawtypes")
     private static void execTypeConversionOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
-                                                  int[] operands) {
+                                                  int[] code, int pc) {
         int i;
         int j;
         int k;
@@ -2328,23 +2636,23 @@ public class CPU {
 
         switch (opcode) {
             case InstructionCodes.I2F:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.doubleRegs[j] = (double) sf.longRegs[i];
                 break;
             case InstructionCodes.I2S:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.stringRegs[j] = Long.toString(sf.longRegs[i]);
                 break;
             case InstructionCodes.I2B:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = sf.longRegs[i] != 0 ? 1 : 0;
                 break;
             case InstructionCodes.I2BI:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 if (isByteLiteral((int) sf.longRegs[i])) {
                     sf.refRegs[j] = new BByte((byte) sf.longRegs[i]);
                 } else {
@@ -2352,38 +2660,38 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.I2JSON:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BJSON(Long.toString(sf.longRegs[i]));
                 break;
             case InstructionCodes.BI2I:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.longRegs[j] = (long) sf.intRegs[i];
                 break;
             case InstructionCodes.F2I:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.longRegs[j] = (long) sf.doubleRegs[i];
                 break;
             case InstructionCodes.F2S:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.stringRegs[j] = Double.toString(sf.doubleRegs[i]);
                 break;
             case InstructionCodes.F2B:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = sf.doubleRegs[i] != 0.0 ? 1 : 0;
                 break;
             case InstructionCodes.F2JSON:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.refRegs[j] = new BJSON(Double.toString(sf.doubleRegs[i]));
                 break;
             case InstructionCodes.S2I:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 str = sf.stringRegs[i];
                 if (str == null) {
@@ -2398,8 +2706,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.S2F:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 str = sf.stringRegs[i];
                 if (str == null) {
@@ -2414,34 +2722,34 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.S2B:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.intRegs[j] = Boolean.parseBoolean(sf.stringRegs[i]) ? 1 : 0;
                 break;
             case InstructionCodes.S2JSON:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 str = StringEscapeUtils.escapeJson(sf.stringRegs[i]);
                 sf.refRegs[j] = str == null ? null : new BJSON("\"" + str + "\"");
                 break;
             case InstructionCodes.B2I:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.longRegs[j] = sf.intRegs[i];
                 break;
             case InstructionCodes.B2F:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.doubleRegs[j] = sf.intRegs[i];
                 break;
             case InstructionCodes.B2S:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.stringRegs[j] = sf.intRegs[i] == 1 ? "true" : "false";
                 break;
             case InstructionCodes.DT2XML:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 bRefType = sf.refRegs[i];
                 if (bRefType == null) {
@@ -2457,8 +2765,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.DT2JSON:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 bRefType = sf.refRegs[i];
                 if (bRefType == null) {
@@ -2473,26 +2781,26 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.T2MAP:
-                convertStructToMap(ctx, operands, sf);
+                convertStructToMap(ctx, code, pc, sf);
                 break;
             case InstructionCodes.T2JSON:
-                convertStructToJSON(ctx, operands, sf);
+                convertStructToJSON(ctx, code, pc, sf);
                 break;
             case InstructionCodes.MAP2JSON:
-                convertMapToJSON(ctx, operands, sf);
+                convertMapToJSON(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2MAP:
-                convertJSONToMap(ctx, operands, sf);
+                convertJSONToMap(ctx, code, pc, sf);
                 break;
             case InstructionCodes.MAP2T:
-                convertMapToStruct(ctx, operands, sf);
+                convertMapToStruct(ctx, code, pc, sf);
                 break;
             case InstructionCodes.JSON2T:
-                convertJSONToStruct(ctx, operands, sf);
+                convertJSONToStruct(ctx, code, pc, sf);
                 break;
             case InstructionCodes.XMLATTRS2MAP:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 bRefType = sf.refRegs[i];
                 if (bRefType == null) {
@@ -2503,9 +2811,9 @@ public class CPU {
                 sf.refRegs[j] = ((BXMLAttributes) sf.refRegs[i]).value();
                 break;
             case InstructionCodes.S2XML:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 str = sf.stringRegs[i];
                 if (str == null) {
@@ -2523,9 +2831,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.S2JSONX:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
                 str = sf.stringRegs[i];
 
                 try {
@@ -2537,13 +2845,13 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.XML2S:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
                 sf.stringRegs[j] = sf.refRegs[i].stringValue();
                 break;
             case InstructionCodes.ANY2SCONV:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 bRefType = sf.refRegs[i];
                 if (bRefType == null) {
@@ -2630,7 +2938,7 @@ public class CPU {
     }
 
     private static void execXMLCreationOpcodes(WorkerExecutionContext ctx, WorkerData sf, int opcode,
-                                               int[] operands) {
+                                               int[] code, int pc) {
         int i;
         int j;
         int k;
@@ -2639,10 +2947,10 @@ public class CPU {
 
         switch (opcode) {
             case InstructionCodes.NEWXMLELEMENT:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
-                l = operands[3];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
+                l = code[pc + 3];
 
                 BXMLQName startTagName = (BXMLQName) sf.refRegs[j];
                 BXMLQName endTagName = (BXMLQName) sf.refRegs[k];
@@ -2655,8 +2963,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.NEWXMLCOMMENT:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 try {
                     sf.refRegs[i] = XMLUtils.createXMLComment(sf.stringRegs[j]);
@@ -2666,8 +2974,8 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.NEWXMLTEXT:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 try {
                     sf.refRegs[i] = XMLUtils.createXMLText(sf.stringRegs[j]);
@@ -2677,9 +2985,9 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.NEWXMLPI:
-                i = operands[0];
-                j = operands[1];
-                k = operands[2];
+                i = code[pc];
+                j = code[pc + 1];
+                k = code[pc + 2];
 
                 try {
                     sf.refRegs[i] = XMLUtils.createXMLProcessingInstruction(sf.stringRegs[j], sf.stringRegs[k]);
@@ -2689,15 +2997,15 @@ public class CPU {
                 }
                 break;
             case InstructionCodes.XMLSEQSTORE:
-                i = operands[0];
-                j = operands[1];
+                i = code[pc];
+                j = code[pc + 1];
 
                 xmlVal = (BXML<?>) sf.refRegs[i];
                 BXML<?> child = (BXML<?>) sf.refRegs[j];
                 xmlVal.addChildren(child);
                 break;
             case InstructionCodes.NEWXMLSEQ:
-                i = operands[0];
+                i = code[pc];
                 sf.refRegs[i] = new BXMLSequence();
                 break;
         }
@@ -2848,10 +3156,10 @@ public class CPU {
     }
 
     @SuppressWarnings("rawtypes")
-    private static void handleAnyToRefTypeCast(WorkerExecutionContext ctx, WorkerData sf, int[] operands,
+    private static void handleAnyToRefTypeCast(WorkerExecutionContext ctx, WorkerData sf, int[] code, int pc,
                                                BType targetType) {
-        int i = operands[0];
-        int j = operands[1];
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BRefType bRefType = sf.refRegs[i];
         if (bRefType == null) {
@@ -2892,19 +3200,19 @@ public class CPU {
         sf.refRegs[errorRegIndex] = errorVal;
     }
 
-    private static void createNewIntRange(int[] operands, WorkerData sf) {
-        long startValue = sf.longRegs[operands[0]];
-        long endValue = sf.longRegs[operands[1]];
-        sf.refRegs[operands[2]] = new BIntRange(startValue, endValue);
+    private static void createNewIntRange(int[] code, int pc, WorkerData sf) {
+        long startValue = sf.longRegs[code[pc]];
+        long endValue = sf.longRegs[code[pc + 1]];
+        sf.refRegs[code[pc + 2]] = new BIntRange(startValue, endValue);
     }
 
-    private static void createNewStruct(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int cpIndex = operands[0];
-        int i = operands[1];
+    private static void createNewStruct(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int cpIndex = code[pc];
+        int i = code[pc + 1];
         StructureRefCPEntry structureRefCPEntry = (StructureRefCPEntry) ctx.constPool[cpIndex];
         StructureTypeInfo structInfo = (StructureTypeInfo) ((TypeDefInfo) structureRefCPEntry
                 .getStructureTypeInfo()).typeInfo;
-        sf.refRegs[i] = new BMap<>(structInfo.getType());
+        sf.refRegs[i] = new BMap<>(structInfo.getType(), false);
     }
 
     private static void beginTransaction(WorkerExecutionContext ctx, int transactionBlockId, int retryCountRegIndex,
@@ -3035,7 +3343,8 @@ public class CPU {
 
     private static WorkerExecutionContext invokeVirtualFunction(WorkerExecutionContext ctx, int receiver,
                                                                 FunctionInfo virtualFuncInfo, int[] argRegs,
-                                                                int[] retRegs, int flags) {
+                                                                int[] retRegs, int flags,
+                                                                InlineCache inlineCache) {
         BMap<String, BValue> structVal = (BMap<String, BValue>) ctx.workerLocal.refRegs[receiver];
         if (structVal == null) {
             ctx.setError(BLangVMErrors.createNullRefException(ctx));
@@ -3043,10 +3352,15 @@ public class CPU {
             return null;
         }
 
-        // TODO use ObjectTypeInfo once record init function is removed
-        StructureTypeInfo structInfo = (StructureTypeInfo) ((BStructureType) structVal.getType()).getTypeInfo();
-        AttachedFunctionInfo attachedFuncInfo = structInfo.funcInfoEntries.get(virtualFuncInfo.getName());
-        FunctionInfo concreteFuncInfo = attachedFuncInfo.functionInfo;
+        BStructureType structType = (BStructureType) structVal.getType();
+        FunctionInfo concreteFuncInfo = inlineCache.lookup(structType);
+        if (concreteFuncInfo == null) {
+            // TODO use ObjectTypeInfo once record init function is removed
+            StructureTypeInfo structInfo = (StructureTypeInfo) structType.getTypeInfo();
+            AttachedFunctionInfo attachedFuncInfo = structInfo.funcInfoEntries.get(virtualFuncInfo.getName());
+            concreteFuncInfo = attachedFuncInfo.functionInfo;
+            inlineCache.update(structType, concreteFuncInfo, ctx.callableUnitInfo, ctx.ip - 1);
+        }
         return BLangFunctions.invokeCallable(concreteFuncInfo, ctx, argRegs, retRegs, false, flags);
     }
 
@@ -3054,6 +3368,7 @@ public class CPU {
     private static void handleWorkerSend(WorkerExecutionContext ctx, WorkerDataChannelInfo workerDataChannelInfo,
                                          BType type, int reg) {
         BRefType val = extractValue(ctx.workerLocal, type, reg);
+        BMap.share(val);
         WorkerDataChannel dataChannel = getWorkerChannel(ctx, workerDataChannelInfo.getChannelName());
         dataChannel.putData(val);
     }
@@ -3183,7 +3498,25 @@ public class CPU {
 
     private static WorkerExecutionContext handleReturn(WorkerExecutionContext ctx) {
         BLangScheduler.workerDone(ctx);
-        return ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.RETURN, ctx.workerResult));
+        WorkerExecutionContext runInCallerCtx = ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.RETURN,
+                ctx.workerResult));
+        if (ctx.pooledLocal) {
+            WorkerDataPool.release(ctx.workerLocal);
+        }
+        return runInCallerCtx;
+    }
+
+    private static boolean isAssignable(InstructionTypeCheck typeCheckIns, BValue rhsValue, BType lhsType) {
+        if (!isStructureValue(rhsValue)) {
+            return isAssignable(rhsValue, lhsType);
+        }
+
+        Boolean assignable = typeCheckIns.getCachedResult(rhsValue.getType());
+        if (assignable == null) {
+            assignable = isAssignable(rhsValue, lhsType);
+            typeCheckIns.setCachedResult(rhsValue.getType(), assignable);
+        }
+        return assignable;
     }
 
     public static boolean isAssignable(BValue rhsValue, BType lhsType) {
@@ -3292,6 +3625,31 @@ public class CPU {
         return false;
     }
 
+    private static boolean checkCast(InstructionTypeCheck typeCheckIns, BValue rhsValue, BType lhsType) {
+        if (!isStructureValue(rhsValue)) {
+            return checkCast(rhsValue, lhsType);
+        }
+
+        Boolean assignable = typeCheckIns.getCachedResult(rhsValue.getType());
+        if (assignable == null) {
+            assignable = checkCast(rhsValue, lhsType);
+            typeCheckIns.setCachedResult(rhsValue.getType(), assignable);
+        }
+        return assignable;
+    }
+
+    /**
+     * Checks whether the given value is an object or a record. Type checks of such values depend only on the type of
+     * the value, and not on its content, hence their results can be cached.
+     */
+    private static boolean isStructureValue(BValue value) {
+        if (value == null) {
+            return false;
+        }
+        int typeTag = value.getType().getTag();
+        return typeTag == TypeTags.OBJECT_TYPE_TAG || typeTag == TypeTags.RECORD_TYPE_TAG;
+    }
+
     private static boolean checkCast(BValue rhsValue, BType lhsType) {
         // Check union types
         if (lhsType.getTag() == TypeTags.UNION_TAG) {
@@ -3420,6 +3778,15 @@ public class CPU {
     }
 
     public static boolean checkStructEquivalency(BStructureType rhsType, BStructureType lhsType) {
+        Boolean equivalent = rhsType.getEquivalency(lhsType);
+        if (equivalent == null) {
+            equivalent = computeStructEquivalency(rhsType, lhsType);
+            rhsType.setEquivalency(lhsType, equivalent);
+        }
+        return equivalent;
+    }
+
+    private static boolean computeStructEquivalency(BStructureType rhsType, BStructureType lhsType) {
         // Both structs should be public or private.
         // Get the XOR of both flags(masks)
         // If both are public, then public bit should be 0;
@@ -3593,9 +3960,9 @@ public class CPU {
         return false;
     }
 
-    private static void castJSONToInt(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void castJSONToInt(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         if (jsonValue == null) {
@@ -3623,9 +3990,9 @@ public class CPU {
 //        handleTypeCastError(ctx, sf, j, JSONUtils.getTypeName(jsonNode), TypeConstants.INT_TNAME);
     }
 
-    private static void castJSONToFloat(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void castJSONToFloat(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         if (jsonValue == null) {
@@ -3653,9 +4020,9 @@ public class CPU {
 //        handleTypeCastError(ctx, sf, j, JSONUtils.getTypeName(jsonNode), TypeConstants.FLOAT_TNAME);
     }
 
-    private static void castJSONToString(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void castJSONToString(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         if (jsonValue == null) {
@@ -3684,9 +4051,9 @@ public class CPU {
 //        handleTypeCastError(ctx, sf, j, JSONUtils.getTypeName(jsonNode), TypeConstants.STRING_TNAME);
     }
 
-    private static void castJSONToBoolean(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void castJSONToBoolean(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BJSON jsonValue = (BJSON) sf.refRegs[i];
         if (jsonValue == null) {
@@ -3797,18 +4164,18 @@ public class CPU {
         }
     }
 
-    private static void convertStructToMap(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void convertStructToMap(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         // TODO: do validation for type?
         sf.refRegs[j] = sf.refRegs[i];
     }
 
-    private static void convertStructToJSON(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertStructToJSON(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
         BJSONType targetType = (BJSONType) ((TypeRefCPEntry) ctx.constPool[cpIndex]).getType();
 
         BMap<String, BValue> bStruct = (BMap<String, BValue>) sf.refRegs[i];
@@ -3826,9 +4193,9 @@ public class CPU {
         }
     }
     
-    private static void convertArrayToJSON(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int j = operands[1];
+    private static void convertArrayToJSON(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int j = code[pc + 1];
 
         BNewArray bArray = (BNewArray) sf.refRegs[i];
         if (bArray == null) {
@@ -3845,10 +4212,10 @@ public class CPU {
         }
     }
     
-    private static void convertJSONToArray(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertJSONToArray(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
         BArrayType targetType = (BArrayType) ((TypeRefCPEntry) ctx.constPool[cpIndex]).getType();
 
         BJSON json = (BJSON) sf.refRegs[i];
@@ -3867,10 +4234,10 @@ public class CPU {
     }
     
     @SuppressWarnings("unchecked")
-    private static void convertMapToJSON(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertMapToJSON(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
         BJSONType targetType = (BJSONType) ((TypeRefCPEntry) ctx.constPool[cpIndex]).getType();
 
         BMap<String, ?> bMap = (BMap<String, ?>) sf.refRegs[i];
@@ -3888,10 +4255,10 @@ public class CPU {
         }
     }
     
-    private static void convertJSONToMap(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertJSONToMap(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
         BMapType targetType = (BMapType) ((TypeRefCPEntry) ctx.constPool[cpIndex]).getType();
 
         BJSON json = (BJSON) sf.refRegs[i];
@@ -3910,10 +4277,10 @@ public class CPU {
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static void convertMapToStruct(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertMapToStruct(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
 
         TypeRefCPEntry typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
         BMap<String, BValue> bMap = (BMap<String, BValue>) sf.refRegs[i];
@@ -4009,10 +4376,10 @@ public class CPU {
         sf.refRegs[j] = bStruct;
     }
 
-    private static void convertJSONToStruct(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void convertJSONToStruct(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
 
         TypeRefCPEntry typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
         BJSON bjson = (BJSON) sf.refRegs[i];
@@ -4044,8 +4411,12 @@ public class CPU {
             ctx.ip = match.getIpTarget();
         } else {
             BLangScheduler.workerExcepted(ctx);
-            throw new HandleErrorException(
-                    ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.ERROR, ctx.workerResult)));
+            WorkerExecutionContext runInCallerCtx = ctx.respCtx.signal(new WorkerSignal(ctx, SignalType.ERROR,
+                    ctx.workerResult));
+            if (ctx.pooledLocal) {
+                WorkerDataPool.release(ctx.workerLocal);
+            }
+            throw new HandleErrorException(runInCallerCtx);
         }
     }
 
@@ -4059,10 +4430,10 @@ public class CPU {
     }
 
     @SuppressWarnings("rawtypes")
-    private static void calculateLength(WorkerExecutionContext ctx, int[] operands, WorkerData sf) {
-        int i = operands[0];
-        int cpIndex = operands[1];
-        int j = operands[2];
+    private static void calculateLength(WorkerExecutionContext ctx, int[] code, int pc, WorkerData sf) {
+        int i = code[pc];
+        int cpIndex = code[pc + 1];
+        int j = code[pc + 2];
 
         TypeRefCPEntry typeRefCPEntry = (TypeRefCPEntry) ctx.constPool[cpIndex];
         int typeTag = typeRefCPEntry.getType().getTag();
@@ -4106,9 +4477,9 @@ public class CPU {
         return;
     }
 
-    private static WorkerExecutionContext execAwait(WorkerExecutionContext ctx, int[] operands) {
-        int futureReg = operands[0];
-        int retValReg = operands[1];
+    private static WorkerExecutionContext execAwait(WorkerExecutionContext ctx, int[] code, int pc) {
+        int futureReg = code[pc];
+        int retValReg = code[pc + 1];
         BFuture future = (BFuture) ctx.workerLocal.refRegs[futureReg];
         WorkerResponseContext respCtx = future.value();
         if (retValReg != -1) {
@@ -21,6 +21,7 @@ import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.util.Flags;
+import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.LockableStructureType;
@@ -30,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The {@code GlobalMemoryBlock} represents the global memory block in Ballerina VM.
@@ -41,17 +43,17 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
     private HashMap<String, Object> nativeData = new HashMap<>();
 
     private long[] longFields;
-    private VarLock[] longLocks;
+    private final AtomicReferenceArray<VarLock> longLocks;
     private double[] doubleFields;
-    private VarLock[] doubleLocks;
+    private final AtomicReferenceArray<VarLock> doubleLocks;
     private String[] stringFields;
-    private VarLock[] stringLocks;
+    private final AtomicReferenceArray<VarLock> stringLocks;
     private int[] intFields;
-    private VarLock[] intLocks;
+    private final AtomicReferenceArray<VarLock> intLocks;
     private byte[][] byteFields;
-    private VarLock[] byteLocks;
+    private final AtomicReferenceArray<VarLock> byteLocks;
     private BRefType[] refFields;
-    private VarLock[] refLocks;
+    private final AtomicReferenceArray<VarLock> refLocks;
 
     private BStructureType structType;
 
@@ -71,6 +73,13 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
         byteFields = new byte[fieldCount[4]][];
         refFields = new BRefType[fieldCount[5]];
 
+        longLocks = new AtomicReferenceArray<>(fieldCount[0]);
+        doubleLocks = new AtomicReferenceArray<>(fieldCount[1]);
+        stringLocks = new AtomicReferenceArray<>(fieldCount[2]);
+        intLocks = new AtomicReferenceArray<>(fieldCount[3]);
+        byteLocks = new AtomicReferenceArray<>(fieldCount[4]);
+        refLocks = new AtomicReferenceArray<>(fieldCount[5]);
+
         Arrays.fill(stringFields, BLangConstants.STRING_EMPTY_VALUE);
         Arrays.fill(byteFields, BLangConstants.BLOB_EMPTY_VALUE);
     }
@@ -186,189 +195,83 @@ public final class GlobalMemoryBlock implements BRefType, LockableStructureType
 
     @Override
     public void setRefField(int index, BRefType value) {
+        BMap.share(value);
         refFields[index] = value;
     }
 
     @Override
     public boolean lockIntField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (longLocks == null) {
-            synchronized (longFields) {
-                if (longLocks == null) {
-                    longLocks = new VarLock[longFields.length];
-                }
-            }
-        }
-        if (longLocks[index] == null) {
-            //locking the whole field array
-            synchronized (longFields) {
-                if (longLocks[index] == null) {
-                    longLocks[index] = new VarLock();
-                }
-            }
-        }
-        return longLocks[index].lock(ctx);
+        return getLock(longLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockIntField(int index) {
-        longLocks[index].unlock();
+        longLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockFloatField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (doubleLocks == null) {
-            synchronized (doubleFields) {
-                if (doubleLocks == null) {
-                    doubleLocks = new VarLock[doubleFields.length];
-                }
-            }
-        }
-        if (doubleLocks[index] == null) {
-            //locking the whole field array
-            synchronized (doubleFields) {
-                if (doubleLocks[index] == null) {
-                    doubleLocks[index] = new VarLock();
-                }
-            }
-        }
-        return doubleLocks[index].lock(ctx);
+        return getLock(doubleLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockFloatField(int index) {
-        doubleLocks[index].unlock();
+        doubleLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockStringField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (stringLocks == null) {
-            synchronized (stringFields) {
-                if (stringLocks == null) {
-                    stringLocks = new VarLock[stringFields.length];
-                }
-            }
-        }
-        if (stringLocks[index] == null) {
-            synchronized (stringFields) {
-                if (stringLocks[index] == null) {
-                    stringLocks[index] = new VarLock();
-                }
-            }
-        }
-        return stringLocks[index].lock(ctx);
+        return getLock(stringLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockStringField(int index) {
-        stringLocks[index].unlock();
+        stringLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockBooleanField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (intLocks == null) {
-            synchronized (intFields) {
-                if (intLocks == null) {
-                    intLocks = new VarLock[intFields.length];
-                }
-            }
-        }
-        if (intLocks[index] == null) {
-            synchronized (intFields) {
-                if (intLocks[index] == null) {
-                    intLocks[index] = new VarLock();
-                }
-            }
-        }
-        return intLocks[index].lock(ctx);
+        return getLock(intLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockBooleanField(int index) {
-        intLocks[index].unlock();
+        intLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockBlobField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (byteLocks == null) {
-            synchronized (byteFields) {
-                if (byteLocks == null) {
-                    byteLocks = new VarLock[byteFields.length];
-                }
-            }
-        }
-        if (byteLocks[index] == null) {
-            synchronized (byteFields) {
-                if (byteLocks[index] == null) {
-                    byteLocks[index] = new VarLock();
-                }
-            }
-        }
-        return byteLocks[index].lock(ctx);
+        return getLock(byteLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockBlobField(int index) {
-        byteLocks[index].unlock();
+        byteLocks.get(index).unlock();
     }
 
     @Override
     public boolean lockRefField(WorkerExecutionContext ctx, int index) {
-        /*
-        TODO below synchronization is done on non final variable(which is getting changed in copy method)
-        This is ok for the time being as below synchronizations are only valid for global memory block which is
-        not getting copied, even in that case there shouldn't be a problem as synchronization always happens after
-        copying, but look into that when implementing locking support for struct fields and connector variables.
-         */
-        if (refLocks == null) {
-            synchronized (refFields) {
-                if (refLocks == null) {
-                    refLocks = new VarLock[refFields.length];
-                }
-            }
-        }
-        if (refLocks[index] == null) {
-            synchronized (refFields) {
-                if (refLocks[index] == null) {
-                    refLocks[index] = new VarLock();
-                }
-            }
-        }
-        return refLocks[index].lock(ctx);
+        return getLock(refLocks, index).lock(ctx);
     }
 
     @Override
     public void unlockRefField(int index) {
-        refLocks[index].unlock();
+        refLocks.get(index).unlock();
+    }
+
+    /**
+     * Returns the lock of the given field, creating it on first use. Each field has its own lock, hence locking a
+     * field does not contend with the locks of the other fields of the block.
+     */
+    private static VarLock getLock(AtomicReferenceArray<VarLock> locks, int index) {
+        VarLock lock = locks.get(index);
+        if (lock == null) {
+            lock = new VarLock();
+            if (!locks.compareAndSet(index, null, lock)) {
+                lock = locks.get(index);
+            }
+        }
+        return lock;
     }
 
     @Override
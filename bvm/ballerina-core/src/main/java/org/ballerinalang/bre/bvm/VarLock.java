@@ -18,54 +18,98 @@
 package org.ballerinalang.bre.bvm;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables.
+ * <p>
+ * The holders of the lock are kept as an immutable stack, which is swapped with a CAS. Hence acquiring and releasing
+ * a lock which is not contended does not block. The monitor of the lock is only taken when a context has to wait for
+ * the lock, or when a waiting context has to be resumed.
  *
  * @since 0.961.0
  */
 public class VarLock {
 
-    private ArrayDeque<WorkerExecutionContext> current;
+    private final AtomicReference<Holder> current = new AtomicReference<>();
 
-    private ArrayDeque<WorkerExecutionContext> waitingForLock;
+    private final ArrayDeque<WorkerExecutionContext> waitingForLock = new ArrayDeque<>();
 
-    public VarLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
-    }
+    // Number of contexts which are waiting for the lock, or are about to
+    private final AtomicInteger waitingCount = new AtomicInteger();
 
-    public synchronized boolean lock(WorkerExecutionContext ctx) {
-        if (isLockFree() || lockedBySameContext(ctx) || lockedByParentContext(ctx)) {
-            current.offerLast(ctx);
+    public boolean lock(WorkerExecutionContext ctx) {
+        if (tryLock(ctx)) {
             return true;
         }
-        waitingForLock.offerLast(ctx);
-        BLangScheduler.workerWaitForLock(ctx);
-        return false;
+
+        synchronized (this) {
+            // The waiting count has to be published before checking the lock again, otherwise an unlock which
+            // happens in between would not see this context waiting.
+            waitingCount.incrementAndGet();
+            if (tryLock(ctx)) {
+                waitingCount.decrementAndGet();
+                return true;
+            }
+            waitingForLock.offerLast(ctx);
+            BLangScheduler.workerWaitForLock(ctx);
+            return false;
+        }
     }
 
-    public synchronized void unlock() {
+    public void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            WorkerExecutionContext ctx = waitingForLock.removeFirst();
-            BLangScheduler.resume(ctx, ctx.ip - 1, false);
+        Holder holder;
+        do {
+            holder = current.get();
+        } while (!current.compareAndSet(holder, holder.next));
+
+        if (waitingCount.get() == 0) {
+            return;
+        }
+        synchronized (this) {
+            if (!waitingForLock.isEmpty()) {
+                WorkerExecutionContext ctx = waitingForLock.removeFirst();
+                waitingCount.decrementAndGet();
+                BLangScheduler.resume(ctx, ctx.ip - 1, false);
+            }
         }
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
+    private boolean tryLock(WorkerExecutionContext ctx) {
+        while (true) {
+            Holder holder = current.get();
+            if (holder != null && holder.ctx != ctx && !isParentContext(holder.ctx, ctx)) {
+                return false;
+            }
+            if (current.compareAndSet(holder, new Holder(ctx, holder))) {
+                return true;
+            }
+        }
     }
 
-    private boolean lockedByParentContext(WorkerExecutionContext ctx) {
-        if (ctx.parent == null) {
-            return false;
+    private static boolean isParentContext(WorkerExecutionContext holder, WorkerExecutionContext ctx) {
+        for (WorkerExecutionContext parent = ctx.parent; parent != null; parent = parent.parent) {
+            if (parent == holder) {
+                return true;
+            }
         }
-        return current.getLast() == ctx.parent || lockedByParentContext(ctx.parent);
+        return false;
     }
 
-    private boolean lockedBySameContext(WorkerExecutionContext ctx) {
-        return current.getLast() == ctx;
+    /**
+     * An entry of the stack of contexts holding the lock. The last context which acquired the lock is at the top.
+     */
+    private static final class Holder {
+
+        private final WorkerExecutionContext ctx;
+
+        private final Holder next;
+
+        private Holder(WorkerExecutionContext ctx, Holder next) {
+            this.ctx = ctx;
+            this.next = next;
+        }
     }
 }
@@ -39,8 +39,13 @@ public class WorkerData {
     public byte[][] byteRegs;
     
     public BRefType<?>[] refRegs;
+
+    // The code attribute the registers are sized from, which identifies the frames that can be reused from the
+    // WorkerDataPool. This is null for the frames which are not sized from a code attribute.
+    CodeAttributeInfo codeAttributeInfo;
     
     public WorkerData(CodeAttributeInfo ci) {
+        this.codeAttributeInfo = ci;
         if (ci.maxLongRegs > 0) {
             this.longRegs = new long[ci.maxLongRegs];
         }
@@ -0,0 +1,141 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.bvm;
+
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+
+import java.util.Arrays;
+
+/**
+ * {@code WorkerDataPool} is a per thread pool of worker local data frames, which lets the register arrays of a
+ * callable be reused between its invocations, instead of being allocated for each call.
+ * <p>
+ * A frame is released to the pool when the worker which owns it returns, or ends with an unhandled error. A worker
+ * which is suspended, e.g. waiting for a non-blocking native call or a worker receive, keeps its frame in its
+ * execution context, and the frame is released by the thread which executes the worker when it eventually ends.
+ * Released frames are cleared, so that the pool does not keep any values reachable.
+ *
+ * @since 0.976.1
+ */
+public class WorkerDataPool {
+
+    private static final int MAX_POOLED_FRAMES = 32;
+
+    private static final ThreadLocal<WorkerDataPool> threadPools = ThreadLocal.withInitial(WorkerDataPool::new);
+
+    private final WorkerData[] frames = new WorkerData[MAX_POOLED_FRAMES];
+
+    private int frameCount;
+
+    /**
+     * Returns a cleared frame for the given code attribute, from the pool of the current thread if available.
+     *
+     * @param ci the code attribute of the worker
+     * @return the worker local data
+     */
+    public static WorkerData acquire(CodeAttributeInfo ci) {
+        WorkerDataPool pool = threadPools.get();
+        WorkerData[] frames = pool.frames;
+        // The most recently released frame is the most likely match, e.g. for calls in a loop
+        for (int i = pool.frameCount - 1; i >= 0; i--) {
+            WorkerData frame = frames[i];
+            if (frame.codeAttributeInfo == ci) {
+                pool.frameCount--;
+                frames[i] = frames[pool.frameCount];
+                frames[pool.frameCount] = null;
+                return frame;
+            }
+        }
+        return new WorkerData(ci);
+    }
+
+    /**
+     * Clears the given frame and adds it to the pool of the current thread. The frame must not be used by the
+     * caller after it is released.
+     *
+     * @param frame the worker local data
+     */
+    public static void release(WorkerData frame) {
+        CodeAttributeInfo ci = frame.codeAttributeInfo;
+        if (ci == null || !clear(frame, ci)) {
+            return;
+        }
+
+        WorkerDataPool pool = threadPools.get();
+        WorkerData[] frames = pool.frames;
+        if (pool.frameCount == MAX_POOLED_FRAMES) {
+            // Evict the least recently released frame
+            System.arraycopy(frames, 1, frames, 0, MAX_POOLED_FRAMES - 1);
+            pool.frameCount--;
+        }
+        frames[pool.frameCount++] = frame;
+    }
+
+    /**
+     * Clears the registers of the given frame.
+     *
+     * @return false if the frame does not match its code attribute anymore, e.g. when the registers have been
+     * expanded to pass closure variables, in which case it is not reusable
+     */
+    private static boolean clear(WorkerData frame, CodeAttributeInfo ci) {
+        if (length(frame.longRegs) != Math.max(ci.maxLongRegs, 0)
+                || length(frame.doubleRegs) != Math.max(ci.maxDoubleRegs, 0)
+                || length(frame.stringRegs) != Math.max(ci.maxStringRegs, 0)
+                || length(frame.intRegs) != Math.max(ci.maxIntRegs, 0)
+                || length(frame.byteRegs) != Math.max(ci.maxByteRegs, 0)
+                || length(frame.refRegs) != Math.max(ci.maxBValueRegs, 0)) {
+            return false;
+        }
+
+        if (frame.longRegs != null) {
+            Arrays.fill(frame.longRegs, 0);
+        }
+        if (frame.doubleRegs != null) {
+            Arrays.fill(frame.doubleRegs, 0);
+        }
+        if (frame.stringRegs != null) {
+            Arrays.fill(frame.stringRegs, null);
+        }
+        if (frame.intRegs != null) {
+            Arrays.fill(frame.intRegs, 0);
+        }
+        if (frame.byteRegs != null) {
+            Arrays.fill(frame.byteRegs, null);
+        }
+        if (frame.refRegs != null) {
+            Arrays.fill(frame.refRegs, null);
+        }
+        return true;
+    }
+
+    private static int length(Object[] regs) {
+        return regs == null ? 0 : regs.length;
+    }
+
+    private static int length(long[] regs) {
+        return regs == null ? 0 : regs.length;
+    }
+
+    private static int length(double[] regs) {
+        return regs == null ? 0 : regs.length;
+    }
+
+    private static int length(int[] regs) {
+        return regs == null ? 0 : regs.length;
+    }
+}
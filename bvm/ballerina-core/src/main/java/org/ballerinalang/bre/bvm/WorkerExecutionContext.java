@@ -22,6 +22,8 @@ import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.codegen.CallableUnitInfo;
 import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.PackedCode;
 import org.ballerinalang.util.codegen.ProgramFile;
 import org.ballerinalang.util.codegen.WorkerInfo;
 import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
@@ -57,8 +59,15 @@ public class WorkerExecutionContext {
     public ConstantPoolEntry[] constPool;
     
     public Instruction[] code;
+
+    public int[] packedCode;
+
+    public int[] codeOffsets;
     
     public WorkerData workerLocal;
+
+    // True if the worker local data is to be released to the WorkerDataPool when the worker returns
+    public boolean pooledLocal;
     
     public WorkerData workerResult;
     
@@ -101,7 +110,7 @@ public class WorkerExecutionContext {
         this.workerInfo = workerInfo;
         this.programFile = callableUnitInfo.getPackageInfo().getProgramFile();
         this.constPool = callableUnitInfo.getPackageInfo().getConstPoolEntries();
-        this.code = callableUnitInfo.getPackageInfo().getInstructions();
+        initCode(callableUnitInfo.getPackageInfo());
         this.workerLocal = workerLocal;
         this.workerResult = workerResult;
         this.retRegIndexes = retRegIndexes;
@@ -120,7 +129,7 @@ public class WorkerExecutionContext {
         this.workerInfo = workerInfo;
         this.programFile = callableUnitInfo.getPackageInfo().getProgramFile();
         this.constPool = callableUnitInfo.getPackageInfo().getConstPoolEntries();
-        this.code = callableUnitInfo.getPackageInfo().getInstructions();
+        initCode(callableUnitInfo.getPackageInfo());
         this.workerLocal = workerLocal;
         this.globalProps = parent.globalProps;
         this.ip = this.workerInfo.getCodeAttributeInfo().getCodeAddrs();
@@ -128,6 +137,21 @@ public class WorkerExecutionContext {
         initDebugger();
     }
 
+    private void initCode(PackageInfo packageInfo) {
+        // Superinstructions execute several instructions with a single dispatch, which the debugger cannot step
+        // through. Therefore the original instructions are used when debugging.
+        PackedCode packed;
+        if (programFile.getDebugger().isDebugEnabled() || !programFile.isInstructionFusionEnabled()) {
+            this.code = packageInfo.getInstructions();
+            packed = packageInfo.getPackedCode();
+        } else {
+            this.code = packageInfo.getFusedInstructions();
+            packed = packageInfo.getFusedPackedCode();
+        }
+        this.packedCode = packed.code;
+        this.codeOffsets = packed.offsets;
+    }
+
     private void initDebugger() {
         if (!programFile.getDebugger().isDebugEnabled()) {
             return;
@@ -0,0 +1,545 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.bvm.jit;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.util.codegen.CallableUnitInfo;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.WorkerInfo;
+import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
+import org.ballerinalang.util.codegen.cpentries.FloatCPEntry;
+import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+import org.ballerinalang.util.codegen.cpentries.StringCPEntry;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code CallableCompiler} translates the instructions of a Ballerina function into a JVM class implementing
+ * {@link CompiledCallable}.
+ * <p>
+ * Each BVM instruction is translated into the equivalent JVM bytecode over the register arrays of the
+ * {@link WorkerData}, and each jump target of the BVM code becomes a label in the generated method. Only functions
+ * which consist entirely of instructions without side effects on the scheduler, i.e. constants, register moves,
+ * int/float arithmetic, comparisons, jumps and returns, are compiled. A function which contains any other instruction
+ * (calls, worker interactions, locks, transactions, instructions which can raise errors etc.) is not compilable, and
+ * is left to the interpreter.
+ *
+ * @since 0.976.1
+ */
+public class CallableCompiler {
+
+    private static final String GENERATED_CLASS_PREFIX = "org/ballerinalang/bre/bvm/jit/generated/BFunction$";
+
+    private static final String WORKER_DATA = Type.getInternalName(WorkerData.class);
+
+    private static final String EXECUTE_DESC = Type.getMethodDescriptor(Type.VOID_TYPE,
+            Type.getType(WorkerData.class), Type.getType(WorkerData.class), Type.getType(int[].class));
+
+    private static final String LONG_REGS_DESC = "[J";
+
+    private static final String DOUBLE_REGS_DESC = "[D";
+
+    private static final String STRING_REGS_DESC = Type.getDescriptor(String[].class);
+
+    private static final String INT_REGS_DESC = "[I";
+
+    private static final String REF_REGS_DESC = Type.getDescriptor(BRefType[].class);
+
+    // Local variable slots of the generated execute method
+    private static final int LOCAL_SLOT = 1;
+    private static final int RESULT_SLOT = 2;
+    private static final int RET_REG_INDEXES_SLOT = 3;
+    private static final int LONG_REGS_SLOT = 4;
+    private static final int DOUBLE_REGS_SLOT = 5;
+    private static final int STRING_REGS_SLOT = 6;
+    private static final int INT_REGS_SLOT = 7;
+    private static final int REF_REGS_SLOT = 8;
+
+    private static final AtomicInteger generatedClassCount = new AtomicInteger(0);
+
+    /**
+     * Compiles the given worker of a callable unit.
+     *
+     * @param callableUnitInfo the callable unit
+     * @param workerInfo       the worker of the callable unit to be compiled
+     * @return the compiled callable, or null if the worker contains instructions which cannot be compiled
+     * @throws ReflectiveOperationException if the generated class cannot be instantiated
+     */
+    public static CompiledCallable compile(CallableUnitInfo callableUnitInfo, WorkerInfo workerInfo)
+            throws ReflectiveOperationException {
+        PackageInfo packageInfo = callableUnitInfo.getPackageInfo();
+        Instruction[] code = packageInfo.getInstructions();
+        int startIP = workerInfo.getCodeAttributeInfo().getCodeAddrs();
+        BitSet reachable = findReachableInstructions(code, startIP);
+        if (reachable == null) {
+            return null;
+        }
+
+        String className = GENERATED_CLASS_PREFIX + generatedClassCount.incrementAndGet();
+        byte[] classBytes = generateClass(className, packageInfo.getConstPoolEntries(), code, startIP, reachable);
+        Class<?> compiledClass = new CompiledCallableClassLoader().defineClass(className.replace('/', '.'),
+                classBytes);
+        return (CompiledCallable) compiledClass.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Walks the control flow of the code starting from the given address.
+     *
+     * @return the addresses of the reachable instructions, or null if an instruction which is not supported by the
+     * compiler is reachable
+     */
+    private static BitSet findReachableInstructions(Instruction[] code, int startIP) {
+        BitSet reachable = new BitSet(code.length);
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(startIP);
+        while (!pending.isEmpty()) {
+            int ip = pending.pop();
+            if (ip < 0 || ip >= code.length) {
+                return null;
+            }
+            if (reachable.get(ip)) {
+                continue;
+            }
+
+            Instruction instruction = code[ip];
+            if (!isSupported(instruction.getOpcode())) {
+                return null;
+            }
+            reachable.set(ip);
+
+            switch (instruction.getOpcode()) {
+                case InstructionCodes.GOTO:
+                    pending.push(instruction.getOperands()[0]);
+                    break;
+                case InstructionCodes.BR_TRUE:
+                case InstructionCodes.BR_FALSE:
+                    pending.push(instruction.getOperands()[1]);
+                    pending.push(ip + 1);
+                    break;
+                case InstructionCodes.RET:
+                    break;
+                default:
+                    pending.push(ip + 1);
+                    break;
+            }
+        }
+        return reachable;
+    }
+
+    private static boolean isSupported(int opcode) {
+        switch (opcode) {
+            case InstructionCodes.NOP:
+            case InstructionCodes.ICONST:
+            case InstructionCodes.FCONST:
+            case InstructionCodes.SCONST:
+            case InstructionCodes.ICONST_0:
+            case InstructionCodes.ICONST_1:
+            case InstructionCodes.ICONST_2:
+            case InstructionCodes.ICONST_3:
+            case InstructionCodes.ICONST_4:
+            case InstructionCodes.ICONST_5:
+            case InstructionCodes.FCONST_0:
+            case InstructionCodes.FCONST_1:
+            case InstructionCodes.FCONST_2:
+            case InstructionCodes.FCONST_3:
+            case InstructionCodes.FCONST_4:
+            case InstructionCodes.FCONST_5:
+            case InstructionCodes.BCONST_0:
+            case InstructionCodes.BCONST_1:
+            case InstructionCodes.RCONST_NULL:
+            case InstructionCodes.IMOVE:
+            case InstructionCodes.FMOVE:
+            case InstructionCodes.SMOVE:
+            case InstructionCodes.BMOVE:
+            case InstructionCodes.RMOVE:
+            case InstructionCodes.IADD:
+            case InstructionCodes.ISUB:
+            case InstructionCodes.IMUL:
+            case InstructionCodes.FADD:
+            case InstructionCodes.FSUB:
+            case InstructionCodes.FMUL:
+            case InstructionCodes.INEG:
+            case InstructionCodes.FNEG:
+            case InstructionCodes.BNOT:
+            case InstructionCodes.IEQ:
+            case InstructionCodes.INE:
+            case InstructionCodes.IGT:
+            case InstructionCodes.IGE:
+            case InstructionCodes.ILT:
+            case InstructionCodes.ILE:
+            case InstructionCodes.FEQ:
+            case InstructionCodes.FNE:
+            case InstructionCodes.FGT:
+            case InstructionCodes.FGE:
+            case InstructionCodes.FLT:
+            case InstructionCodes.FLE:
+            case InstructionCodes.BR_TRUE:
+            case InstructionCodes.BR_FALSE:
+            case InstructionCodes.GOTO:
+            case InstructionCodes.I2F:
+            case InstructionCodes.IRET:
+            case InstructionCodes.FRET:
+            case InstructionCodes.SRET:
+            case InstructionCodes.BRET:
+            case InstructionCodes.RRET:
+            case InstructionCodes.RET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static byte[] generateClass(String className, ConstantPoolEntry[] constPool, Instruction[] code,
+                                        int startIP, BitSet reachable) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, className, null,
+                Type.getInternalName(Object.class), new String[] { Type.getInternalName(CompiledCallable.class) });
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "execute", EXECUTE_DESC, null, null);
+        mv.visitCode();
+        loadRegisters(mv, "longRegs", LONG_REGS_DESC, LONG_REGS_SLOT);
+        loadRegisters(mv, "doubleRegs", DOUBLE_REGS_DESC, DOUBLE_REGS_SLOT);
+        loadRegisters(mv, "stringRegs", STRING_REGS_DESC, STRING_REGS_SLOT);
+        loadRegisters(mv, "intRegs", INT_REGS_DESC, INT_REGS_SLOT);
+        loadRegisters(mv, "refRegs", REF_REGS_DESC, REF_REGS_SLOT);
+
+        Label[] labels = new Label[code.length];
+        for (int ip = reachable.nextSetBit(0); ip >= 0; ip = reachable.nextSetBit(ip + 1)) {
+            labels[ip] = new Label();
+        }
+        // Instructions are generated in address order, hence the entry point may not be the first of them
+        if (reachable.nextSetBit(0) != startIP) {
+            mv.visitJumpInsn(Opcodes.GOTO, labels[startIP]);
+        }
+        for (int ip = reachable.nextSetBit(0); ip >= 0; ip = reachable.nextSetBit(ip + 1)) {
+            mv.visitLabel(labels[ip]);
+            generateInstruction(mv, constPool, code[ip], labels);
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void loadRegisters(MethodVisitor mv, String fieldName, String fieldDesc, int slot) {
+        mv.visitVarInsn(Opcodes.ALOAD, LOCAL_SLOT);
+        mv.visitFieldInsn(Opcodes.GETFIELD, WORKER_DATA, fieldName, fieldDesc);
+        mv.visitVarInsn(Opcodes.ASTORE, slot);
+    }
+
+    private static void generateInstruction(MethodVisitor mv, ConstantPoolEntry[] constPool, Instruction instruction,
+                                            Label[] labels) {
+        int opcode = instruction.getOpcode();
+        int[] operands = instruction.getOperands();
+        switch (opcode) {
+            case InstructionCodes.NOP:
+                break;
+            case InstructionCodes.ICONST:
+                pushRegister(mv, LONG_REGS_SLOT, operands[1]);
+                mv.visitLdcInsn(((IntegerCPEntry) constPool[operands[0]]).getValue());
+                mv.visitInsn(Opcodes.LASTORE);
+                break;
+            case InstructionCodes.FCONST:
+                pushRegister(mv, DOUBLE_REGS_SLOT, operands[1]);
+                mv.visitLdcInsn(((FloatCPEntry) constPool[operands[0]]).getValue());
+                mv.visitInsn(Opcodes.DASTORE);
+                break;
+            case InstructionCodes.SCONST:
+                pushRegister(mv, STRING_REGS_SLOT, operands[1]);
+                mv.visitLdcInsn(((StringCPEntry) constPool[operands[0]]).getValue());
+                mv.visitInsn(Opcodes.AASTORE);
+                break;
+            case InstructionCodes.ICONST_0:
+            case InstructionCodes.ICONST_1:
+            case InstructionCodes.ICONST_2:
+            case InstructionCodes.ICONST_3:
+            case InstructionCodes.ICONST_4:
+            case InstructionCodes.ICONST_5:
+                pushRegister(mv, LONG_REGS_SLOT, operands[0]);
+                mv.visitLdcInsn((long) (opcode - InstructionCodes.ICONST_0));
+                mv.visitInsn(Opcodes.LASTORE);
+                break;
+            case InstructionCodes.FCONST_0:
+            case InstructionCodes.FCONST_1:
+            case InstructionCodes.FCONST_2:
+            case InstructionCodes.FCONST_3:
+            case InstructionCodes.FCONST_4:
+            case InstructionCodes.FCONST_5:
+                pushRegister(mv, DOUBLE_REGS_SLOT, operands[0]);
+                mv.visitLdcInsn((double) (opcode - InstructionCodes.FCONST_0));
+                mv.visitInsn(Opcodes.DASTORE);
+                break;
+            case InstructionCodes.BCONST_0:
+            case InstructionCodes.BCONST_1:
+                pushRegister(mv, INT_REGS_SLOT, operands[0]);
+                mv.visitInsn(opcode == InstructionCodes.BCONST_0 ? Opcodes.ICONST_0 : Opcodes.ICONST_1);
+                mv.visitInsn(Opcodes.IASTORE);
+                break;
+            case InstructionCodes.RCONST_NULL:
+                pushRegister(mv, REF_REGS_SLOT, operands[0]);
+                mv.visitInsn(Opcodes.ACONST_NULL);
+                mv.visitInsn(Opcodes.AASTORE);
+                break;
+            case InstructionCodes.IMOVE:
+                generateMove(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LASTORE, operands);
+                break;
+            case InstructionCodes.FMOVE:
+                generateMove(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DASTORE, operands);
+                break;
+            case InstructionCodes.SMOVE:
+                generateMove(mv, STRING_REGS_SLOT, Opcodes.AALOAD, Opcodes.AASTORE, operands);
+                break;
+            case InstructionCodes.BMOVE:
+                generateMove(mv, INT_REGS_SLOT, Opcodes.IALOAD, Opcodes.IASTORE, operands);
+                break;
+            case InstructionCodes.RMOVE:
+                generateMove(mv, REF_REGS_SLOT, Opcodes.AALOAD, Opcodes.AASTORE, operands);
+                break;
+            case InstructionCodes.IADD:
+                generateBinaryOp(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LADD, Opcodes.LASTORE, operands);
+                break;
+            case InstructionCodes.ISUB:
+                generateBinaryOp(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LSUB, Opcodes.LASTORE, operands);
+                break;
+            case InstructionCodes.IMUL:
+                generateBinaryOp(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LMUL, Opcodes.LASTORE, operands);
+                break;
+            case InstructionCodes.FADD:
+                generateBinaryOp(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DADD, Opcodes.DASTORE, operands);
+                break;
+            case InstructionCodes.FSUB:
+                generateBinaryOp(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DSUB, Opcodes.DASTORE, operands);
+                break;
+            case InstructionCodes.FMUL:
+                generateBinaryOp(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DMUL, Opcodes.DASTORE, operands);
+                break;
+            case InstructionCodes.INEG:
+                pushRegister(mv, LONG_REGS_SLOT, operands[1]);
+                loadRegister(mv, LONG_REGS_SLOT, Opcodes.LALOAD, operands[0]);
+                mv.visitInsn(Opcodes.LNEG);
+                mv.visitInsn(Opcodes.LASTORE);
+                break;
+            case InstructionCodes.FNEG:
+                pushRegister(mv, DOUBLE_REGS_SLOT, operands[1]);
+                loadRegister(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, operands[0]);
+                mv.visitInsn(Opcodes.DNEG);
+                mv.visitInsn(Opcodes.DASTORE);
+                break;
+            case InstructionCodes.BNOT:
+                pushRegister(mv, INT_REGS_SLOT, operands[1]);
+                loadRegister(mv, INT_REGS_SLOT, Opcodes.IALOAD, operands[0]);
+                generateBoolean(mv, Opcodes.IFEQ);
+                mv.visitInsn(Opcodes.IASTORE);
+                break;
+            case InstructionCodes.IEQ:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFEQ, operands);
+                break;
+            case InstructionCodes.INE:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFNE, operands);
+                break;
+            case InstructionCodes.IGT:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFGT, operands);
+                break;
+            case InstructionCodes.IGE:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFGE, operands);
+                break;
+            case InstructionCodes.ILT:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFLT, operands);
+                break;
+            case InstructionCodes.ILE:
+                generateCompare(mv, LONG_REGS_SLOT, Opcodes.LALOAD, Opcodes.LCMP, Opcodes.IFLE, operands);
+                break;
+            // DCMPL and DCMPG are chosen such that comparisons involving NaN are false, as in the interpreter
+            case InstructionCodes.FEQ:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPL, Opcodes.IFEQ, operands);
+                break;
+            case InstructionCodes.FNE:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPL, Opcodes.IFNE, operands);
+                break;
+            case InstructionCodes.FGT:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPL, Opcodes.IFGT, operands);
+                break;
+            case InstructionCodes.FGE:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPL, Opcodes.IFGE, operands);
+                break;
+            case InstructionCodes.FLT:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPG, Opcodes.IFLT, operands);
+                break;
+            case InstructionCodes.FLE:
+                generateCompare(mv, DOUBLE_REGS_SLOT, Opcodes.DALOAD, Opcodes.DCMPG, Opcodes.IFLE, operands);
+                break;
+            case InstructionCodes.BR_TRUE:
+                loadRegister(mv, INT_REGS_SLOT, Opcodes.IALOAD, operands[0]);
+                mv.visitInsn(Opcodes.ICONST_1);
+                mv.visitJumpInsn(Opcodes.IF_ICMPEQ, labels[operands[1]]);
+                break;
+            case InstructionCodes.BR_FALSE:
+                loadRegister(mv, INT_REGS_SLOT, Opcodes.IALOAD, operands[0]);
+                mv.visitJumpInsn(Opcodes.IFEQ, labels[operands[1]]);
+                break;
+            case InstructionCodes.GOTO:
+                mv.visitJumpInsn(Opcodes.GOTO, labels[operands[0]]);
+                break;
+            case InstructionCodes.I2F:
+                pushRegister(mv, DOUBLE_REGS_SLOT, operands[1]);
+                loadRegister(mv, LONG_REGS_SLOT, Opcodes.LALOAD, operands[0]);
+                mv.visitInsn(Opcodes.L2D);
+                mv.visitInsn(Opcodes.DASTORE);
+                break;
+            case InstructionCodes.IRET:
+                generateReturnValue(mv, "longRegs", LONG_REGS_DESC, LONG_REGS_SLOT, Opcodes.LALOAD,
+                        Opcodes.LASTORE, operands);
+                break;
+            case InstructionCodes.FRET:
+                generateReturnValue(mv, "doubleRegs", DOUBLE_REGS_DESC, DOUBLE_REGS_SLOT, Opcodes.DALOAD,
+                        Opcodes.DASTORE, operands);
+                break;
+            case InstructionCodes.SRET:
+                generateReturnValue(mv, "stringRegs", STRING_REGS_DESC, STRING_REGS_SLOT, Opcodes.AALOAD,
+                        Opcodes.AASTORE, operands);
+                break;
+            case InstructionCodes.BRET:
+                generateReturnValue(mv, "intRegs", INT_REGS_DESC, INT_REGS_SLOT, Opcodes.IALOAD,
+                        Opcodes.IASTORE, operands);
+                break;
+            case InstructionCodes.RRET:
+                generateReturnValue(mv, "refRegs", REF_REGS_DESC, REF_REGS_SLOT, Opcodes.AALOAD,
+                        Opcodes.AASTORE, operands);
+                break;
+            case InstructionCodes.RET:
+                mv.visitInsn(Opcodes.RETURN);
+                break;
+            default:
+                throw new UnsupportedOperationException("unsupported opcode: " + opcode);
+        }
+    }
+
+    /**
+     * Pushes the register array of the given slot and the register index, ready for an array store.
+     */
+    private static void pushRegister(MethodVisitor mv, int regsSlot, int regIndex) {
+        mv.visitVarInsn(Opcodes.ALOAD, regsSlot);
+        pushInt(mv, regIndex);
+    }
+
+    private static void loadRegister(MethodVisitor mv, int regsSlot, int loadOpcode, int regIndex) {
+        pushRegister(mv, regsSlot, regIndex);
+        mv.visitInsn(loadOpcode);
+    }
+
+    private static void generateMove(MethodVisitor mv, int regsSlot, int loadOpcode, int storeOpcode,
+                                     int[] operands) {
+        pushRegister(mv, regsSlot, operands[1]);
+        loadRegister(mv, regsSlot, loadOpcode, operands[0]);
+        mv.visitInsn(storeOpcode);
+    }
+
+    private static void generateBinaryOp(MethodVisitor mv, int regsSlot, int loadOpcode, int arithOpcode,
+                                         int storeOpcode, int[] operands) {
+        pushRegister(mv, regsSlot, operands[2]);
+        loadRegister(mv, regsSlot, loadOpcode, operands[0]);
+        loadRegister(mv, regsSlot, loadOpcode, operands[1]);
+        mv.visitInsn(arithOpcode);
+        mv.visitInsn(storeOpcode);
+    }
+
+    private static void generateCompare(MethodVisitor mv, int regsSlot, int loadOpcode, int cmpOpcode,
+                                        int jumpOpcode, int[] operands) {
+        pushRegister(mv, INT_REGS_SLOT, operands[2]);
+        loadRegister(mv, regsSlot, loadOpcode, operands[0]);
+        loadRegister(mv, regsSlot, loadOpcode, operands[1]);
+        mv.visitInsn(cmpOpcode);
+        generateBoolean(mv, jumpOpcode);
+        mv.visitInsn(Opcodes.IASTORE);
+    }
+
+    /**
+     * Converts the int on top of the stack into 1 if the given conditional jump is taken, or 0 otherwise.
+     */
+    private static void generateBoolean(MethodVisitor mv, int jumpOpcode) {
+        Label trueLabel = new Label();
+        Label endLabel = new Label();
+        mv.visitJumpInsn(jumpOpcode, trueLabel);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitJumpInsn(Opcodes.GOTO, endLabel);
+        mv.visitLabel(trueLabel);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitLabel(endLabel);
+    }
+
+    /**
+     * Generates the equivalent of 'result.xRegs[retRegIndexes[i]] = local.xRegs[j]'.
+     */
+    private static void generateReturnValue(MethodVisitor mv, String fieldName, String fieldDesc, int regsSlot,
+                                            int loadOpcode, int storeOpcode, int[] operands) {
+        mv.visitVarInsn(Opcodes.ALOAD, RESULT_SLOT);
+        mv.visitFieldInsn(Opcodes.GETFIELD, WORKER_DATA, fieldName, fieldDesc);
+        mv.visitVarInsn(Opcodes.ALOAD, RET_REG_INDEXES_SLOT);
+        pushInt(mv, operands[0]);
+        mv.visitInsn(Opcodes.IALOAD);
+        loadRegister(mv, regsSlot, loadOpcode, operands[1]);
+        mv.visitInsn(storeOpcode);
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    /**
+     * Class loader of the generated classes. Each compiled callable has its own loader, so that the class can be
+     * unloaded along with the program.
+     */
+    private static class CompiledCallableClassLoader extends ClassLoader {
+
+        CompiledCallableClassLoader() {
+            super(CompiledCallable.class.getClassLoader());
+        }
+
+        Class<?> defineClass(String name, byte[] classBytes) {
+            return defineClass(name, classBytes, 0, classBytes.length);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.bvm.jit;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+
+/**
+ * {@code CompiledCallable} is the JVM bytecode form of a Ballerina function, generated by the
+ * {@link CallableCompiler} once the function becomes hot.
+ * <p>
+ * A compiled callable operates over the same {@link WorkerData} register arrays as the interpreter, and stores its
+ * return values in the worker result, the same way the return instructions of the BVM do.
+ *
+ * @since 0.976.1
+ */
+public interface CompiledCallable {
+
+    /**
+     * Executes the function body.
+     *
+     * @param local         the local registers of the function, with the arguments already populated
+     * @param result        the worker result registers
+     * @param retRegIndexes the indexes of the return values in the worker result registers
+     */
+    void execute(WorkerData local, WorkerData result, int[] retRegIndexes);
+}
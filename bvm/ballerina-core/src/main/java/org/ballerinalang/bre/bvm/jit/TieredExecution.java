@@ -0,0 +1,114 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.bvm.jit;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.util.codegen.CallableUnitInfo.WorkerSet;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code TieredExecution} decides when a Ballerina function is compiled to JVM bytecode.
+ * <p>
+ * Tiered execution is disabled by default, and is enabled with the "b7a.runtime.jit.enabled" configuration. When
+ * enabled, the invocations of each function are counted, and once a function has been invoked
+ * "b7a.runtime.jit.threshold" times, it is compiled with the {@link CallableCompiler}. Functions which cannot be
+ * compiled, e.g. which have multiple workers, are marked as such and stay interpreted.
+ *
+ * @since 0.976.1
+ */
+public class TieredExecution {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredExecution.class);
+
+    private static final String JIT_ENABLED_CONFIG_PROP = "b7a.runtime.jit.enabled";
+
+    private static final String JIT_THRESHOLD_CONFIG_PROP = "b7a.runtime.jit.threshold";
+
+    private static final int DEFAULT_JIT_THRESHOLD = 10000;
+
+    private static boolean jitEnabled;
+
+    private static int jitThreshold = DEFAULT_JIT_THRESHOLD;
+
+    static {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String enabledConfigProp = configRegistry.getAsString(JIT_ENABLED_CONFIG_PROP);
+        if (enabledConfigProp != null) {
+            jitEnabled = Boolean.parseBoolean(enabledConfigProp);
+        }
+        String thresholdConfigProp = configRegistry.getAsString(JIT_THRESHOLD_CONFIG_PROP);
+        if (thresholdConfigProp != null) {
+            try {
+                jitThreshold = Integer.parseInt(thresholdConfigProp);
+            } catch (NumberFormatException e) {
+                log.warn("invalid value for " + JIT_THRESHOLD_CONFIG_PROP + ": " + thresholdConfigProp
+                        + ", using the default value " + DEFAULT_JIT_THRESHOLD);
+            }
+        }
+    }
+
+    public static boolean isEnabled() {
+        return jitEnabled;
+    }
+
+    public static int getThreshold() {
+        return jitThreshold;
+    }
+
+    /**
+     * Counts an invocation of the given function, and returns its compiled form if it is available. The function is
+     * compiled by the invoking thread when its invocation count reaches the threshold.
+     *
+     * @param functionInfo the invoked function
+     * @return the compiled callable, or null if the function should be interpreted
+     */
+    public static CompiledCallable getCompiledCallable(FunctionInfo functionInfo) {
+        CompiledCallable compiledCallable = functionInfo.getCompiledCallable();
+        if (compiledCallable != null || functionInfo.isCompilationAttempted()) {
+            return compiledCallable;
+        }
+        if (functionInfo.incrementInvocationCount() < jitThreshold) {
+            return null;
+        }
+
+        synchronized (functionInfo) {
+            if (!functionInfo.isCompilationAttempted()) {
+                functionInfo.setCompiledCallable(compile(functionInfo));
+                functionInfo.setCompilationAttempted();
+            }
+        }
+        return functionInfo.getCompiledCallable();
+    }
+
+    private static CompiledCallable compile(FunctionInfo functionInfo) {
+        WorkerSet workerSet = functionInfo.getWorkerSet();
+        if (workerSet.initWorker != null || workerSet.generalWorkers.length != 1) {
+            return null;
+        }
+
+        try {
+            return CallableCompiler.compile(functionInfo, workerSet.generalWorkers[0]);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("error in compiling function '" + functionInfo.getName() + "', continuing in interpreted mode",
+                    e);
+            return null;
+        }
+    }
+}
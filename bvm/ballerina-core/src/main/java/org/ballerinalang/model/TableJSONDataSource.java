@@ -34,6 +34,9 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.Struct;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 /**
  * {@link org.ballerinalang.model.values.BJSON.JSONDataSource} implementation for table.
@@ -63,40 +66,114 @@ public class TableJSONDataSource implements JSONDataSource {
         gen.writeStartArray();
         while (this.df.hasNext(this.isInTransaction)) {
             this.df.moveToNext();
-            this.objGen.transform(this.df).serialize(gen);
+            this.objGen.write(this.df, gen);
         }
         gen.writeEndArray();
     }
 
     /**
      * Default {@link TableJSONDataSource.JSONObjectGenerator} implementation based
-     * on the table's in-built column definition.
+     * on the table's in-built column definition. Rows are written directly to the generator, using the field names
+     * and column types resolved from the first row, unless the names are not unique.
      */
     private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
 
+        private String[] names;
+
+        private TypeKind[] types;
+
+        private BField[] structFields;
+
+        private boolean uniqueNames;
+
         @Override
         public JsonNode transform(BTable df) throws IOException {
+            resolveColumns(df);
             JsonNode objNode = new JsonNode(Type.OBJECT);
+            for (int i = 0; i < names.length; i++) {
+                constructJsonData(df, objNode, names[i], types[i], i + 1, structFields);
+            }
+            return objNode;
+        }
+
+        @Override
+        public void write(BTable df, JsonGenerator gen) throws IOException {
+            resolveColumns(df);
+            if (!uniqueNames) {
+                transform(df).serialize(gen);
+                return;
+            }
+            gen.startObject();
+            for (int i = 0; i < names.length; i++) {
+                gen.writeFieldName(names[i]);
+                writeJsonData(df, gen, types[i], i + 1, structFields);
+            }
+            gen.endObject();
+        }
+
+        private void resolveColumns(BTable df) {
+            if (names != null) {
+                return;
+            }
             BStructureType structType = df.getStructType();
-            BField[] structFields = null;
             if (structType != null) {
                 structFields = structType.getFields();
             }
+            List<ColumnDefinition> columnDefs = df.getColumnDefs();
+            String[] columnNames = new String[columnDefs.size()];
+            types = new TypeKind[columnNames.length];
             int index = 0;
-            for (ColumnDefinition col : df.getColumnDefs()) {
-                String name;
+            for (ColumnDefinition col : columnDefs) {
                 if (structFields != null) {
-                    name = structFields[index].getFieldName();
+                    columnNames[index] = structFields[index].getFieldName();
                 } else {
-                    name = col.getName();
+                    columnNames[index] = col.getName();
                 }
-                constructJsonData(df, objNode, name, col.getType(), index + 1, structFields);
+                types[index] = col.getType();
                 ++index;
             }
+            uniqueNames = new HashSet<>(Arrays.asList(columnNames)).size() == columnNames.length;
+            names = columnNames;
+        }
+    }
 
-            return objNode;
+    private static void writeJsonData(BTable df, JsonGenerator gen, TypeKind type, int index, BField[] structFields)
+            throws IOException {
+        switch (type) {
+        case INT:
+            gen.writeNumber(df.getInt(index));
+            break;
+        case FLOAT:
+            gen.writeNumber(df.getFloat(index));
+            break;
+        case BOOLEAN:
+            gen.writeBoolean(df.getBoolean(index));
+            break;
+        case BLOB:
+            writeString(gen, df.getBlob(index));
+            break;
+        case ARRAY:
+            getDataArray(df, index).serialize(gen);
+            break;
+        case JSON:
+            JsonParser.parse(df.getString(index)).serialize(gen);
+            break;
+        case OBJECT:
+        case RECORD:
+            getStructData(df.getStruct(index), structFields, index).serialize(gen);
+            break;
+        default:
+            writeString(gen, df.getString(index));
+            break;
         }
+    }
 
+    private static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
     }
 
     private static void constructJsonData(BTable df, JsonNode objNode, String name, TypeKind type, int index,
@@ -265,6 +342,17 @@ public class TableJSONDataSource implements JSONDataSource {
          */
         JsonNode transform(BTable table) throws IOException;
 
+        /**
+         * Writes the current position of the given table as a JSON object to the given generator.
+         *
+         * @param table The table that should be used in the current position
+         * @param gen   The generator to write the JSON object to
+         * @throws IOException for json reading/serializing errors
+         */
+        default void write(BTable table, JsonGenerator gen) throws IOException {
+            transform(table).serialize(gen);
+        }
+
     }
 
 }
@@ -28,6 +28,7 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.sql.SQLException;
 import java.sql.Struct;
+import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 
@@ -60,24 +61,29 @@ public class TableOMDataSource extends AbstractPushOMDataSource {
     @Override
     public void serialize(XMLStreamWriter xmlStreamWriter) throws XMLStreamException {
         xmlStreamWriter.writeStartElement("", this.rootWrapper, "");
+        String[] names = null;
+        TypeKind[] types = null;
+        BField[] structFields = null;
         while (table.hasNext(this.isInTransaction)) {
             table.moveToNext();
-            xmlStreamWriter.writeStartElement("", this.rowWrapper, "");
-            BStructureType structType = table.getStructType();
-            BField[] structFields = null;
-            if (structType != null) {
-                structFields = structType.getFields();
-            }
-            int index = 1;
-            for (ColumnDefinition col : table.getColumnDefs()) {
-                String name;
-                if (structFields != null) {
-                    name = structFields[index - 1].getFieldName();
-                } else {
-                    name = col.getName();
+            if (names == null) {
+                BStructureType structType = table.getStructType();
+                if (structType != null) {
+                    structFields = structType.getFields();
+                }
+                List<ColumnDefinition> columnDefs = table.getColumnDefs();
+                names = new String[columnDefs.size()];
+                types = new TypeKind[names.length];
+                int index = 0;
+                for (ColumnDefinition col : columnDefs) {
+                    names[index] = structFields != null ? structFields[index].getFieldName() : col.getName();
+                    types[index] = col.getType();
+                    ++index;
                 }
-                writeElement(xmlStreamWriter, name, col.getType(), index, structFields);
-                ++index;
+            }
+            xmlStreamWriter.writeStartElement("", this.rowWrapper, "");
+            for (int i = 0; i < names.length; i++) {
+                writeElement(xmlStreamWriter, names[i], types[i], i + 1, structFields);
             }
             xmlStreamWriter.writeEndElement();
         }
@@ -18,8 +18,12 @@
 package org.ballerinalang.model.types;
 
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.OrderedOpenHashMap;
 import org.ballerinalang.util.codegen.TypeInfo;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * {@code BStructureType} represents a user defined structure type in Ballerina.
  *
@@ -34,6 +38,13 @@ public abstract class BStructureType extends BType {
     public BAttachedFunction defaultsValuesInitFunc;
     public int flags;
 
+    // Results of the structural equivalency checks of this type against other structure types. The map is replaced,
+    // never modified, so that it can be read without locking.
+    private volatile Map<BStructureType, Boolean> equivalentTypes = new IdentityHashMap<>();
+
+    // Slots of the fields in the maps of this type, which is created on first use
+    private volatile OrderedOpenHashMap.Layout fieldLayout;
+
     /**
      * Create a {@code BStructType} which represents the user defined struct type.
      *
@@ -53,6 +64,26 @@ public abstract class BStructureType extends BType {
 
     public void setFields(BField[] fields) {
         this.fields = fields;
+        this.fieldLayout = null;
+    }
+
+    /**
+     * Returns the layout of the maps of this type, where the slot of each field is its index in the fields of the
+     * type.
+     *
+     * @return the layout, or null if the fields are not set yet
+     */
+    public OrderedOpenHashMap.Layout getFieldLayout() {
+        OrderedOpenHashMap.Layout layout = fieldLayout;
+        if (layout == null && fields != null) {
+            String[] fieldNames = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldNames[i] = fields[i].fieldName;
+            }
+            layout = new OrderedOpenHashMap.Layout(fieldNames);
+            fieldLayout = layout;
+        }
+        return layout;
     }
 
     public int[] getFieldTypeCount() {
@@ -71,6 +102,22 @@ public abstract class BStructureType extends BType {
         this.attachedFunctions = attachedFunctions;
     }
 
+    /**
+     * Returns the memoized result of the structural equivalency check of this type against the given type.
+     *
+     * @param targetType type this type is checked against
+     * @return true or false if the check has been memoized, otherwise null
+     */
+    public Boolean getEquivalency(BStructureType targetType) {
+        return equivalentTypes.get(targetType);
+    }
+
+    public synchronized void setEquivalency(BStructureType targetType, boolean equivalent) {
+        Map<BStructureType, Boolean> newEquivalentTypes = new IdentityHashMap<>(equivalentTypes);
+        newEquivalentTypes.put(targetType, equivalent);
+        equivalentTypes = newEquivalentTypes;
+    }
+
     public abstract TypeInfo getTypeInfo();
 }
 
@@ -23,10 +23,15 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * When the output is UTF-8 encoded, the JSON constructs are encoded directly into a fixed size byte buffer, which is
+ * written to the output stream whenever it gets full. Hence no intermediate strings are created, and the memory used
+ * is bounded by the buffer size regardless of the size of the JSON content.
  * 
  * @since 0.95.5
  */
@@ -34,13 +39,26 @@ public class JsonGenerator {
     
     private static final int DEFAULT_DEPTH = 10;
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char REPLACEMENT_CHAR = '?';
+
     private Writer writer;
+
+    // Output stream and the buffer used when the output is UTF-8 encoded
+    private OutputStream out;
+
+    private byte[] buff;
+
+    private int buffIndex;
     
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
     
     private int currentLevel;
     
     private boolean fieldActive;
+
+    private boolean passThrough;
     
     private static boolean[] escChars = new boolean[93];
     
@@ -58,7 +76,12 @@ public class JsonGenerator {
     }
     
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.out = out;
+            this.buff = new byte[BUFFER_SIZE];
+        } else {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+        }
     }
 
     public JsonGenerator(Writer writer) {
@@ -86,7 +109,7 @@ public class JsonGenerator {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(',');
+                this.write(',');
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -104,7 +127,7 @@ public class JsonGenerator {
     
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(',');
+            this.write(',');
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -117,7 +140,7 @@ public class JsonGenerator {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(',');
+            this.write(',');
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -125,39 +148,38 @@ public class JsonGenerator {
     
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.write('{');
     }
     
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.write('}');
         this.processEndLevel();
     }
     
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.write(':');
     }
     
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");        
+        this.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }        
         if (escaped) {
-            this.writeStringEsc(chs);            
+            this.writeStringEsc(value);
         } else {
-            this.writer.write(chs);
+            this.write(value, 0, count);
         }        
-        this.writer.write("\"");
+        this.write('"');
     }
     
     public void writeString(String value) throws IOException {
@@ -166,95 +188,220 @@ public class JsonGenerator {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
-        int count = chs.length;
+        this.writeStringEsc(new String(chs));
+    }
+
+    private void writeStringEsc(String value) throws IOException {
+        int count = value.length();
         int index = 0;
-        char ch;
+        String esc;
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
-            switch (ch) {
+            switch (value.charAt(i)) {
             case '"':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\\"");
-                index = i + 1;
+                esc = "\\\"";
                 break;
             case '\\':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\\\");
-                index = i + 1;
+                esc = "\\\\";
                 break;
             case '/':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\/");
-                index = i + 1;
+                esc = "\\/";
                 break;
             case '\b':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\b");
-                index = i + 1;
+                esc = "\\b";
                 break;
             case '\n':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\n");
-                index = i + 1;
+                esc = "\\n";
                 break;
             case '\r':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\r");
-                index = i + 1;
+                esc = "\\r";
                 break;
             case '\f':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\f");
-                index = i + 1;
+                esc = "\\f";
                 break;
             case '\t':
-                this.writer.write(chs, index, i - index);
-                writer.write("\\t");
-                index = i + 1;
+                esc = "\\t";
                 break;
             default:
-                break;
+                continue;
             }
+            this.write(value, index, i);
+            this.write(esc, 0, esc.length());
+            index = i + 1;
         }
         
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.write(value, index, count);
         }
 
     }
     
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        if (this.out != null) {
+            this.writeDigits(value);
+        } else {
+            this.writer.write(Long.toString(value));
+        }
     }
     
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.write(Double.toString(value));
     }
     
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.write(value ? "true" : "false");
     }
     
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.write("null");
     }
     
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.write('[');
     }
     
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.write(']');
         this.processEndLevel();
     }
-    
+
+    /**
+     * Writes the given UTF-8 encoded JSON value as is.
+     *
+     * @param utf8Json byte array which contains the JSON value
+     * @param offset   index of the first byte of the JSON value
+     * @param length   number of bytes of the JSON value
+     * @throws IOException if an error occurs while writing
+     */
+    public void writeRaw(byte[] utf8Json, int offset, int length) throws IOException {
+        this.processValueInit();
+        if (this.out == null) {
+            this.writer.write(new String(utf8Json, offset, length, StandardCharsets.UTF_8));
+            return;
+        }
+        this.ensureCapacity(length);
+        if (length > this.buff.length) {
+            this.out.write(utf8Json, offset, length);
+        } else {
+            System.arraycopy(utf8Json, offset, this.buff, this.buffIndex, length);
+            this.buffIndex += length;
+        }
+    }
+
+    /**
+     * Sets whether lazily parsed JSON content which is not modified can be written out as is, i.e. with its original
+     * formatting, instead of being generated again. This is meant for writing messages to the wire.
+     *
+     * @param passThrough whether unmodified content can be written out as is
+     */
+    public void setPassThrough(boolean passThrough) {
+        this.passThrough = passThrough;
+    }
+
+    public boolean isPassThrough() {
+        return this.passThrough;
+    }
+
     public void flush() throws IOException {
-        this.writer.flush();
+        if (this.out != null) {
+            this.flushBuffer();
+            this.out.flush();
+        } else {
+            this.writer.flush();
+        }
+    }
+
+    private void write(char ch) throws IOException {
+        if (this.out != null) {
+            if (this.buffIndex == this.buff.length) {
+                this.flushBuffer();
+            }
+            this.buff[this.buffIndex++] = (byte) ch;
+        } else {
+            this.writer.write(ch);
+        }
+    }
+
+    private void write(String str) throws IOException {
+        this.write(str, 0, str.length());
+    }
+
+    /**
+     * Writes the characters of the given string from the start index (inclusive) to the end index (exclusive). In
+     * the UTF-8 mode the characters are encoded straight into the buffer.
+     */
+    private void write(String str, int start, int end) throws IOException {
+        if (this.out == null) {
+            this.writer.write(str, start, end - start);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            char ch = str.charAt(i);
+            if (ch < 0x80) {
+                if (this.buffIndex == this.buff.length) {
+                    this.flushBuffer();
+                }
+                this.buff[this.buffIndex++] = (byte) ch;
+                continue;
+            }
+            this.ensureCapacity(4);
+            if (ch < 0x800) {
+                this.buff[this.buffIndex++] = (byte) (0xC0 | (ch >> 6));
+                this.buff[this.buffIndex++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                this.buff[this.buffIndex++] = (byte) (0xE0 | (ch >> 12));
+                this.buff[this.buffIndex++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                this.buff[this.buffIndex++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, str.charAt(++i));
+                this.buff[this.buffIndex++] = (byte) (0xF0 | (codePoint >> 18));
+                this.buff[this.buffIndex++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                this.buff[this.buffIndex++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                this.buff[this.buffIndex++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced, the same way as done by the charset encoder
+                this.buff[this.buffIndex++] = (byte) REPLACEMENT_CHAR;
+            }
+        }
+    }
+
+    private void writeDigits(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            this.write(Long.toString(value));
+            return;
+        }
+        this.ensureCapacity(20);
+        if (value < 0) {
+            this.buff[this.buffIndex++] = '-';
+            value = -value;
+        }
+        int start = this.buffIndex;
+        do {
+            this.buff[this.buffIndex++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = this.buffIndex - 1; i < j; i++, j--) {
+            byte digit = this.buff[i];
+            this.buff[i] = this.buff[j];
+            this.buff[j] = digit;
+        }
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (this.buffIndex + length > this.buff.length) {
+            this.flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.buffIndex > 0) {
+            this.out.write(this.buff, 0, this.buffIndex);
+            this.buffIndex = 0;
+        }
     }
     
 }
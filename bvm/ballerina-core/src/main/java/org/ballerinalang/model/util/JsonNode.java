@@ -19,17 +19,19 @@ package org.ballerinalang.model.util;
 
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 
 /**
  * This class represents a JSON node. This can be either an object, array, 
@@ -39,6 +41,8 @@ import java.util.Map.Entry;
  */
 public class JsonNode {
 
+    private static final int INITIAL_CAPACITY = 4;
+
     private String stringValue;
     
     private long longValue;
@@ -49,13 +53,42 @@ public class JsonNode {
     
     private Type type;
     
+    // Field names of an object, if its field values are kept in the fieldValues array
+    private JsonShape shape;
+
+    private JsonNode[] fieldValues;
+
+    // Fields of an object which has fallen back to a map, i.e. a field was removed or it has too many field names
     private Map<String, JsonNode> fields;
-    
-    private List<JsonNode> arrayElements;
+
+    // Elements of an array, kept in a long[] or a double[] while all the elements are integers or floats
+    // respectively, and in a JsonNode[] otherwise
+    private Object arrayElements;
+
+    private int elementCount;
+
+    // Nodes of the elements of a long[] or a double[] array which have been read, so that each read of an element
+    // returns the same node
+    private JsonNode[] packedElementNodes;
     
     protected JsonNode parentNode;
     
     protected String fieldName;
+
+    // Raw UTF-8 content of a lazily parsed object or array, which is kept until the node or a node under it is
+    // modified, so that the content can be written out as is
+    private byte[] rawData;
+
+    private int rawFrom;
+
+    private int rawTo;
+
+    // Whether this node was created by lazy parsing, which is never changed afterwards. It is checked before the
+    // volatile flag below, so that accessing the nodes which are not lazy does not pay for a volatile read.
+    private boolean lazy;
+
+    // Whether the fields or the elements of a lazily parsed node are yet to be added from the raw content
+    private volatile boolean unloaded;
     
     public JsonNode() {
         this(Type.OBJECT);
@@ -81,15 +114,70 @@ public class JsonNode {
         this.setBooleanValue(booleanValue);
     }
     
+    /**
+     * Creates a lazily parsed object or array node, from already validated JSON content.
+     *
+     * @param type   type of the node, i.e. object or array
+     * @param data   UTF-8 encoded JSON content
+     * @param from   index of the opening brace or bracket of the node
+     * @param to     index after the closing brace or bracket of the node
+     * @return the lazy node
+     */
+    static JsonNode lazy(Type type, byte[] data, int from, int to) {
+        JsonNode node = new JsonNode(type);
+        node.rawData = data;
+        node.rawFrom = from;
+        node.rawTo = to;
+        node.lazy = true;
+        node.unloaded = true;
+        return node;
+    }
+
+    void loadField(String name, JsonNode value) {
+        value.parentNode = this;
+        this.putField(name, value);
+    }
+
+    void loadElement(JsonNode value) {
+        value.parentNode = this;
+        this.addElement(value);
+    }
+
+    private void ensureLoaded() {
+        if (this.lazy && this.unloaded) {
+            this.load();
+        }
+    }
+
+    private synchronized void load() {
+        if (this.unloaded) {
+            Utf8JsonParser.load(this, this.rawData, this.rawFrom, this.rawTo);
+            this.unloaded = false;
+        }
+    }
+
+    /**
+     * Discards the raw content of this node and of the nodes it is contained in, as they no longer represent it.
+     * Raw content is discarded bottom up, hence once an object or an array without raw content is reached, none of
+     * the enclosing nodes have raw content either.
+     */
+    void modified() {
+        this.ensureLoaded();
+        for (JsonNode node = this; node != null; node = node.parentNode) {
+            if (node.rawData == null && (node.type == Type.OBJECT || node.type == Type.ARRAY)) {
+                break;
+            }
+            node.rawData = null;
+        }
+    }
+
     public Type getType() {
         return type;
     }
     
     public void add(JsonNode arrayElement) {
-        if (arrayElements == null) {
-            arrayElements = new LinkedList<>();
-        }
-        this.arrayElements.add(arrayElement);
+        this.modified();
+        this.addElement(arrayElement);
     }
     
     public void add(long value) {
@@ -113,6 +201,7 @@ public class JsonNode {
     }
     
     public void setString(String stringValue) {
+        this.modified();
         if (stringValue != null) {
             this.stringValue = stringValue;
             this.type = Type.STRING;
@@ -122,21 +211,25 @@ public class JsonNode {
     }
     
     public void setNumber(long longValue) {
+        this.modified();
         this.longValue = longValue;
         this.type = Type.LONG;
     }
     
     public void setNumber(double doubleValue) {
+        this.modified();
         this.doubleValue = doubleValue;
         this.type = Type.DOUBLE;
     }
     
     public void setBooleanValue(boolean booleanValue) {
+        this.modified();
         this.booleanValue = booleanValue;
         this.type = Type.BOOLEAN;
     }
     
     public void setNull() {
+        this.modified();
         this.type = Type.NULL;
     }
     
@@ -173,11 +266,8 @@ public class JsonNode {
     }
     
     public int size() {
-        if (this.arrayElements != null) {
-            return this.arrayElements.size();
-        } else {
-            return 0;
-        }
+        this.ensureLoaded();
+        return this.elementCount;
     }
     
     public String stringValue() {
@@ -197,53 +287,53 @@ public class JsonNode {
     }
     
     public void set(String name, String stringValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
+        this.modified();
         if (stringValue == null) {
-            this.fields.put(name, new JsonNode(Type.NULL));
+            this.putField(name, new JsonNode(Type.NULL));
         } else {
-            this.fields.put(name, new JsonNode(stringValue));
+            this.putField(name, new JsonNode(stringValue));
         }
     }
     
     public void set(String name, long longValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(longValue));
+        this.modified();
+        this.putField(name, new JsonNode(longValue));
     }
     
     public void set(String name, double doubleValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(doubleValue));
+        this.modified();
+        this.putField(name, new JsonNode(doubleValue));
     }
     
     public void set(String name, boolean booleanValue) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
-        this.fields.put(name, new JsonNode(booleanValue));
+        this.modified();
+        this.putField(name, new JsonNode(booleanValue));
     }
     
     public void set(String name, JsonNode jsonNode) {
-        if (this.fields == null) {
-            this.fields = new LinkedHashMap<>();
-        }
+        this.modified();
         if (jsonNode != null) {
-            this.fields.put(name, jsonNode);
+            this.putField(name, jsonNode);
         } else {
-            this.fields.put(name, new JsonNode(Type.NULL));
+            this.putField(name, new JsonNode(Type.NULL));
         }
     }
     
     public void set(int index, JsonNode jsonNode) {
+        this.modified();
         if (this.arrayElements == null) {
             throw new BallerinaException("JSON array is empty to set values");
         }
-        this.arrayElements.set(index, jsonNode);
+        this.checkElementIndex(index);
+        if (this.arrayElements instanceof long[] && isPackable(jsonNode, Type.LONG)) {
+            this.detachPackedElement(index);
+            ((long[]) this.arrayElements)[index] = jsonNode.longValue;
+        } else if (this.arrayElements instanceof double[] && isPackable(jsonNode, Type.DOUBLE)) {
+            this.detachPackedElement(index);
+            ((double[]) this.arrayElements)[index] = jsonNode.doubleValue;
+        } else {
+            this.unpackElements()[index] = jsonNode;
+        }
     }
     
     public boolean has(String name) {
@@ -251,16 +341,22 @@ public class JsonNode {
     }
     
     public JsonNode get(String name) {
+        this.ensureLoaded();
         if (this.fields != null) {
             return this.fields.get(name);
+        } else if (this.shape != null) {
+            int index = this.shape.indexOf(name);
+            return index >= 0 ? this.fieldValues[index] : null;
         } else {
             return null;
         }
     }
     
     public JsonNode get(int index) {
+        this.ensureLoaded();
         if (this.arrayElements != null) {
-            return this.arrayElements.get(index);
+            this.checkElementIndex(index);
+            return this.getElement(index);
         } else {
             return null;
         }
@@ -284,47 +380,260 @@ public class JsonNode {
     }
     
     public Iterator<String> fieldNames() {
+        this.ensureLoaded();
         if (this.fields != null) {
             return this.fields.keySet().iterator();
+        } else if (this.shape != null) {
+            return Arrays.asList(this.shape.fieldNames).iterator();
         } else {
             return new HashSet<String>(0).iterator();
         }
     }
     
     public Iterator<Entry<String, JsonNode>> fields() {
+        this.ensureLoaded();
         if (this.fields != null) {
             return new LinkedHashMap<>(this.fields).entrySet().iterator();
+        } else if (this.shape != null) {
+            String[] names = this.shape.fieldNames;
+            List<Entry<String, JsonNode>> entries = new ArrayList<>(names.length);
+            for (int i = 0; i < names.length; i++) {
+                entries.add(new SimpleEntry<>(names[i], this.fieldValues[i]));
+            }
+            return entries.iterator();
         } else {
             return new LinkedHashMap<String, JsonNode>(0).entrySet().iterator();
         }
     }
     
     public Iterator<JsonNode> elements() {
+        this.ensureLoaded();
         if (this.arrayElements != null) {
-            return this.arrayElements.iterator();
+            return new Iterator<JsonNode>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < JsonNode.this.elementCount;
+                }
+
+                @Override
+                public JsonNode next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return JsonNode.this.getElement(this.index++);
+                }
+            };
         } else {
             return new ArrayList<JsonNode>(0).iterator();
         }
     }
     
     public void remove(String fieldName) {
+        this.modified();
+        if (this.shape != null && this.shape.indexOf(fieldName) >= 0) {
+            this.toFieldMap();
+        }
         if (this.fields != null) {
             this.fields.remove(fieldName);
         }
     }
+
+    private void putField(String name, JsonNode value) {
+        if (this.fields != null) {
+            this.fields.put(name, value);
+            return;
+        }
+
+        JsonShape currentShape = this.shape != null ? this.shape : JsonShape.empty();
+        int index = currentShape.indexOf(name);
+        if (index >= 0) {
+            this.fieldValues[index] = value;
+            return;
+        }
+
+        JsonShape newShape = currentShape.withField(name);
+        if (newShape == null) {
+            this.toFieldMap();
+            this.fields.put(name, value);
+            return;
+        }
+        int size = currentShape.size();
+        if (this.fieldValues == null) {
+            this.fieldValues = new JsonNode[INITIAL_CAPACITY];
+        } else if (size == this.fieldValues.length) {
+            this.fieldValues = Arrays.copyOf(this.fieldValues, size * 2);
+        }
+        this.fieldValues[size] = value;
+        this.shape = newShape;
+    }
+
+    /**
+     * Moves the fields of a shaped object to a map, which is used for the object from there onwards.
+     */
+    private void toFieldMap() {
+        this.fields = new LinkedHashMap<>();
+        if (this.shape != null) {
+            String[] names = this.shape.fieldNames;
+            for (int i = 0; i < names.length; i++) {
+                this.fields.put(names[i], this.fieldValues[i]);
+            }
+        }
+        this.shape = null;
+        this.fieldValues = null;
+    }
+
+    private void addElement(JsonNode element) {
+        if (this.arrayElements == null) {
+            if (isPackable(element, Type.LONG)) {
+                this.arrayElements = new long[INITIAL_CAPACITY];
+            } else if (isPackable(element, Type.DOUBLE)) {
+                this.arrayElements = new double[INITIAL_CAPACITY];
+            } else {
+                this.arrayElements = new JsonNode[INITIAL_CAPACITY];
+            }
+        }
+
+        int index = this.elementCount;
+        if (this.arrayElements instanceof long[] && isPackable(element, Type.LONG)) {
+            long[] values = (long[]) this.arrayElements;
+            if (index == values.length) {
+                this.arrayElements = values = Arrays.copyOf(values, index * 2);
+            }
+            values[index] = element.longValue;
+        } else if (this.arrayElements instanceof double[] && isPackable(element, Type.DOUBLE)) {
+            double[] values = (double[]) this.arrayElements;
+            if (index == values.length) {
+                this.arrayElements = values = Arrays.copyOf(values, index * 2);
+            }
+            values[index] = element.doubleValue;
+        } else {
+            JsonNode[] values = this.unpackElements();
+            if (index == values.length) {
+                this.arrayElements = values = Arrays.copyOf(values, index * 2);
+            }
+            values[index] = element;
+        }
+        this.elementCount++;
+    }
+
+    private JsonNode getElement(int index) {
+        if (this.arrayElements instanceof JsonNode[]) {
+            return ((JsonNode[]) this.arrayElements)[index];
+        }
+        if (this.packedElementNodes == null) {
+            this.packedElementNodes = new JsonNode[Math.max(this.elementCount, INITIAL_CAPACITY)];
+        } else if (index >= this.packedElementNodes.length) {
+            this.packedElementNodes = Arrays.copyOf(this.packedElementNodes,
+                    Math.max(this.elementCount, this.packedElementNodes.length * 2));
+        }
+        JsonNode element = this.packedElementNodes[index];
+        if (element == null) {
+            element = this.newPackedElement(index);
+            this.packedElementNodes[index] = element;
+        }
+        return element;
+    }
+
+    private JsonNode newPackedElement(int index) {
+        if (this.arrayElements instanceof long[]) {
+            return new PackedElement(this, ((long[]) this.arrayElements)[index]);
+        } else {
+            return new PackedElement(this, ((double[]) this.arrayElements)[index]);
+        }
+    }
+
+    /**
+     * Detaches the node of an element of a long[] or a double[] array which is replaced, so that modifying the node
+     * no longer affects the array.
+     */
+    private void detachPackedElement(int index) {
+        if (this.packedElementNodes != null && index < this.packedElementNodes.length &&
+                this.packedElementNodes[index] != null) {
+            this.packedElementNodes[index].parentNode = null;
+            this.packedElementNodes[index] = null;
+        }
+    }
+
+    /**
+     * Moves the elements of an array kept in a long[] or a double[] to a JsonNode[], which is used for the array from
+     * there onwards.
+     *
+     * @return the array elements
+     */
+    private JsonNode[] unpackElements() {
+        if (this.arrayElements instanceof JsonNode[]) {
+            return (JsonNode[]) this.arrayElements;
+        }
+        JsonNode[] values = new JsonNode[Math.max(this.elementCount, INITIAL_CAPACITY)];
+        JsonNode[] elementNodes = this.packedElementNodes;
+        for (int i = 0; i < this.elementCount; i++) {
+            // Elements which have been read keep their nodes
+            if (elementNodes != null && i < elementNodes.length && elementNodes[i] != null) {
+                values[i] = elementNodes[i];
+            } else {
+                values[i] = this.newPackedElement(i);
+            }
+        }
+        this.arrayElements = values;
+        this.packedElementNodes = null;
+        return values;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= this.elementCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.elementCount);
+        }
+    }
+
+    /**
+     * Checks whether a node can be kept in a long[] or a double[] array, as it is just an integer or a float value.
+     */
+    private static boolean isPackable(JsonNode node, Type type) {
+        return node != null && node.type == type && node.shape == null && node.fields == null &&
+                node.arrayElements == null;
+    }
     
     public String toString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
+        StringWriter writer = new StringWriter();
+        JsonGenerator gen = new JsonGenerator(writer);
         try {
             this.serialize(gen);
             gen.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return writer.toString();
     }
     
+    /**
+     * The node of an element of an array kept in a long[] or a double[], which is created when the element is first
+     * read. If the node is modified, the array falls back to a JsonNode[] which holds the node, so that the
+     * modification is seen through the array and through every other reference to the node.
+     */
+    private static class PackedElement extends JsonNode {
+
+        private PackedElement(JsonNode array, long value) {
+            super(value);
+            this.parentNode = array;
+        }
+
+        private PackedElement(JsonNode array, double value) {
+            super(value);
+            this.parentNode = array;
+        }
+
+        @Override
+        void modified() {
+            // The parent is not yet set when modified by the constructor, and is cleared when the element is replaced
+            if (this.parentNode != null) {
+                this.parentNode.unpackElements();
+            }
+            super.modified();
+        }
+    }
+
     /**
      * This represents the {@link JsonNode} types.
      */
@@ -345,13 +654,29 @@ public class JsonNode {
     }
     
     public void serialize(JsonGenerator gen) throws IOException {
+        if (this.rawData != null && gen.isPassThrough()) {
+            gen.writeRaw(this.rawData, this.rawFrom, this.rawTo - this.rawFrom);
+            return;
+        }
+        this.ensureLoaded();
         switch (this.type) {
         case ARRAY:
             gen.writeStartArray();
-            if (this.arrayElements != null) {
-                for (JsonNode node : this.arrayElements) {
-                    if (node != null) {
-                        node.serialize(gen);
+            if (this.arrayElements instanceof long[]) {
+                long[] values = (long[]) this.arrayElements;
+                for (int i = 0; i < this.elementCount; i++) {
+                    gen.writeNumber(values[i]);
+                }
+            } else if (this.arrayElements instanceof double[]) {
+                double[] values = (double[]) this.arrayElements;
+                for (int i = 0; i < this.elementCount; i++) {
+                    gen.writeNumber(values[i]);
+                }
+            } else if (this.arrayElements != null) {
+                JsonNode[] values = (JsonNode[]) this.arrayElements;
+                for (int i = 0; i < this.elementCount; i++) {
+                    if (values[i] != null) {
+                        values[i].serialize(gen);
                     } else {
                         gen.writeNull();
                     }
@@ -374,7 +699,18 @@ public class JsonNode {
         case OBJECT:
             gen.startObject();
             JsonNode value;
-            if (this.fields != null) {
+            if (this.shape != null) {
+                String[] names = this.shape.fieldNames;
+                for (int i = 0; i < names.length; i++) {
+                    gen.writeFieldName(names[i]);
+                    value = this.fieldValues[i];
+                    if (value != null) {
+                        value.serialize(gen);
+                    } else {
+                        gen.writeNull();
+                    }
+                }
+            } else if (this.fields != null) {
                 for (Entry<String, JsonNode> entry : this.fields.entrySet()) {
                     gen.writeFieldName(entry.getKey());
                     value = entry.getValue();
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.model.util;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.model.util.JsonNode.Type;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -28,6 +29,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class represents a JSON parser.
@@ -62,6 +64,9 @@ public class JsonParser {
      * @throws BallerinaException for any parsing error
      */
     public static JsonNode parse(InputStream in, String charsetName) throws BallerinaException {
+        if (isUTF8(charsetName)) {
+            return Utf8JsonParser.parse(in);
+        }
         try {
             return parse(new InputStreamReader(new BufferedInputStream(in), charsetName));
         } catch (IOException e) {
@@ -69,6 +74,69 @@ public class JsonParser {
         }
     }
     
+    /**
+     * Parses the given UTF-8 encoded JSON content and returns a {@link JsonNode}.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(byte[] bytes) throws BallerinaException {
+        return Utf8JsonParser.parse(bytes);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the readable bytes of the given {@link ByteBuf} and returns a
+     * {@link JsonNode}.
+     *
+     * @param buf buffer which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(ByteBuf buf) throws BallerinaException {
+        return Utf8JsonParser.parse(buf);
+    }
+
+    /**
+     * Parses the contents in the given {@link InputStream} lazily, if the content is UTF-8 encoded. Objects and
+     * arrays are only parsed when they are accessed, see {@link Utf8JsonParser#parseLazy(byte[], int, int)}. Content
+     * in other character sets is parsed fully.
+     *
+     * @param in input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parseLazy(InputStream in, String charsetName) throws BallerinaException {
+        if (isUTF8(charsetName)) {
+            return Utf8JsonParser.parseLazy(in);
+        }
+        return parse(in, charsetName);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content lazily, see {@link Utf8JsonParser#parseLazy(byte[], int, int)}.
+     *
+     * @param bytes UTF-8 encoded JSON content, which should not be modified afterwards
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parseLazy(byte[] bytes) throws BallerinaException {
+        return Utf8JsonParser.parseLazy(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the readable bytes of the given {@link ByteBuf} lazily, see
+     * {@link Utf8JsonParser#parseLazy(ByteBuf)}.
+     *
+     * @param buf buffer which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parseLazy(ByteBuf buf) throws BallerinaException {
+        return Utf8JsonParser.parseLazy(buf);
+    }
+
     /**
      * Parses the contents in the given string and returns a {@link JsonNode}.
      * 
@@ -93,6 +161,15 @@ public class JsonParser {
         return sm.execute(reader);
     }
     
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // Unknown charsets are reported by the reader based parser
+            return false;
+        }
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -172,6 +249,9 @@ public class JsonParser {
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
+            // A previous document may have failed in the middle of a value
+            this.charBuffIndex = 0;
+            this.hexBuilder.setLength(0);
         }
         
         private static boolean isWhitespace(char ch) {
@@ -181,6 +261,18 @@ public class JsonParser {
         private static void throwExpected(String... chars) throws JsonParserException {
             throw new JsonParserException("expected " + String.join(" or ", chars));
         }
+
+        /**
+         * Checks the first character of a number, boolean or null value, before it is read again by the value
+         * state, so that empty values are reported at the character which ends them.
+         */
+        private static void checkNonStringValueStart(char ch) throws JsonParserException {
+            if (ch == ',' || ch == '}' || ch == ']') {
+                throw new JsonParserException("unexpected character '" + ch + "'");
+            } else if (ch == EOF) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+        }
         
         private void processLocation(char ch) {
             if (ch == '\n') {
@@ -408,6 +500,7 @@ public class JsonParser {
                     } else if (ch == ']') {
                         state = sm.finalizeObject(); 
                     } else {
+                        StateMachine.checkNonStringValueStart(ch);
                         state = NON_STRING_ARRAY_ELEMENT_STATE;
                     }
                     break;
@@ -474,6 +567,7 @@ public class JsonParser {
                     } else if (ch == '[') {
                         state = sm.initNewArray(); 
                     } else {
+                        StateMachine.checkNonStringValueStart(ch);
                         state = NON_STRING_ARRAY_ELEMENT_STATE;
                     }
                     break;
@@ -581,6 +675,7 @@ public class JsonParser {
                     } else if (ch == '[') {
                         state = sm.initNewArray(); 
                     } else {
+                        StateMachine.checkNonStringValueStart(ch);
                         state = NON_STRING_FIELD_VALUE_STATE;
                     }
                     break;
@@ -0,0 +1,141 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code JsonShape} is the sequence of the field names of a JSON object, which is shared by all the objects with the
+ * same field names in the same order. A {@link JsonNode} object keeps its field values in an array indexed by the
+ * position of the field name in its shape.
+ * <p>
+ * Shapes form a tree starting from the empty shape, where adding a field to an object moves it to the child shape
+ * with that field name. Since the field names come from the processed payloads, the tree is bounded in its depth,
+ * fan-out and the total number of shapes, and objects which cannot get a shape fall back to a map.
+ * <p>
+ * Once the tree reaches its total number of shapes, objects created from there onwards start from a new tree.
+ * Shapes do not refer to their parents, so the old tree, and the field names only it refers to, are reclaimed once
+ * no object uses them.
+ *
+ * @since 0.976.1
+ */
+final class JsonShape {
+
+    private static final AtomicReference<JsonShape> root = new AtomicReference<>(newRoot());
+
+    private static final int MAX_FIELD_COUNT = 64;
+
+    private static final int MAX_TRANSITION_COUNT = 32;
+
+    private static final int MAX_SHAPE_COUNT = 16384;
+
+    // Shapes larger than this have a hash index for field name lookups
+    private static final int MAX_LINEAR_LOOKUP_SIZE = 8;
+
+    final String[] fieldNames;
+
+    // Number of shapes in the tree of this shape
+    private final AtomicInteger shapeCount;
+
+    private final Map<String, Integer> fieldIndexes;
+
+    private final Map<String, JsonShape> transitions = new ConcurrentHashMap<>();
+
+    private JsonShape(String[] fieldNames, AtomicInteger shapeCount) {
+        this.fieldNames = fieldNames;
+        this.shapeCount = shapeCount;
+        if (fieldNames.length > MAX_LINEAR_LOOKUP_SIZE) {
+            this.fieldIndexes = new HashMap<>(fieldNames.length * 2);
+            for (int i = 0; i < fieldNames.length; i++) {
+                this.fieldIndexes.put(fieldNames[i], i);
+            }
+        } else {
+            this.fieldIndexes = null;
+        }
+    }
+
+    /**
+     * Returns the empty shape of the current shape tree, which is the shape of a new object.
+     *
+     * @return the empty shape
+     */
+    static JsonShape empty() {
+        return root.get();
+    }
+
+    private static JsonShape newRoot() {
+        return new JsonShape(new String[0], new AtomicInteger());
+    }
+
+    int size() {
+        return this.fieldNames.length;
+    }
+
+    int indexOf(String fieldName) {
+        if (this.fieldIndexes != null) {
+            Integer index = this.fieldIndexes.get(fieldName);
+            return index != null ? index : -1;
+        }
+        for (int i = 0; i < this.fieldNames.length; i++) {
+            if (this.fieldNames[i].equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the shape of an object of this shape, after the given field is added to it.
+     *
+     * @param fieldName the name of the added field
+     * @return the new shape, or null if the shape tree limits are reached
+     */
+    JsonShape withField(String fieldName) {
+        JsonShape shape = this.transitions.get(fieldName);
+        if (shape != null) {
+            return shape;
+        }
+        if (this.fieldNames.length >= MAX_FIELD_COUNT || this.transitions.size() >= MAX_TRANSITION_COUNT) {
+            return null;
+        }
+        if (this.shapeCount.incrementAndGet() > MAX_SHAPE_COUNT) {
+            this.shapeCount.decrementAndGet();
+            JsonShape currentRoot = root.get();
+            if (currentRoot.shapeCount == this.shapeCount) {
+                root.compareAndSet(currentRoot, newRoot());
+            }
+            return null;
+        }
+
+        String[] newFieldNames = Arrays.copyOf(this.fieldNames, this.fieldNames.length + 1);
+        newFieldNames[this.fieldNames.length] = fieldName;
+        shape = new JsonShape(newFieldNames, this.shapeCount);
+        JsonShape existingShape = ((ConcurrentHashMap<String, JsonShape>) this.transitions)
+                .putIfAbsent(fieldName, shape);
+        if (existingShape != null) {
+            this.shapeCount.decrementAndGet();
+            return existingShape;
+        }
+        return shape;
+    }
+}
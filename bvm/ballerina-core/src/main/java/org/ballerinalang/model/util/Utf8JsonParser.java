@@ -0,0 +1,868 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.util;
+
+import io.netty.buffer.ByteBuf;
+import org.ballerinalang.model.util.JsonNode.Type;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@code Utf8JsonParser} parses UTF-8 encoded JSON content directly from its bytes into a {@link JsonNode} tree,
+ * without decoding the whole content into characters first.
+ * <p>
+ * Only string literals are decoded, and the ones which are pure ASCII without escapes are created straight from the
+ * bytes. Object field names are interned in a small per-thread table, so that the field names of documents with the
+ * same shape (e.g. consecutive request payloads) share the same string instances. The accepted syntax and the
+ * resulting tree are the same as of the character based {@link JsonParser}.
+ * <p>
+ * Content can also be parsed lazily, in which case it is only validated upfront, and the returned object or array
+ * node keeps the raw bytes. Each lazy node is indexed on first access, creating lazy nodes for the objects and arrays
+ * it contains, so that only the accessed parts of a document are materialized.
+ *
+ * @since 0.976.1
+ */
+public class Utf8JsonParser {
+
+    private static final int INTERN_TABLE_SIZE = 512;
+    private static final int MAX_INTERNED_KEY_LENGTH = 32;
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_DEPTH = 16;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final byte QUOTES = '"';
+    private static final byte SINGLE_QUOTES = '\'';
+    private static final byte REV_SOL = '\\';
+
+    private static ThreadLocal<Utf8JsonParser> tlParser = ThreadLocal.withInitial(Utf8JsonParser::new);
+
+    private final String[] internTable = new String[INTERN_TABLE_SIZE];
+    private final StringBuilder strBuilder = new StringBuilder();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private boolean[] containerStack = new boolean[DEFAULT_DEPTH];
+    private boolean singleQuotesFound;
+
+    private byte[] data;
+    private int start;
+    private int pos;
+    private int limit;
+
+    /**
+     * Parses the given UTF-8 encoded JSON content and returns a {@link JsonNode}.
+     *
+     * @param bytes UTF-8 encoded JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(byte[] bytes) throws BallerinaException {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given region of a byte array and returns a {@link JsonNode}.
+     *
+     * @param bytes  byte array which contains the JSON content
+     * @param offset index of the first byte of the JSON content
+     * @param length number of bytes of the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(byte[] bytes, int offset, int length) throws BallerinaException {
+        return tlParser.get().execute(bytes, offset, length);
+    }
+
+    /**
+     * Parses the readable bytes of the given {@link ByteBuf} as UTF-8 encoded JSON content and returns a
+     * {@link JsonNode}. Heap buffers are parsed in place, and the reader index of the buffer is not modified.
+     *
+     * @param buf buffer which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(ByteBuf buf) throws BallerinaException {
+        int length = buf.readableBytes();
+        if (buf.hasArray()) {
+            return parse(buf.array(), buf.arrayOffset() + buf.readerIndex(), length);
+        }
+        Utf8JsonParser parser = tlParser.get();
+        byte[] bytes = length > parser.buffer.length ? new byte[length] : parser.buffer;
+        buf.getBytes(buf.readerIndex(), bytes, 0, length);
+        return parser.execute(bytes, 0, length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given {@link InputStream} and returns a {@link JsonNode}.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parse(InputStream in) throws BallerinaException {
+        Utf8JsonParser parser = tlParser.get();
+        int count = parser.readFully(in);
+        try {
+            return parser.execute(parser.buffer, 0, count);
+        } finally {
+            parser.trimBuffer();
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content lazily. The content is validated, but objects and arrays are only
+     * indexed when they are first accessed, one level at a time, and the nodes which are not modified are written
+     * out as is when serialized to the wire. The given array is referred by the returned nodes, hence it should not
+     * be modified afterwards.
+     *
+     * @param bytes  byte array which contains the JSON content
+     * @param offset index of the first byte of the JSON content
+     * @param length number of bytes of the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     */
+    public static JsonNode parseLazy(byte[] bytes, int offset, int length) throws BallerinaException {
+        return tlParser.get().executeLazy(bytes, offset, length);
+    }
+
+    /**
+     * Parses the readable bytes of the given {@link ByteBuf} as UTF-8 encoded JSON content lazily. The content is
+     * copied, and the reader index of the buffer is not modified.
+     *
+     * @param buf buffer which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     * @see #parseLazy(byte[], int, int)
+     */
+    public static JsonNode parseLazy(ByteBuf buf) throws BallerinaException {
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), bytes);
+        return parseLazy(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given {@link InputStream} lazily.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure as a {@link JsonNode} object
+     * @throws BallerinaException for any parsing error
+     * @see #parseLazy(byte[], int, int)
+     */
+    public static JsonNode parseLazy(InputStream in) throws BallerinaException {
+        Utf8JsonParser parser = tlParser.get();
+        int count = parser.readFully(in);
+        // The read buffer is reused, hence the lazy nodes get their own copy of the content
+        byte[] bytes = Arrays.copyOf(parser.buffer, count);
+        parser.trimBuffer();
+        return parser.executeLazy(bytes, 0, count);
+    }
+
+    /**
+     * Indexes a lazily parsed object or array, i.e. adds its fields or elements to the given node. Nested objects
+     * and arrays are added as lazy nodes, hence only a single level of the content is parsed.
+     *
+     * @param node  the lazy node
+     * @param bytes the content of the document of the node
+     * @param from  index of the opening brace or bracket of the node
+     * @param to    index after the closing brace or bracket of the node
+     */
+    static void load(JsonNode node, byte[] bytes, int from, int to) {
+        Utf8JsonParser parser = tlParser.get();
+        parser.data = bytes;
+        parser.start = from;
+        parser.pos = from + 1;
+        parser.limit = to;
+        try {
+            parser.loadContainer(node);
+        } finally {
+            parser.data = null;
+        }
+    }
+
+    private int readFully(InputStream in) {
+        byte[] bytes = this.buffer;
+        int count = 0;
+        int read;
+        try {
+            while ((read = in.read(bytes, count, bytes.length - count)) != -1) {
+                count += read;
+                if (count == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        }
+        this.buffer = bytes;
+        return count;
+    }
+
+    private void trimBuffer() {
+        if (this.buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            this.buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    private JsonNode execute(byte[] bytes, int offset, int length) {
+        this.data = bytes;
+        this.start = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+        try {
+            this.skipByteOrderMark();
+            return this.parseDocument();
+        } finally {
+            this.data = null;
+        }
+    }
+
+    private JsonNode executeLazy(byte[] bytes, int offset, int length) {
+        this.data = bytes;
+        this.start = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+        try {
+            this.skipByteOrderMark();
+            this.skipWhitespace();
+            if (this.pos >= this.limit || (this.data[this.pos] != '{' && this.data[this.pos] != '[')) {
+                return this.parseDocument();
+            }
+            int from = this.pos;
+            this.singleQuotesFound = false;
+            this.skipContainer();
+            int to = this.pos;
+            this.skipWhitespace();
+            if (this.pos < this.limit) {
+                throw this.error("JSON document has already ended");
+            }
+            if (this.singleQuotesFound) {
+                // Single quoted strings cannot be written out as is, hence such content is parsed fully
+                this.pos = from;
+                return this.parseDocument();
+            }
+            return JsonNode.lazy(this.data[from] == '{' ? Type.OBJECT : Type.ARRAY, bytes, from, to);
+        } finally {
+            this.data = null;
+        }
+    }
+
+    private JsonNode parseDocument() {
+        this.skipWhitespace();
+        if (this.pos >= this.limit) {
+            throw this.error("empty JSON document");
+        }
+        JsonNode node;
+        byte b = this.data[this.pos];
+        if (b == '{' || b == '[') {
+            node = this.parseContainer();
+        } else if (b == QUOTES || b == SINGLE_QUOTES) {
+            node = new JsonNode(this.readString(false));
+        } else {
+            node = this.readNonStringValue(false);
+        }
+        this.skipWhitespace();
+        if (this.pos < this.limit) {
+            throw this.error("JSON document has already ended");
+        }
+        return node;
+    }
+
+    /**
+     * Parses an object or an array, without recursion. The nodes which are still open are linked through their
+     * parent node, and the name of the field being read is kept in the field name of the enclosing object node,
+     * similar to {@link JsonParser}.
+     */
+    private JsonNode parseContainer() {
+        JsonNode current = this.newContainer(null);
+        boolean first = true;
+        while (true) {
+            boolean isObject = current.getType() == Type.OBJECT;
+            byte b = this.nextFieldOrElement(isObject, first);
+            boolean closed = false;
+            if (first && b == (isObject ? '}' : ']')) {
+                this.pos++;
+                closed = true;
+            } else {
+                if (isObject) {
+                    if (b != QUOTES && b != SINGLE_QUOTES) {
+                        throw first ? this.expected("\"", "}") : this.expected("\"");
+                    }
+                    current.fieldName = this.readString(true);
+                    this.skipWhitespace();
+                    if (this.pos >= this.limit || this.data[this.pos] != ':') {
+                        throw this.expected(":");
+                    }
+                    this.pos++;
+                    b = this.nextNonWhitespace();
+                }
+                if (b == '{' || b == '[') {
+                    current = this.newContainer(current);
+                    first = true;
+                    continue;
+                }
+                JsonNode value = b == QUOTES || b == SINGLE_QUOTES ? new JsonNode(this.readString(false)) :
+                        this.readNonStringValue(true);
+                attach(current, value);
+            }
+
+            // Consume the separators and the end of the containers which are closed after the value
+            while (true) {
+                if (closed) {
+                    JsonNode parent = current.parentNode;
+                    if (parent == null) {
+                        return current;
+                    }
+                    attach(parent, current);
+                    current = parent;
+                    isObject = current.getType() == Type.OBJECT;
+                }
+                b = this.nextSeparator(isObject);
+                this.pos++;
+                if (b == ',') {
+                    first = false;
+                    break;
+                } else if (b == (isObject ? '}' : ']')) {
+                    closed = true;
+                } else {
+                    this.pos--;
+                    throw this.expected(",", isObject ? "}" : "]");
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the fields or the elements of a lazy node, starting after its opening brace or bracket. The content is
+     * already validated, hence only a single level is parsed, and nested objects and arrays are skipped.
+     */
+    private void loadContainer(JsonNode node) {
+        boolean isObject = node.getType() == Type.OBJECT;
+        String fieldName = null;
+        while (true) {
+            byte b = this.nextNonWhitespace();
+            if (b == (isObject ? '}' : ']')) {
+                return;
+            } else if (b == ',') {
+                this.pos++;
+                b = this.nextNonWhitespace();
+            }
+            if (isObject) {
+                fieldName = this.readString(true);
+                this.skipWhitespace();
+                // Skip the colon
+                this.pos++;
+                b = this.nextNonWhitespace();
+            }
+            JsonNode value;
+            if (b == '{' || b == '[') {
+                int from = this.pos;
+                this.skipContainer();
+                value = JsonNode.lazy(b == '{' ? Type.OBJECT : Type.ARRAY, this.data, from, this.pos);
+            } else if (b == QUOTES || b == SINGLE_QUOTES) {
+                value = new JsonNode(this.readString(false));
+            } else {
+                value = this.readNonStringValue(true);
+            }
+            if (isObject) {
+                node.loadField(fieldName, value);
+            } else {
+                node.loadElement(value);
+            }
+        }
+    }
+
+    /**
+     * Skips an object or an array, starting from its opening brace or bracket, while validating it the same way as
+     * {@link #parseContainer()}. No nodes or strings are created, except when validating uncommon number formats.
+     */
+    private void skipContainer() {
+        boolean[] stack = this.containerStack;
+        int depth = 0;
+        stack[0] = this.data[this.pos++] == '{';
+        boolean first = true;
+        while (true) {
+            boolean isObject = stack[depth];
+            byte b = this.nextFieldOrElement(isObject, first);
+            boolean closed = false;
+            if (first && b == (isObject ? '}' : ']')) {
+                this.pos++;
+                closed = true;
+            } else {
+                if (isObject) {
+                    if (b != QUOTES && b != SINGLE_QUOTES) {
+                        throw first ? this.expected("\"", "}") : this.expected("\"");
+                    }
+                    this.skipString();
+                    this.skipWhitespace();
+                    if (this.pos >= this.limit || this.data[this.pos] != ':') {
+                        throw this.expected(":");
+                    }
+                    this.pos++;
+                    b = this.nextNonWhitespace();
+                }
+                if (b == '{' || b == '[') {
+                    if (++depth == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                        this.containerStack = stack;
+                    }
+                    stack[depth] = b == '{';
+                    this.pos++;
+                    first = true;
+                    continue;
+                } else if (b == QUOTES || b == SINGLE_QUOTES) {
+                    this.skipString();
+                } else {
+                    this.skipNonStringValue();
+                }
+            }
+
+            while (true) {
+                if (closed) {
+                    if (depth == 0) {
+                        return;
+                    }
+                    isObject = stack[--depth];
+                }
+                b = this.nextSeparator(isObject);
+                this.pos++;
+                if (b == ',') {
+                    first = false;
+                    break;
+                } else if (b == (isObject ? '}' : ']')) {
+                    closed = true;
+                } else {
+                    this.pos--;
+                    throw this.expected(",", isObject ? "}" : "]");
+                }
+            }
+        }
+    }
+
+    private void skipString() {
+        byte quote = this.data[this.pos++];
+        if (quote == SINGLE_QUOTES) {
+            this.singleQuotesFound = true;
+        }
+        while (this.pos < this.limit) {
+            byte b = this.data[this.pos++];
+            if (b == quote) {
+                return;
+            } else if (b == REV_SOL) {
+                this.readEscapedChar();
+            }
+        }
+        throw this.error("unexpected end of JSON document");
+    }
+
+    private void skipNonStringValue() {
+        int tokenStart = this.pos;
+        while (this.pos < this.limit && !isDelimiter(this.data[this.pos])) {
+            this.pos++;
+        }
+        int length = this.pos - tokenStart;
+        if (length == 0) {
+            throw this.error("unexpected character '" + (char) this.data[this.pos] + "'");
+        } else if (this.pos >= this.limit) {
+            throw this.error("unexpected end of JSON document");
+        }
+        if (!this.matches(tokenStart, length, "true") && !this.matches(tokenStart, length, "false")
+                && !this.matches(tokenStart, length, "null") && !this.isPlainNumber(tokenStart, length)) {
+            // Validate the other number formats the same way as when parsing
+            this.readNumber(tokenStart, length);
+        }
+    }
+
+    /**
+     * Checks whether the given token is an integer which fits into a long, or a decimal number with a fraction
+     * part, which are the number formats accepted without creating the token string.
+     */
+    private boolean isPlainNumber(int tokenStart, int length) {
+        int i = this.data[tokenStart] == '-' ? tokenStart + 1 : tokenStart;
+        int end = tokenStart + length;
+        int intDigitsEnd = this.skipDigits(i, end);
+        if (intDigitsEnd == i) {
+            return false;
+        } else if (intDigitsEnd == end) {
+            return end - i <= MAX_FAST_PATH_DIGITS;
+        } else if (this.data[intDigitsEnd] != '.') {
+            return false;
+        }
+        int fractionEnd = this.skipDigits(intDigitsEnd + 1, end);
+        if (fractionEnd == intDigitsEnd + 1) {
+            return false;
+        } else if (fractionEnd == end) {
+            return true;
+        } else if (this.data[fractionEnd] != 'e' && this.data[fractionEnd] != 'E') {
+            return false;
+        }
+        int exponentStart = fractionEnd + 1;
+        if (exponentStart < end && (this.data[exponentStart] == '+' || this.data[exponentStart] == '-')) {
+            exponentStart++;
+        }
+        int exponentEnd = this.skipDigits(exponentStart, end);
+        return exponentEnd != exponentStart && exponentEnd == end;
+    }
+
+    private int skipDigits(int from, int to) {
+        int i = from;
+        while (i < to && this.data[i] >= '0' && this.data[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private JsonNode newContainer(JsonNode parent) {
+        JsonNode node = this.data[this.pos++] == '{' ? new JsonNode() : new JsonNode(Type.ARRAY);
+        node.parentNode = parent;
+        return node;
+    }
+
+    private static void attach(JsonNode parent, JsonNode node) {
+        if (parent.getType() == Type.OBJECT) {
+            parent.set(parent.fieldName, node);
+        } else {
+            parent.add(node);
+        }
+    }
+
+    /**
+     * Reads a number, boolean or null value. A value in an object or an array must be followed by a separator or
+     * the end of its container, hence reaching the end of the document is reported before validating the value.
+     */
+    private JsonNode readNonStringValue(boolean inContainer) {
+        int tokenStart = this.pos;
+        while (this.pos < this.limit && !isDelimiter(this.data[this.pos])) {
+            this.pos++;
+        }
+        int length = this.pos - tokenStart;
+        if (length == 0) {
+            throw this.error("unexpected character '" + (char) this.data[this.pos] + "'");
+        } else if (inContainer && this.pos >= this.limit) {
+            throw this.error("unexpected end of JSON document");
+        }
+        if (this.matches(tokenStart, length, "true")) {
+            return new JsonNode(true);
+        } else if (this.matches(tokenStart, length, "false")) {
+            return new JsonNode(false);
+        } else if (this.matches(tokenStart, length, "null")) {
+            return new JsonNode(Type.NULL);
+        }
+        return this.readNumber(tokenStart, length);
+    }
+
+    private JsonNode readNumber(int tokenStart, int length) {
+        // Fast path for integers which cannot overflow a long, which avoids creating the token string
+        int i = tokenStart;
+        int end = tokenStart + length;
+        boolean negative = this.data[i] == '-';
+        if (negative) {
+            i++;
+        }
+        if (i < end && end - i <= MAX_FAST_PATH_DIGITS) {
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = this.data[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (i == end) {
+                return new JsonNode(negative ? -value : value);
+            }
+        }
+
+        String str = new String(this.data, tokenStart, length, StandardCharsets.UTF_8);
+        try {
+            if (str.indexOf('.') >= 0) {
+                return new JsonNode(Double.parseDouble(str));
+            }
+            return new JsonNode(Long.parseLong(str));
+        } catch (NumberFormatException ignore) {
+            throw this.error("unrecognized token '" + str + "'");
+        }
+    }
+
+    /**
+     * Reads a string literal, starting from its opening quote. Literals without escapes are created directly from
+     * the bytes, and short ASCII field names are interned.
+     */
+    private String readString(boolean intern) {
+        byte quote = this.data[this.pos++];
+        int strStart = this.pos;
+        int hash = 0;
+        boolean ascii = true;
+        while (this.pos < this.limit) {
+            byte b = this.data[this.pos];
+            if (b == quote) {
+                int length = this.pos - strStart;
+                this.pos++;
+                if (!ascii) {
+                    return new String(this.data, strStart, length, StandardCharsets.UTF_8);
+                } else if (intern && length <= MAX_INTERNED_KEY_LENGTH) {
+                    return this.intern(strStart, length, hash);
+                }
+                return new String(this.data, strStart, length, StandardCharsets.ISO_8859_1);
+            } else if (b == REV_SOL) {
+                return this.readEscapedString(quote, strStart);
+            } else if (b < 0) {
+                ascii = false;
+            }
+            hash = 31 * hash + b;
+            this.pos++;
+        }
+        throw this.error("unexpected end of JSON document");
+    }
+
+    private String readEscapedString(byte quote, int strStart) {
+        StringBuilder sb = this.strBuilder;
+        sb.setLength(0);
+        int segmentStart = strStart;
+        while (this.pos < this.limit) {
+            byte b = this.data[this.pos];
+            if (b == quote) {
+                this.appendSegment(sb, segmentStart, this.pos);
+                this.pos++;
+                return sb.toString();
+            } else if (b == REV_SOL) {
+                this.appendSegment(sb, segmentStart, this.pos);
+                this.pos++;
+                sb.append(this.readEscapedChar());
+                segmentStart = this.pos;
+            } else {
+                this.pos++;
+            }
+        }
+        throw this.error("unexpected end of JSON document");
+    }
+
+    private void appendSegment(StringBuilder sb, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = this.data[i];
+            if (b < 0) {
+                // Escapes are ASCII, hence a segment never ends in the middle of a multi-byte character
+                sb.append(new String(this.data, i, to - i, StandardCharsets.UTF_8));
+                return;
+            }
+            sb.append((char) b);
+        }
+    }
+
+    private char readEscapedChar() {
+        if (this.pos >= this.limit) {
+            throw this.expected("escaped characters");
+        }
+        byte b = this.data[this.pos++];
+        switch (b) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (this.pos >= this.limit) {
+                        throw this.error("unexpected end of JSON document");
+                    }
+                    int digit = Character.digit(this.data[this.pos], 16);
+                    if (digit < 0) {
+                        throw this.expected("hexadecimal value of an unicode character");
+                    }
+                    value = (value << 4) | digit;
+                    this.pos++;
+                }
+                return (char) value;
+            default:
+                this.pos--;
+                throw this.expected("escaped characters");
+        }
+    }
+
+    private String intern(int offset, int length, int hash) {
+        int index = (hash ^ (hash >>> 16)) & (INTERN_TABLE_SIZE - 1);
+        String cached = this.internTable[index];
+        if (cached != null && this.matches(offset, length, cached)) {
+            return cached;
+        }
+        String str = new String(this.data, offset, length, StandardCharsets.ISO_8859_1);
+        this.internTable[index] = str;
+        return str;
+    }
+
+    private boolean matches(int offset, int length, String str) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.data[offset + i] != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte nextFieldOrElement(boolean isObject, boolean first) {
+        this.skipWhitespace();
+        if (this.pos < this.limit) {
+            return this.data[this.pos];
+        } else if (isObject) {
+            throw first ? this.expected("\"", "}") : this.expected("\"");
+        }
+        throw this.error("unexpected end of JSON document");
+    }
+
+    private byte nextSeparator(boolean isObject) {
+        this.skipWhitespace();
+        if (this.pos >= this.limit) {
+            throw this.expected(",", isObject ? "}" : "]");
+        }
+        return this.data[this.pos];
+    }
+
+    private byte nextNonWhitespace() {
+        this.skipWhitespace();
+        if (this.pos >= this.limit) {
+            throw this.error("unexpected end of JSON document");
+        }
+        return this.data[this.pos];
+    }
+
+    private void skipWhitespace() {
+        while (this.pos < this.limit && isWhitespace(this.data[this.pos])) {
+            this.pos++;
+        }
+    }
+
+    private void skipByteOrderMark() {
+        if (this.limit - this.pos >= 3 && this.data[this.pos] == (byte) 0xEF && this.data[this.pos + 1] == (byte) 0xBB
+                && this.data[this.pos + 2] == (byte) 0xBF) {
+            this.pos += 3;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return isWhitespace(b) || b == ',' || b == '}' || b == ']';
+    }
+
+    private BallerinaException expected(String... chars) {
+        return this.error("expected " + String.join(" or ", chars));
+    }
+
+    /**
+     * Creates a parser error for the current position. The line and the column are only calculated here, by
+     * counting the characters up to the current position, hence they are not tracked while parsing.
+     * <p>
+     * The position is reported the same way as by the {@link JsonParser}, which counts UTF-16 characters, and counts
+     * the first character of each number, boolean and null value twice.
+     */
+    private BallerinaException error(String msg) {
+        int line = 1;
+        int column = 0;
+        int end = Math.min(this.pos, this.limit - 1);
+        boolean[] arrays = new boolean[DEFAULT_DEPTH];
+        int depth = 0;
+        boolean valueExpected = true;
+        boolean inToken = false;
+        boolean escaped = false;
+        byte quote = 0;
+        for (int i = this.start; i <= end; i++) {
+            byte b = this.data[i];
+            if (b == '\n') {
+                line++;
+                column = 0;
+            } else if ((b & 0xC0) != 0x80) {
+                // Continuation bytes of multi-byte characters are not counted as separate columns, and characters
+                // outside the BMP are counted as their two surrogates, unless the error is at the high surrogate
+                column += (b & 0xF8) == 0xF0 && i < end ? 2 : 1;
+            }
+
+            if (quote != 0) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == REV_SOL) {
+                    escaped = true;
+                } else if (b == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (inToken) {
+                if (!isDelimiter(b)) {
+                    continue;
+                }
+                inToken = false;
+            }
+            switch (b) {
+                case '{':
+                case '[':
+                    if (depth == arrays.length) {
+                        arrays = Arrays.copyOf(arrays, depth * 2);
+                    }
+                    arrays[depth++] = b == '[';
+                    valueExpected = b == '[';
+                    break;
+                case '}':
+                case ']':
+                    depth = Math.max(depth - 1, 0);
+                    valueExpected = false;
+                    break;
+                case ':':
+                    valueExpected = true;
+                    break;
+                case ',':
+                    valueExpected = depth > 0 && arrays[depth - 1];
+                    break;
+                case QUOTES:
+                case SINGLE_QUOTES:
+                    quote = b;
+                    valueExpected = false;
+                    break;
+                default:
+                    if (valueExpected && !isWhitespace(b)) {
+                        column++;
+                        inToken = true;
+                        valueExpected = false;
+                    }
+                    break;
+            }
+        }
+        if (this.pos >= this.limit) {
+            column++;
+        }
+        return new BallerinaException(msg + " at line: " + line + " column: " + column);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.util;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMDocument;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
+import org.apache.axiom.om.OMNode;
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.model.values.BXMLItem;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * {@code XMLElementStream} reads the elements of an XML document which are selected by a path, one element at a
+ * time, without building the tree of the whole document.
+ * <p>
+ * The path is a sequence of element names separated by '/', which is matched against the names of an element and its
+ * ancestors, starting from the root element of the document. A name is either a local name, a prefixed name or '*',
+ * which matches an element of any name. e.g. "catalog/book" selects the book elements of a catalog document. An
+ * empty path selects the children of the root element.
+ * <p>
+ * Only the element which is being read is held in memory, hence documents of any size are processed within the memory
+ * needed for their largest selected element.
+ *
+ * @since 0.976.1
+ */
+public class XMLElementStream implements Closeable {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String ANY_NAME = "*";
+    private static final String[] CHILDREN_OF_ROOT = new String[]{ANY_NAME, ANY_NAME};
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final OMFactory OM_FACTORY = OMAbstractFactory.getOMFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final Reader source;
+    private final XMLStreamReader reader;
+    private final String[] path;
+
+    // Number of open elements, and the number of them which match the leading names of the path
+    private int depth;
+    private int matchedDepth;
+
+    // Namespaces declared by the matched open elements, which are in scope of the selected elements
+    private final List<String> nsPrefixes = new ArrayList<>();
+    private final List<String> nsURIs = new ArrayList<>();
+    private final int[] nsCounts;
+
+    private BXML<?> next;
+
+    /**
+     * Create a stream of the elements selected by the given path, out of the XML document read from the reader.
+     *
+     * @param source reader of the XML document
+     * @param path   path of the elements to be read
+     */
+    public XMLElementStream(Reader source, String path) {
+        this.source = source;
+        this.path = path == null || path.trim().isEmpty() ? CHILDREN_OF_ROOT : splitPath(path);
+        this.nsCounts = new int[this.path.length];
+        try {
+            this.reader = XML_INPUT_FACTORY.createXMLStreamReader(source);
+        } catch (XMLStreamException e) {
+            throw new BallerinaException("failed to read xml: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether there is another selected element in the document.
+     *
+     * @return true if there is another selected element
+     */
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (matchedDepth == depth && depth < path.length && isMatch(path[depth])) {
+                        if (depth == path.length - 1) {
+                            next = readElement();
+                            return true;
+                        }
+                        pushNamespaces();
+                        matchedDepth++;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    if (matchedDepth > depth) {
+                        matchedDepth--;
+                        popNamespaces();
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new BallerinaException("failed to read xml: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Read the next selected element of the document.
+     *
+     * @return the next selected element
+     */
+    public BXML<?> next() {
+        if (!hasNext()) {
+            throw new BallerinaException("no more xml elements to read");
+        }
+        BXML<?> element = next;
+        next = null;
+        return element;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            source.close();
+        }
+    }
+
+    static String[] splitPath(String path) {
+        String trimmedPath = path.trim();
+        if (trimmedPath.startsWith(PATH_SEPARATOR)) {
+            trimmedPath = trimmedPath.substring(1);
+        }
+
+        String[] names = trimmedPath.split(PATH_SEPARATOR);
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].trim();
+            if (names[i].isEmpty()) {
+                throw new BallerinaException("invalid xml element path: " + path);
+            }
+        }
+        return names;
+    }
+
+    private boolean isMatch(String name) {
+        if (ANY_NAME.equals(name) || name.equals(reader.getLocalName())) {
+            return true;
+        }
+        String prefix = reader.getPrefix();
+        return prefix != null && !prefix.isEmpty() && name.equals(prefix + ":" + reader.getLocalName());
+    }
+
+    private void pushNamespaces() {
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            nsPrefixes.add(reader.getNamespacePrefix(i));
+            nsURIs.add(reader.getNamespaceURI(i));
+        }
+        nsCounts[matchedDepth] = reader.getNamespaceCount();
+    }
+
+    private void popNamespaces() {
+        int size = nsPrefixes.size() - nsCounts[matchedDepth];
+        nsPrefixes.subList(size, nsPrefixes.size()).clear();
+        nsURIs.subList(size, nsURIs.size()).clear();
+    }
+
+    /**
+     * Build the element at the current start element event, out of the events up to its end element event.
+     */
+    private BXML<?> readElement() throws XMLStreamException {
+        OMElement element = OM_FACTORY.createOMElement(reader.getLocalName(), null);
+        // The namespaces declared by the ancestors are declared on the element, so that it is complete on its own
+        for (int i = 0; i < nsPrefixes.size(); i++) {
+            declareNamespace(element, nsPrefixes.get(i), nsURIs.get(i));
+        }
+        populateElement(element);
+
+        OMElement current = element;
+        int level = 1;
+        while (level > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    current = OM_FACTORY.createOMElement(reader.getLocalName(), null, current);
+                    populateElement(current);
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    level--;
+                    if (level > 0) {
+                        current = (OMElement) current.getParent();
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    OM_FACTORY.createOMText(current, reader.getText());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    OM_FACTORY.createOMText(current, reader.getText(), OMNode.CDATA_SECTION_NODE);
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    OM_FACTORY.createOMComment(current, reader.getText());
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    OM_FACTORY.createOMProcessingInstruction(current, reader.getPITarget(), reader.getPIData());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        // The element is added to a document, as done by XMLUtils, to get the xpath working correctly
+        OMDocument doc = OM_FACTORY.createOMDocument();
+        doc.addChild(element);
+        return new BXMLItem(element);
+    }
+
+    private void populateElement(OMElement element) {
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            declareNamespace(element, reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
+        }
+
+        OMNamespace namespace = createNamespace(reader.getNamespaceURI(), reader.getPrefix());
+        if (namespace != null) {
+            element.setNamespace(namespace);
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.addAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i),
+                    createNamespace(reader.getAttributeNamespace(i), reader.getAttributePrefix(i)));
+        }
+    }
+
+    private static void declareNamespace(OMElement element, String prefix, String uri) {
+        if (uri == null || uri.isEmpty()) {
+            return;
+        }
+        if (prefix == null || prefix.isEmpty()) {
+            element.declareDefaultNamespace(uri);
+        } else {
+            element.declareNamespace(uri, prefix);
+        }
+    }
+
+    private static OMNamespace createNamespace(String uri, String prefix) {
+        if (uri == null || uri.isEmpty()) {
+            return null;
+        }
+        return OM_FACTORY.createOMNamespace(uri, prefix == null ? "" : prefix);
+    }
+}
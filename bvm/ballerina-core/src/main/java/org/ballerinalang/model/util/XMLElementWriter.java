@@ -0,0 +1,104 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.util;
+
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * {@code XMLElementWriter} writes XML elements to a writer one at a time, as the counterpart of
+ * {@link XMLElementStream}.
+ * <p>
+ * The elements are enclosed in the elements named by the path, except its last name, which is the name of the
+ * written elements. e.g. the elements written with the path "catalog/book" are enclosed in a catalog element. The
+ * elements are written as they are if the path is empty.
+ *
+ * @since 0.976.1
+ */
+public class XMLElementWriter implements Closeable {
+
+    private final Writer writer;
+    private final String[] enclosingElements;
+    private boolean started;
+
+    /**
+     * Create a writer of the elements selected by the given path.
+     *
+     * @param writer writer to which the XML is written
+     * @param path   path of the elements to be written
+     */
+    public XMLElementWriter(Writer writer, String path) {
+        this.writer = writer;
+        if (path == null || path.trim().isEmpty()) {
+            this.enclosingElements = new String[0];
+            return;
+        }
+
+        String[] names = XMLElementStream.splitPath(path);
+        this.enclosingElements = Arrays.copyOf(names, names.length - 1);
+        for (String name : this.enclosingElements) {
+            if (name.equals("*")) {
+                throw new BallerinaException("invalid xml element path for writing: " + path);
+            }
+        }
+    }
+
+    /**
+     * Write the given XML, opening the enclosing elements if this is the first write.
+     *
+     * @param xml XML to be written
+     * @throws IOException if the XML could not be written
+     */
+    public void write(BXML<?> xml) throws IOException {
+        start();
+        writer.write(xml.stringValue());
+    }
+
+    /**
+     * Close the enclosing elements, and then the underlying writer.
+     *
+     * @throws IOException if the XML could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            start();
+            for (int i = enclosingElements.length - 1; i >= 0; i--) {
+                writer.write("</" + enclosingElements[i] + ">");
+            }
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        for (String name : enclosingElements) {
+            writer.write("<" + name + ">");
+        }
+        started = true;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.QName;
+
+/**
+ * {@code XMLQNameCache} interns the {@link QName}s of the names used to navigate XML values.
+ * <p>
+ * XML access expressions and the xml functions pass the name to select as a string of the form "{uri}localName" or
+ * "localName". Such names come from a small set of literals in the program, hence they are parsed once and the same
+ * {@link QName} instance is returned afterwards. The cache is cleared once it reaches {@link #MAX_ENTRIES} entries,
+ * so that names computed at runtime cannot grow it without bound.
+ *
+ * @since 0.976.1
+ */
+public final class XMLQNameCache {
+
+    public static final int MAX_ENTRIES = 4096;
+
+    private static final Map<String, QName> qnames = new ConcurrentHashMap<>();
+
+    private XMLQNameCache() {
+    }
+
+    /**
+     * Returns the {@link QName} of the given qualified name.
+     *
+     * @param qname qualified name, as "{uri}localName" or "localName"
+     * @return the interned {@link QName}
+     */
+    public static QName get(String qname) {
+        QName name = qnames.get(qname);
+        if (name != null) {
+            return name;
+        }
+
+        name = parse(qname);
+        if (qnames.size() >= MAX_ENTRIES) {
+            qnames.clear();
+        }
+        qnames.put(qname, name);
+        return name;
+    }
+
+    private static QName parse(String qname) {
+        String nsUri;
+        String localname;
+        int rParenIndex = qname.indexOf('}');
+
+        if (qname.startsWith("{") && rParenIndex > 0) {
+            localname = qname.substring(rParenIndex + 1, qname.length());
+            nsUri = qname.substring(1, rParenIndex);
+        } else {
+            localname = qname;
+            nsUri = "";
+        }
+
+        return new QName(nsUri, localname);
+    }
+}
@@ -17,6 +17,8 @@
 */
 package org.ballerinalang.model.values;
 
+import io.netty.buffer.ByteBuf;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.types.BArrayType;
 import org.ballerinalang.model.types.BField;
 import org.ballerinalang.model.types.BJSONType;
@@ -31,22 +33,38 @@ import org.ballerinalang.model.util.JsonParser;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.StringJoiner;
 
 /**
  * {@code BJSON} represents a JSON value in Ballerina.
+ * <p>
+ * JSON content read from streams, byte arrays and buffers is parsed lazily when the "b7a.runtime.json.lazy"
+ * configuration is enabled. Then objects and arrays are only parsed when they are accessed, and the parts of the
+ * content which are not modified are written out as is when the message is serialized.
  *
  * @since 0.8.0
  */
 public final class BJSON extends BallerinaMessageDataSource implements BRefType<JsonNode>, BCollection {
 
+    private static final String LAZY_PARSING_CONFIG_PROP = "b7a.runtime.json.lazy";
+
+    private static boolean lazyParsing;
+
+    static {
+        String lazyParsingConfigProp = ConfigRegistry.getInstance().getAsString(LAZY_PARSING_CONFIG_PROP);
+        if (lazyParsingConfigProp != null) {
+            lazyParsing = Boolean.parseBoolean(lazyParsingConfigProp);
+        }
+    }
+
     private BType type = BTypes.typeJSON;
 
     // The streaming JSON data source object
@@ -123,7 +141,8 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      */
     public BJSON(InputStream in, String schema) {
         try {
-            this.value = JsonParser.parse(in);
+            this.value = lazyParsing ? JsonParser.parseLazy(in, Charset.defaultCharset().name()) :
+                    JsonParser.parse(in);
         } catch (Throwable t) {
             handleJsonException("failed to create json: ", t);
         }
@@ -138,12 +157,41 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      */
     public BJSON(InputStream in, String schema, String charset) {
         try {
-            this.value = JsonParser.parse(in, charset);
+            this.value = lazyParsing ? JsonParser.parseLazy(in, charset) : JsonParser.parse(in, charset);
         } catch (Throwable t) {
             handleJsonException("failed to create json with the given charset: ", t);
         }
     }
 
+    /**
+     * Create a {@link BJSON} from UTF-8 encoded JSON content, which is parsed directly from the bytes.
+     *
+     * @param bytes UTF-8 encoded JSON content, which should not be modified afterwards as it may be parsed lazily
+     */
+    public BJSON(byte[] bytes) {
+        try {
+            this.value = lazyParsing ? JsonParser.parseLazy(bytes) : JsonParser.parse(bytes);
+            setType();
+        } catch (Throwable t) {
+            handleJsonException("failed to create json: ", t);
+        }
+    }
+
+    /**
+     * Create a {@link BJSON} from the UTF-8 encoded JSON content in the readable bytes of a {@link ByteBuf}, which
+     * is parsed directly from the buffer.
+     *
+     * @param buf buffer which contains the JSON content
+     */
+    public BJSON(ByteBuf buf) {
+        try {
+            this.value = lazyParsing ? JsonParser.parseLazy(buf) : JsonParser.parse(buf);
+            setType();
+        } catch (Throwable t) {
+            handleJsonException("failed to create json: ", t);
+        }
+    }
+
     /**
      * Return the string representation of this json object.
      */
@@ -163,20 +211,31 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     @Override
     public void serializeData(OutputStream outputStream) {
         try {
-            /* the below order is important, where if the value is generated from a streaming data source,
-             * it should be able to serialize the data out again using the value */
-            if (this.value != null) {
-                this.value.serialize(outputStream);
-            } else {
-                JsonGenerator gen = new JsonGenerator(outputStream);
-                this.datasource.serialize(gen);
-                gen.flush();
-            }
+            JsonGenerator gen = new JsonGenerator(outputStream);
+            gen.setPassThrough(true);
+            this.serialize(gen);
+            gen.flush();
         } catch (Throwable t) {
             handleJsonException("error occurred during writing the message to the output stream: ", t);
         }
     }
 
+    /**
+     * Write this JSON value to the given {@link JsonGenerator}.
+     *
+     * @param gen JSON generator to write to
+     * @throws IOException if an error occurs while writing
+     */
+    public void serialize(JsonGenerator gen) throws IOException {
+        /* the below order is important, where if the value is generated from a streaming data source,
+         * it should be able to serialize the data out again using the value */
+        if (this.value != null) {
+            this.value.serialize(gen);
+        } else {
+            this.datasource.serialize(gen);
+        }
+    }
+
     /**
      * Get value associated with this {@link BJSON} object.
      *
@@ -187,10 +246,10 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         if (this.value == null) {
             ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
             try {
-                JsonGenerator gen = new JsonGenerator(byteOut);
+                JsonGenerator gen = new JsonGenerator(byteOut, StandardCharsets.UTF_8);
                 this.datasource.serialize(gen);
                 gen.flush();
-                this.value = JsonParser.parse(new ByteArrayInputStream(byteOut.toByteArray()));
+                this.value = JsonParser.parse(byteOut.toByteArray());
             } catch (Throwable t) {
                 handleJsonException("Error in building JSON node: ", t);
             }
@@ -213,13 +272,25 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         }
 
         // If constrained JSON, print the only the fields in the constrained type.
-        StringJoiner sj = new StringJoiner(",", "{", "}");
-        for (BField field : constrainedType.getFields()) {
-            String key = field.fieldName;
-            String stringValue = this.value().get(key).toString();
-            sj.add("\"" + key + "\":" + stringValue);
+        StringWriter writer = new StringWriter();
+        JsonGenerator gen = new JsonGenerator(writer);
+        try {
+            gen.startObject();
+            for (BField field : constrainedType.getFields()) {
+                gen.writeFieldName(field.fieldName);
+                JsonNode fieldValue = node.get(field.fieldName);
+                if (fieldValue != null) {
+                    fieldValue.serialize(gen);
+                } else {
+                    gen.writeNull();
+                }
+            }
+            gen.endObject();
+            gen.flush();
+        } catch (IOException e) {
+            handleJsonException("failed to get json as string: ", e);
         }
-        return sj.toString();
+        return writer.toString();
     }
 
     @Override
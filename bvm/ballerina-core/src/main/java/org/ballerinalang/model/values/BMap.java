@@ -17,27 +17,36 @@
  */
 package org.ballerinalang.model.values;
 
+import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * {@code MapType} represents a map.
+ * <p>
+ * A map created by the BVM for a map or a record literal is local to the worker which created it, and is accessed
+ * without locking until it is shared, i.e. until it becomes reachable from another worker (see {@link #share()}).
+ * Maps created elsewhere are shared from the start.
+ *
  * @param <K> Key
  * @param <V> Value
  * @since 0.8.0
@@ -45,20 +54,34 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @SuppressWarnings("rawtypes")
 public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implements BRefType, BCollection {
 
-    private LinkedHashMap<K, V> map;
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock readLock = lock.readLock();
-    private final Lock writeLock = lock.writeLock();
+    private OrderedOpenHashMap<K, V> map;
+    // Lock of a shared map, or null if the map is local to the worker which created it
+    private volatile ReentrantReadWriteLock lock;
     private BType type = BTypes.typeMap;
-    private HashMap<String, Object> nativeData = new HashMap<>();
+    private HashMap<String, Object> nativeData;
 
     public BMap() {
-        map =  new LinkedHashMap<>();
+        this(BTypes.typeMap, true);
     }
 
     public BMap(BType type) {
-        this.map = new LinkedHashMap<>();
+        this(type, true);
+    }
+
+    /**
+     * Create a map of the given type.
+     *
+     * @param type   type of the map
+     * @param shared whether the map may be accessed by workers other than the one creating it
+     */
+    public BMap(BType type, boolean shared) {
         this.type = type;
+        OrderedOpenHashMap.Layout layout = type instanceof BStructureType ?
+                ((BStructureType) type).getFieldLayout() : null;
+        this.map = new OrderedOpenHashMap<>(layout, this);
+        if (shared) {
+            this.lock = new ReentrantReadWriteLock();
+        }
     }
 
     /**
@@ -69,11 +92,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return value
      */
     public V get(K key) {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             return map.get(key);
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -85,14 +113,19 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return value
      */
     public V getIfExist(K key) {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             if (!map.containsKey(key)) {
                 throw new BallerinaException("cannot find key '" + key + "'");
             }
             return map.get(key);
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -104,14 +137,19 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return value
      */
     public V get(K key, boolean except) {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             if (!map.containsKey(key) && except) {
                 throw new BallerinaException("cannot find key '" + key + "'");
             }
             return map.get(key);
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -121,11 +159,59 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param value value related to the key
      */
     public void put(K key, V value) {
-        writeLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.writeLock().lock();
+        }
         try {
             map.put(key, value);
         } finally {
-            writeLock.unlock();
+            if (lock != null) {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieve the value of a field of a record or an object by the position of the field in its type.
+     * The field is looked up by its name if the map is not of the type the position was resolved against.
+     *
+     * @param position position of the field in the type
+     * @param key      name of the field
+     * @return value of the field
+     */
+    public V getField(int position, K key) {
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
+        try {
+            return map.getField(position, key);
+        } finally {
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Set the value of a field of a record or an object by the position of the field in its type.
+     *
+     * @param position position of the field in the type
+     * @param key      name of the field
+     * @param value    value of the field
+     */
+    public void putField(int position, K key, V value) {
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.writeLock().lock();
+        }
+        try {
+            map.putField(position, key, value);
+        } finally {
+            if (lock != null) {
+                lock.writeLock().unlock();
+            }
         }
     }
 
@@ -133,11 +219,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * Clear map entries.
      */
     public void clear() {
-        writeLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.writeLock().lock();
+        }
         try {
             map.clear();
         } finally {
-            writeLock.unlock();
+            if (lock != null) {
+                lock.writeLock().unlock();
+            }
         }
     }
 
@@ -148,11 +239,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return returns boolean true if key exists
      */
     public boolean hasKey(K key) {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             return map.containsKey(key);
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -160,7 +256,7 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * Retrieve the internal map.
      * @return map
      */
-    public LinkedHashMap<K, V> getMap() {
+    public Map<K, V> getMap() {
         return map;
     }
 
@@ -169,11 +265,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return returns the size of the map
      */
     public int size() {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             return map.size();
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -184,7 +285,10 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return boolean to indicate whether given key is removed.
      */
     public boolean remove(K key) {
-        writeLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.writeLock().lock();
+        }
         try {
             boolean hasKey = map.containsKey(key);
             if (hasKey) {
@@ -192,7 +296,9 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
             }
             return hasKey;
         } finally {
-            writeLock.unlock();
+            if (lock != null) {
+                lock.writeLock().unlock();
+            }
         }
     }
 
@@ -201,11 +307,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return returns the set of keys
      */
     public Set<K> keySet() {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             return map.keySet();
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -214,11 +325,16 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return Flag indicating whether the map is empty or not
      */
     public boolean isEmpty() {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             return map.size() == 0;
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -229,7 +345,10 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
 
     @Override
     public String stringValue() {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             String keySeparator = type.getTag() == TypeTags.MAP_TAG ? "\"" : "";
             StringJoiner sj = new StringJoiner(", ", "{", "}");
@@ -254,7 +373,9 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
             }
             return sj.toString();
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -265,7 +386,10 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
 
     @Override
     public BValue copy() {
-        readLock.lock();
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
         try {
             BMap<K, BValue> newMap = BTypes.typeMap.getEmptyValue();
             for (Map.Entry<K, V> entry: map.entrySet()) {
@@ -274,7 +398,9 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
             }
             return newMap;
         } finally {
-            readLock.unlock();
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
         }
     }
 
@@ -286,12 +412,60 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
     @Override
     public void serializeData(OutputStream outputStream) {
         try {
-            outputStream.write(stringValue().getBytes(Charset.defaultCharset()));
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()));
+            writeStringValue(writer);
+            writer.flush();
         } catch (IOException e) {
             throw new BallerinaException("Error occurred while serializing data", e);
         }
     }
 
+    /**
+     * Writes the string value of this map to the given writer, without building it. The output is the same as
+     * {@link #stringValue()}, which is also the message returned by {@link #getMessageAsString()}.
+     *
+     * @param writer writer to write to
+     * @throws IOException if an error occurs while writing
+     */
+    private void writeStringValue(Writer writer) throws IOException {
+        ReentrantReadWriteLock lock = this.lock;
+        if (lock != null) {
+            lock.readLock().lock();
+        }
+        try {
+            String keySeparator = type.getTag() == TypeTags.MAP_TAG ? "\"" : "";
+            writer.write('{');
+            boolean first = true;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                if (!first) {
+                    writer.write(", ");
+                }
+                first = false;
+                writer.write(keySeparator);
+                writer.write((String) entry.getKey());
+                writer.write(keySeparator);
+                writer.write(':');
+                V value = entry.getValue();
+                if (value == null) {
+                    writer.write("null");
+                } else if (value instanceof BString) {
+                    writer.write('"');
+                    writer.write(value.stringValue());
+                    writer.write('"');
+                } else if (value instanceof BMap) {
+                    ((BMap<?, ?>) value).writeStringValue(writer);
+                } else {
+                    writer.write(value.stringValue());
+                }
+            }
+            writer.write('}');
+        } finally {
+            if (lock != null) {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
     @Override
     public BIterator newIterator() {
         return new BMapIterator<>(this);
@@ -309,7 +483,7 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
 
         BMapIterator(BMap<K, V> value) {
             collection = value;
-            iterator = new LinkedHashMap<>(value.map).entrySet().iterator();
+            iterator = new ArrayList<>(value.map.entrySet()).iterator();
         }
 
         @Override
@@ -334,6 +508,9 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @param data data to be stored
      */
     public void addNativeData(String key, Object data) {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         this.nativeData.put(key, data);
     }
 
@@ -344,7 +521,66 @@ public class BMap<K, V extends BValue> extends BallerinaMessageDataSource implem
      * @return data which was stored with given key or null if no value corresponding to key
      */
     public Object getNativeData(String key) {
-        return this.nativeData.get(key);
+        return this.nativeData != null ? this.nativeData.get(key) : null;
+    }
+
+    /**
+     * Mark this map as shared, as it is about to become reachable from a worker other than the one which created
+     * it. A shared map is accessed under its lock from there onwards. The maps in a local map are not shared when
+     * they are put into it, hence they are shared along with it.
+     * <p>
+     * A map should be shared by the worker which created it, before it is handed over to another worker.
+     */
+    public void share() {
+        if (this.lock != null) {
+            return;
+        }
+        Deque<BMap<?, ?>> maps = new ArrayDeque<>();
+        maps.push(this);
+        while (!maps.isEmpty()) {
+            BMap<?, ?> bMap = maps.pop();
+            if (bMap.lock != null) {
+                continue;
+            }
+            for (BValue value : bMap.map.values()) {
+                if (value instanceof BMap && ((BMap) value).lock == null) {
+                    maps.push((BMap<?, ?>) value);
+                }
+            }
+            bMap.lock = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Whether this map is shared, i.e. whether it is accessed under its lock.
+     *
+     * @return true if the map is shared
+     */
+    public boolean isShared() {
+        return this.lock != null;
+    }
+
+    /**
+     * Called by the storage of this map for each value written to it, while holding the write lock if the map is
+     * shared. A map written into a shared map becomes reachable from other workers, hence it is shared too.
+     *
+     * @param value value written to the map
+     */
+    void valueWritten(Object value) {
+        if (this.lock != null && value instanceof BMap) {
+            ((BMap) value).share();
+        }
+    }
+
+    /**
+     * Mark the given value as shared, if it is a map. See {@link #share()}.
+     *
+     * @param value value which is about to become reachable from another worker
+     */
+    public static void share(BValue value) {
+        if (value instanceof BMap) {
+            ((BMap) value).share();
+        }
     }
 
     @Override
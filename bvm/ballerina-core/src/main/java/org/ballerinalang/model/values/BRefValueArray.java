@@ -33,6 +33,9 @@ public class BRefValueArray extends BNewArray {
     private BRefType[] values;
 
     public BRefValueArray(BRefType[] values, BType type) {
+        for (BRefType value : values) {
+            BMap.share(value);
+        }
         this.values = values;
         this.arrayType = type;
         this.size = values.length;
@@ -49,6 +52,8 @@ public class BRefValueArray extends BNewArray {
     }
 
     public void add(long index, BRefType value) {
+        // Arrays are not local to a worker, hence the maps added to them are shared
+        BMap.share(value);
         prepareForAdd(index, values.length);
         values[(int) index] = value;
     }
@@ -24,6 +24,7 @@ import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BTableType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.util.InMemoryTable;
 import org.ballerinalang.util.TableProvider;
 import org.ballerinalang.util.TableUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -43,7 +44,7 @@ public class BTable implements BRefType<Object>, BCollection {
     private boolean hasNextVal;
     private boolean nextPrefetched;
     private TableProvider tableProvider;
-    private String tableName;
+    private InMemoryTable table;
     protected BStructureType constraintType;
     private BStringArray primaryKeys;
     private BStringArray indices;
@@ -58,26 +59,28 @@ public class BTable implements BRefType<Object>, BCollection {
         this.tableProvider = null;
         this.nextPrefetched = false;
         this.hasNextVal = false;
-        this.tableName = null;
+        this.table = null;
         this.constraintType = null;
     }
 
-    public BTable(String tableName, BStructureType constraintType) {
+    public BTable(BStructureType constraintType) {
         this.nextPrefetched = false;
         this.hasNextVal = false;
         this.tableProvider = null;
-        this.tableName = tableName;
+        this.table = null;
         this.constraintType = constraintType;
     }
 
     public BTable(String query, BTable fromTable, BTable joinTable,
                   BStructureType constraintType, BRefValueArray params) {
+        if (fromTable.table == null || joinTable != null && joinTable.table == null) {
+            throw new BallerinaException("queries are only supported on in-memory tables");
+        }
         this.tableProvider = TableProvider.getInstance();
         if (joinTable != null) {
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
-                    constraintType, params);
+            this.table = tableProvider.createTable(fromTable.table, joinTable.table, query, constraintType, params);
         } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
+            this.table = tableProvider.createTable(fromTable.table, query, constraintType, params);
         }
         this.constraintType = constraintType;
     }
@@ -97,7 +100,7 @@ public class BTable implements BRefType<Object>, BCollection {
             throw new BallerinaException("table cannot be created without a constraint");
         }
         this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, primaryKeys, indexColumns);
+        this.table = tableProvider.createTable(constrainedType, primaryKeys, indexColumns);
         this.constraintType = (BStructureType) constrainedType;
         this.primaryKeys = primaryKeys;
         this.indices = indexColumns;
@@ -224,7 +227,7 @@ public class BTable implements BRefType<Object>, BCollection {
             throw new BallerinaException("incompatible types: record of type:" + data.getType().getName()
                     + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        tableProvider.insertData(table, data);
         reset(false);
     }
 
@@ -253,7 +256,7 @@ public class BTable implements BRefType<Object>, BCollection {
                 BValue[] returns = BLangFunctions.invokeCallable(lambdaFunction.value().getFunctionInfo(), args);
                 if (((BBoolean) returns[0]).booleanValue()) {
                     ++deletedCount;
-                    tableProvider.deleteData(tableName, data);
+                    tableProvider.deleteData(table, data);
                 }
             }
             context.setReturnValues(new BInteger(deletedCount));
@@ -310,7 +313,7 @@ public class BTable implements BRefType<Object>, BCollection {
     }
 
     protected void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        this.iterator = tableProvider.createIterator(table);
         resetIterationHelperAttributes();
     }
 
@@ -328,7 +331,6 @@ public class BTable implements BRefType<Object>, BCollection {
         if (this.iterator != null) {
             this.iterator.close(false);
         }
-        tableProvider.dropTable(this.tableName);
     }
 
     private void insertInitialData(BRefValueArray data) {
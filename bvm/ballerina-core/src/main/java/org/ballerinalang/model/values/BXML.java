@@ -21,6 +21,7 @@ import org.apache.axiom.om.OMNode;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.util.XMLNodeType;
+import org.ballerinalang.model.util.XMLQNameCache;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -175,6 +176,15 @@ public abstract class BXML<T> extends BallerinaMessageDataSource implements BRef
      */
     public abstract BXML<?> children(String qname);
 
+    /**
+     * Selects and concatenate all the children sequences that matches the given {@link QName}, in all the
+     * element-type items in this sequence. Only the children will be selected, but not the nested children.
+     *
+     * @param qname qualified name of the children to filter
+     * @return All the children that matches the given qualified name, as a sequence
+     */
+    public abstract BXML<?> children(QName qname);
+
     /**
      * Set the children of this XML. Any existing children will be removed.
      * 
@@ -297,19 +307,7 @@ public abstract class BXML<T> extends BallerinaMessageDataSource implements BRef
      * @return constructed {@link QName}
      */
     protected QName getQname(String qname) {
-        String nsUri;
-        String localname;
-        int rParenIndex = qname.indexOf('}');
-
-        if (qname.startsWith("{") && rParenIndex > 0) {
-            localname = qname.substring(rParenIndex + 1, qname.length());
-            nsUri = qname.substring(1, rParenIndex);
-        } else {
-            localname = qname;
-            nsUri = "";
-        }
-
-        return new QName(nsUri, localname);
+        return XMLQNameCache.get(qname);
     }
 
     /**
@@ -319,14 +317,14 @@ public abstract class BXML<T> extends BallerinaMessageDataSource implements BRef
      * @param currentElement Current node
      * @param qname Qualified name of the descendants to search
      */
-    protected void addDescendants(List<BXML<?>> descendants, OMElement currentElement, String qname) {
+    protected void addDescendants(List<BXML<?>> descendants, OMElement currentElement, QName qname) {
         Iterator<OMNode> childrenItr = currentElement.getChildren();
         while (childrenItr.hasNext()) {
             OMNode child = childrenItr.next();
             if (child.getType() != OMNode.ELEMENT_NODE) {
                 continue;
             }
-            if (qname.equals(((OMElement) child).getQName().toString())) {
+            if (qname.equals(((OMElement) child).getQName())) {
                 descendants.add(new BXMLItem(child));
                 continue;
             }
@@ -67,6 +67,7 @@ public final class BXMLItem extends BXML<OMNode> {
 
     private OMNode omNode;
     private XMLNodeType nodeType;
+    private volatile XMLChildIndex childIndex;
 
     /**
      * Create an empty XMLValue.
@@ -407,7 +408,7 @@ public final class BXMLItem extends BXML<OMNode> {
         BRefValueArray elementsSeq = new BRefValueArray();
         switch (nodeType) {
             case ELEMENT:
-                if (getElementName().stringValue().equals(getQname(qname).toString())) {
+                if (((OMElement) omNode).getQName().equals(getQname(qname))) {
                     elementsSeq.add(0, this);
                 }
                 break;
@@ -425,6 +426,11 @@ public final class BXMLItem extends BXML<OMNode> {
         BRefValueArray elementsSeq = new BRefValueArray();
         switch (nodeType) {
             case ELEMENT:
+                XMLChildIndex index = getChildIndex();
+                if (index != null) {
+                    addItems(elementsSeq, 0, index.getChildren());
+                    break;
+                }
                 Iterator<OMNode> childrenItr = ((OMElement) omNode).getChildren();
                 int i = 0;
                 while (childrenItr.hasNext()) {
@@ -443,9 +449,22 @@ public final class BXMLItem extends BXML<OMNode> {
      */
     @Override
     public BXML<?> children(String qname) {
+        return children(getQname(qname));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BXML<?> children(QName qname) {
         BRefValueArray elementsSeq = new BRefValueArray();
         switch (nodeType) {
             case ELEMENT:
+                XMLChildIndex index = getChildIndex();
+                if (index != null) {
+                    addItems(elementsSeq, 0, index.getChildren(qname));
+                    break;
+                }
                 /*
                  * Here we are not using "((OMElement) omNode).getChildrenWithName(qname))" method, since as per the 
                  * documentation of AxiomContainer.getChildrenWithName, if the namespace part of the qname is empty, it
@@ -455,7 +474,7 @@ public final class BXMLItem extends BXML<OMNode> {
                  * empty or not.
                  */
                 Iterator<OMNode> childrenItr =
-                        new OMChildrenQNameIterator(((OMElement) omNode).getFirstOMChild(), getQname(qname));
+                        new OMChildrenQNameIterator(((OMElement) omNode).getFirstOMChild(), qname);
                 int i = 0;
                 while (childrenItr.hasNext()) {
                     OMNode node = childrenItr.next();
@@ -491,11 +510,12 @@ public final class BXMLItem extends BXML<OMNode> {
         if (seq.getNodeType() == XMLNodeType.SEQUENCE) {
             BRefValueArray childSeq = ((BXMLSequence) seq).value();
             for (int i = 0; i < childSeq.size(); i++) {
-                currentNode.addChild((OMNode) childSeq.get(i).value());
+                addChild(currentNode, (OMNode) childSeq.get(i).value());
             }
         } else {
-            currentNode.addChild((OMNode) seq.value());
+            addChild(currentNode, (OMNode) seq.value());
         }
+        XMLChildIndex.invalidate(currentNode);
     }
 
     /**
@@ -519,11 +539,12 @@ public final class BXMLItem extends BXML<OMNode> {
         if (seq.getNodeType() == XMLNodeType.SEQUENCE) {
             BRefValueArray childSeq = ((BXMLSequence) seq).value();
             for (int i = 0; i < childSeq.size(); i++) {
-                currentNode.addChild((OMNode) childSeq.get(i).value());
+                addChild(currentNode, (OMNode) childSeq.get(i).value());
             }
         } else {
-            currentNode.addChild((OMNode) seq.value());
+            addChild(currentNode, (OMNode) seq.value());
         }
+        XMLChildIndex.invalidate(currentNode);
     }
 
     /**
@@ -575,8 +596,19 @@ public final class BXMLItem extends BXML<OMNode> {
         List<BXML<?>> descendants = new ArrayList<BXML<?>>();
         switch (nodeType) {
             case ELEMENT:
-                addDescendants(descendants, (OMElement) omNode, getQname(qname).toString());
-                break;
+                QName name = getQname(qname);
+                XMLChildIndex index = getChildIndex();
+                if (index == null) {
+                    addDescendants(descendants, (OMElement) omNode, name);
+                    break;
+                }
+                BXMLItem[] indexedDescendants = index.getDescendants(name);
+                if (indexedDescendants == null) {
+                    addDescendants(descendants, (OMElement) omNode, name);
+                    indexedDescendants = descendants.toArray(new BXMLItem[descendants.size()]);
+                    index.putDescendants(name, indexedDescendants);
+                }
+                return new BXMLSequence(new BRefValueArray(indexedDescendants.clone(), BTypes.typeXML));
             default:
                 break;
         }
@@ -666,6 +698,51 @@ public final class BXMLItem extends BXML<OMNode> {
         return new BXMLItem(clonedNode);
     }
     
+    /**
+     * Returns the index of the children of this element, building it if there is no valid index.
+     *
+     * @return index of the children, or null if this is not an element or indexing is disabled
+     */
+    XMLChildIndex getChildIndex() {
+        if (nodeType != XMLNodeType.ELEMENT || !XMLChildIndex.ENABLED) {
+            return null;
+        }
+
+        XMLChildIndex index = childIndex;
+        if (index == null || !index.isValid()) {
+            index = XMLChildIndex.build((OMElement) omNode);
+            childIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Adds a child to an element. The child is detached from its current parent, whose document is hence modified
+     * as well.
+     *
+     * @param element element to add the child to
+     * @param child child to add
+     */
+    private static void addChild(OMElement element, OMNode child) {
+        XMLChildIndex.invalidate(child);
+        element.addChild(child);
+    }
+
+    /**
+     * Adds the given items to a sequence, starting from the given position.
+     *
+     * @param sequence sequence to add the items to
+     * @param index position of the first item
+     * @param items items to add
+     * @return position after the last added item
+     */
+    static int addItems(BRefValueArray sequence, int index, BXMLItem[] items) {
+        for (BXMLItem item : items) {
+            sequence.add(index++, item);
+        }
+        return index;
+    }
+
     // private methods
     
     private void setXMLNodeType() {
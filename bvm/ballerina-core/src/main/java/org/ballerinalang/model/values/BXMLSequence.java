@@ -192,12 +192,11 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
     @Override
     public BXML<?> elements(String qname) {
         BRefValueArray elementsSeq = new BRefValueArray(BTypes.typeXML);
-        String qnameStr = getQname(qname).toString();
+        QName name = getQname(qname);
         int j = 0;
         for (int i = 0; i < sequence.size(); i++) {
             BXMLItem item = (BXMLItem) sequence.get(i);
-            if (item.getNodeType() == XMLNodeType.ELEMENT
-                    && item.getElementName().stringValue().equals(qnameStr)) {
+            if (item.getNodeType() == XMLNodeType.ELEMENT && ((OMElement) item.value()).getQName().equals(name)) {
                 elementsSeq.add(j++, item);
             }
         }
@@ -217,6 +216,11 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
                 continue;
             }
 
+            XMLChildIndex childIndex = element.getChildIndex();
+            if (childIndex != null) {
+                index = BXMLItem.addItems(elementsSeq, index, childIndex.getChildren());
+                continue;
+            }
             Iterator<OMNode> childrenItr = ((OMElement) element.value()).getChildren();
             while (childrenItr.hasNext()) {
                 elementsSeq.add(index++, new BXMLItem(childrenItr.next()));
@@ -231,8 +235,15 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
      */
     @Override
     public BXML<?> children(String qname) {
+        return children(getQname(qname));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BXML<?> children(QName name) {
         BRefValueArray elementsSeq = new BRefValueArray();
-        QName name = getQname(qname);
         int index = 0;
         for (int i = 0; i < sequence.size(); i++) {
             BXMLItem element = (BXMLItem) sequence.get(i);
@@ -240,6 +251,14 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
                 continue;
             }
 
+            XMLChildIndex childIndex = element.getChildIndex();
+            if (childIndex != null) {
+                // Children without a namespace are selected by the local name alone, as getChildrenWithName does
+                BXMLItem[] children = name.getNamespaceURI().isEmpty() ?
+                        childIndex.getChildrenWithLocalName(name.getLocalPart()) : childIndex.getChildren(name);
+                index = BXMLItem.addItems(elementsSeq, index, children);
+                continue;
+            }
             Iterator<OMNode> childrenItr = ((OMElement) element.value()).getChildrenWithName(name);
             while (childrenItr.hasNext()) {
                 OMNode child = childrenItr.next();
@@ -336,7 +355,10 @@ public final class BXMLSequence extends BXML<BRefValueArray> {
             BXMLItem element = (BXMLItem) sequence.get(i);
             switch (element.getNodeType()) {
                 case ELEMENT:
-                    addDescendants(descendants, (OMElement) element.value(), getQname(qname).toString());
+                    BXML<?> elementDescendants = element.descendants(qname);
+                    for (int j = 0; j < elementDescendants.length(); j++) {
+                        descendants.add(elementDescendants.getItem(j));
+                    }
                     break;
                 default:
                     break;
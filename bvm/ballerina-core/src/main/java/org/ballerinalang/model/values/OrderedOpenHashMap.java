@@ -0,0 +1,563 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code OrderedOpenHashMap} is an insertion ordered hash map which keeps its keys and values in flat arrays, with an
+ * open addressing (linear probing) index over them. This is the storage of a {@link BMap}.
+ * <p>
+ * Each key is given a slot in the order it is first added, and keeps it until the map is compacted. A removed key
+ * keeps its slot with an absent value, and the slots are compacted once most of them are absent. The iteration order
+ * is the slot order, until a key is added to a slot before the last slot which has a value (i.e. a removed key is
+ * added again or a field of a {@link Layout} is set out of order), after which the iteration order is tracked
+ * separately.
+ * <p>
+ * A map of a record or an object is created with the {@link Layout} of its type, where the slot of each field is its
+ * index in the type, and the keys and the index are shared with the layout until a key which is not a field is added.
+ * Small maps are searched linearly, without an index.
+ * <p>
+ * Each value written to the map, including through {@link Entry#setValue}, is passed to the owning {@link BMap}, so
+ * that a map written into a shared map is shared as well.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <K> key
+ * @param <V> value
+ * @since 0.976.1
+ */
+public final class OrderedOpenHashMap<K, V> extends AbstractMap<K, V> {
+
+    // Value of a slot whose key is not in the map
+    private static final Object ABSENT = new Object();
+
+    private static final int MAX_LINEAR_SEARCH_SIZE = 8;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final int[] NO_HASHES = new int[0];
+
+    private static final Object[] NO_KEYS = new Object[0];
+
+    private final Layout layout;
+
+    // Map whose storage this is, or null
+    private final BMap<?, ?> owner;
+
+    private Object[] keys;
+
+    private int[] hashes;
+
+    // Slot + 1 of the keys, by their hash, or null if the keys are searched linearly
+    private int[] index;
+
+    // Whether the keys, hashes and the index are the ones of the layout, which should be copied before modified
+    private boolean sharedKeys;
+
+    private Object[] values;
+
+    private int slotCount;
+
+    private int size;
+
+    // Slots of the keys in the iteration order, or null if it is the slot order
+    private int[] order;
+
+    // Highest slot with a value, while the iteration order is the slot order
+    private int lastSlot = -1;
+
+    private int modCount;
+
+    private Set<Entry<K, V>> entrySet;
+
+    public OrderedOpenHashMap() {
+        this(null, null);
+    }
+
+    public OrderedOpenHashMap(Layout layout) {
+        this(layout, null);
+    }
+
+    OrderedOpenHashMap(Layout layout, BMap<?, ?> owner) {
+        this.owner = owner;
+        this.layout = layout;
+        if (layout != null) {
+            this.initFromLayout();
+            return;
+        }
+        this.keys = NO_KEYS;
+        this.hashes = NO_HASHES;
+        this.values = NO_KEYS;
+    }
+
+    private void initFromLayout() {
+        this.keys = this.layout.keys;
+        this.hashes = this.layout.hashes;
+        this.index = this.layout.index;
+        this.sharedKeys = true;
+        this.slotCount = this.layout.keys.length;
+        this.values = new Object[this.slotCount];
+        Arrays.fill(this.values, ABSENT);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = this.findSlot(key, hash(key));
+        return slot >= 0 && this.values[slot] != ABSENT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = this.findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        Object value = this.values[slot];
+        return value != ABSENT ? (V) value : null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int slot = this.findSlot(key, hash);
+        if (slot < 0) {
+            slot = this.addSlot(key, hash);
+        }
+        return this.putInSlot(slot, value);
+    }
+
+    /**
+     * Returns the value of the field at the given position of the layout of the map. If the map does not have a
+     * layout, or the field at the position is not the given key (i.e. the position was resolved against a different
+     * type), the key is looked up instead.
+     *
+     * @param position position of the field in the type
+     * @param key      name of the field
+     * @return value of the field, or null if the field is not set
+     */
+    @SuppressWarnings("unchecked")
+    public V getField(int position, K key) {
+        if (!this.isLayoutField(position, key)) {
+            return this.get(key);
+        }
+        Object value = this.values[position];
+        return value != ABSENT ? (V) value : null;
+    }
+
+    /**
+     * Sets the value of the field at the given position of the layout of the map. Falls back to {@link #put} in the
+     * same cases as {@link #getField(int, Object)}.
+     *
+     * @param position position of the field in the type
+     * @param key      name of the field
+     * @param value    value of the field
+     * @return previous value of the field, or null if the field was not set
+     */
+    public V putField(int position, K key, V value) {
+        if (!this.isLayoutField(position, key)) {
+            return this.put(key, value);
+        }
+        return this.putInSlot(position, value);
+    }
+
+    private boolean isLayoutField(int position, K key) {
+        // The slots of the layout fields are never moved, hence the position is the slot of the field
+        return this.layout != null && position < this.layout.keys.length && key.equals(this.layout.keys[position]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V putInSlot(int slot, V value) {
+        if (this.owner != null) {
+            this.owner.valueWritten(value);
+        }
+        Object oldValue = this.values[slot];
+        this.values[slot] = value;
+        if (oldValue != ABSENT) {
+            return (V) oldValue;
+        }
+        this.size++;
+        this.modCount++;
+        this.addToOrder(slot);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = this.findSlot(key, hash(key));
+        if (slot < 0 || this.values[slot] == ABSENT) {
+            return null;
+        }
+        Object oldValue = this.values[slot];
+        this.removeSlot(slot);
+        this.compactIfSparse();
+        return (V) oldValue;
+    }
+
+    @Override
+    public void clear() {
+        if (this.layout != null) {
+            this.initFromLayout();
+        } else {
+            this.keys = NO_KEYS;
+            this.hashes = NO_HASHES;
+            this.values = NO_KEYS;
+            this.index = null;
+            this.slotCount = 0;
+        }
+        this.size = 0;
+        this.order = null;
+        this.lastSlot = -1;
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entries = this.entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            this.entrySet = entries;
+        }
+        return entries;
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int findSlot(Object key, int hash) {
+        int[] index = this.index;
+        if (index == null) {
+            for (int slot = 0; slot < this.slotCount; slot++) {
+                if (this.hashes[slot] == hash && Objects.equals(this.keys[slot], key)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int slot = index[i] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            if (this.hashes[slot] == hash && Objects.equals(this.keys[slot], key)) {
+                return slot;
+            }
+        }
+    }
+
+    private int addSlot(Object key, int hash) {
+        int slot = this.slotCount;
+        if (this.sharedKeys || slot == this.keys.length) {
+            // The keys of a layout are never larger than the layout
+            int capacity = Math.max(INITIAL_CAPACITY, slot * 2);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+            if (this.index != null) {
+                this.index = this.index.clone();
+            }
+            this.sharedKeys = false;
+        }
+        if (slot == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.keys.length);
+        }
+
+        this.keys[slot] = key;
+        this.hashes[slot] = hash;
+        this.values[slot] = ABSENT;
+        this.slotCount++;
+        if (this.index != null && this.slotCount * 2 <= this.index.length) {
+            addToIndex(this.index, hash, slot);
+        } else if (this.index != null || this.slotCount > MAX_LINEAR_SEARCH_SIZE) {
+            this.index = buildIndex(this.hashes, this.slotCount);
+        }
+        return slot;
+    }
+
+    private static int[] buildIndex(int[] hashes, int slotCount) {
+        int capacity = Integer.highestOneBit(slotCount * 4 - 1);
+        int[] index = new int[capacity];
+        for (int slot = 0; slot < slotCount; slot++) {
+            addToIndex(index, hashes[slot], slot);
+        }
+        return index;
+    }
+
+    private static void addToIndex(int[] index, int hash, int slot) {
+        int mask = index.length - 1;
+        int i = hash & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
+    }
+
+    private void addToOrder(int slot) {
+        if (this.order == null) {
+            if (slot > this.lastSlot) {
+                this.lastSlot = slot;
+                return;
+            }
+            // The slot order is no longer the iteration order
+            int[] order = new int[Math.max(INITIAL_CAPACITY, this.size * 2)];
+            int position = 0;
+            for (int i = 0; i < this.slotCount; i++) {
+                if (i != slot && this.values[i] != ABSENT) {
+                    order[position++] = i;
+                }
+            }
+            this.order = order;
+        } else if (this.size > this.order.length) {
+            this.order = Arrays.copyOf(this.order, this.order.length * 2);
+        }
+        this.order[this.size - 1] = slot;
+    }
+
+    private void removeSlot(int slot) {
+        this.values[slot] = ABSENT;
+        if (this.order != null) {
+            int position = 0;
+            while (this.order[position] != slot) {
+                position++;
+            }
+            System.arraycopy(this.order, position + 1, this.order, position, this.size - position - 1);
+        }
+        this.size--;
+        this.modCount++;
+        if (this.size == 0) {
+            this.order = null;
+            this.lastSlot = -1;
+        }
+    }
+
+    /**
+     * Drops the slots of the removed keys, if they are the majority of the slots. The slots of the fields of the
+     * layout are never dropped, as they are given by the type.
+     */
+    private void compactIfSparse() {
+        int fixedSlotCount = this.layout != null ? this.layout.keys.length : 0;
+        int removedCount = this.slotCount - fixedSlotCount - (this.size - this.countFixedValues(fixedSlotCount));
+        if (this.sharedKeys || removedCount <= MAX_LINEAR_SEARCH_SIZE || removedCount <= this.size) {
+            return;
+        }
+
+        Object[] newKeys = new Object[this.keys.length];
+        int[] newHashes = new int[this.keys.length];
+        Object[] newValues = new Object[this.keys.length];
+        System.arraycopy(this.keys, 0, newKeys, 0, fixedSlotCount);
+        System.arraycopy(this.hashes, 0, newHashes, 0, fixedSlotCount);
+        System.arraycopy(this.values, 0, newValues, 0, fixedSlotCount);
+        int[] newSlots = new int[this.slotCount];
+        int newSlotCount = fixedSlotCount;
+        for (int slot = fixedSlotCount; slot < this.slotCount; slot++) {
+            if (this.values[slot] != ABSENT) {
+                newKeys[newSlotCount] = this.keys[slot];
+                newHashes[newSlotCount] = this.hashes[slot];
+                newValues[newSlotCount] = this.values[slot];
+                newSlots[slot] = newSlotCount++;
+            }
+        }
+        if (this.order != null) {
+            for (int position = 0; position < this.size; position++) {
+                if (this.order[position] >= fixedSlotCount) {
+                    this.order[position] = newSlots[this.order[position]];
+                }
+            }
+        } else {
+            // The last slot may have been removed, in which case the new last slot is the highest one with a value
+            this.lastSlot = newSlotCount - 1;
+            while (this.lastSlot >= 0 && newValues[this.lastSlot] == ABSENT) {
+                this.lastSlot--;
+            }
+        }
+
+        this.keys = newKeys;
+        this.hashes = newHashes;
+        this.values = newValues;
+        this.slotCount = newSlotCount;
+        this.index = newSlotCount > MAX_LINEAR_SEARCH_SIZE ? buildIndex(newHashes, newSlotCount) : null;
+    }
+
+    private int countFixedValues(int fixedSlotCount) {
+        int count = 0;
+        for (int slot = 0; slot < fixedSlotCount; slot++) {
+            if (this.values[slot] != ABSENT) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Entries of the map, in the iteration order.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return OrderedOpenHashMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            OrderedOpenHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterator over the entries of the map. The order is not modified while iterating, unless through the iterator,
+     * hence the position in the order (or the slot, if the order is the slot order) is enough to continue.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int position;
+
+        private int returnedCount;
+
+        private int lastReturnedSlot = -1;
+
+        private int expectedModCount = OrderedOpenHashMap.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.returnedCount < OrderedOpenHashMap.this.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            OrderedOpenHashMap<K, V> map = OrderedOpenHashMap.this;
+            if (map.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int slot;
+            if (map.order != null) {
+                slot = map.order[this.position++];
+            } else {
+                do {
+                    slot = this.position++;
+                } while (map.values[slot] == ABSENT);
+            }
+            this.returnedCount++;
+            this.lastReturnedSlot = slot;
+            return new SlotEntry<>(map, slot, (K) map.keys[slot], (V) map.values[slot]);
+        }
+
+        @Override
+        public void remove() {
+            OrderedOpenHashMap<K, V> map = OrderedOpenHashMap.this;
+            if (this.lastReturnedSlot < 0) {
+                throw new IllegalStateException();
+            }
+            if (map.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            boolean ordered = map.order != null;
+            map.removeSlot(this.lastReturnedSlot);
+            if (ordered) {
+                this.position--;
+            }
+            this.returnedCount--;
+            this.lastReturnedSlot = -1;
+            this.expectedModCount = map.modCount;
+        }
+    }
+
+    /**
+     * An entry of the map, which holds the value at the time it was read. Setting the value writes it to the map.
+     */
+    private static class SlotEntry<K, V> extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient OrderedOpenHashMap<K, V> map;
+
+        private final int slot;
+
+        private final int modCount;
+
+        SlotEntry(OrderedOpenHashMap<K, V> map, int slot, K key, V value) {
+            super(key, value);
+            this.map = map;
+            this.slot = slot;
+            this.modCount = map.modCount;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (this.map.modCount != this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+            this.map.putInSlot(this.slot, value);
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * Keys of a record or an object type, in the order of the fields of the type, with an index over them. The
+     * layout is shared by all the maps of the type.
+     */
+    public static final class Layout {
+
+        private final Object[] keys;
+
+        private final int[] hashes;
+
+        private final int[] index;
+
+        public Layout(String[] fieldNames) {
+            this.keys = Arrays.copyOf(fieldNames, fieldNames.length, Object[].class);
+            this.hashes = new int[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                this.hashes[i] = hash(fieldNames[i]);
+            }
+            this.index = fieldNames.length > MAX_LINEAR_SEARCH_SIZE ? buildIndex(this.hashes, fieldNames.length) :
+                    null;
+        }
+
+        public int size() {
+            return this.keys.length;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import org.apache.axiom.om.OMContainer;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMNode;
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.namespace.QName;
+
+/**
+ * {@code XMLChildIndex} indexes the children of an XML element by their names, so that navigating to the children
+ * or the descendants of the element with a given name is a lookup rather than a scan of the children.
+ * <p>
+ * The index of an element is built when the element is first navigated, and it keeps the {@link BXMLItem}s of the
+ * children, which carry their own indexes once they are navigated. Repeated navigation of the same document hence
+ * reuses the indexes of all the elements on the navigated paths. Descendants are indexed by name on the first
+ * selection of each name.
+ * <p>
+ * The children of elements are only modified through {@link BXMLItem}, which invalidates the indexes of the modified
+ * document by advancing its version. An index holds the version of the document it was built from, since the
+ * descendants of an element, and hence of all its ancestors, change with the children of the element. Indexes of
+ * other documents stay valid. Indexes are rebuilt on the next navigation after a modification. Indexing can be
+ * disabled by setting the "b7a.runtime.xml.childindex" configuration to false.
+ *
+ * @since 0.976.1
+ */
+final class XMLChildIndex {
+
+    private static final String CHILD_INDEX_CONFIG_PROP = "b7a.runtime.xml.childindex";
+
+    private static final BXMLItem[] EMPTY_ITEMS = new BXMLItem[0];
+
+    // Versions of the documents which have indexed elements, keyed by the root of the document
+    private static final Map<OMContainer, AtomicLong> documentVersions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    static final boolean ENABLED;
+
+    static {
+        String childIndexConfigProp = ConfigRegistry.getInstance().getAsString(CHILD_INDEX_CONFIG_PROP);
+        ENABLED = childIndexConfigProp == null || Boolean.parseBoolean(childIndexConfigProp);
+    }
+
+    private final AtomicLong documentVersion;
+
+    private final long version;
+
+    private final BXMLItem[] children;
+
+    private final Map<QName, BXMLItem[]> childrenByName;
+
+    private final Map<String, BXMLItem[]> childrenByLocalName;
+
+    private final Map<QName, BXMLItem[]> descendantsByName = new ConcurrentHashMap<>();
+
+    private XMLChildIndex(AtomicLong documentVersion, long version, BXMLItem[] children,
+                          Map<QName, BXMLItem[]> childrenByName, Map<String, BXMLItem[]> childrenByLocalName) {
+        this.documentVersion = documentVersion;
+        this.version = version;
+        this.children = children;
+        this.childrenByName = childrenByName;
+        this.childrenByLocalName = childrenByLocalName;
+    }
+
+    /**
+     * Builds the index of the children of the given element.
+     *
+     * @param element element to index
+     * @return index of the children of the element
+     */
+    static XMLChildIndex build(OMElement element) {
+        AtomicLong documentVersion = documentVersions.computeIfAbsent(getRoot(element), key -> new AtomicLong());
+        long version = documentVersion.get();
+        List<BXMLItem> children = new ArrayList<>();
+        Map<QName, List<BXMLItem>> childrenByName = new HashMap<>();
+        Map<String, List<BXMLItem>> childrenByLocalName = new HashMap<>();
+
+        Iterator<OMNode> childrenItr = element.getChildren();
+        while (childrenItr.hasNext()) {
+            OMNode child = childrenItr.next();
+            BXMLItem item = new BXMLItem(child);
+            children.add(item);
+            if (child.getType() != OMNode.ELEMENT_NODE) {
+                continue;
+            }
+            QName name = ((OMElement) child).getQName();
+            childrenByName.computeIfAbsent(name, key -> new ArrayList<>()).add(item);
+            childrenByLocalName.computeIfAbsent(name.getLocalPart(), key -> new ArrayList<>()).add(item);
+        }
+
+        return new XMLChildIndex(documentVersion, version, children.toArray(EMPTY_ITEMS), toArrays(childrenByName),
+                toArrays(childrenByLocalName));
+    }
+
+    /**
+     * Invalidates the indexes of the document of the given node, when the children of the node are modified or the
+     * node is moved to another element.
+     *
+     * @param node modified node
+     */
+    static void invalidate(OMNode node) {
+        AtomicLong documentVersion = documentVersions.get(getRoot(node));
+        // A document without a version has no indexes to invalidate
+        if (documentVersion != null) {
+            documentVersion.incrementAndGet();
+        }
+    }
+
+    boolean isValid() {
+        return version == documentVersion.get();
+    }
+
+    BXMLItem[] getChildren() {
+        return children;
+    }
+
+    /**
+     * Returns the children which match both the namespace and the local name of the given name.
+     *
+     * @param name name of the children
+     * @return the matching children
+     */
+    BXMLItem[] getChildren(QName name) {
+        return childrenByName.getOrDefault(name, EMPTY_ITEMS);
+    }
+
+    /**
+     * Returns the children with the given local name, in any namespace.
+     *
+     * @param localName local name of the children
+     * @return the matching children
+     */
+    BXMLItem[] getChildrenWithLocalName(String localName) {
+        return childrenByLocalName.getOrDefault(localName, EMPTY_ITEMS);
+    }
+
+    /**
+     * Returns the descendants with the given name, if they have been selected since the index was built.
+     *
+     * @param name name of the descendants
+     * @return the matching descendants, or null if they are not indexed
+     */
+    BXMLItem[] getDescendants(QName name) {
+        return descendantsByName.get(name);
+    }
+
+    void putDescendants(QName name, BXMLItem[] descendants) {
+        // Descendants selected while the document was being modified are not kept
+        if (isValid()) {
+            descendantsByName.put(name, descendants);
+        }
+    }
+
+    private static OMContainer getRoot(OMNode node) {
+        OMContainer root = node instanceof OMContainer ? (OMContainer) node : node.getParent();
+        while (root instanceof OMNode && ((OMNode) root).getParent() != null) {
+            root = ((OMNode) root).getParent();
+        }
+        return root;
+    }
+
+    private static <K> Map<K, BXMLItem[]> toArrays(Map<K, List<BXMLItem>> itemLists) {
+        Map<K, BXMLItem[]> items = new HashMap<>(itemLists.size() * 2);
+        for (Map.Entry<K, List<BXMLItem>> entry : itemLists.entrySet()) {
+            items.put(entry.getKey(), entry.getValue().toArray(EMPTY_ITEMS));
+        }
+        return items;
+    }
+}
@@ -16,16 +16,24 @@
  * under the License.
  */
 
+
 package org.ballerinalang.runtime.message;
 
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
 /**
  * Data source for binary payloads.
+ * <p>
+ * The payload is held either as a byte array, or as a {@link ByteBuffer} which may be a slice of a larger buffer or a
+ * memory mapped file. A buffer is only copied into a byte array when the array is requested via {@link #getValue()},
+ * while serializing the payload and obtaining it as a buffer do not copy it.
  *
  * @since 0.95.5
  */
@@ -33,22 +41,63 @@ public class BlobDataSource extends BallerinaMessageDataSource {
 
     private byte[] value;
 
+    private ByteBuffer buffer;
+
     public BlobDataSource(byte[] value) {
         this.value = value;
     }
 
+    /**
+     * Creates a data source of the remaining content of the given buffer. The content is not copied, hence the
+     * buffer should not be modified afterwards.
+     *
+     * @param buffer buffer which holds the payload
+     * @since 0.976.1
+     */
+    public BlobDataSource(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
     public byte[] getValue() {
+        if (value == null) {
+            value = toByteArray(buffer);
+        }
         return value;
     }
 
     public void setValue(byte[] value) {
         this.value = value;
+        this.buffer = null;
+    }
+
+    /**
+     * Returns the payload as a read-only buffer, without copying it.
+     *
+     * @return buffer which holds the payload
+     * @since 0.976.1
+     */
+    public ByteBuffer getBuffer() {
+        if (buffer == null) {
+            return ByteBuffer.wrap(value).asReadOnlyBuffer();
+        }
+        return buffer.asReadOnlyBuffer();
     }
 
     @Override
     public void serializeData(OutputStream outputStream) {
         try {
-            outputStream.write(value);
+            if (buffer == null) {
+                outputStream.write(value);
+            } else if (buffer.hasArray()) {
+                outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                // Direct and mapped buffers are written in chunks, rather than copying them as a whole
+                WritableByteChannel channel = Channels.newChannel(outputStream);
+                ByteBuffer content = buffer.duplicate();
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            }
         } catch (IOException e) {
             throw new BallerinaException("Error occurred while writing the binary payload to the output stream", e);
         }
@@ -56,16 +105,29 @@ public class BlobDataSource extends BallerinaMessageDataSource {
 
     @Override
     public String getMessageAsString() {
-        return new String(value, Charset.forName("UTF-8"));
+        if (buffer == null) {
+            return new String(value, Charset.forName("UTF-8"));
+        }
+        return Charset.forName("UTF-8").decode(buffer.duplicate()).toString();
     }
 
     @Override
     public BallerinaMessageDataSource clone() {
-        return new BlobDataSource(value.clone());
+        return new BlobDataSource(getValue().clone());
     }
 
     @Override
     public Object getDataObject() {
-        return this.value;
+        return getValue();
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
     }
 }
@@ -0,0 +1,62 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ElasticWorkerScheduler} executes tasks in an unbounded thread pool, which creates threads on demand and
+ * retires them when idle. This is meant for blocking native calls, where the number of threads should follow the
+ * number of calls in flight, rather than for Ballerina workers. The pool size is not applicable to this scheduler.
+ *
+ * @since 0.976.1
+ */
+public class ElasticWorkerScheduler implements WorkerScheduler {
+
+    public static final String NAME = "elastic";
+
+    private ExecutorService executor;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(int poolSize) {
+        this.executor = Executors.newCachedThreadPool(new BLangThreadFactory(new ThreadGroup("elastic"),
+                "elastic-thread-pool"));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.executor.submit(task);
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ForkJoinWorkerScheduler} executes workers in a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * Tasks spawned by a thread of the pool, e.g. the workers of a fork-join or a worker resumed by a native callback
+ * which completed in the pool, are pushed to the local queue of that thread, and idle threads steal from the other
+ * queues. This avoids the contention on the single shared queue of the thread pool scheduler. The pool runs in
+ * async mode, i.e. the local queues are processed in FIFO order, since the tasks are never joined.
+ * <p>
+ * The pool does not compensate for threads blocked in blocking native calls, hence the pool size should account
+ * for them.
+ *
+ * @since 0.976.1
+ */
+public class ForkJoinWorkerScheduler implements WorkerScheduler {
+
+    public static final String NAME = "forkjoin";
+
+    private ForkJoinPool workerPool;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(int poolSize) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workerPool = new ForkJoinPool(poolSize, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("worker-thread-pool-" + threadNumber.getAndIncrement());
+            return thread;
+        }, null, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.workerPool.submit(task);
+    }
+
+    @Override
+    public void executeLocal(Runnable task) {
+        Thread currentThread = Thread.currentThread();
+        if (currentThread instanceof ForkJoinWorkerThread
+                && ((ForkJoinWorkerThread) currentThread).getPool() == this.workerPool) {
+            ForkJoinTask.adapt(task).fork();
+        } else {
+            this.workerPool.submit(task);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.workerPool.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.workerPool.awaitTermination(timeout, unit);
+    }
+}
@@ -21,8 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.omg.PortableServer.ThreadPolicyOperations;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ServiceLoader;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
@@ -37,15 +36,43 @@ public class ThreadPoolFactory {
 
     private static final String WORKER_THREAD_POOL_SIZE_PROP = "b7a.runtime.scheduler.threadpoolsize";
 
+    private static final String WORKER_SCHEDULER_TYPE_PROP = "b7a.runtime.scheduler.type";
+
+    private static final String BLOCKING_NATIVE_SCHEDULER_TYPE_PROP = "b7a.runtime.scheduler.blocking.type";
+
     private static ThreadPoolFactory instance;
 
-    private ExecutorService workerExecutor;
+    private volatile WorkerScheduler workerScheduler;
+
+    private volatile WorkerScheduler blockingNativeScheduler;
 
     private ThreadPoolFactory() {
         int poolSize = this.extractThreadPoolSize();
-        this.workerExecutor = Executors.newFixedThreadPool(poolSize,
-                new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String schedulerType = configRegistry.getAsString(WORKER_SCHEDULER_TYPE_PROP);
+        if (schedulerType == null) {
+            this.workerScheduler = new ThreadPoolWorkerScheduler();
+        } else {
+            this.workerScheduler = this.loadWorkerScheduler(WORKER_SCHEDULER_TYPE_PROP, schedulerType);
+        }
+        this.workerScheduler.initialize(poolSize);
+        /* blocking native calls are executed in the worker threads, unless a separate scheduler is configured */
+        String blockingSchedulerType = configRegistry.getAsString(BLOCKING_NATIVE_SCHEDULER_TYPE_PROP);
+        if (blockingSchedulerType != null) {
+            this.blockingNativeScheduler = this.loadWorkerScheduler(BLOCKING_NATIVE_SCHEDULER_TYPE_PROP,
+                    blockingSchedulerType);
+            this.blockingNativeScheduler.initialize(poolSize);
+        }
     };
+
+    private WorkerScheduler loadWorkerScheduler(String configProp, String schedulerType) {
+        for (WorkerScheduler workerScheduler : ServiceLoader.load(WorkerScheduler.class)) {
+            if (schedulerType.equalsIgnoreCase(workerScheduler.getName())) {
+                return workerScheduler;
+            }
+        }
+        throw new BallerinaException("invalid value for '" + configProp + "': " + schedulerType);
+    }
     
     private int extractThreadPoolSize() {
         int poolSize = DEFAULT_THREAD_POOL_SIZE;
@@ -76,8 +103,38 @@ public class ThreadPoolFactory {
         return instance;
     }
 
-    public ExecutorService getWorkerExecutor() {
-        return workerExecutor;
+    public WorkerScheduler getWorkerScheduler() {
+        return workerScheduler;
+    }
+
+    /**
+     * Replaces the scheduler which executes workers. The given scheduler should already be initialized, and the
+     * replaced one is not shut down.
+     *
+     * @param workerScheduler the worker scheduler
+     */
+    public void setWorkerScheduler(WorkerScheduler workerScheduler) {
+        this.workerScheduler = workerScheduler;
+    }
+
+    /**
+     * Returns the scheduler which executes blocking native calls, if one is configured.
+     *
+     * @return the blocking native call scheduler, or null if blocking native calls are executed in the worker threads
+     */
+    public WorkerScheduler getBlockingNativeScheduler() {
+        return blockingNativeScheduler;
+    }
+
+    /**
+     * Replaces the scheduler which executes blocking native calls. The given scheduler should already be
+     * initialized, and the replaced one is not shut down.
+     *
+     * @param blockingNativeScheduler the blocking native call scheduler, or null to execute blocking native calls in
+     *                                the worker threads
+     */
+    public void setBlockingNativeScheduler(WorkerScheduler blockingNativeScheduler) {
+        this.blockingNativeScheduler = blockingNativeScheduler;
     }
 
 }
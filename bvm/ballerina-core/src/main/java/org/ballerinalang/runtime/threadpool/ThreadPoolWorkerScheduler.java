@@ -0,0 +1,61 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ThreadPoolWorkerScheduler} executes workers in a fixed size thread pool with a single shared queue. This is
+ * the default {@link WorkerScheduler}.
+ *
+ * @since 0.976.1
+ */
+public class ThreadPoolWorkerScheduler implements WorkerScheduler {
+
+    public static final String NAME = "threadpool";
+
+    private ExecutorService workerExecutor;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(int poolSize) {
+        this.workerExecutor = Executors.newFixedThreadPool(poolSize,
+                new BLangThreadFactory(new ThreadGroup("worker"), "worker-thread-pool"));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.workerExecutor.submit(task);
+    }
+
+    @Override
+    public void shutdown() {
+        this.workerExecutor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.workerExecutor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code VirtualThreadWorkerScheduler} executes each worker in its own virtual thread, on JDKs which support
+ * virtual threads. The pool size is not applicable to this scheduler.
+ * <p>
+ * Since Ballerina is built for Java 8, the virtual thread executor is looked up reflectively.
+ *
+ * @since 0.976.1
+ */
+public class VirtualThreadWorkerScheduler implements WorkerScheduler {
+
+    public static final String NAME = "virtual";
+
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private ExecutorService workerExecutor;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(int poolSize) {
+        try {
+            this.workerExecutor = (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY)
+                    .invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new BallerinaException("virtual threads are not supported in Java "
+                    + System.getProperty("java.version"));
+        } catch (InvocationTargetException e) {
+            throw new BallerinaException("error in creating the virtual thread executor: "
+                    + e.getCause().getMessage(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new BallerinaException("error in creating the virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.workerExecutor.submit(task);
+    }
+
+    @Override
+    public void shutdown() {
+        this.workerExecutor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.workerExecutor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code WorkerScheduler} is the service provider interface of the thread pools which execute Ballerina workers.
+ * <p>
+ * Implementations are loaded with {@link java.util.ServiceLoader}, and the one to be used is selected by its name
+ * with the "b7a.runtime.scheduler.type" configuration. The thread pool backed scheduler is used by default.
+ *
+ * @since 0.976.1
+ */
+public interface WorkerScheduler {
+
+    /**
+     * Returns the name of the scheduler, which is used to select it in the configuration.
+     *
+     * @return the name of the scheduler
+     */
+    String getName();
+
+    /**
+     * Initializes the scheduler. This is called once, before any task is executed.
+     *
+     * @param poolSize the configured worker thread pool size
+     */
+    void initialize(int poolSize);
+
+    /**
+     * Executes the given task.
+     *
+     * @param task the task to be executed
+     */
+    void execute(Runnable task);
+
+    /**
+     * Executes the given task, which is spawned by the current thread, e.g. a forked worker or a resumed worker.
+     * Schedulers which keep per thread queues should queue the task locally to the current thread, if it is one of
+     * the scheduler's threads.
+     *
+     * @param task the task to be executed
+     */
+    default void executeLocal(Runnable task) {
+        execute(task);
+    }
+
+    /**
+     * Initiates an orderly shutdown of the scheduler, in which previously submitted tasks are executed, but no new
+     * tasks are accepted.
+     */
+    void shutdown();
+
+    /**
+     * Blocks until all tasks have completed execution after a shutdown request, or the timeout occurs.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return true if the scheduler terminated, or false if the timeout elapsed before termination
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+}
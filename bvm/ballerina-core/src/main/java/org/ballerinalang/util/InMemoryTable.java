@@ -0,0 +1,369 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util;
+
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBlob;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code InMemoryTable} is the native row store of an in-memory table.
+ * <p>
+ * Rows are kept in insertion order, as arrays of column values in the order of the fields of the constraint type.
+ * Hash indexes are maintained for the primary key, which is enforced to be unique, and for each index column. Reads
+ * work on an immutable snapshot of the rows, which is shared until the table is modified.
+ *
+ * @since 0.976.1
+ */
+public class InMemoryTable {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final BStructureType type;
+    private final BField[] fields;
+    private final int[] primaryKeyColumns;
+    private final int[] indexColumns;
+
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<Object, Row> primaryKeyIndex;
+    private final List<Map<Object, List<Row>>> columnIndexes;
+    private int deletedCount;
+    private volatile Row[] snapshot;
+
+    public InMemoryTable(BStructureType type, BStringArray primaryKeys, BStringArray indexColumns) {
+        this.type = type;
+        this.fields = type.getFields();
+        for (BField field : fields) {
+            if (!isSupportedColumnType(field.getFieldType().getTag())) {
+                throw new BallerinaException("unsupported column type for table : " + field.getFieldType());
+            }
+        }
+        this.primaryKeyColumns = getColumnIndexes(primaryKeys);
+        this.indexColumns = getColumnIndexes(indexColumns);
+        this.primaryKeyIndex = primaryKeyColumns.length > 0 ? new HashMap<>() : null;
+        this.columnIndexes = new ArrayList<>(this.indexColumns.length);
+        for (int i = 0; i < this.indexColumns.length; i++) {
+            columnIndexes.add(new HashMap<>());
+        }
+    }
+
+    public BStructureType getType() {
+        return type;
+    }
+
+    public int getColumnCount() {
+        return fields.length;
+    }
+
+    /**
+     * Get the position of a column, where column names are matched ignoring the case, as they are in SQL.
+     *
+     * @param columnName name of the column
+     * @return position of the column, or -1 if there is no such column
+     */
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getFieldName().equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getColumnTypeTag(int column) {
+        return fields[column].getFieldType().getTag();
+    }
+
+    /**
+     * Add a record to the table. Values of the mutable types are copied, so that the table is not affected by later
+     * changes to the record.
+     *
+     * @param data record to be added, which is of the constraint type of the table
+     */
+    public void insert(BMap<String, BValue> data) {
+        BValue[] values = new BValue[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = copyValue(data.get(fields[i].getFieldName()));
+        }
+        insert(values);
+    }
+
+    /**
+     * Add a row of values, which are ordered as the columns of the table, and are not shared with anything else.
+     *
+     * @param values column values of the row
+     */
+    synchronized void insert(BValue[] values) {
+        Row row = new Row(values);
+        if (primaryKeyIndex != null) {
+            Object key = getKey(values, primaryKeyColumns);
+            if (primaryKeyIndex.containsKey(key)) {
+                throw new BallerinaException("Unique index or primary key violation: duplicate key " +
+                        getKeyString(values) + " for the table of type " + type.getName());
+            }
+            primaryKeyIndex.put(key, row);
+        }
+        for (int i = 0; i < indexColumns.length; i++) {
+            columnIndexes.get(i).computeIfAbsent(getKey(values[indexColumns[i]]), k -> new ArrayList<>(1)).add(row);
+        }
+        rows.add(row);
+        snapshot = null;
+    }
+
+    /**
+     * Remove the rows which have the same values as the given record.
+     *
+     * @param data record whose rows are to be removed
+     * @return number of removed rows
+     */
+    public synchronized int delete(BMap<String, BValue> data) {
+        Object[] keys = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            keys[i] = getKey(data.get(fields[i].getFieldName()));
+        }
+        List<Row> candidates;
+        if (primaryKeyIndex != null) {
+            Row row = primaryKeyIndex.get(primaryKeyColumns.length == 1 ? keys[primaryKeyColumns[0]] :
+                    getKey(keys, primaryKeyColumns));
+            candidates = row != null ? Collections.singletonList(row) : Collections.emptyList();
+        } else if (indexColumns.length > 0) {
+            candidates = columnIndexes.get(0).getOrDefault(keys[indexColumns[0]], Collections.emptyList());
+        } else {
+            candidates = rows;
+        }
+        List<Row> matchedRows = new ArrayList<>();
+        for (Row row : candidates) {
+            if (!row.deleted && matches(row, keys)) {
+                matchedRows.add(row);
+            }
+        }
+        for (Row row : matchedRows) {
+            remove(row);
+        }
+        if (deletedCount > rows.size() / 2) {
+            rows.removeIf(row -> row.deleted);
+            deletedCount = 0;
+        }
+        return matchedRows.size();
+    }
+
+    /**
+     * Get the rows of the table. The returned array must not be modified.
+     *
+     * @return rows of the table, in insertion order
+     */
+    public Row[] getRows() {
+        Row[] rows = snapshot;
+        if (rows == null) {
+            synchronized (this) {
+                rows = snapshot;
+                if (rows == null) {
+                    rows = new Row[this.rows.size() - deletedCount];
+                    int i = 0;
+                    for (Row row : this.rows) {
+                        if (!row.deleted) {
+                            rows[i++] = row;
+                        }
+                    }
+                    snapshot = rows;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Look up the rows which have the given value in a column, using the hash index of the column.
+     *
+     * @param column position of the column
+     * @param value  value of the column, as returned by {@link #getKey(BValue)}
+     * @return matching rows, or null if the column is not indexed
+     */
+    synchronized List<Row> lookup(int column, Object value) {
+        Map<Object, Row> rowsByKey = primaryKeyColumns.length == 1 && primaryKeyColumns[0] == column ?
+                primaryKeyIndex : null;
+        if (rowsByKey != null) {
+            Row row = rowsByKey.get(value);
+            return row != null ? Collections.singletonList(row) : Collections.emptyList();
+        }
+        for (int i = 0; i < indexColumns.length; i++) {
+            if (indexColumns[i] == column) {
+                return new ArrayList<>(columnIndexes.get(i).getOrDefault(value, Collections.emptyList()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the hash key of a column value. Values of the simple types are keyed by their Java values, and the rest by
+     * their string representation.
+     *
+     * @param value column value
+     * @return key of the value
+     */
+    static Object getKey(BValue value) {
+        if (value == null) {
+            return NULL_KEY;
+        }
+        switch (value.getType().getTag()) {
+            case TypeTags.INT_TAG:
+                return ((BInteger) value).intValue();
+            case TypeTags.FLOAT_TAG:
+                return ((BFloat) value).floatValue();
+            case TypeTags.STRING_TAG:
+                return value.stringValue() != null ? value.stringValue() : NULL_KEY;
+            case TypeTags.BOOLEAN_TAG:
+                return ((BBoolean) value).booleanValue();
+            case TypeTags.BLOB_TAG:
+                return ByteBuffer.wrap(((BBlob) value).blobValue());
+            default:
+                String stringValue = value.stringValue();
+                return stringValue != null ? stringValue : NULL_KEY;
+        }
+    }
+
+    private void remove(Row row) {
+        row.deleted = true;
+        deletedCount++;
+        if (primaryKeyIndex != null) {
+            primaryKeyIndex.remove(getKey(row.values, primaryKeyColumns));
+        }
+        for (int i = 0; i < indexColumns.length; i++) {
+            Object key = getKey(row.values[indexColumns[i]]);
+            List<Row> indexedRows = columnIndexes.get(i).get(key);
+            indexedRows.remove(row);
+            if (indexedRows.isEmpty()) {
+                columnIndexes.get(i).remove(key);
+            }
+        }
+        snapshot = null;
+    }
+
+    private boolean matches(Row row, Object[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (!keys[i].equals(getKey(row.values[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object getKey(BValue[] values, int[] columns) {
+        if (columns.length == 1) {
+            return getKey(values[columns[0]]);
+        }
+        Object[] keys = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            keys[i] = getKey(values[columns[i]]);
+        }
+        return Arrays.asList(keys);
+    }
+
+    private static Object getKey(Object[] keys, int[] columns) {
+        Object[] compositeKey = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            compositeKey[i] = keys[columns[i]];
+        }
+        return Arrays.asList(compositeKey);
+    }
+
+    private String getKeyString(BValue[] values) {
+        StringBuilder keyString = new StringBuilder("(");
+        String separator = "";
+        for (int column : primaryKeyColumns) {
+            keyString.append(separator).append(fields[column].getFieldName()).append(": ")
+                    .append(values[column] != null ? values[column].stringValue() : null);
+            separator = ", ";
+        }
+        return keyString.append(")").toString();
+    }
+
+    private int[] getColumnIndexes(BStringArray columnNames) {
+        if (columnNames == null) {
+            return new int[0];
+        }
+        int[] columns = new int[(int) columnNames.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = getColumnIndex(columnNames.get(i));
+            if (columns[i] < 0) {
+                throw new BallerinaException("column not found in table : " + columnNames.get(i));
+            }
+        }
+        return columns;
+    }
+
+    static boolean isSupportedColumnType(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.BLOB_TAG:
+            case TypeTags.ARRAY_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copy a value of a mutable type, so that the copy is not affected by the changes to the original value.
+     *
+     * @param value value to be copied
+     * @return copy of the value, or the value itself if it is immutable
+     */
+    static BValue copyValue(BValue value) {
+        if (value == null || value instanceof BInteger || value instanceof BFloat || value instanceof BString ||
+                value instanceof BBoolean || value instanceof BBlob) {
+            return value;
+        }
+        return value.copy();
+    }
+
+    /**
+     * A row of the table.
+     */
+    public static class Row {
+
+        final BValue[] values;
+        boolean deleted;
+
+        Row(BValue[] values) {
+            this.values = values;
+        }
+    }
+}
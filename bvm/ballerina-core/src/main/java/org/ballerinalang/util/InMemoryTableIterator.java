@@ -0,0 +1,168 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util;
+
+import org.ballerinalang.model.ColumnDefinition;
+import org.ballerinalang.model.DataIterator;
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBlob;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.List;
+
+/**
+ * Iterator implementation for the rows of an {@link InMemoryTable}. The rows are read from the snapshot of the table
+ * at the time the iterator is created.
+ *
+ * @since 0.976.1
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable.Row[] rows;
+    private final BStructureType type;
+    private final BField[] fields;
+    private List<ColumnDefinition> columnDefs;
+    private int cursor = -1;
+
+    public InMemoryTableIterator(InMemoryTable table) {
+        this.rows = table.getRows();
+        this.type = table.getType();
+        this.fields = type.getFields();
+    }
+
+    @Override
+    public boolean next() {
+        if (cursor < rows.length) {
+            cursor++;
+        }
+        return cursor < rows.length;
+    }
+
+    @Override
+    public void close(boolean isInTransaction) {
+        cursor = rows.length;
+    }
+
+    @Override
+    public void reset(boolean isInTransaction) {
+        close(isInTransaction);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null ? value.stringValue() : null;
+    }
+
+    @Override
+    public long getInt(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null ? ((BInteger) value).intValue() : 0;
+    }
+
+    @Override
+    public double getFloat(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null ? ((BFloat) value).floatValue() : 0;
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null && ((BBoolean) value).booleanValue();
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null ? new String(((BBlob) value).blobValue()) : null;
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // Columns of structured types are not supported by in-memory tables
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        BValue value = getValue(columnIndex);
+        return value != null ? TableUtils.getArrayData(value) : null;
+    }
+
+    @Override
+    public BMap<String, BValue> generateNext() {
+        BMap<String, BValue> bStruct = new BMap<>(type);
+        BValue[] values = rows[cursor].values;
+        for (int i = 0; i < fields.length; i++) {
+            BValue value = values[i];
+            if (value == null) {
+                value = getNullValue(fields[i].getFieldType().getTag());
+            } else {
+                value = InMemoryTable.copyValue(value);
+            }
+            bStruct.put(fields[i].fieldName, value);
+        }
+        return bStruct;
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        if (columnDefs == null) {
+            columnDefs = TableUtils.generateColumnDefinitions(type);
+        }
+        return columnDefs;
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return type;
+    }
+
+    private BValue getValue(int columnIndex) {
+        return rows[cursor].values[columnIndex - 1];
+    }
+
+    /**
+     * Get the value which a null column value is read as, which is the same as when it is read from a SQL result set.
+     *
+     * @param typeTag type of the column
+     * @return value of a null column
+     */
+    private static BValue getNullValue(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+                return new BInteger(0);
+            case TypeTags.FLOAT_TAG:
+                return new BFloat(0);
+            case TypeTags.BOOLEAN_TAG:
+                return new BBoolean(false);
+            case TypeTags.STRING_TAG:
+                return new BString(null);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util;
+
+import org.ballerinalang.util.TableQuery.QueryContext;
+import org.ballerinalang.util.TableQuery.QueryScope;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.List;
+
+/**
+ * An expression of a table query, as parsed from the SQL which is generated for the query. Expressions are bound to
+ * the tables of a query execution, which gives the {@link Evaluator} to compute their values for the rows.
+ * <p>
+ * Values are the Java values of the columns, i.e. {@code Long}, {@code Double}, {@code String}, {@code Boolean} or
+ * null, while the values of the other types are kept as they are, and can only be selected. Operations follow the SQL
+ * semantics, where null propagates through operators. Operations which do not map to these semantics throw an
+ * {@link UnsupportedQueryException}, so that the query is executed by the database instead.
+ *
+ * @since 0.976.1
+ */
+abstract class QueryExpression {
+
+    /**
+     * Bind the expression to the columns and the parameters of a query execution.
+     *
+     * @param scope scope of the query execution
+     * @return evaluator of the expression
+     */
+    abstract Evaluator bind(QueryScope scope);
+
+    /**
+     * Whether the expression contains an aggregate function, hence is evaluated over a group of rows.
+     *
+     * @return true if the expression contains an aggregate function
+     */
+    boolean isAggregate() {
+        return false;
+    }
+
+    /**
+     * Computes the value of an expression in a {@link QueryContext}.
+     */
+    interface Evaluator {
+
+        Object evaluate(QueryContext context);
+    }
+
+    /**
+     * Thrown when a query, or a part of it, cannot be executed natively.
+     */
+    static class UnsupportedQueryException extends RuntimeException {
+
+        UnsupportedQueryException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * A reference to a column, which is optionally qualified with the alias of a table.
+     */
+    static class ColumnRef extends QueryExpression {
+
+        final String qualifier;
+        final String name;
+
+        ColumnRef(String qualifier, String name) {
+            this.qualifier = qualifier;
+            this.name = name;
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            int column = scope.resolveColumn(qualifier, name);
+            if (column >= 0) {
+                return context -> context.row[column];
+            }
+            int outputColumn = qualifier == null ? scope.resolveOutputColumn(name) : -1;
+            if (outputColumn >= 0) {
+                return context -> context.output[outputColumn];
+            }
+            throw new UnsupportedQueryException("column not found : " + name);
+        }
+    }
+
+    /**
+     * A constant, or a parameter of the query.
+     */
+    static class Constant extends QueryExpression {
+
+        private final Object value;
+        private final int paramIndex;
+
+        Constant(Object value) {
+            this.value = value;
+            this.paramIndex = -1;
+        }
+
+        Constant(int paramIndex) {
+            this.value = null;
+            this.paramIndex = paramIndex;
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Object constant = paramIndex >= 0 ? scope.getParam(paramIndex) : value;
+            return context -> constant;
+        }
+
+        Object getValue(QueryScope scope) {
+            return paramIndex >= 0 ? scope.getParam(paramIndex) : value;
+        }
+    }
+
+    /**
+     * An arithmetic, comparison or logical operation of two expressions.
+     */
+    static class Binary extends QueryExpression {
+
+        final String operator;
+        final QueryExpression lhs;
+        final QueryExpression rhs;
+
+        Binary(String operator, QueryExpression lhs, QueryExpression rhs) {
+            this.operator = operator;
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        boolean isAggregate() {
+            return lhs.isAggregate() || rhs.isAggregate();
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Evaluator lhsEvaluator = lhs.bind(scope);
+            Evaluator rhsEvaluator = rhs.bind(scope);
+            switch (operator) {
+                case "and":
+                    return context -> and(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context));
+                case "or":
+                    return context -> or(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context));
+                case "=":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result == 0);
+                case "!=":
+                case "<>":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result != 0);
+                case "<":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result < 0);
+                case "<=":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result <= 0);
+                case ">":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result > 0);
+                case ">=":
+                    return context -> comparison(lhsEvaluator.evaluate(context), rhsEvaluator.evaluate(context),
+                            result -> result >= 0);
+                case "+":
+                case "-":
+                case "*":
+                case "/":
+                case "%":
+                    return context -> arithmetic(operator, lhsEvaluator.evaluate(context),
+                            rhsEvaluator.evaluate(context));
+                default:
+                    throw new UnsupportedQueryException("unsupported operator : " + operator);
+            }
+        }
+    }
+
+    /**
+     * Logical negation of an expression.
+     */
+    static class Not extends QueryExpression {
+
+        private final QueryExpression expr;
+
+        Not(QueryExpression expr) {
+            this.expr = expr;
+        }
+
+        @Override
+        boolean isAggregate() {
+            return expr.isAggregate();
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Evaluator evaluator = expr.bind(scope);
+            return context -> {
+                Object value = evaluator.evaluate(context);
+                return value == null ? null : !toBoolean(value);
+            };
+        }
+    }
+
+    /**
+     * Arithmetic negation of an expression.
+     */
+    static class Negate extends QueryExpression {
+
+        private final QueryExpression expr;
+
+        Negate(QueryExpression expr) {
+            this.expr = expr;
+        }
+
+        @Override
+        boolean isAggregate() {
+            return expr.isAggregate();
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Evaluator evaluator = expr.bind(scope);
+            return context -> arithmetic("-", 0L, evaluator.evaluate(context));
+        }
+    }
+
+    /**
+     * The power function.
+     */
+    static class Power extends QueryExpression {
+
+        private final QueryExpression base;
+        private final QueryExpression exponent;
+
+        Power(QueryExpression base, QueryExpression exponent) {
+            this.base = base;
+            this.exponent = exponent;
+        }
+
+        @Override
+        boolean isAggregate() {
+            return base.isAggregate() || exponent.isAggregate();
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Evaluator baseEvaluator = base.bind(scope);
+            Evaluator exponentEvaluator = exponent.bind(scope);
+            return context -> {
+                Object baseValue = baseEvaluator.evaluate(context);
+                Object exponentValue = exponentEvaluator.evaluate(context);
+                if (baseValue == null || exponentValue == null) {
+                    return null;
+                }
+                return Math.pow(toNumber(baseValue).doubleValue(), toNumber(exponentValue).doubleValue());
+            };
+        }
+    }
+
+    /**
+     * An aggregate function, which is computed over the rows of a group. The argument is null for "count(*)".
+     */
+    static class Aggregate extends QueryExpression {
+
+        private final String function;
+        private final QueryExpression arg;
+
+        Aggregate(String function, QueryExpression arg) {
+            this.function = function;
+            this.arg = arg;
+            if (arg != null && arg.isAggregate()) {
+                throw new UnsupportedQueryException("nested aggregate function : " + function);
+            }
+        }
+
+        @Override
+        boolean isAggregate() {
+            return true;
+        }
+
+        @Override
+        Evaluator bind(QueryScope scope) {
+            Evaluator evaluator = arg != null ? arg.bind(scope) : context -> Boolean.TRUE;
+            return context -> {
+                if (context.group == null) {
+                    throw new BallerinaException("invalid use of aggregate function : " + function);
+                }
+                Object[] currentRow = context.row;
+                try {
+                    return aggregate(context, evaluator);
+                } finally {
+                    context.row = currentRow;
+                }
+            };
+        }
+
+        private Object aggregate(QueryContext context, Evaluator evaluator) {
+            long count = 0;
+            Object result = null;
+            for (Object[] row : context.group) {
+                context.row = row;
+                Object value = evaluator.evaluate(context);
+                if (value == null) {
+                    continue;
+                }
+                count++;
+                switch (function) {
+                    case "sum":
+                    case "avg":
+                        result = result == null ? toNumber(value) : arithmetic("+", result, value);
+                        break;
+                    case "min":
+                        result = result == null || compare(value, result) < 0 ? value : result;
+                        break;
+                    case "max":
+                        result = result == null || compare(value, result) > 0 ? value : result;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            switch (function) {
+                case "count":
+                    return count;
+                case "avg":
+                    // The average has the type of the values, as in SQL
+                    return result == null ? null : arithmetic("/", result, count);
+                default:
+                    return result;
+            }
+        }
+    }
+
+    /**
+     * Predicate on the result of a comparison.
+     */
+    private interface ComparisonPredicate {
+
+        boolean test(int result);
+    }
+
+    private static Object comparison(Object lhs, Object rhs, ComparisonPredicate predicate) {
+        if (lhs == null || rhs == null) {
+            return null;
+        }
+        return predicate.test(compare(lhs, rhs));
+    }
+
+    /**
+     * Compare two non null values.
+     *
+     * @param lhs value to be compared
+     * @param rhs value to be compared with
+     * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater
+     * than the second
+     */
+    static int compare(Object lhs, Object rhs) {
+        if (lhs instanceof Long && rhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        }
+        if (lhs instanceof Number && rhs instanceof Number) {
+            return Double.compare(((Number) lhs).doubleValue(), ((Number) rhs).doubleValue());
+        }
+        if (lhs instanceof String && rhs instanceof String) {
+            return ((String) lhs).compareTo((String) rhs);
+        }
+        if (lhs instanceof Boolean && rhs instanceof Boolean) {
+            return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+        }
+        throw new UnsupportedQueryException("unsupported comparison of " + lhs.getClass().getSimpleName() + " and "
+                + rhs.getClass().getSimpleName());
+    }
+
+    private static Object arithmetic(String operator, Object lhs, Object rhs) {
+        if (lhs == null || rhs == null) {
+            return null;
+        }
+        Number lhsNumber = toNumber(lhs);
+        Number rhsNumber = toNumber(rhs);
+        if (lhsNumber instanceof Long && rhsNumber instanceof Long) {
+            long lhsValue = lhsNumber.longValue();
+            long rhsValue = rhsNumber.longValue();
+            switch (operator) {
+                case "+":
+                    return lhsValue + rhsValue;
+                case "-":
+                    return lhsValue - rhsValue;
+                case "*":
+                    return lhsValue * rhsValue;
+                case "/":
+                    checkDivisor(rhsValue);
+                    return lhsValue / rhsValue;
+                default:
+                    checkDivisor(rhsValue);
+                    return lhsValue % rhsValue;
+            }
+        }
+        double lhsValue = lhsNumber.doubleValue();
+        double rhsValue = rhsNumber.doubleValue();
+        switch (operator) {
+            case "+":
+                return lhsValue + rhsValue;
+            case "-":
+                return lhsValue - rhsValue;
+            case "*":
+                return lhsValue * rhsValue;
+            case "/":
+                checkDivisor(rhsValue);
+                return lhsValue / rhsValue;
+            default:
+                checkDivisor(rhsValue);
+                return lhsValue % rhsValue;
+        }
+    }
+
+    private static void checkDivisor(double divisor) {
+        if (divisor == 0) {
+            throw new BallerinaException("Division by zero");
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Long || value instanceof Double) {
+            return (Number) value;
+        }
+        throw new UnsupportedQueryException("unsupported numeric operand : " + value.getClass().getSimpleName());
+    }
+
+    static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw new UnsupportedQueryException("unsupported boolean operand : " + value.getClass().getSimpleName());
+    }
+
+    private static Object and(Object lhs, Object rhs) {
+        if (lhs != null && !toBoolean(lhs) || rhs != null && !toBoolean(rhs)) {
+            return false;
+        }
+        return lhs == null || rhs == null ? null : Boolean.TRUE;
+    }
+
+    private static Object or(Object lhs, Object rhs) {
+        if (lhs != null && toBoolean(lhs) || rhs != null && toBoolean(rhs)) {
+            return true;
+        }
+        return lhs == null || rhs == null ? null : Boolean.FALSE;
+    }
+
+    /**
+     * Split an expression into the conditions which are combined with "and".
+     *
+     * @param expr       expression to be split
+     * @param conditions list which the conditions are added to
+     */
+    static void splitConditions(QueryExpression expr, List<QueryExpression> conditions) {
+        if (expr instanceof Binary && "and".equals(((Binary) expr).operator)) {
+            splitConditions(((Binary) expr).lhs, conditions);
+            splitConditions(((Binary) expr).rhs, conditions);
+        } else {
+            conditions.add(expr);
+        }
+    }
+}
@@ -24,7 +24,6 @@ import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.BUnionType;
-import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBlob;
 import org.ballerinalang.model.values.BBoolean;
@@ -77,7 +76,7 @@ public class TableIterator implements DataIterator {
         this.resourceManager = rm;
         this.rs = rs;
         this.type = type;
-        generateColumnDefinitions();
+        this.columnDefs = TableUtils.generateColumnDefinitions(type);
     }
 
     @Override
@@ -403,43 +402,6 @@ public class TableIterator implements DataIterator {
         return arrayElementAttributes;
     }
 
-    private void generateColumnDefinitions() {
-        BField[] structFields = this.type.getFields();
-        columnDefs = new ArrayList<>(structFields.length);
-        for (BField sf : structFields) {
-            BType type = sf.getFieldType();
-            TypeKind typeKind = TypeKind.ANY;
-            switch (type.getTag()) {
-            case TypeTags.INT_TAG:
-                typeKind = TypeKind.INT;
-                break;
-            case TypeTags.STRING_TAG:
-                typeKind = TypeKind.STRING;
-                break;
-            case TypeTags.FLOAT_TAG:
-                typeKind = TypeKind.FLOAT;
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                typeKind = TypeKind.BOOLEAN;
-                break;
-            case TypeTags.JSON_TAG:
-                typeKind = TypeKind.JSON;
-                break;
-            case TypeTags.XML_TAG:
-                typeKind = TypeKind.XML;
-                break;
-            case TypeTags.BLOB_TAG:
-                typeKind = TypeKind.BLOB;
-                break;
-            case TypeTags.ARRAY_TAG:
-                typeKind = TypeKind.ARRAY;
-                break;
-            }
-            ColumnDefinition def = new ColumnDefinition(sf.fieldName, typeKind);
-            columnDefs.add(def);
-        }
-    }
-
     private static class ArrayElementAttributes {
         private Object firstNonNullElement;
         private boolean containsNull;
@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.util;
 
+import org.ballerinalang.model.DataIterator;
 import org.ballerinalang.model.types.BField;
 import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BType;
@@ -26,6 +27,7 @@ import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BRefValueArray;
 import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.QueryExpression.UnsupportedQueryException;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.ByteArrayInputStream;
@@ -35,9 +37,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * {@code TableProvider} creates In Memory database for tables.
+ * {@code TableProvider} creates the in memory tables, and executes the operations and the queries on them.
+ * <p>
+ * Tables are kept in {@link InMemoryTable}s, and queries are executed natively by {@link TableQuery}. Queries which
+ * cannot be executed natively are executed in the in memory database, by copying the tables into it for the duration
+ * of the query.
  *
  * @since 0.963.0
  */
@@ -45,11 +53,9 @@ public class TableProvider {
 
     private static TableProvider tableProvider = null;
     private int tableID;
-    private int indexID;
 
     private TableProvider() {
         tableID = 0;
-        indexID = 0;
     }
 
     public static TableProvider getInstance() {
@@ -68,59 +74,92 @@ public class TableProvider {
         return this.tableID++;
     }
 
-    private synchronized int getIndexID() {
-        return this.indexID++;
+    public InMemoryTable createTable(BType constrainedType, BStringArray primaryKeys, BStringArray indexeColumns) {
+        return new InMemoryTable((BStructureType) constrainedType, primaryKeys, indexeColumns);
     }
 
-    public String createTable(BType constrainedType, BStringArray primaryKeys, BStringArray indexeColumns) {
-        String tableName = TableConstants.TABLE_PREFIX + (constrainedType).getName()
-                .toUpperCase() + "_" + getTableID();
-        String sqlStmt = generateCreateTableStatment(tableName, constrainedType, primaryKeys);
-        executeStatement(sqlStmt);
-
-        //Add Index Data
-        if (indexeColumns != null) {
-            generateIndexesForTable(tableName, indexeColumns);
+    public InMemoryTable createTable(InMemoryTable fromTable, InMemoryTable joinTable, String query,
+                                     BStructureType tableType, BRefValueArray params) {
+        TableQuery tableQuery = TableQuery.compile(query);
+        if (tableQuery.isSupported()) {
+            try {
+                return tableQuery.execute(fromTable, joinTable, tableType, params);
+            } catch (UnsupportedQueryException e) {
+                // Fall back to the database
+            }
         }
-        return tableName;
+        return executeQuery(fromTable, joinTable, query, tableType, params);
     }
 
+    public InMemoryTable createTable(InMemoryTable fromTable, String query, BStructureType tableType,
+                                     BRefValueArray params) {
+        return createTable(fromTable, null, query, tableType, params);
+    }
 
-    public String createTable(String fromTableName, String joinTableName,  String query, BStructureType tableType,
-                              BRefValueArray params) {
-        String newTableName = TableConstants.TABLE_PREFIX + tableType.getName().toUpperCase()
-                           + "_" + getTableID();
-        String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX, fromTableName);
-        if (joinTableName != null && !joinTableName.isEmpty()) {
-            sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX, joinTableName);
-        }
-        sqlStmt = generateCreateTableStatment(sqlStmt, newTableName);
-        prepareAndExecuteStatement(sqlStmt, params);
-        return newTableName;
+    public void insertData(InMemoryTable table, BMap<String, BValue> constrainedType) {
+        table.insert(constrainedType);
     }
 
-    public String createTable(String fromTableName, String query, BStructureType tableType,
-                              BRefValueArray params) {
-        return createTable(fromTableName, null, query, tableType, params);
+    public void deleteData(InMemoryTable table, BMap<String, BValue> constrainedType) {
+        table.delete(constrainedType);
     }
 
-    public String insertData(String tableName, BMap<String, BValue> constrainedType) {
-        String sqlStmt = TableUtils.generateInsertDataStatment(tableName, constrainedType);
-        prepareAndExecuteStatement(sqlStmt, constrainedType);
-        return tableName;
+    public DataIterator createIterator(InMemoryTable table) {
+        return new InMemoryTableIterator(table);
     }
 
-    public void deleteData(String tableName, BMap<String, BValue> constrainedType) {
-        String sqlStmt = TableUtils.generateDeleteDataStatment(tableName, constrainedType);
-        prepareAndExecuteStatement(sqlStmt, constrainedType);
+    /**
+     * Execute a query in the in memory database.
+     */
+    private InMemoryTable executeQuery(InMemoryTable fromTable, InMemoryTable joinTable, String query,
+                                       BStructureType tableType, BRefValueArray params) {
+        List<String> tableNames = new ArrayList<>(3);
+        try {
+            String fromTableName = copyTable(fromTable);
+            tableNames.add(fromTableName);
+            String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX, fromTableName);
+            if (joinTable != null) {
+                String joinTableName = copyTable(joinTable);
+                tableNames.add(joinTableName);
+                sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX, joinTableName);
+            }
+            String newTableName = TableConstants.TABLE_PREFIX + tableType.getName().toUpperCase() + "_"
+                    + getTableID();
+            prepareAndExecuteStatement(generateCreateTableStatment(sqlStmt, newTableName), params);
+            tableNames.add(newTableName);
+            InMemoryTable table = new InMemoryTable(tableType, null, null);
+            TableIterator itr = createIterator(newTableName, tableType);
+            try {
+                while (itr.next()) {
+                    table.insert(itr.generateNext());
+                }
+            } finally {
+                itr.close(false);
+            }
+            return table;
+        } finally {
+            for (String tableName : tableNames) {
+                executeStatement(TableConstants.SQL_DROP + tableName);
+            }
+        }
     }
 
-    public void dropTable(String tableName) {
-        String sqlStmt = TableConstants.SQL_DROP + tableName;
-        executeStatement(sqlStmt);
+    private String copyTable(InMemoryTable table) {
+        BStructureType type = table.getType();
+        String tableName = TableConstants.TABLE_PREFIX + type.getName().toUpperCase() + "_" + getTableID();
+        executeStatement(generateCreateTableStatment(tableName, type, null));
+        BField[] fields = type.getFields();
+        for (InMemoryTable.Row row : table.getRows()) {
+            BMap<String, BValue> data = new BMap<>(type);
+            for (int i = 0; i < fields.length; i++) {
+                data.put(fields[i].getFieldName(), row.values[i]);
+            }
+            prepareAndExecuteStatement(TableUtils.generateInsertDataStatment(tableName, data), data);
+        }
+        return tableName;
     }
 
-    public TableIterator createIterator(String tableName, BStructureType type) {
+    private TableIterator createIterator(String tableName, BStructureType type) {
         TableIterator itr;
         Statement stmt = null;
         Connection conn = this.getConnection();
@@ -209,20 +248,6 @@ public class TableProvider {
         return sb.toString();
     }
 
-    private void generateIndexesForTable(String tableName, BStringArray indexColumns) {
-        int indexCount = (int) indexColumns.size();
-        if (indexCount > 0) {
-            for (int i = 0; i < indexCount; i++) {
-                StringBuilder sb = new StringBuilder();
-                String columnName = indexColumns.get(i);
-                sb.append(TableConstants.SQL_CREATE_INDEX).append(TableConstants.INDEX).append(columnName)
-                        .append(getIndexID()).append(TableConstants.SQL_ON).append(tableName).append("(")
-                        .append(columnName).append(")");
-                executeStatement(sb.toString());
-            }
-        }
-    }
-
     private void executeStatement(String queryStatement) {
         Statement stmt = null;
         Connection conn = this.getConnection();
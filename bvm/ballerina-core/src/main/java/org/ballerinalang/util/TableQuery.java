@@ -0,0 +1,662 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util;
+
+import org.ballerinalang.model.types.BField;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeTags;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BRefValueArray;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BXMLItem;
+import org.ballerinalang.util.QueryExpression.Evaluator;
+import org.ballerinalang.util.QueryExpression.UnsupportedQueryException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table query which is executed on {@link InMemoryTable}s, without going through a database.
+ * <p>
+ * The SQL which the compiler generates for a query is parsed once, and the parsed query is cached by the SQL, as the
+ * queries of a program are constants. Each execution binds the parsed query to the tables and the parameters, and
+ * evaluates it as follows.
+ * <ul>
+ * <li>Rows of each table are filtered by its where clause. A condition which compares an indexed column with a
+ * constant is looked up in the hash index of the column, instead of scanning the table.</li>
+ * <li>Joins use a hash table of the joined rows when the join condition compares columns of the two tables for
+ * equality, and otherwise compare every pair of rows.</li>
+ * <li>Rows are then grouped, filtered by the having clause, projected, ordered and limited.</li>
+ * </ul>
+ * Queries which are not supported natively, such as the ones which call functions, are reported with
+ * {@link #isSupported()} or an {@link UnsupportedQueryException}, and are executed by the database instead.
+ *
+ * @since 0.976.1
+ */
+class TableQuery {
+
+    private static final int MAX_CACHED_QUERIES = 1024;
+    private static final TableQuery UNSUPPORTED = new TableQuery();
+    private static final Map<String, TableQuery> QUERY_CACHE = new ConcurrentHashMap<>();
+
+    final List<QueryExpression> selectItems = new ArrayList<>();
+    final List<String> selectAliases = new ArrayList<>();
+    Source from;
+    Source join;
+    QueryExpression joinCondition;
+    final List<QueryExpression> groupBy = new ArrayList<>();
+    QueryExpression having;
+    final List<QueryExpression> orderBy = new ArrayList<>();
+    final List<Boolean> descending = new ArrayList<>();
+    long limit = -1;
+    int paramCount;
+
+    /**
+     * Get the parsed query of the given SQL.
+     *
+     * @param query SQL of the query
+     * @return parsed query, which is not supported if the query cannot be executed natively
+     */
+    static TableQuery compile(String query) {
+        TableQuery tableQuery = QUERY_CACHE.get(query);
+        if (tableQuery == null) {
+            try {
+                tableQuery = new TableQueryParser(query).parse();
+            } catch (UnsupportedQueryException e) {
+                tableQuery = UNSUPPORTED;
+            }
+            if (QUERY_CACHE.size() >= MAX_CACHED_QUERIES) {
+                QUERY_CACHE.clear();
+            }
+            QUERY_CACHE.put(query, tableQuery);
+        }
+        return tableQuery;
+    }
+
+    boolean isSupported() {
+        return this != UNSUPPORTED;
+    }
+
+    /**
+     * Execute the query.
+     *
+     * @param fromTable table of the from clause
+     * @param joinTable table of the join clause, or null
+     * @param type      constraint type of the result
+     * @param params    parameters of the query
+     * @return result of the query
+     * @throws UnsupportedQueryException if the query cannot be executed natively for the given tables and parameters
+     */
+    InMemoryTable execute(InMemoryTable fromTable, InMemoryTable joinTable, BStructureType type,
+                          BRefValueArray params) {
+        Object[] paramValues = getParamValues(params);
+        List<Object[]> rows = scan(from, fromTable, paramValues);
+        QueryScope scope = new QueryScope(paramValues);
+        scope.addSource(from.alias, fromTable);
+        if (join != null) {
+            scope.addSource(join.alias, joinTable);
+            rows = join(rows, scan(join, joinTable, paramValues), scope);
+        }
+        BField[] fields = type.getFields();
+        int outputWidth = selectItems.isEmpty() ? scope.width : selectItems.size();
+        if (fields.length != outputWidth) {
+            throw new UnsupportedQueryException("result has " + outputWidth + " columns for " + fields.length
+                    + " fields");
+        }
+        List<Result> results = selectItems.isEmpty() ? selectAll(rows, scope) : select(rows, scope);
+        if (!orderBy.isEmpty()) {
+            results.sort(getResultComparator());
+        }
+        InMemoryTable result = new InMemoryTable(type, null, null);
+        long count = 0;
+        for (Result row : results) {
+            if (limit >= 0 && count++ >= limit) {
+                break;
+            }
+            BValue[] values = new BValue[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = toBValue(row.output[i], fields[i].getFieldType());
+            }
+            result.insert(values);
+        }
+        return result;
+    }
+
+    private Object[] getParamValues(BRefValueArray params) {
+        int paramCount = params != null ? (int) params.size() : 0;
+        if (paramCount != this.paramCount) {
+            throw new UnsupportedQueryException("query has " + this.paramCount + " parameters, but " + paramCount
+                    + " were given");
+        }
+        Object[] values = new Object[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            BRefType param = params.get(i);
+            if (param == null) {
+                continue;
+            }
+            switch (param.getType().getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    values[i] = param.value();
+                    break;
+                default:
+                    throw new UnsupportedQueryException("unsupported parameter type : " + param.getType());
+            }
+        }
+        return values;
+    }
+
+    private List<Object[]> scan(Source source, InMemoryTable table, Object[] paramValues) {
+        InMemoryTable.Row[] rows = table.getRows();
+        if (source.where == null) {
+            List<Object[]> result = new ArrayList<>(rows.length);
+            for (InMemoryTable.Row row : rows) {
+                result.add(toJava(row));
+            }
+            return result;
+        }
+        QueryScope scope = new QueryScope(paramValues);
+        scope.addSource(null, table);
+        Evaluator where = source.where.bind(scope);
+        IndexedRows candidates = lookup(source.where, scope, table);
+        List<Object[]> result = new ArrayList<>();
+        QueryContext context = new QueryContext();
+        for (InMemoryTable.Row row : candidates != null ? candidates.rows : Arrays.asList(rows)) {
+            context.row = toJava(row);
+            if (Boolean.TRUE.equals(where.evaluate(context))) {
+                result.add(context.row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the candidate rows of a where clause with a hash index, when the where clause requires an indexed column
+     * to be equal to a constant.
+     */
+    private static IndexedRows lookup(QueryExpression where, QueryScope scope, InMemoryTable table) {
+        List<QueryExpression> conditions = new ArrayList<>();
+        QueryExpression.splitConditions(where, conditions);
+        for (QueryExpression condition : conditions) {
+            if (!(condition instanceof QueryExpression.Binary) ||
+                    !"=".equals(((QueryExpression.Binary) condition).operator)) {
+                continue;
+            }
+            QueryExpression lhs = ((QueryExpression.Binary) condition).lhs;
+            QueryExpression rhs = ((QueryExpression.Binary) condition).rhs;
+            if (rhs instanceof QueryExpression.ColumnRef) {
+                QueryExpression temp = lhs;
+                lhs = rhs;
+                rhs = temp;
+            }
+            if (!(lhs instanceof QueryExpression.ColumnRef) || !(rhs instanceof QueryExpression.Constant)) {
+                continue;
+            }
+            QueryExpression.ColumnRef columnRef = (QueryExpression.ColumnRef) lhs;
+            int column = scope.resolveColumn(columnRef.qualifier, columnRef.name);
+            if (column < 0) {
+                continue;
+            }
+            Object key = getIndexKey(table.getColumnTypeTag(column),
+                    ((QueryExpression.Constant) rhs).getValue(scope));
+            List<InMemoryTable.Row> rows = key != null ? table.lookup(column, key) : null;
+            if (rows != null) {
+                return new IndexedRows(rows);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the index key of a constant, which is compared with a column of the given type, or null if the index of the
+     * column cannot be used for the constant.
+     */
+    private static Object getIndexKey(int typeTag, Object value) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+                if (value instanceof Long) {
+                    return value;
+                }
+                if (value instanceof Double && (Double) value == Math.rint((Double) value)) {
+                    return ((Double) value).longValue();
+                }
+                return null;
+            case TypeTags.FLOAT_TAG:
+                return value instanceof Long || value instanceof Double ? ((Number) value).doubleValue() : null;
+            case TypeTags.STRING_TAG:
+                return value instanceof String ? value : null;
+            case TypeTags.BOOLEAN_TAG:
+                return value instanceof Boolean ? value : null;
+            default:
+                return null;
+        }
+    }
+
+    private List<Object[]> join(List<Object[]> fromRows, List<Object[]> joinRows, QueryScope scope) {
+        Evaluator condition = joinCondition.bind(scope);
+        int fromWidth = scope.width - scope.sources.get(1).table.getColumnCount();
+        int[] equiJoinColumns = getEquiJoinColumns(scope, fromWidth);
+        List<Object[]> result = new ArrayList<>();
+        QueryContext context = new QueryContext();
+        if (equiJoinColumns != null) {
+            Map<Object, List<Object[]>> joinRowsByKey = new HashMap<>();
+            for (Object[] joinRow : joinRows) {
+                Object key = getJoinKey(joinRow[equiJoinColumns[1] - fromWidth]);
+                if (key != null) {
+                    joinRowsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(joinRow);
+                }
+            }
+            for (Object[] fromRow : fromRows) {
+                Object key = getJoinKey(fromRow[equiJoinColumns[0]]);
+                joinRows = key != null ? joinRowsByKey.getOrDefault(key, Collections.emptyList()) :
+                        Collections.emptyList();
+                join(fromRow, joinRows, condition, context, result);
+            }
+        } else {
+            for (Object[] fromRow : fromRows) {
+                join(fromRow, joinRows, condition, context, result);
+            }
+        }
+        return result;
+    }
+
+    private static void join(Object[] fromRow, List<Object[]> joinRows, Evaluator condition, QueryContext context,
+                             List<Object[]> result) {
+        for (Object[] joinRow : joinRows) {
+            Object[] row = Arrays.copyOf(fromRow, fromRow.length + joinRow.length);
+            System.arraycopy(joinRow, 0, row, fromRow.length, joinRow.length);
+            context.row = row;
+            if (Boolean.TRUE.equals(condition.evaluate(context))) {
+                result.add(row);
+            }
+        }
+    }
+
+    /**
+     * Find a condition of the join which compares a column of the from table with a column of the joined table for
+     * equality.
+     *
+     * @return positions of the from column and the joined column, or null if there is no such condition
+     */
+    private int[] getEquiJoinColumns(QueryScope scope, int fromWidth) {
+        List<QueryExpression> conditions = new ArrayList<>();
+        QueryExpression.splitConditions(joinCondition, conditions);
+        for (QueryExpression condition : conditions) {
+            if (!(condition instanceof QueryExpression.Binary) ||
+                    !"=".equals(((QueryExpression.Binary) condition).operator) ||
+                    !(((QueryExpression.Binary) condition).lhs instanceof QueryExpression.ColumnRef) ||
+                    !(((QueryExpression.Binary) condition).rhs instanceof QueryExpression.ColumnRef)) {
+                continue;
+            }
+            QueryExpression.ColumnRef lhs = (QueryExpression.ColumnRef) ((QueryExpression.Binary) condition).lhs;
+            QueryExpression.ColumnRef rhs = (QueryExpression.ColumnRef) ((QueryExpression.Binary) condition).rhs;
+            int lhsColumn = scope.resolveColumn(lhs.qualifier, lhs.name);
+            int rhsColumn = scope.resolveColumn(rhs.qualifier, rhs.name);
+            if (lhsColumn < 0 || rhsColumn < 0) {
+                continue;
+            }
+            if (lhsColumn < fromWidth && rhsColumn >= fromWidth) {
+                return new int[]{lhsColumn, rhsColumn};
+            }
+            if (rhsColumn < fromWidth && lhsColumn >= fromWidth) {
+                return new int[]{rhsColumn, lhsColumn};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the hash key of a join column value, where numbers which are equal have the same key. Values which are only
+     * compared by the join condition have no key.
+     */
+    private static Object getJoinKey(Object value) {
+        if (value instanceof Long || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            return doubleValue == Math.rint(doubleValue) && !Double.isInfinite(doubleValue) ?
+                    (Object) (long) doubleValue : value;
+        }
+        if (value == null) {
+            return null;
+        }
+        throw new UnsupportedQueryException("unsupported join column type : " + value.getClass().getSimpleName());
+    }
+
+    private List<Result> selectAll(List<Object[]> rows, QueryScope scope) {
+        if (!groupBy.isEmpty() || having != null) {
+            throw new UnsupportedQueryException("grouping with select all");
+        }
+        Evaluator[] orderByEvaluators = bindOrderBy(scope);
+        List<Result> results = new ArrayList<>(rows.size());
+        QueryContext context = new QueryContext();
+        for (Object[] row : rows) {
+            context.row = row;
+            context.output = row;
+            results.add(new Result(row, evaluate(orderByEvaluators, context)));
+        }
+        return results;
+    }
+
+    private List<Result> select(List<Object[]> rows, QueryScope scope) {
+        Evaluator[] selectEvaluators = new Evaluator[selectItems.size()];
+        boolean aggregate = !groupBy.isEmpty() || having != null;
+        for (int i = 0; i < selectEvaluators.length; i++) {
+            selectEvaluators[i] = selectItems.get(i).bind(scope);
+            aggregate |= selectItems.get(i).isAggregate();
+        }
+        Evaluator havingEvaluator = having != null ? having.bind(scope) : null;
+        // Order by may refer to the aliases of the selected items
+        scope.outputAliases = selectAliases;
+        Evaluator[] orderByEvaluators = bindOrderBy(scope);
+        List<Result> results = new ArrayList<>();
+        QueryContext context = new QueryContext();
+        if (!aggregate) {
+            for (Object[] row : rows) {
+                context.row = row;
+                context.output = evaluate(selectEvaluators, context);
+                results.add(new Result(context.output, evaluate(orderByEvaluators, context)));
+            }
+            return results;
+        }
+        for (List<Object[]> group : group(rows, scope)) {
+            context.group = group;
+            context.row = group.isEmpty() ? new Object[scope.width] : group.get(0);
+            if (havingEvaluator != null && !Boolean.TRUE.equals(havingEvaluator.evaluate(context))) {
+                continue;
+            }
+            context.output = evaluate(selectEvaluators, context);
+            results.add(new Result(context.output, evaluate(orderByEvaluators, context)));
+        }
+        return results;
+    }
+
+    private Collection<List<Object[]>> group(List<Object[]> rows, QueryScope scope) {
+        if (groupBy.isEmpty()) {
+            return Collections.singletonList(rows);
+        }
+        Evaluator[] groupByEvaluators = new Evaluator[groupBy.size()];
+        for (int i = 0; i < groupByEvaluators.length; i++) {
+            groupByEvaluators[i] = groupBy.get(i).bind(scope);
+        }
+        Map<List<Object>, List<Object[]>> groups = new LinkedHashMap<>();
+        QueryContext context = new QueryContext();
+        for (Object[] row : rows) {
+            context.row = row;
+            Object[] key = evaluate(groupByEvaluators, context);
+            for (int i = 0; i < key.length; i++) {
+                key[i] = getJoinKey(key[i]);
+            }
+            groups.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>()).add(row);
+        }
+        return groups.values();
+    }
+
+    private Evaluator[] bindOrderBy(QueryScope scope) {
+        Evaluator[] evaluators = new Evaluator[orderBy.size()];
+        for (int i = 0; i < evaluators.length; i++) {
+            evaluators[i] = orderBy.get(i).bind(scope);
+        }
+        return evaluators;
+    }
+
+    private static Object[] evaluate(Evaluator[] evaluators, QueryContext context) {
+        Object[] values = new Object[evaluators.length];
+        for (int i = 0; i < evaluators.length; i++) {
+            values[i] = evaluators[i].evaluate(context);
+        }
+        return values;
+    }
+
+    private Comparator<Result> getResultComparator() {
+        return (lhs, rhs) -> {
+            for (int i = 0; i < lhs.sortKeys.length; i++) {
+                Object lhsKey = lhs.sortKeys[i];
+                Object rhsKey = rhs.sortKeys[i];
+                // Nulls are sorted before the other values, as in H2
+                int result = lhsKey == null ? (rhsKey == null ? 0 : -1) :
+                        rhsKey == null ? 1 : QueryExpression.compare(lhsKey, rhsKey);
+                if (result != 0) {
+                    return descending.get(i) ? -result : result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private static Object[] toJava(InMemoryTable.Row row) {
+        Object[] values = new Object[row.values.length];
+        for (int i = 0; i < values.length; i++) {
+            BValue value = row.values[i];
+            if (value == null) {
+                continue;
+            }
+            switch (value.getType().getTag()) {
+                case TypeTags.INT_TAG:
+                    values[i] = ((BInteger) value).intValue();
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    values[i] = ((BFloat) value).floatValue();
+                    break;
+                case TypeTags.STRING_TAG:
+                    values[i] = value.stringValue();
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    values[i] = ((BBoolean) value).booleanValue();
+                    break;
+                default:
+                    values[i] = value;
+                    break;
+            }
+        }
+        return values;
+    }
+
+    private static BValue toBValue(Object value, BType type) {
+        if (value == null) {
+            return null;
+        }
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+                if (value instanceof Long || value instanceof Double) {
+                    return new BInteger(((Number) value).longValue());
+                }
+                break;
+            case TypeTags.FLOAT_TAG:
+                if (value instanceof Long || value instanceof Double) {
+                    return new BFloat(((Number) value).doubleValue());
+                }
+                break;
+            case TypeTags.STRING_TAG:
+                if (value instanceof Long || value instanceof String || value instanceof Boolean) {
+                    return new BString(value.toString());
+                }
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                if (value instanceof Boolean) {
+                    return new BBoolean((Boolean) value);
+                }
+                break;
+            case TypeTags.JSON_TAG:
+                if (value instanceof BJSON) {
+                    return InMemoryTable.copyValue((BValue) value);
+                }
+                if (value instanceof String) {
+                    return new BJSON((String) value);
+                }
+                break;
+            case TypeTags.XML_TAG:
+                if (value instanceof String) {
+                    return new BXMLItem((String) value);
+                }
+                if (value instanceof BValue && ((BValue) value).getType().getTag() == TypeTags.XML_TAG) {
+                    return InMemoryTable.copyValue((BValue) value);
+                }
+                break;
+            case TypeTags.BLOB_TAG:
+            case TypeTags.ARRAY_TAG:
+                if (value instanceof BValue && ((BValue) value).getType().getTag() == type.getTag()) {
+                    return InMemoryTable.copyValue((BValue) value);
+                }
+                break;
+            default:
+                break;
+        }
+        throw new UnsupportedQueryException("unsupported value for " + type + " column : " + value);
+    }
+
+    /**
+     * A table of the from or the join clause, which is the rows of a table filtered by a where clause.
+     */
+    static class Source {
+
+        String alias;
+        QueryExpression where;
+    }
+
+    /**
+     * Candidate rows of a where clause, which are found with an index.
+     */
+    private static class IndexedRows {
+
+        private final List<InMemoryTable.Row> rows;
+
+        IndexedRows(List<InMemoryTable.Row> rows) {
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * A row of the result, along with the values it is ordered by.
+     */
+    private static class Result {
+
+        private final Object[] output;
+        private final Object[] sortKeys;
+
+        Result(Object[] output, Object[] sortKeys) {
+            this.output = output;
+            this.sortKeys = sortKeys;
+        }
+    }
+
+    /**
+     * Columns and parameters which the expressions of a query execution are bound to. Columns of the tables are laid
+     * out one after the other in the rows which are evaluated.
+     */
+    static class QueryScope {
+
+        private final Object[] params;
+        private final List<ScopeSource> sources = new ArrayList<>(2);
+        private int width;
+        private List<String> outputAliases = Collections.emptyList();
+
+        QueryScope(Object[] params) {
+            this.params = params;
+        }
+
+        void addSource(String alias, InMemoryTable table) {
+            sources.add(new ScopeSource(alias, table, width));
+            width += table.getColumnCount();
+        }
+
+        Object getParam(int index) {
+            return params[index];
+        }
+
+        /**
+         * Resolve a column reference to its position in the evaluated rows.
+         *
+         * @param qualifier alias of the table, or null
+         * @param name      name of the column
+         * @return position of the column, or -1 if the column is not found
+         * @throws UnsupportedQueryException if the column reference is ambiguous
+         */
+        int resolveColumn(String qualifier, String name) {
+            int column = -1;
+            for (ScopeSource source : sources) {
+                if (qualifier != null && !qualifier.equalsIgnoreCase(source.alias)) {
+                    continue;
+                }
+                int index = source.table.getColumnIndex(name);
+                if (index >= 0) {
+                    if (column >= 0) {
+                        throw new UnsupportedQueryException("ambiguous column name : " + name);
+                    }
+                    column = source.offset + index;
+                }
+            }
+            return column;
+        }
+
+        /**
+         * Resolve a reference to an alias of the select clause.
+         *
+         * @param name alias of the selected item
+         * @return position of the selected item, or -1 if there is no such alias
+         */
+        int resolveOutputColumn(String name) {
+            for (int i = 0; i < outputAliases.size(); i++) {
+                if (name.equalsIgnoreCase(outputAliases.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static class ScopeSource {
+
+        private final String alias;
+        private final InMemoryTable table;
+        private final int offset;
+
+        ScopeSource(String alias, InMemoryTable table, int offset) {
+            this.alias = alias;
+            this.table = table;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * The row, the group of rows and the selected values which expressions are evaluated for.
+     */
+    static class QueryContext {
+
+        Object[] row;
+        List<Object[]> group;
+        Object[] output;
+    }
+}
@@ -0,0 +1,382 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util;
+
+import org.ballerinalang.util.QueryExpression.UnsupportedQueryException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parser of the SQL which the compiler generates for table queries, into a {@link TableQuery}.
+ * <p>
+ * The generated SQL has the form
+ * {@code select <items> from (select * from [[tableName]] [where <expr>]) [as <alias>] [join (select * from
+ * [[tableName]] [where <expr>]) [as <alias>] on <expr>] [group by <exprs>] [having <expr>] [order by <expr> [asc|desc],
+ * ...] [limit <n>]}. Anything outside the supported subset results in an {@link UnsupportedQueryException}.
+ *
+ * @since 0.976.1
+ */
+class TableQueryParser {
+
+    private static final String TABLE_PLACEHOLDER = "[[tableName]]";
+
+    private final String query;
+    private int pos;
+    private int paramCount;
+    private String token;
+    private TokenKind tokenKind;
+
+    private enum TokenKind {
+        IDENTIFIER, NUMBER, STRING, SYMBOL, TABLE, EOF
+    }
+
+    TableQueryParser(String query) {
+        this.query = query;
+        nextToken();
+    }
+
+    TableQuery parse() {
+        expectKeyword("select");
+        TableQuery tableQuery = new TableQuery();
+        if (!acceptSymbol("*")) {
+            do {
+                QueryExpression expr = parseExpression();
+                String alias = acceptKeyword("as") ? expectIdentifier() : null;
+                tableQuery.selectItems.add(expr);
+                tableQuery.selectAliases.add(alias);
+            } while (acceptSymbol(","));
+        }
+        expectKeyword("from");
+        tableQuery.from = parseSource();
+        if (acceptKeyword("join")) {
+            tableQuery.join = parseSource();
+            expectKeyword("on");
+            tableQuery.joinCondition = parseExpression();
+        }
+        if (acceptKeyword("group")) {
+            expectKeyword("by");
+            do {
+                tableQuery.groupBy.add(parseExpression());
+            } while (acceptSymbol(","));
+        }
+        if (acceptKeyword("having")) {
+            tableQuery.having = parseExpression();
+        }
+        if (acceptKeyword("order")) {
+            expectKeyword("by");
+            do {
+                tableQuery.orderBy.add(parseExpression());
+                tableQuery.descending.add(!acceptKeyword("asc") && acceptKeyword("desc"));
+            } while (acceptSymbol(","));
+        }
+        if (acceptKeyword("limit")) {
+            if (tokenKind != TokenKind.NUMBER || token.indexOf('.') >= 0) {
+                throw unexpected();
+            }
+            tableQuery.limit = Long.parseLong(token);
+            nextToken();
+        }
+        if (tokenKind != TokenKind.EOF) {
+            throw unexpected();
+        }
+        tableQuery.paramCount = paramCount;
+        return tableQuery;
+    }
+
+    private TableQuery.Source parseSource() {
+        expectSymbol("(");
+        expectKeyword("select");
+        expectSymbol("*");
+        expectKeyword("from");
+        if (tokenKind != TokenKind.TABLE) {
+            throw unexpected();
+        }
+        nextToken();
+        TableQuery.Source source = new TableQuery.Source();
+        if (acceptKeyword("where")) {
+            source.where = parseExpression();
+        }
+        expectSymbol(")");
+        if (acceptKeyword("as")) {
+            source.alias = expectIdentifier();
+        }
+        return source;
+    }
+
+    private QueryExpression parseExpression() {
+        QueryExpression expr = parseAnd();
+        while (acceptKeyword("or")) {
+            expr = new QueryExpression.Binary("or", expr, parseAnd());
+        }
+        return expr;
+    }
+
+    private QueryExpression parseAnd() {
+        QueryExpression expr = parseNot();
+        while (acceptKeyword("and")) {
+            expr = new QueryExpression.Binary("and", expr, parseNot());
+        }
+        return expr;
+    }
+
+    private QueryExpression parseNot() {
+        if (acceptKeyword("not")) {
+            return new QueryExpression.Not(parseNot());
+        }
+        return parseComparison();
+    }
+
+    private QueryExpression parseComparison() {
+        QueryExpression expr = parseAdditive();
+        if (tokenKind == TokenKind.SYMBOL) {
+            switch (token) {
+                case "=":
+                case "!=":
+                case "<>":
+                case "<":
+                case "<=":
+                case ">":
+                case ">=":
+                    String operator = token;
+                    nextToken();
+                    return new QueryExpression.Binary(operator, expr, parseAdditive());
+                default:
+                    break;
+            }
+        }
+        return expr;
+    }
+
+    private QueryExpression parseAdditive() {
+        QueryExpression expr = parseMultiplicative();
+        while (tokenKind == TokenKind.SYMBOL && (token.equals("+") || token.equals("-"))) {
+            String operator = token;
+            nextToken();
+            expr = new QueryExpression.Binary(operator, expr, parseMultiplicative());
+        }
+        return expr;
+    }
+
+    private QueryExpression parseMultiplicative() {
+        QueryExpression expr = parseUnary();
+        while (tokenKind == TokenKind.SYMBOL && (token.equals("*") || token.equals("/") || token.equals("%"))) {
+            String operator = token;
+            nextToken();
+            expr = new QueryExpression.Binary(operator, expr, parseUnary());
+        }
+        return expr;
+    }
+
+    private QueryExpression parseUnary() {
+        if (acceptSymbol("-")) {
+            return new QueryExpression.Negate(parseUnary());
+        }
+        if (acceptSymbol("+")) {
+            return parseUnary();
+        }
+        return parsePrimary();
+    }
+
+    private QueryExpression parsePrimary() {
+        String value = token;
+        switch (tokenKind) {
+            case NUMBER:
+                nextToken();
+                return new QueryExpression.Constant(value.indexOf('.') >= 0 || value.indexOf('e') >= 0 ||
+                        value.indexOf('E') >= 0 ? (Object) Double.parseDouble(value) : (Object) Long.parseLong(value));
+            case STRING:
+                nextToken();
+                return new QueryExpression.Constant(value);
+            case SYMBOL:
+                if (acceptSymbol("?")) {
+                    return new QueryExpression.Constant(paramCount++);
+                }
+                if (acceptSymbol("(")) {
+                    QueryExpression expr = parseExpression();
+                    expectSymbol(")");
+                    return expr;
+                }
+                throw unexpected();
+            case IDENTIFIER:
+                return parseIdentifierExpression();
+            default:
+                throw unexpected();
+        }
+    }
+
+    private QueryExpression parseIdentifierExpression() {
+        String name = expectIdentifier();
+        switch (name.toLowerCase(Locale.ENGLISH)) {
+            case "true":
+                return new QueryExpression.Constant(Boolean.TRUE);
+            case "false":
+                return new QueryExpression.Constant(Boolean.FALSE);
+            case "null":
+                return new QueryExpression.Constant(null);
+            default:
+                break;
+        }
+        if (acceptSymbol(":")) {
+            // Functions of other packages are not known to the native engine
+            throw new UnsupportedQueryException("unsupported function : " + name + ":" + token);
+        }
+        if (acceptSymbol(".")) {
+            return new QueryExpression.ColumnRef(name, expectIdentifier());
+        }
+        if (!acceptSymbol("(")) {
+            return new QueryExpression.ColumnRef(null, name);
+        }
+        String function = name.toLowerCase(Locale.ENGLISH);
+        List<QueryExpression> args = new ArrayList<>();
+        boolean all = false;
+        if (function.equals("count") && acceptSymbol("*")) {
+            all = true;
+        } else if (!acceptSymbol(")")) {
+            do {
+                args.add(parseExpression());
+            } while (acceptSymbol(","));
+        } else {
+            throw new UnsupportedQueryException("unsupported function : " + name);
+        }
+        if (all) {
+            expectSymbol(")");
+            return new QueryExpression.Aggregate(function, null);
+        }
+        expectSymbol(")");
+        switch (function) {
+            case "count":
+            case "sum":
+            case "avg":
+            case "min":
+            case "max":
+                if (args.size() == 1) {
+                    return new QueryExpression.Aggregate(function, args.get(0));
+                }
+                break;
+            case "power":
+                if (args.size() == 2) {
+                    return new QueryExpression.Power(args.get(0), args.get(1));
+                }
+                break;
+            default:
+                break;
+        }
+        throw new UnsupportedQueryException("unsupported function : " + name);
+    }
+
+    private void nextToken() {
+        while (pos < query.length() && Character.isWhitespace(query.charAt(pos))) {
+            pos++;
+        }
+        if (pos >= query.length()) {
+            token = null;
+            tokenKind = TokenKind.EOF;
+            return;
+        }
+        int start = pos;
+        char c = query.charAt(pos);
+        if (query.startsWith(TABLE_PLACEHOLDER, pos)) {
+            pos += TABLE_PLACEHOLDER.length();
+            tokenKind = TokenKind.TABLE;
+        } else if (Character.isLetter(c) || c == '_') {
+            while (pos < query.length() && (Character.isLetterOrDigit(query.charAt(pos)) ||
+                    query.charAt(pos) == '_')) {
+                pos++;
+            }
+            tokenKind = TokenKind.IDENTIFIER;
+        } else if (Character.isDigit(c)) {
+            while (pos < query.length() && (Character.isDigit(query.charAt(pos)) || query.charAt(pos) == '.')) {
+                pos++;
+            }
+            tokenKind = TokenKind.NUMBER;
+        } else if (c == '\'') {
+            StringBuilder value = new StringBuilder();
+            pos++;
+            while (true) {
+                if (pos >= query.length()) {
+                    throw new UnsupportedQueryException("unterminated string literal");
+                }
+                char next = query.charAt(pos++);
+                if (next == '\'') {
+                    if (pos < query.length() && query.charAt(pos) == '\'') {
+                        pos++;
+                    } else {
+                        break;
+                    }
+                }
+                value.append(next);
+            }
+            token = value.toString();
+            tokenKind = TokenKind.STRING;
+            return;
+        } else if ((c == '!' || c == '<' || c == '>') && pos + 1 < query.length() &&
+                (query.charAt(pos + 1) == '=' || c == '<' && query.charAt(pos + 1) == '>')) {
+            pos += 2;
+            tokenKind = TokenKind.SYMBOL;
+        } else if ("*,()=<>+-/%?:.".indexOf(c) >= 0) {
+            pos++;
+            tokenKind = TokenKind.SYMBOL;
+        } else {
+            throw new UnsupportedQueryException("unexpected character : " + c);
+        }
+        token = query.substring(start, pos);
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        if (tokenKind == TokenKind.SYMBOL && token.equals(symbol)) {
+            nextToken();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw unexpected();
+        }
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (tokenKind == TokenKind.IDENTIFIER && token.equalsIgnoreCase(keyword)) {
+            nextToken();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw unexpected();
+        }
+    }
+
+    private String expectIdentifier() {
+        if (tokenKind != TokenKind.IDENTIFIER) {
+            throw unexpected();
+        }
+        String identifier = token;
+        nextToken();
+        return identifier;
+    }
+
+    private UnsupportedQueryException unexpected() {
+        return new UnsupportedQueryException("unexpected token '" + token + "' at " + pos + " in query : " + query);
+    }
+}
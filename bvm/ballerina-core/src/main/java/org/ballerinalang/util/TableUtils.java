@@ -20,9 +20,11 @@ package org.ballerinalang.util;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BLangVMErrors;
+import org.ballerinalang.model.ColumnDefinition;
 import org.ballerinalang.model.types.BArrayType;
 import org.ballerinalang.model.types.BField;
 import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBlob;
 import org.ballerinalang.model.values.BBlobArray;
@@ -44,6 +46,8 @@ import java.io.ByteArrayInputStream;
 import java.sql.Blob;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Includes utility methods required for table related operations.
@@ -174,6 +178,48 @@ public class TableUtils {
         return arrayData;
     }
 
+    /**
+     * Generate the column definitions of a table from the fields of its constraint type.
+     *
+     * @param type constraint type of the table
+     * @return column definitions, in the order of the fields
+     */
+    static List<ColumnDefinition> generateColumnDefinitions(BStructureType type) {
+        BField[] structFields = type.getFields();
+        List<ColumnDefinition> columnDefs = new ArrayList<>(structFields.length);
+        for (BField sf : structFields) {
+            TypeKind typeKind = TypeKind.ANY;
+            switch (sf.getFieldType().getTag()) {
+            case TypeTags.INT_TAG:
+                typeKind = TypeKind.INT;
+                break;
+            case TypeTags.STRING_TAG:
+                typeKind = TypeKind.STRING;
+                break;
+            case TypeTags.FLOAT_TAG:
+                typeKind = TypeKind.FLOAT;
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                typeKind = TypeKind.BOOLEAN;
+                break;
+            case TypeTags.JSON_TAG:
+                typeKind = TypeKind.JSON;
+                break;
+            case TypeTags.XML_TAG:
+                typeKind = TypeKind.XML;
+                break;
+            case TypeTags.BLOB_TAG:
+                typeKind = TypeKind.BLOB;
+                break;
+            case TypeTags.ARRAY_TAG:
+                typeKind = TypeKind.ARRAY;
+                break;
+            }
+            columnDefs.add(new ColumnDefinition(sf.fieldName, typeKind));
+        }
+        return columnDefs;
+    }
+
     /**
      * Creates an instance of {@code {@link BStruct}} of the type error.
      *
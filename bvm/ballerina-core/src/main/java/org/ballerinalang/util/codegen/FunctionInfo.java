@@ -17,7 +17,10 @@
 */
 package org.ballerinalang.util.codegen;
 
+import org.ballerinalang.bre.bvm.jit.CompiledCallable;
+
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code FunctionInfo} contains metadata of a Ballerina function entry in the program file.
@@ -26,6 +29,13 @@ import java.util.Objects;
  */
 public class FunctionInfo extends CallableUnitInfo {
 
+    // Tiered execution state of this function, see TieredExecution
+    private final AtomicInteger invocationCount = new AtomicInteger();
+
+    private volatile CompiledCallable compiledCallable;
+
+    private volatile boolean compilationAttempted;
+
     public FunctionInfo(int pkgCPIndex, String pkgPath, int funcNameCPIndex, String funcName) {
         this.pkgCPIndex = pkgCPIndex;
         this.pkgPath = pkgPath;
@@ -33,6 +43,32 @@ public class FunctionInfo extends CallableUnitInfo {
         this.name = funcName;
     }
 
+    /**
+     * Increments the invocation count of this function. The count is atomic, so that exactly one invocation observes
+     * each count, and the function reaches the tiered execution threshold however many workers invoke it.
+     *
+     * @return the invocation count
+     */
+    public int incrementInvocationCount() {
+        return invocationCount.incrementAndGet();
+    }
+
+    public CompiledCallable getCompiledCallable() {
+        return compiledCallable;
+    }
+
+    public void setCompiledCallable(CompiledCallable compiledCallable) {
+        this.compiledCallable = compiledCallable;
+    }
+
+    public boolean isCompilationAttempted() {
+        return compilationAttempted;
+    }
+
+    public void setCompilationAttempted() {
+        this.compilationAttempted = true;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(pkgCPIndex, nameCPIndex);
@@ -0,0 +1,198 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.model.types.BStructureType;
+import org.ballerinalang.util.metrics.CallbackGauge;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code InlineCache} caches the attached functions resolved by a virtual call site (VCALL), keyed by the type of the
+ * receiver.
+ * <p>
+ * A call site which only sees a single receiver type is monomorphic, and resolves its function with a single
+ * reference comparison. Up to {@link #MAX_ENTRIES} receiver types are cached, after which the call site is
+ * megamorphic and resolves the function through the type of the receiver, as an uncached call site does.
+ * <p>
+ * Hit and miss counts of each call site are kept when the "b7a.runtime.inlinecache.statistics" configuration is
+ * set. The executed call sites of a program are available via {@link ProgramFile#getInlineCaches()}, and the hit
+ * ratio of all call sites is published as the "ballerina_inline_cache_hit_ratio" gauge when metrics are enabled.
+ *
+ * @since 0.976.1
+ */
+public class InlineCache {
+
+    public static final int MAX_ENTRIES = 4;
+
+    private static final String STATS_CONFIG_PROP = "b7a.runtime.inlinecache.statistics";
+
+    private static final Entry[] EMPTY_ENTRIES = new Entry[0];
+
+    private static final LongAdder totalHitCount = new LongAdder();
+
+    private static final LongAdder totalMissCount = new LongAdder();
+
+    private static final AtomicBoolean gaugeRegistered = new AtomicBoolean();
+
+    private static boolean statsEnabled;
+
+    static {
+        String statsConfigProp = ConfigRegistry.getInstance().getAsString(STATS_CONFIG_PROP);
+        if (statsConfigProp != null) {
+            statsEnabled = Boolean.parseBoolean(statsConfigProp);
+        }
+    }
+
+    // Entries are replaced, never modified, so that the call site can be looked up without locking
+    private volatile Entry[] entries = EMPTY_ENTRIES;
+
+    private volatile boolean megamorphic;
+
+    private String callSite;
+
+    private final LongAdder hitCount = statsEnabled ? new LongAdder() : null;
+
+    private final LongAdder missCount = statsEnabled ? new LongAdder() : null;
+
+    /**
+     * Returns the cached function of the given receiver type, or null if it is not cached.
+     *
+     * @param receiverType type of the receiver of the call
+     * @return the cached function, or null
+     */
+    public FunctionInfo lookup(BStructureType receiverType) {
+        Entry[] entries = this.entries;
+        for (Entry entry : entries) {
+            if (entry.receiverType == receiverType) {
+                if (statsEnabled) {
+                    hitCount.increment();
+                    totalHitCount.increment();
+                }
+                return entry.functionInfo;
+            }
+        }
+        if (statsEnabled) {
+            missCount.increment();
+            totalMissCount.increment();
+        }
+        return null;
+    }
+
+    /**
+     * Caches the function resolved for the given receiver type, unless the call site is megamorphic.
+     *
+     * @param receiverType    type of the receiver of the call
+     * @param functionInfo    resolved function
+     * @param callerInfo      callable unit which contains the call site
+     * @param ip              address of the call site
+     */
+    public void update(BStructureType receiverType, FunctionInfo functionInfo, CallableUnitInfo callerInfo, int ip) {
+        // A megamorphic call site misses on every call it does not cache, so it must not contend for the lock
+        if (megamorphic) {
+            return;
+        }
+        synchronized (this) {
+            if (callSite == null) {
+                callSite = callerInfo.getPackageInfo().getPkgPath() + ":" + callerInfo.getName() + ":" + ip;
+                if (statsEnabled) {
+                    register(callerInfo.getPackageInfo().getProgramFile());
+                }
+            }
+            if (megamorphic) {
+                return;
+            }
+            for (Entry entry : entries) {
+                if (entry.receiverType == receiverType) {
+                    return;
+                }
+            }
+            if (entries.length == MAX_ENTRIES) {
+                megamorphic = true;
+                return;
+            }
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = new Entry(receiverType, functionInfo);
+            entries = newEntries;
+        }
+    }
+
+    public String getCallSite() {
+        return callSite;
+    }
+
+    public boolean isMegamorphic() {
+        return megamorphic;
+    }
+
+    public int getEntryCount() {
+        return entries.length;
+    }
+
+    public long getHitCount() {
+        return hitCount == null ? 0 : hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount == null ? 0 : missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void register(ProgramFile programFile) {
+        if (programFile != null) {
+            programFile.addInlineCache(this);
+        }
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry != null && gaugeRegistered.compareAndSet(false, true)) {
+            CallbackGauge.builder("ballerina_inline_cache_hit_ratio", totalHitCount, InlineCache::getTotalHitRatio)
+                    .description("Hit ratio of the inline caches of virtual call sites")
+                    .register(metricRegistry);
+        }
+    }
+
+    private static double getTotalHitRatio(LongAdder hitCount) {
+        long hits = hitCount.sum();
+        long total = hits + totalMissCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * A receiver type and the function resolved for it.
+     */
+    private static final class Entry {
+
+        private final BStructureType receiverType;
+
+        private final FunctionInfo functionInfo;
+
+        private Entry(BStructureType receiverType, FunctionInfo functionInfo) {
+            this.receiverType = receiverType;
+            this.functionInfo = functionInfo;
+        }
+    }
+}
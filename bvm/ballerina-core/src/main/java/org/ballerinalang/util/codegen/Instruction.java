@@ -18,10 +18,12 @@
 package org.ballerinalang.util.codegen;
 
 import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.util.XMLQNameCache;
 import org.ballerinalang.util.codegen.cpentries.ForkJoinCPEntry;
 
 import java.util.Arrays;
 import java.util.StringJoiner;
+import javax.xml.namespace.QName;
 
 /**
  * {@code Instruction} represents a bytecode instruction in Ballerina.
@@ -100,6 +102,7 @@ public class Instruction {
      */
     public static class InstructionVCALL extends InstructionCALL {
         public int receiverRegIndex;
+        public final InlineCache inlineCache = new InlineCache();
 
         InstructionVCALL(int opcode, int receiverRegIndex, int funcRefCPIndex,
                         FunctionInfo functionInfo, int flags, int[] argRegs, int[] retRegs) {
@@ -268,4 +271,103 @@ public class Instruction {
             return Mnemonics.getMnem(opcode) + " " + sj.toString();
         }
     }
+
+    /**
+     * {@code InstructionTypeCheck} represents the type cast and type test instructions in Ballerina bytecode, i.e.
+     * CHECKCAST, ANY2T, ANY2C, ANY2E and IS_ASSIGNABLE.
+     * <p>
+     * The result of checking a structure value depends only on its type. Hence the instruction remembers the type
+     * and the result of the last structure value it checked, and a repeated check is a reference comparison.
+     *
+     * @since 0.976.1
+     */
+    public static class InstructionTypeCheck extends Instruction {
+
+        private volatile TypeCheckResult lastResult;
+
+        InstructionTypeCheck(int opcode, int... operands) {
+            super(opcode, operands);
+        }
+
+        /**
+         * Returns the result of the last check, if it was done for a value of the given type.
+         *
+         * @param sourceType type of the checked value
+         * @return the cached result, or null if there is none for the given type
+         */
+        public Boolean getCachedResult(BType sourceType) {
+            TypeCheckResult result = lastResult;
+            if (result == null || result.sourceType != sourceType) {
+                return null;
+            }
+            return result.assignable;
+        }
+
+        public void setCachedResult(BType sourceType, boolean assignable) {
+            lastResult = new TypeCheckResult(sourceType, assignable);
+        }
+
+        /**
+         * The type of a checked value and the result of the check.
+         */
+        private static final class TypeCheckResult {
+
+            private final BType sourceType;
+
+            private final boolean assignable;
+
+            private TypeCheckResult(BType sourceType, boolean assignable) {
+                this.sourceType = sourceType;
+                this.assignable = assignable;
+            }
+        }
+    }
+
+    /**
+     * {@code InstructionXMLLoad} represents the XMLLOAD instruction in Ballerina bytecode, which selects the children
+     * of an XML value with a given name.
+     * <p>
+     * The name of an XML access expression is almost always a literal. Hence the instruction keeps the last name it
+     * selected and its parsed {@link QName}, and a repeated selection with the same name skips parsing it.
+     *
+     * @since 0.976.1
+     */
+    public static class InstructionXMLLoad extends Instruction {
+
+        private volatile CompiledName lastName;
+
+        InstructionXMLLoad(int opcode, int... operands) {
+            super(opcode, operands);
+        }
+
+        /**
+         * Returns the {@link QName} of the given qualified name.
+         *
+         * @param qname qualified name, as "{uri}localName" or "localName"
+         * @return the parsed name
+         */
+        public QName getQName(String qname) {
+            CompiledName name = lastName;
+            if (name == null || !name.source.equals(qname)) {
+                name = new CompiledName(qname, XMLQNameCache.get(qname));
+                lastName = name;
+            }
+            return name.qname;
+        }
+
+        /**
+         * A qualified name and its parsed {@link QName}.
+         */
+        private static final class CompiledName {
+
+            private final String source;
+
+            private final QName qname;
+
+            private CompiledName(String source, QName qname) {
+                this.source = source;
+                this.qname = qname;
+            }
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+import org.ballerinalang.util.codegen.cpentries.ConstantPoolEntry;
+import org.ballerinalang.util.codegen.cpentries.IntegerCPEntry;
+
+import java.util.Arrays;
+
+/**
+ * {@code InstructionFusion} rewrites frequently occurring instruction sequences of a package into superinstructions,
+ * so that the BVM executes them with a single dispatch.
+ * <p>
+ * Only the first instruction of a matched sequence is replaced. The remaining instructions of the sequence are kept
+ * at their original addresses, hence jump targets, error table entries and line number information stay valid. A
+ * superinstruction advances the instruction pointer past the instructions it has absorbed.
+ *
+ * @since 0.976.1
+ */
+public class InstructionFusion {
+
+    public static Instruction[] fuse(ConstantPoolEntry[] constPool, Instruction[] code) {
+        Instruction[] fusedCode = Arrays.copyOf(code, code.length);
+        for (int ip = 0; ip < code.length - 1; ip++) {
+            Instruction fusedIns = fuseCmpAndBranch(code[ip], code[ip + 1]);
+            if (fusedIns == null) {
+                fusedIns = fuseConstArithmetic(constPool, code[ip], code[ip + 1]);
+            }
+            if (fusedIns == null) {
+                fusedIns = fuseFieldCopy(code[ip], code[ip + 1]);
+            }
+            if (fusedIns != null) {
+                fusedCode[ip] = fusedIns;
+            }
+        }
+        return fusedCode;
+    }
+
+    /**
+     * Fuses an integer comparison with the conditional jump which consumes its result.
+     * e.g. 'ILT i j k; BR_FALSE k addr' becomes 'ILT_BR_FALSE i j k addr'.
+     */
+    private static Instruction fuseCmpAndBranch(Instruction cmpIns, Instruction branchIns) {
+        if (branchIns.opcode != InstructionCodes.BR_FALSE) {
+            return null;
+        }
+
+        int fusedOpcode;
+        switch (cmpIns.opcode) {
+            case InstructionCodes.IGT:
+                fusedOpcode = InstructionCodes.IGT_BR_FALSE;
+                break;
+            case InstructionCodes.IGE:
+                fusedOpcode = InstructionCodes.IGE_BR_FALSE;
+                break;
+            case InstructionCodes.ILT:
+                fusedOpcode = InstructionCodes.ILT_BR_FALSE;
+                break;
+            case InstructionCodes.ILE:
+                fusedOpcode = InstructionCodes.ILE_BR_FALSE;
+                break;
+            case InstructionCodes.IEQ:
+                fusedOpcode = InstructionCodes.IEQ_BR_FALSE;
+                break;
+            case InstructionCodes.INE:
+                fusedOpcode = InstructionCodes.INE_BR_FALSE;
+                break;
+            default:
+                return null;
+        }
+
+        int[] operands = cmpIns.operands;
+        if (branchIns.operands[0] != operands[2]) {
+            return null;
+        }
+        return InstructionFactory.get(fusedOpcode, operands[0], operands[1], operands[2], branchIns.operands[1]);
+    }
+
+    /**
+     * Fuses an integer constant load with the addition or subtraction which uses it as the right hand side operand.
+     * e.g. 'ICONST_1 t; IADD i t k' (i.e. 'i + 1') becomes 'ICONST_IADD 1 t i k'.
+     */
+    private static Instruction fuseConstArithmetic(ConstantPoolEntry[] constPool, Instruction constIns,
+                                                   Instruction arithIns) {
+        int fusedOpcode;
+        switch (arithIns.opcode) {
+            case InstructionCodes.IADD:
+                fusedOpcode = InstructionCodes.ICONST_IADD;
+                break;
+            case InstructionCodes.ISUB:
+                fusedOpcode = InstructionCodes.ICONST_ISUB;
+                break;
+            default:
+                return null;
+        }
+
+        long value;
+        int constRegIndex;
+        switch (constIns.opcode) {
+            case InstructionCodes.ICONST:
+                value = ((IntegerCPEntry) constPool[constIns.operands[0]]).getValue();
+                constRegIndex = constIns.operands[1];
+                break;
+            case InstructionCodes.ICONST_0:
+            case InstructionCodes.ICONST_1:
+            case InstructionCodes.ICONST_2:
+            case InstructionCodes.ICONST_3:
+            case InstructionCodes.ICONST_4:
+            case InstructionCodes.ICONST_5:
+                value = constIns.opcode - InstructionCodes.ICONST_0;
+                constRegIndex = constIns.operands[0];
+                break;
+            default:
+                return null;
+        }
+
+        // The constant is carried as an operand, hence it has to fit into an int
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        int[] operands = arithIns.operands;
+        if (operands[1] != constRegIndex || operands[0] == constRegIndex) {
+            return null;
+        }
+        return InstructionFactory.get(fusedOpcode, (int) value, constRegIndex, operands[0], operands[2]);
+    }
+
+    /**
+     * Fuses a positional field load with the positional field store of the loaded value into a single field copy.
+     * e.g. 'a.x = b.y' is compiled to 'RFIELDLOAD_IDX b p1 cp1 v; RFIELDSTORE_IDX a p2 cp2 v' which becomes
+     * 'FIELDCOPY RFIELDLOAD_IDX b p1 cp1 v a p2 cp2'.
+     */
+    private static Instruction fuseFieldCopy(Instruction loadIns, Instruction storeIns) {
+        if (loadIns.opcode < InstructionCodes.IFIELDLOAD_IDX || loadIns.opcode > InstructionCodes.RFIELDLOAD_IDX ||
+                storeIns.opcode - InstructionCodes.IFIELDSTORE_IDX !=
+                        loadIns.opcode - InstructionCodes.IFIELDLOAD_IDX) {
+            return null;
+        }
+
+        int[] loadOperands = loadIns.operands;
+        int[] storeOperands = storeIns.operands;
+        if (storeOperands[3] != loadOperands[3]) {
+            return null;
+        }
+        return InstructionFactory.get(InstructionCodes.FIELDCOPY, loadIns.opcode, loadOperands[0], loadOperands[1],
+                loadOperands[2], loadOperands[3], storeOperands[0], storeOperands[1], storeOperands[2]);
+    }
+}
@@ -138,6 +138,19 @@ public class Mnemonics {
         mnemonics[InstructionCodes.RNE] = "rne";
         mnemonics[InstructionCodes.TNE] = "tne";
 
+        mnemonics[InstructionCodes.IFIELDLOAD_IDX] = "ifieldload_idx";
+        mnemonics[InstructionCodes.FFIELDLOAD_IDX] = "ffieldload_idx";
+        mnemonics[InstructionCodes.SFIELDLOAD_IDX] = "sfieldload_idx";
+        mnemonics[InstructionCodes.BFIELDLOAD_IDX] = "bfieldload_idx";
+        mnemonics[InstructionCodes.LFIELDLOAD_IDX] = "lfieldload_idx";
+        mnemonics[InstructionCodes.RFIELDLOAD_IDX] = "rfieldload_idx";
+        mnemonics[InstructionCodes.IFIELDSTORE_IDX] = "ifieldstore_idx";
+        mnemonics[InstructionCodes.FFIELDSTORE_IDX] = "ffieldstore_idx";
+        mnemonics[InstructionCodes.SFIELDSTORE_IDX] = "sfieldstore_idx";
+        mnemonics[InstructionCodes.BFIELDSTORE_IDX] = "bfieldstore_idx";
+        mnemonics[InstructionCodes.LFIELDSTORE_IDX] = "lfieldstore_idx";
+        mnemonics[InstructionCodes.RFIELDSTORE_IDX] = "rfieldstore_idx";
+
         mnemonics[InstructionCodes.IGT] = "igt";
         mnemonics[InstructionCodes.FGT] = "fgt";
         mnemonics[InstructionCodes.IGE] = "ige";
@@ -286,6 +299,16 @@ public class Mnemonics {
         mnemonics[InstructionCodes.S2JSONX] = "s2jsonx";
         mnemonics[InstructionCodes.LOCK] = "lock";
         mnemonics[InstructionCodes.UNLOCK] = "unlock";
+
+        mnemonics[InstructionCodes.IGT_BR_FALSE] = "igt_br_false";
+        mnemonics[InstructionCodes.IGE_BR_FALSE] = "ige_br_false";
+        mnemonics[InstructionCodes.ILT_BR_FALSE] = "ilt_br_false";
+        mnemonics[InstructionCodes.ILE_BR_FALSE] = "ile_br_false";
+        mnemonics[InstructionCodes.IEQ_BR_FALSE] = "ieq_br_false";
+        mnemonics[InstructionCodes.INE_BR_FALSE] = "ine_br_false";
+        mnemonics[InstructionCodes.ICONST_IADD] = "iconst_iadd";
+        mnemonics[InstructionCodes.ICONST_ISUB] = "iconst_isub";
+        mnemonics[InstructionCodes.FIELDCOPY] = "fieldcopy";
     }
 
     public static String getMnem(int opcode) {
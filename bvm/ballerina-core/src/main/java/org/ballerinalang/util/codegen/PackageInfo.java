@@ -54,6 +54,9 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
     private List<ConstantPoolEntry> constantPoolEntries = new ArrayList<>();
 
     private Instruction[] instructions;
+    private Instruction[] fusedInstructions;
+    private PackedCode packedCode;
+    private PackedCode fusedPackedCode;
     private List<Instruction> instructionList = new ArrayList<>();
 
     private Map<String, PackageVarInfo> constantInfoMap = new LinkedHashMap<>();
@@ -199,6 +202,24 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
         return instructions;
     }
 
+    /**
+     * Returns the instructions of this package with frequently occurring instruction sequences replaced by
+     * superinstructions. Addresses are the same as in {@link #getInstructions()}.
+     *
+     * @return the instructions including superinstructions
+     */
+    public Instruction[] getFusedInstructions() {
+        return fusedInstructions;
+    }
+
+    public PackedCode getPackedCode() {
+        return packedCode;
+    }
+
+    public PackedCode getFusedPackedCode() {
+        return fusedPackedCode;
+    }
+
     public int getInstructionCount() {
         return instructionList.size();
     }
@@ -278,6 +299,9 @@ public class PackageInfo implements ConstantPool, AttributeInfoPool {
     public void complete() {
         this.constPool = constantPoolEntries.toArray(new ConstantPoolEntry[0]);
         this.instructions = instructionList.toArray(new Instruction[0]);
+        this.fusedInstructions = InstructionFusion.fuse(this.constPool, this.instructions);
+        this.packedCode = PackedCode.pack(this.instructions);
+        this.fusedPackedCode = PackedCode.pack(this.fusedInstructions);
     }
 
     @Override
@@ -50,8 +50,10 @@ import org.ballerinalang.util.codegen.Instruction.InstructionCALL;
 import org.ballerinalang.util.codegen.Instruction.InstructionFORKJOIN;
 import org.ballerinalang.util.codegen.Instruction.InstructionIteratorNext;
 import org.ballerinalang.util.codegen.Instruction.InstructionLock;
+import org.ballerinalang.util.codegen.Instruction.InstructionTypeCheck;
 import org.ballerinalang.util.codegen.Instruction.InstructionVCALL;
 import org.ballerinalang.util.codegen.Instruction.InstructionWRKSendReceive;
+import org.ballerinalang.util.codegen.Instruction.InstructionXMLLoad;
 import org.ballerinalang.util.codegen.attributes.AttributeInfo;
 import org.ballerinalang.util.codegen.attributes.AttributeInfoPool;
 import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
@@ -1103,7 +1105,7 @@ public class PackageInfoReader {
             int[] argRegs;
             int[] retRegs;
 
-            int opcode = codeStream.readUnsignedByte();
+            int opcode = codeStream.readUnsignedShort();
             switch (opcode) {
                 case InstructionCodes.HALT:
                 case InstructionCodes.RET:
@@ -1242,6 +1244,22 @@ public class PackageInfoReader {
                     packageInfo.addInstruction(InstructionFactory.get(opcode, i, j));
                     break;
 
+                case InstructionCodes.CHECKCAST:
+                case InstructionCodes.ANY2T:
+                case InstructionCodes.ANY2C:
+                case InstructionCodes.ANY2E:
+                case InstructionCodes.IS_ASSIGNABLE:
+                    i = codeStream.readInt();
+                    j = codeStream.readInt();
+                    k = codeStream.readInt();
+                    packageInfo.addInstruction(new InstructionTypeCheck(opcode, i, j, k));
+                    break;
+                case InstructionCodes.XMLLOAD:
+                    i = codeStream.readInt();
+                    j = codeStream.readInt();
+                    k = codeStream.readInt();
+                    packageInfo.addInstruction(new InstructionXMLLoad(opcode, i, j, k));
+                    break;
                 case InstructionCodes.IALOAD:
                 case InstructionCodes.BIALOAD:
                 case InstructionCodes.FALOAD:
@@ -1317,17 +1335,11 @@ public class PackageInfoReader {
                 case InstructionCodes.NEWXMLPI:
                 case InstructionCodes.TEQ:
                 case InstructionCodes.TNE:
-                case InstructionCodes.XMLLOAD:
                 case InstructionCodes.NEW_INT_RANGE:
                 case InstructionCodes.LENGTHOF:
                 case InstructionCodes.NEWSTREAM:
-                case InstructionCodes.CHECKCAST:
                 case InstructionCodes.MAP2T:
                 case InstructionCodes.JSON2T:
-                case InstructionCodes.ANY2T:
-                case InstructionCodes.ANY2C:
-                case InstructionCodes.ANY2E:
-                case InstructionCodes.IS_ASSIGNABLE:
                 case InstructionCodes.TR_RETRY:
                 case InstructionCodes.XMLSEQLOAD:
                 case InstructionCodes.NEWTABLE:
@@ -1344,6 +1356,18 @@ public class PackageInfoReader {
                 case InstructionCodes.NEWQNAME:
                 case InstructionCodes.NEWXMLELEMENT:
                 case InstructionCodes.TR_BEGIN:
+                case InstructionCodes.IFIELDLOAD_IDX:
+                case InstructionCodes.FFIELDLOAD_IDX:
+                case InstructionCodes.SFIELDLOAD_IDX:
+                case InstructionCodes.BFIELDLOAD_IDX:
+                case InstructionCodes.LFIELDLOAD_IDX:
+                case InstructionCodes.RFIELDLOAD_IDX:
+                case InstructionCodes.IFIELDSTORE_IDX:
+                case InstructionCodes.FFIELDSTORE_IDX:
+                case InstructionCodes.SFIELDSTORE_IDX:
+                case InstructionCodes.BFIELDSTORE_IDX:
+                case InstructionCodes.LFIELDSTORE_IDX:
+                case InstructionCodes.RFIELDSTORE_IDX:
                 case InstructionCodes.MAPLOAD:
                     i = codeStream.readInt();
                     j = codeStream.readInt();
@@ -0,0 +1,62 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.codegen;
+
+/**
+ * {@code PackedCode} is the flattened form of the instructions of a package, which is interpreted by the BVM.
+ * <p>
+ * The opcode of each instruction is followed by its operands inline, in a single contiguous int array. Instruction
+ * addresses (IPs) are the same as in the {@link Instruction} array, and are mapped to the position of the opcode in
+ * the packed code via the offsets array. Every instruction is packed with all of its operands. Instructions which
+ * carry resolved objects (e.g. CALL, FORKJOIN) are packed the same way, but the BVM takes those objects from the
+ * corresponding {@link Instruction} instead of resolving them again from the operands.
+ *
+ * @since 0.976.1
+ */
+public class PackedCode {
+
+    // Opcodes and operands of all the instructions
+    public final int[] code;
+
+    // Index of the opcode of each instruction in the code array, indexed by the instruction address
+    public final int[] offsets;
+
+    private PackedCode(int[] code, int[] offsets) {
+        this.code = code;
+        this.offsets = offsets;
+    }
+
+    public static PackedCode pack(Instruction[] instructions) {
+        int length = 0;
+        for (Instruction instruction : instructions) {
+            length += 1 + instruction.operands.length;
+        }
+
+        int[] code = new int[length];
+        int[] offsets = new int[instructions.length];
+        int pc = 0;
+        for (int ip = 0; ip < instructions.length; ip++) {
+            Instruction instruction = instructions[ip];
+            offsets[ip] = pc;
+            code[pc++] = instruction.opcode;
+            System.arraycopy(instruction.operands, 0, code, pc, instruction.operands.length);
+            pc += instruction.operands.length;
+        }
+        return new PackedCode(code, offsets);
+    }
+}
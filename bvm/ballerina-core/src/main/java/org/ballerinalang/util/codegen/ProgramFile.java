@@ -36,6 +36,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.ballerinalang.util.BLangConstants.MAGIC_NUMBER;
 import static org.ballerinalang.util.BLangConstants.VERSION_NUMBER;
@@ -70,6 +72,7 @@ public class ProgramFile implements ConstantPool, AttributeInfoPool {
 
     private Debugger debugger;
     private boolean distributedTransactionEnabled = false;
+    private boolean instructionFusionEnabled = true;
 
     // Cached values.
     // This is the actual path given by the user and this is used primarily for error reporting
@@ -82,6 +85,8 @@ public class ProgramFile implements ConstantPool, AttributeInfoPool {
 
     private List<AnnAttributeValue> unresolvedAnnAttrValues = new ArrayList<>();
 
+    private final Queue<InlineCache> inlineCaches = new ConcurrentLinkedQueue<>();
+
     public int getMagicValue() {
         return magicValue;
     }
@@ -110,6 +115,20 @@ public class ProgramFile implements ConstantPool, AttributeInfoPool {
         this.entryPkgName = entryPkgName;
     }
 
+    /**
+     * Returns the virtual call sites of this program which have been executed, when inline cache statistics are
+     * enabled.
+     *
+     * @return the executed call sites
+     */
+    public List<InlineCache> getInlineCaches() {
+        return new ArrayList<>(inlineCaches);
+    }
+
+    void addInlineCache(InlineCache inlineCache) {
+        inlineCaches.add(inlineCache);
+    }
+
     public PackageInfo getEntryPackage() {
         return entryPackage;
     }
@@ -138,6 +157,20 @@ public class ProgramFile implements ConstantPool, AttributeInfoPool {
         return distributedTransactionEnabled;
     }
 
+    /**
+     * Sets whether the workers of this program execute the superinstructions created by {@link InstructionFusion}
+     * or the instructions as emitted by the compiler.
+     *
+     * @param instructionFusionEnabled whether superinstructions are executed
+     */
+    public void setInstructionFusionEnabled(boolean instructionFusionEnabled) {
+        this.instructionFusionEnabled = instructionFusionEnabled;
+    }
+
+    public boolean isInstructionFusionEnabled() {
+        return instructionFusionEnabled;
+    }
+
     public void setServiceEPAvailable(boolean servicesAvailable) {
         this.servicesAvailable = servicesAvailable;
     }
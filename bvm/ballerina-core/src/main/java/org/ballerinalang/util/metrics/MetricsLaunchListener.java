@@ -95,6 +95,8 @@ public class MetricsLaunchListener implements LaunchListener {
                 BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
         CallbackGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
                 BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        CallbackGauge.builder(prefix + "blocking_native_call_count", schedulerStats,
+                BLangScheduler.SchedulerStats::getBlockingNativeCallCount).register();
     }
 
     @Override
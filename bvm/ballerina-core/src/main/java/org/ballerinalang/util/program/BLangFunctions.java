@@ -31,8 +31,11 @@ import org.ballerinalang.bre.bvm.ForkJoinWorkerResponseContext;
 import org.ballerinalang.bre.bvm.InitWorkerResponseContext;
 import org.ballerinalang.bre.bvm.SyncCallableWorkerResponseContext;
 import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.bre.bvm.WorkerResponseContext;
+import org.ballerinalang.bre.bvm.jit.CompiledCallable;
+import org.ballerinalang.bre.bvm.jit.TieredExecution;
 import org.ballerinalang.model.NativeCallableUnit;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
@@ -247,6 +250,11 @@ public class BLangFunctions {
     public static WorkerExecutionContext invokeCallable(CallableUnitInfo callableUnitInfo,
             WorkerExecutionContext parentCtx, int[] argRegs, int[] retRegs, boolean waitForResponse,
             int flags) {
+        if (TieredExecution.isEnabled() && !waitForResponse && callableUnitInfo instanceof FunctionInfo
+                && !callableUnitInfo.isNative() && !FunctionFlags.isAsync(flags)
+                && invokeCompiledCallable((FunctionInfo) callableUnitInfo, parentCtx, argRegs, retRegs, flags)) {
+            return parentCtx;
+        }
         BLangScheduler.workerWaitForResponse(parentCtx);
         WorkerExecutionContext resultCtx;
         if (callableUnitInfo.isNative()) {
@@ -269,6 +277,31 @@ public class BLangFunctions {
         return resultCtx;
     }
 
+    /**
+     * Executes the given function synchronously in the caller's thread, if it has been compiled to JVM bytecode.
+     *
+     * @return true if the function was executed, or false if it should be interpreted
+     */
+    private static boolean invokeCompiledCallable(FunctionInfo functionInfo, WorkerExecutionContext parentCtx,
+            int[] argRegs, int[] retRegs, int flags) {
+        if (parentCtx.programFile.getDebugger().isDebugEnabled()
+                || (ObservabilityUtils.isObservabilityEnabled() && FunctionFlags.isObserved(flags))) {
+            return false;
+        }
+        CompiledCallable compiledCallable = TieredExecution.getCompiledCallable(functionInfo);
+        if (compiledCallable == null) {
+            return false;
+        }
+        WorkerDataIndex wdi = functionInfo.retWorkerIndex;
+        WorkerData workerLocal = BLangVMUtils.createPooledWorkerDataForLocal(
+                functionInfo.getWorkerSet().generalWorkers[0], parentCtx, argRegs, functionInfo.getParamTypes());
+        WorkerData workerResult = BLangVMUtils.createWorkerData(wdi);
+        compiledCallable.execute(workerLocal, workerResult, wdi.retRegs);
+        WorkerDataPool.release(workerLocal);
+        BLangVMUtils.mergeResultData(workerResult, parentCtx.workerLocal, functionInfo.getRetParamTypes(), retRegs);
+        return true;
+    }
+
     private static CallableWorkerResponseContext createWorkerResponseContext(BType[] retParamTypes,
             int generalWorkersCount) {
         if (generalWorkersCount == 1) {
@@ -375,6 +408,8 @@ public class BLangFunctions {
         BType[] retTypes = callableUnitInfo.getRetParamTypes();
         WorkerData caleeSF = BLangVMUtils.createWorkerDataForLocal(callableUnitInfo.getDefaultWorkerInfo(), parentCtx,
                 argRegs, callableUnitInfo.getParamTypes());
+        /* native code may retain the arguments, or access them from other threads */
+        BLangVMUtils.shareRefValues(caleeSF);
         Context ctx = new NativeCallContext(parentCtx, callableUnitInfo, caleeSF);
         NativeCallableUnit nativeCallable = callableUnitInfo.getNativeCallableUnit();        
         if (nativeCallable == null) {
@@ -383,7 +418,18 @@ public class BLangFunctions {
         try {
             ObserverContext observerContext = checkAndStartNativeCallableObservation(ctx, callableUnitInfo, flags);
             if (nativeCallable.isBlocking()) {
-                nativeCallable.execute(ctx, null);
+                if (!parentCtx.isRootContext() && BLangScheduler.executeBlockingNativeOffloaded(nativeCallable, ctx,
+                        getNativeCallableUnitCallback(parentCtx, ctx, observerContext, retRegs, retTypes, flags))) {
+                    /* the parent is resumed by the callback, once the blocking call completes in its own thread */
+                    return null;
+                }
+                BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
+                schedulerStats.blockingNativeCallStarted();
+                try {
+                    nativeCallable.execute(ctx, null);
+                } finally {
+                    schedulerStats.blockingNativeCallDone();
+                }
                 BLangVMUtils.populateWorkerDataWithValues(parentLocalData, retRegs, ctx.getReturnValues(), retTypes);
                 checkAndStopCallableObservation(observerContext, flags);
                 /* we want the parent to continue, since we got the response of the native call already */
@@ -408,6 +454,7 @@ public class BLangFunctions {
             WorkerExecutionContext parentCtx, int[] argRegs, int[] retRegs, int flags) {
         WorkerData caleeSF = BLangVMUtils.createWorkerDataForLocal(callableUnitInfo.getDefaultWorkerInfo(), parentCtx,
                 argRegs, callableUnitInfo.getParamTypes());
+        BLangVMUtils.shareRefValues(caleeSF);
         Context nativeCtx = new NativeCallContext(parentCtx, callableUnitInfo, caleeSF);
         NativeCallableUnit nativeCallable = callableUnitInfo.getNativeCallableUnit();
         if (nativeCallable == null) {
@@ -432,14 +479,28 @@ public class BLangFunctions {
             WorkerExecutionContext parentCtx, int[] argRegs, CallableUnitInfo callableUnitInfo, 
             WorkerInfo workerInfo, WorkerDataIndex wdi, WorkerData initWorkerLocalData, 
             CodeAttributeInfo initWorkerCAI, boolean runInCaller, ObserverContext observerContext) {
-        WorkerData workerLocal = BLangVMUtils.createWorkerDataForLocal(workerInfo, parentCtx, argRegs,
-                callableUnitInfo.getParamTypes());
+        /* the local data of the worker is not accessed after it returns, hence it can be reused, unless the
+         * debugger may be holding on to the worker */
+        boolean pooledLocal = !parentCtx.programFile.getDebugger().isDebugEnabled();
+        WorkerData workerLocal;
+        if (pooledLocal) {
+            workerLocal = BLangVMUtils.createPooledWorkerDataForLocal(workerInfo, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        } else {
+            workerLocal = BLangVMUtils.createWorkerDataForLocal(workerInfo, parentCtx, argRegs,
+                    callableUnitInfo.getParamTypes());
+        }
         if (initWorkerLocalData != null) {
             BLangVMUtils.mergeInitWorkertData(initWorkerLocalData, workerLocal, initWorkerCAI);
         }
+        if (!runInCaller) {
+            /* the worker runs alongside the caller, or the other workers of the callable unit */
+            BLangVMUtils.shareRefValues(workerLocal);
+        }
         WorkerData workerResult = BLangVMUtils.createWorkerData(wdi);
         WorkerExecutionContext ctx = new WorkerExecutionContext(parentCtx, respCtx, callableUnitInfo, workerInfo,
                 workerLocal, workerResult, wdi.retRegs, runInCaller);
+        ctx.pooledLocal = pooledLocal;
         ObservabilityUtils.setObserverContextToWorkerExecutionContext(ctx, observerContext);
         BLangScheduler.schedule(ctx);
         return ctx;
@@ -451,6 +512,8 @@ public class BLangFunctions {
         InitWorkerResponseContext respCtx = new InitWorkerResponseContext(parentCtx);
         WorkerExecutionContext ctx = executeWorker(respCtx, parentCtx, argRegs, callableUnitInfo,
                 workerInfo, wdi, null, null, true, observerContext);
+        /* the local data of the init worker is merged into the general workers after it returns */
+        ctx.pooledLocal = false;
         BLangScheduler.executeNow(ctx);
         WorkerData workerLocal = ctx.workerLocal;
         if (respCtx.isErrored()) {
@@ -537,6 +600,9 @@ public class BLangFunctions {
             WorkerExecutionContext parentCtx, int[] argRegs, WorkerInfo workerInfo,
             Map<String, Object> globalProps, boolean runInCaller) {
         WorkerData workerLocal = BLangVMUtils.createWorkerDataForLocal(workerInfo, parentCtx, argRegs);
+        if (!runInCaller) {
+            BLangVMUtils.shareRefValues(workerLocal);
+        }
         WorkerExecutionContext ctx = new WorkerExecutionContext(parentCtx, respCtx, parentCtx.callableUnitInfo,
                 workerInfo, workerLocal, runInCaller);
         return BLangScheduler.schedule(ctx);
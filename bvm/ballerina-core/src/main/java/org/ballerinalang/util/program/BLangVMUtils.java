@@ -20,6 +20,7 @@ package org.ballerinalang.util.program;
 import org.ballerinalang.bre.bvm.CPU;
 import org.ballerinalang.bre.bvm.CPU.HandleErrorException;
 import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
 import org.ballerinalang.bre.bvm.WorkerExecutionContext;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.TypeTags;
@@ -120,6 +121,21 @@ public class BLangVMUtils {
         }
     }
 
+    /**
+     * Shares the maps in the reference registers of the given worker data, as they are about to become reachable
+     * from another worker. See {@link BMap#share()}.
+     *
+     * @param data worker data which is handed over to another worker
+     */
+    public static void shareRefValues(WorkerData data) {
+        if (data.refRegs == null) {
+            return;
+        }
+        for (BRefType<?> value : data.refRegs) {
+            BMap.share(value);
+        }
+    }
+
     public static WorkerData createWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
             int[] argRegs, BType[] paramTypes) {
         WorkerData wd = createWorkerData(workerInfo);
@@ -127,6 +143,17 @@ public class BLangVMUtils {
         return wd;
     }
 
+    /**
+     * Creates the worker local data from the {@link WorkerDataPool} of the current thread. The data should be
+     * released back to the pool once the worker returns.
+     */
+    public static WorkerData createPooledWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
+            int[] argRegs, BType[] paramTypes) {
+        WorkerData wd = WorkerDataPool.acquire(workerInfo.getCodeAttributeInfo());
+        BLangVMUtils.copyArgValues(parentCtx.workerLocal, wd, argRegs, paramTypes);
+        return wd;
+    }
+
     static WorkerData createWorkerDataForLocal(WorkerInfo workerInfo, WorkerExecutionContext parentCtx,
                                                int[] argRegs) {
         WorkerData wd = createWorkerData(workerInfo);
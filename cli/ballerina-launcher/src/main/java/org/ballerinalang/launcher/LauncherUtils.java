@@ -24,6 +24,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.connector.impl.ServerConnectorRegistry;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.runtime.threadpool.WorkerScheduler;
 import org.ballerinalang.util.BLangConstants;
 import org.ballerinalang.util.LaunchListener;
 import org.ballerinalang.util.codegen.ProgramFile;
@@ -125,8 +126,13 @@ public class LauncherUtils {
             return;
         }
         try {
-            ThreadPoolFactory.getInstance().getWorkerExecutor().shutdown();
-            ThreadPoolFactory.getInstance().getWorkerExecutor().awaitTermination(10000, TimeUnit.MILLISECONDS);
+            ThreadPoolFactory.getInstance().getWorkerScheduler().shutdown();
+            ThreadPoolFactory.getInstance().getWorkerScheduler().awaitTermination(10000, TimeUnit.MILLISECONDS);
+            WorkerScheduler blockingNativeScheduler = ThreadPoolFactory.getInstance().getBlockingNativeScheduler();
+            if (blockingNativeScheduler != null) {
+                blockingNativeScheduler.shutdown();
+                blockingNativeScheduler.awaitTermination(10000, TimeUnit.MILLISECONDS);
+            }
         } catch (InterruptedException ex) {
             // Ignore the error
         }
@@ -45,10 +45,12 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.TaintRecord;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.tree.BLangAction;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotAttribute;
@@ -766,12 +768,22 @@ public class CodeGenerator extends BLangNodeVisitor {
         // Generate code the struct literal.
         for (BLangRecordKeyValue keyValue : structLiteral.keyValuePairs) {
             BLangRecordKey key = keyValue.key;
-            genNode(key.expr, this.env);
+            String fieldName = key.fieldSymbol.name.value;
+            int fieldPosition = getFieldPosition(structLiteral.type, fieldName);
+            if (fieldPosition < 0) {
+                genNode(key.expr, this.env);
+            }
 
             genNode(keyValue.valueExpr, this.env);
 
-            int opcode = getOpcode(key.fieldSymbol.type.tag, InstructionCodes.IFIELDSTORE);
-            emit(opcode, structRegIndex, key.expr.regIndex, keyValue.valueExpr.regIndex);
+            if (fieldPosition < 0) {
+                int opcode = getOpcode(key.fieldSymbol.type.tag, InstructionCodes.IFIELDSTORE);
+                emit(opcode, structRegIndex, key.expr.regIndex, keyValue.valueExpr.regIndex);
+            } else {
+                int opcode = getOpcode(key.fieldSymbol.type.tag, InstructionCodes.IFIELDSTORE_IDX);
+                emit(opcode, structRegIndex, getOperand(fieldPosition), getFieldNameCPIndex(fieldName),
+                        keyValue.valueExpr.regIndex);
+            }
         }
     }
 
@@ -865,6 +877,18 @@ public class CodeGenerator extends BLangNodeVisitor {
         genNode(fieldAccessExpr.expr, this.env);
         Operand varRefRegIndex = fieldAccessExpr.expr.regIndex;
 
+        // The position of a field with a constant name is resolved here, so that the field is accessed by its
+        // position in the type at runtime
+        if (fieldAccessExpr.indexExpr.getKind() == NodeKind.LITERAL) {
+            String fieldName = (String) ((BLangLiteral) fieldAccessExpr.indexExpr).value;
+            int fieldPosition = getFieldPosition(fieldAccessExpr.expr.type, fieldName);
+            if (fieldPosition >= 0) {
+                genIndexedFieldAccess(fieldAccessExpr, variableStore, fieldPosition, fieldName);
+                this.varAssignment = variableStore;
+                return;
+            }
+        }
+
         genNode(fieldAccessExpr.indexExpr, this.env);
         Operand keyRegIndex = fieldAccessExpr.indexExpr.regIndex;
 
@@ -880,6 +904,21 @@ public class CodeGenerator extends BLangNodeVisitor {
         this.varAssignment = variableStore;
     }
 
+    private void genIndexedFieldAccess(BLangStructFieldAccessExpr fieldAccessExpr, boolean variableStore,
+                                       int fieldPosition, String fieldName) {
+        Operand varRefRegIndex = fieldAccessExpr.expr.regIndex;
+        Operand fieldNameCPIndex = getFieldNameCPIndex(fieldName);
+        int opcode;
+        if (variableStore) {
+            opcode = getOpcode(fieldAccessExpr.symbol.type.tag, InstructionCodes.IFIELDSTORE_IDX);
+            emit(opcode, varRefRegIndex, getOperand(fieldPosition), fieldNameCPIndex, fieldAccessExpr.regIndex);
+        } else {
+            opcode = getOpcode(fieldAccessExpr.symbol.type.tag, InstructionCodes.IFIELDLOAD_IDX);
+            emit(opcode, varRefRegIndex, getOperand(fieldPosition), fieldNameCPIndex,
+                    calcAndGetExprRegIndex(fieldAccessExpr));
+        }
+    }
+
     @Override
     public void visit(BLangStructFunctionVarRef functionVarRef) {
         visitFunctionPointerLoad(functionVarRef, (BInvokableSymbol) functionVarRef.symbol);
@@ -1404,6 +1443,29 @@ public class CodeGenerator extends BLangNodeVisitor {
         return opcode;
     }
 
+    /**
+     * Returns the position of a field in a record or an object type, which is the position of the field in the type
+     * info written to the program file. Returns -1 if the type is not a record or an object, or it has no such field.
+     */
+    private int getFieldPosition(BType structureType, String fieldName) {
+        if (structureType.tag != TypeTags.RECORD && structureType.tag != TypeTags.OBJECT) {
+            return -1;
+        }
+
+        List<BField> fields = ((BStructureType) structureType).fields;
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).name.value.equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Operand getFieldNameCPIndex(String fieldName) {
+        StringCPEntry fieldNameCPEntry = new StringCPEntry(addUTF8CPEntry(currentPkgInfo, fieldName), fieldName);
+        return getOperand(currentPkgInfo.addCPEntry(fieldNameCPEntry));
+    }
+
     private Operand getOperand(int value) {
         return new Operand(value);
     }
@@ -311,5 +311,22 @@ public interface InstructionCodes {
     int TEQ = 253;
     int TNE = 254;
 
-    int INSTRUCTION_CODE_COUNT = 255;
+    // Loads and stores of the fields of records and objects by the position of the field in the type. The operands
+    // are the structure register, the position of the field, the constant pool index of the field name and the value
+    // register.
+    int IFIELDLOAD_IDX = 255;
+    int FFIELDLOAD_IDX = 256;
+    int SFIELDLOAD_IDX = 257;
+    int BFIELDLOAD_IDX = 258;
+    int LFIELDLOAD_IDX = 259;
+    int RFIELDLOAD_IDX = 260;
+
+    int IFIELDSTORE_IDX = 261;
+    int FFIELDSTORE_IDX = 262;
+    int SFIELDSTORE_IDX = 263;
+    int BFIELDSTORE_IDX = 264;
+    int LFIELDSTORE_IDX = 265;
+    int RFIELDSTORE_IDX = 266;
+
+    int INSTRUCTION_CODE_COUNT = 267;
 }
@@ -138,6 +138,19 @@ public class Mnemonics {
         mnemonics[InstructionCodes.RNE] = "rne";
         mnemonics[InstructionCodes.TNE] = "tne";
 
+        mnemonics[InstructionCodes.IFIELDLOAD_IDX] = "ifieldload_idx";
+        mnemonics[InstructionCodes.FFIELDLOAD_IDX] = "ffieldload_idx";
+        mnemonics[InstructionCodes.SFIELDLOAD_IDX] = "sfieldload_idx";
+        mnemonics[InstructionCodes.BFIELDLOAD_IDX] = "bfieldload_idx";
+        mnemonics[InstructionCodes.LFIELDLOAD_IDX] = "lfieldload_idx";
+        mnemonics[InstructionCodes.RFIELDLOAD_IDX] = "rfieldload_idx";
+        mnemonics[InstructionCodes.IFIELDSTORE_IDX] = "ifieldstore_idx";
+        mnemonics[InstructionCodes.FFIELDSTORE_IDX] = "ffieldstore_idx";
+        mnemonics[InstructionCodes.SFIELDSTORE_IDX] = "sfieldstore_idx";
+        mnemonics[InstructionCodes.BFIELDSTORE_IDX] = "bfieldstore_idx";
+        mnemonics[InstructionCodes.LFIELDSTORE_IDX] = "lfieldstore_idx";
+        mnemonics[InstructionCodes.RFIELDSTORE_IDX] = "rfieldstore_idx";
+
         mnemonics[InstructionCodes.IGT] = "igt";
         mnemonics[InstructionCodes.FGT] = "fgt";
         mnemonics[InstructionCodes.IGE] = "ige";
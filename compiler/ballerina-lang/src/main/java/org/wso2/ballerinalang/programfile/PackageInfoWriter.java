@@ -595,7 +595,8 @@ public class PackageInfoWriter {
         ByteArrayOutputStream byteAOS = new ByteArrayOutputStream();
         DataOutputStream dataOutStream = new DataOutputStream(byteAOS);
         for (Instruction instruction : instructions) {
-            dataOutStream.write(instruction.opcode);
+            // Opcodes are written as two bytes, as there are more than 256 instruction codes
+            dataOutStream.writeShort(instruction.opcode);
             for (Operand operand : instruction.ops) {
                 dataOutStream.writeInt(operand.value);
             }
@@ -23,9 +23,9 @@ package org.wso2.ballerinalang.programfile;
 public class ProgramFileConstants {
 
     public static final int MAGIC_NUMBER = 0xBA1DA4CE;
-    public static final short VERSION_NUMBER = 18;
-    public static final short MIN_SUPPORTED_VERSION = 18;
-    public static final short MAX_SUPPORTED_VERSION = 18;
+    public static final short VERSION_NUMBER = 19;
+    public static final short MIN_SUPPORTED_VERSION = 19;
+    public static final short MAX_SUPPORTED_VERSION = 19;
 
     // int, float, string, boolean, blob, reference type
     public static final int NO_OF_VAR_TYPE_CATEGORIES = 6;
@@ -0,0 +1,78 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+documentation {
+    Represents a channel which will allow to read/write the elements of an XML document through a given
+    CharacterChannel, one element at a time, without loading the whole document into memory.
+}
+public type XmlElementChannel object {
+    private {
+        CharacterChannel channel;
+        string path;
+    }
+
+    documentation {
+        Constructs an XmlElementChannel from a given CharacterChannel.
+
+        P{{channel}} CharacterChannel which will point to the input/output resource
+        P{{path}} Path of the elements, as element names separated by '/' starting from the root element of the
+                  document (i.e "catalog/book"). A '*' matches an element of any name. Written elements are enclosed
+                  in the elements of the path. If the path is empty, the children of the root element are read and
+                  the written elements are not enclosed.
+    }
+    public new(channel, path = "") {
+        init(channel, path);
+    }
+
+    documentation {
+        Initializes the XML element channel.
+
+        P{{characterChannel}} Character channel which will be used for reading/writing elements
+        P{{elementPath}} Path of the elements which are read/written
+    }
+    native function init(CharacterChannel characterChannel, string elementPath);
+
+    documentation {
+        Checks whether there's an element left to be read.
+
+        R{{}} True if there's an element left to be read, or an error if the document could not be read
+    }
+    public native function hasNext() returns boolean|error;
+
+    documentation {
+        Get next element from the input/output resource.
+
+        R{{}} The element which is read or an error
+    }
+    public native function getNext() returns @tainted xml|error;
+
+    documentation {
+        Writes an element to the input/output resource. The enclosing elements of the path are written before the
+        first element.
+
+        P{{content}} The element which should be written
+        R{{}} An error if the element could not be written properly
+    }
+    public native function write(xml content) returns error?;
+
+    documentation {
+        Closes a given XML element channel. The enclosing elements of the path are closed if the channel was used for
+        writing.
+
+        R{{}} An error if the channel could not be closed properly
+    }
+    public native function close() returns error?;
+};
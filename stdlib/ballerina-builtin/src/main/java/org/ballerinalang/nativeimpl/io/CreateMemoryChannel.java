@@ -27,9 +27,7 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayInputStream;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.nio.ByteBuffer;
 
 /**
  * Native function ballerina/io#createMemoryChannel.
@@ -55,9 +53,7 @@ public class CreateMemoryChannel extends AbstractNativeChannel {
     public Channel inFlow(Context context) throws BallerinaException {
         try {
             byte[] content = context.getBlobArgument(MESSAGE_CONTENT_INDEX);
-            ByteArrayInputStream contentStream = new ByteArrayInputStream(content);
-            ReadableByteChannel readableByteChannel = Channels.newChannel(contentStream);
-            return new BlobIOChannel(new BlobChannel(readableByteChannel));
+            return new BlobIOChannel(new BlobChannel(ByteBuffer.wrap(content)));
         } catch (Throwable e) {
             String message = "Error occurred while obtaining channel";
             throw new BallerinaIOException(message, e);
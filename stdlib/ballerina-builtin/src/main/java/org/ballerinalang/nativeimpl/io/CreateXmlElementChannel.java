@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.nativeimpl.io;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.io.channels.base.CharacterChannel;
+import org.ballerinalang.nativeimpl.io.channels.base.XmlElementChannel;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+
+/**
+ * Native function ballerina/io#XmlElementChannel.init.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "io",
+        functionName = "init",
+        receiver = @Receiver(type = TypeKind.OBJECT,
+                structType = "XmlElementChannel",
+                structPackage = "ballerina/io"),
+        args = {@Argument(name = "channel", type = TypeKind.OBJECT, structType = "CharacterChannel",
+                structPackage = "ballerina/io"),
+                @Argument(name = "path", type = TypeKind.STRING)},
+        isPublic = true
+)
+public class CreateXmlElementChannel extends BlockingNativeCallableUnit {
+
+    /**
+     * Specifies the index of the XML element channel.
+     */
+    private static final int XML_ELEMENT_CHANNEL_INDEX = 0;
+    /**
+     * The index of the character channel in ballerina/io#XmlElementChannel.init().
+     */
+    private static final int CHAR_CHANNEL_INDEX = 1;
+    /**
+     * The index of the element path in ballerina/io#XmlElementChannel.init().
+     */
+    private static final int PATH_INDEX = 0;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> xmlElementChannel =
+                (BMap<String, BValue>) context.getRefArgument(XML_ELEMENT_CHANNEL_INDEX);
+        BMap<String, BValue> characterChannelInfo =
+                (BMap<String, BValue>) context.getRefArgument(CHAR_CHANNEL_INDEX);
+        String path = context.getStringArgument(PATH_INDEX);
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelInfo.getNativeData(IOConstants
+                .CHARACTER_CHANNEL_NAME);
+        xmlElementChannel.addNativeData(IOConstants.XML_ELEMENT_CHANNEL_NAME,
+                new XmlElementChannel(characterChannel, path));
+    }
+}
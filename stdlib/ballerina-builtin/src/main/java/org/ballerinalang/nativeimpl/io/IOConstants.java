@@ -43,6 +43,11 @@ public class IOConstants {
      */
     static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the XML element channel which will be represented through the native struct.
+     */
+    static final String XML_ELEMENT_CHANNEL_NAME = "xml_element_channel";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
@@ -0,0 +1,79 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.nativeimpl.io;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.nativeimpl.io.channels.base.XmlElementChannel;
+import org.ballerinalang.nativeimpl.io.utils.IOUtils;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.IOException;
+
+/**
+ * Native function ballerina/io#XmlElementChannel.write.
+ *
+ * @since 0.976.1
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "io",
+        functionName = "write",
+        receiver = @Receiver(type = TypeKind.OBJECT,
+                structType = "XmlElementChannel",
+                structPackage = "ballerina/io"),
+        args = {@Argument(name = "content", type = TypeKind.XML)},
+        returnType = {@ReturnType(type = TypeKind.RECORD, structType = "IOError", structPackage = "ballerina/io")},
+        isPublic = true
+)
+public class WriteXmlElement extends BlockingNativeCallableUnit {
+
+    /**
+     * Specifies the index of the XML element channel in ballerina/io#XmlElementChannel.write().
+     */
+    private static final int XML_ELEMENT_CHANNEL_INDEX = 0;
+    /**
+     * The index of the content in ballerina/io#XmlElementChannel.write().
+     */
+    private static final int CONTENT_INDEX = 1;
+
+    /**
+     * Writes an element to the channel.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> channel = (BMap<String, BValue>) context.getRefArgument(XML_ELEMENT_CHANNEL_INDEX);
+        XmlElementChannel xmlElementChannel =
+                (XmlElementChannel) channel.getNativeData(IOConstants.XML_ELEMENT_CHANNEL_NAME);
+        BXML<?> content = (BXML<?>) context.getRefArgument(CONTENT_INDEX);
+        try {
+            xmlElementChannel.write(content);
+        } catch (IOException | BallerinaException e) {
+            context.setReturnValues(IOUtils.createError(context, e.getMessage()));
+        }
+    }
+}
@@ -20,22 +20,114 @@ package org.ballerinalang.nativeimpl.io.channels;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Creates channel which will reference byte content.
+ * <p>
+ * When the content is given as a buffer, it is read from the buffer directly and can be sliced or transferred to
+ * another channel without copying it.
  */
 public class BlobChannel implements ByteChannel {
 
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
     private ReadableByteChannel channel;
 
+    private ByteBuffer content;
+
+    private boolean open = true;
+
     public BlobChannel(ReadableByteChannel channel) {
         this.channel = channel;
     }
 
+    /**
+     * Creates a channel over the remaining content of the given buffer. The content is not copied.
+     *
+     * @param content buffer which holds the content
+     */
+    public BlobChannel(ByteBuffer content) {
+        this.content = content.slice();
+    }
+
     @Override
     public int read(ByteBuffer dst) throws IOException {
-        return channel.read(dst);
+        if (content == null) {
+            return channel.read(dst);
+        }
+        ensureOpen();
+        if (!content.hasRemaining()) {
+            return -1;
+        }
+        int length = Math.min(dst.remaining(), content.remaining());
+        ByteBuffer slice = content.slice();
+        slice.limit(length);
+        dst.put(slice);
+        content.position(content.position() + length);
+        return length;
+    }
+
+    /**
+     * Returns the remaining content of the channel, without consuming it.
+     *
+     * @return the remaining content, or null if the channel is not backed by a buffer
+     */
+    ByteBuffer getRemainingContent() {
+        return content != null && open ? content.asReadOnlyBuffer() : null;
+    }
+
+    /**
+     * Transfers the content of the channel to the given channel. Content held in a buffer is transferred without
+     * copying it, while the content of a stream is copied through a buffer of a fixed size.
+     *
+     * @param position   position of the first byte to transfer, relative to the remaining content
+     * @param count      number of bytes to transfer
+     * @param dstChannel channel to transfer the content to
+     * @throws IOException during I/O error
+     */
+    void transferTo(int position, int count, WritableByteChannel dstChannel) throws IOException {
+        if (content == null) {
+            copyTo(position, count, dstChannel);
+            return;
+        }
+        ensureOpen();
+        ByteBuffer slice = content.slice();
+        slice.position(Math.min(position, slice.limit()));
+        slice.limit(Math.min(slice.position() + count, slice.limit()));
+        while (slice.hasRemaining()) {
+            dstChannel.write(slice);
+        }
+    }
+
+    private void copyTo(int position, int count, WritableByteChannel dstChannel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long skipped = 0;
+        while (skipped < position) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), position - skipped));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                return;
+            }
+            skipped += read;
+        }
+        long transferred = 0;
+        while (transferred < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), count - transferred));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                return;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                dstChannel.write(buffer);
+            }
+            transferred += read;
+        }
     }
 
     @Override
@@ -45,11 +137,21 @@ public class BlobChannel implements ByteChannel {
 
     @Override
     public boolean isOpen() {
-        return channel.isOpen();
+        return content != null ? open : channel.isOpen();
     }
 
     @Override
     public void close() throws IOException {
+        if (content != null) {
+            open = false;
+            return;
+        }
         channel.close();
     }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
 }
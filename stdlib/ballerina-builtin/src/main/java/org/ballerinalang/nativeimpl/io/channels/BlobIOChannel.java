@@ -23,6 +23,7 @@ import org.ballerinalang.nativeimpl.io.channels.base.readers.AsyncReader;
 import org.ballerinalang.nativeimpl.io.channels.base.writers.AsyncWriter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 
 /**
@@ -30,16 +31,32 @@ import java.nio.channels.WritableByteChannel;
  */
 public class BlobIOChannel extends Channel {
 
+    private BlobChannel channel;
+
     public BlobIOChannel(BlobChannel channel) throws BallerinaIOException {
         super(channel, new AsyncReader(), new AsyncWriter());
+        this.channel = channel;
     }
 
     /**
+     * Transfers the content directly from the blob, when the channel is backed by one. Otherwise the content is
+     * copied through a buffer.
+     * <p>
      * {@inheritDoc}
      */
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException {
-        throw new UnsupportedOperationException();
+        channel.transferTo(position, count, dstChannel);
+    }
+
+    /**
+     * Slices the remaining content of the blob.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer mapContent() {
+        return channel.getRemainingContent();
     }
 
 }
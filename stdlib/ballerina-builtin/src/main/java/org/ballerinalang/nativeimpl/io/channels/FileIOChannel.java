@@ -25,7 +25,9 @@ import org.ballerinalang.nativeimpl.io.channels.base.writers.AsyncWriter;
 import org.ballerinalang.nativeimpl.io.channels.base.writers.BlockingWriter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.NonReadableChannelException;
 import java.nio.channels.WritableByteChannel;
 
 /**
@@ -40,13 +42,21 @@ public class FileIOChannel extends Channel {
      */
     private FileChannel channel;
 
+    /**
+     * Specifies whether the content is read ahead into a buffer, in which case the position of the file channel is
+     * ahead of the content read through this channel.
+     */
+    private boolean buffered;
+
     FileIOChannel(FileChannel channel, int size) throws BallerinaIOException {
         super(channel, new BlockingReader(), new BlockingWriter(), size);
         this.channel = channel;
+        this.buffered = true;
     }
 
     public FileIOChannel(FileChannel channel) throws BallerinaIOException {
         super(channel, new AsyncReader(), new AsyncWriter());
+        this.channel = channel;
     }
 
     /**
@@ -62,4 +72,27 @@ public class FileIOChannel extends Channel {
             throw new BallerinaIOException("Error occurred while transferring file", e);
         }
     }
+
+    /**
+     * Maps the remaining content of the file into memory.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer mapContent() throws IOException {
+        if (buffered || !channel.isOpen()) {
+            return null;
+        }
+        long position = channel.position();
+        long size = channel.size() - position;
+        if (size > Integer.MAX_VALUE) {
+            return null;
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (NonReadableChannelException e) {
+            // The file is opened only for writing
+            return null;
+        }
+    }
 }
@@ -138,6 +138,19 @@ public abstract class Channel {
      */
     public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
 
+    /**
+     * Returns the remaining content of the channel as a buffer, if it can be obtained without copying it, i.e. by
+     * mapping a file into memory or by slicing the content of an in memory channel.
+     * <p>
+     * The content is not consumed from the channel, and the returned buffer stays valid after the channel is closed.
+     *
+     * @return the remaining content, or null if it cannot be obtained without copying it
+     * @throws IOException during I/O error.
+     */
+    public ByteBuffer mapContent() throws IOException {
+        return null;
+    }
+
     /**
      * Specifies whether the channel has reached to it's end.
      *
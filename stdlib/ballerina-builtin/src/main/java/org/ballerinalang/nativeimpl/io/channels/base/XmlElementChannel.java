@@ -0,0 +1,122 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.nativeimpl.io.channels.base;
+
+import org.ballerinalang.model.util.XMLElementStream;
+import org.ballerinalang.model.util.XMLElementWriter;
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.nativeimpl.io.readers.CharacterChannelReader;
+import org.ballerinalang.nativeimpl.io.writers.CharacterChannelWriter;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Allows reading and writing the XML elements selected by a path, one element at a time, without holding the whole
+ * XML document in memory.
+ * </p>
+ * <p>
+ * The channel is used either for reading or for writing. See {@link XMLElementStream} for the path syntax.
+ * </p>
+ * <p>
+ * <b>Note : </b> this channel does not support concurrent operations, since underlying CharacterChannel is not
+ * synchronous.
+ * </p>
+ *
+ * @since 0.976.1
+ */
+public class XmlElementChannel {
+
+    /**
+     * Read/Writes characters.
+     */
+    private CharacterChannel channel;
+
+    /**
+     * Path of the elements which are read or written.
+     */
+    private String path;
+
+    /**
+     * Reads the elements, once the first element is requested.
+     */
+    private XMLElementStream elementStream;
+
+    /**
+     * Writes the elements, once the first element is written.
+     */
+    private XMLElementWriter elementWriter;
+
+    public XmlElementChannel(CharacterChannel channel, String path) {
+        this.channel = channel;
+        this.path = path;
+    }
+
+    /**
+     * Check whether there are more elements to be read.
+     *
+     * @return true if there is another element in the channel.
+     */
+    public boolean hasNext() {
+        return getElementStream().hasNext();
+    }
+
+    /**
+     * Reads the next element from the channel.
+     *
+     * @return the next element.
+     */
+    public BXML<?> next() {
+        return getElementStream().next();
+    }
+
+    /**
+     * Writes an element to the channel.
+     *
+     * @param element the element which should be written.
+     * @throws IOException if an error occurs while writing to the channel.
+     */
+    public void write(BXML<?> element) throws IOException {
+        if (elementWriter == null) {
+            elementWriter = new XMLElementWriter(new CharacterChannelWriter(channel), path);
+        }
+        elementWriter.write(element);
+    }
+
+    /**
+     * Closes the channel, completing the document if elements were written.
+     *
+     * @throws IOException if an error occurs while closing the channel.
+     */
+    public void close() throws IOException {
+        if (elementWriter != null) {
+            elementWriter.close();
+        } else if (elementStream != null) {
+            elementStream.close();
+        } else {
+            channel.close();
+        }
+    }
+
+    private XMLElementStream getElementStream() {
+        if (elementStream == null) {
+            elementStream = new XMLElementStream(new CharacterChannelReader(channel), path);
+        }
+        return elementStream;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.nativeimpl.io.writers;
+
+import org.ballerinalang.nativeimpl.io.IOConstants;
+import org.ballerinalang.nativeimpl.io.channels.base.CharacterChannel;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * This sub class of {@link Writer} use to convert {@link CharacterChannel} to Writer instance.
+ * <p>
+ * The characters are buffered, and are written to the channel once the buffer is full or the writer is flushed.
+ */
+public class CharacterChannelWriter extends Writer {
+
+    private CharacterChannel channel;
+
+    private StringBuilder buffer = new StringBuilder();
+
+    public CharacterChannelWriter(CharacterChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        buffer.append(cbuf, off, len);
+        if (buffer.length() >= IOConstants.CHANNEL_BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        buffer.append(str, off, off + len);
+        if (buffer.length() >= IOConstants.CHANNEL_BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer.length() > 0) {
+            channel.write(buffer.toString(), 0);
+            buffer.setLength(0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
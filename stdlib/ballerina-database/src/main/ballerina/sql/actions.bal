@@ -37,10 +37,12 @@ public type CallerActions object {
         P{{sqlQuery}} SQL query to execute
         P{{recordType}} Type of the returned table
         P{{loadToMemory}} Indicates whether to load the retrieved data to memory or not
+        P{{fetchSize}} Number of rows fetched from the database in a single round trip while the returned table is
+                       iterated. The default value of 0 leaves the fetch size to the database driver
         R{{}} A `table` returned by the sql query statement else `error` will be returned if there is any error
     }
     public native function select(@sensitive string sqlQuery, typedesc? recordType, boolean loadToMemory = false,
-                                  Param... parameters) returns @tainted table|error;
+                                  int fetchSize = 0, Param... parameters) returns @tainted table|error;
 
     documentation {
         The update operation implementation for SQL connector to update data and schema of the database.
@@ -180,6 +180,45 @@ public final class Constants {
         public static final String EQUAL_SYMBOL = "=";
     }
 
+    /**
+     * Constants for caching prepared statements.
+     */
+    public static final class StatementCacheConfig {
+        public static final String CACHE_SIZE_CONFIG = "b7a.sql.statementcache.size";
+        public static final int DEFAULT_CACHE_SIZE = 250;
+        public static final int MAX_CACHED_SQL_LENGTH = 2048;
+
+        // MySQL driver properties
+        public static final String MYSQL_CACHE_PREPARED_STATEMENTS = "cachePrepStmts";
+        public static final String MYSQL_USE_SERVER_PREPARED_STATEMENTS = "useServerPrepStmts";
+        public static final String MYSQL_PREPARED_STATEMENT_CACHE_SIZE = "prepStmtCacheSize";
+        public static final String MYSQL_PREPARED_STATEMENT_CACHE_SQL_LIMIT = "prepStmtCacheSqlLimit";
+
+        // PostgreSQL driver properties
+        public static final String POSTGRES_PREPARED_STATEMENT_CACHE_QUERIES = "preparedStatementCacheQueries";
+    }
+
+    /**
+     * Constants for rewriting the single row INSERT statements of batches to multi-row INSERT statements.
+     */
+    public static final class BatchInsertConfig {
+        public static final String ROWS_PER_INSERT_CONFIG = "b7a.sql.batch.insert.rows";
+        public static final int DEFAULT_ROWS_PER_INSERT = 0;
+        public static final int MAX_ROWS_PER_INSERT = 1000;
+        public static final int MAX_PARAMETERS_PER_INSERT = 2000;
+    }
+
+    /**
+     * Constants for executing the SQL actions asynchronously.
+     */
+    public static final class AsyncExecutionConfig {
+        public static final String ENABLED_CONFIG = "b7a.sql.async.enabled";
+        public static final String QUEUE_SIZE_CONFIG = "b7a.sql.async.queue.size";
+        public static final String QUEUE_TIMEOUT_CONFIG = "b7a.sql.async.queue.timeout";
+        public static final int DEFAULT_QUEUE_SIZE = 1000;
+        public static final long DEFAULT_QUEUE_TIMEOUT = 30000;
+    }
+
     public static final String CONNECTOR_NAME = "ClientConnector";
     public static final String TIMEZONE_UTC = "UTC";
     public static final String QUESTION_MARK = "?";
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+/**
+ * A single row INSERT statement of the form {@code INSERT INTO ... VALUES (...)}, which is rewritten to insert
+ * multiple rows with a single statement, i.e. {@code INSERT INTO ... VALUES (...), (...), ...}, when it is executed
+ * as a batch. All the placeholders of the statement should be in its row of values.
+ *
+ * @since 0.976.1
+ */
+public class MultiRowInsert {
+
+    private static final String INSERT_KEYWORD = "INSERT";
+    private static final String VALUES_KEYWORD = "VALUES";
+
+    private final String prefix;
+    private final String row;
+    private final int parameterCount;
+
+    private MultiRowInsert(String prefix, String row, int parameterCount) {
+        this.prefix = prefix;
+        this.row = row;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * Parse the given query as a single row INSERT statement.
+     *
+     * @param query the query of the batch
+     * @return the parsed statement, or null if the query is not a single row INSERT statement which can be rewritten
+     */
+    public static MultiRowInsert parse(String query) {
+        String trimmedQuery = query.trim();
+        if (!startsWithKeyword(trimmedQuery, 0, INSERT_KEYWORD)) {
+            return null;
+        }
+        int length = trimmedQuery.length();
+        int valuesIndex = -1;
+        int rowStart = -1;
+        int rowEnd = -1;
+        int depth = 0;
+        int parameterCount = 0;
+        int rowParameterCount = 0;
+        char quote = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = trimmedQuery.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (ch) {
+            case '\'':
+            case '"':
+            case '`':
+                quote = ch;
+                break;
+            case '-':
+            case '/':
+                if (i + 1 < length && trimmedQuery.charAt(i + 1) == (ch == '-' ? '-' : '*')) {
+                    // Comments are not expected in the statement of a batch, hence it is executed as it is
+                    return null;
+                }
+                break;
+            case '?':
+                parameterCount++;
+                if (rowStart != -1 && rowEnd == -1) {
+                    rowParameterCount++;
+                }
+                break;
+            case '(':
+                if (depth == 0 && valuesIndex != -1 && rowStart == -1) {
+                    if (!trimmedQuery.substring(valuesIndex + VALUES_KEYWORD.length(), i).trim().isEmpty()) {
+                        return null;
+                    }
+                    rowStart = i;
+                }
+                depth++;
+                break;
+            case ')':
+                depth--;
+                if (depth == 0 && rowStart != -1 && rowEnd == -1) {
+                    rowEnd = i;
+                }
+                break;
+            default:
+                if (depth == 0 && rowEnd == -1 && (ch == 'V' || ch == 'v')
+                        && startsWithKeyword(trimmedQuery, i, VALUES_KEYWORD)) {
+                    if (valuesIndex != -1) {
+                        return null;
+                    }
+                    valuesIndex = i;
+                }
+                break;
+            }
+            if (rowEnd != -1 && i > rowEnd && !Character.isWhitespace(ch) && !(ch == ';' && isLast(trimmedQuery, i))) {
+                // Anything after the row of values, e.g. more rows, or an ON DUPLICATE KEY clause
+                return null;
+            }
+        }
+        if (rowEnd == -1 || quote != 0 || parameterCount == 0 || parameterCount != rowParameterCount) {
+            return null;
+        }
+        return new MultiRowInsert(trimmedQuery.substring(0, rowStart), trimmedQuery.substring(rowStart, rowEnd + 1),
+                parameterCount);
+    }
+
+    /**
+     * Get the number of placeholders in a row of the statement.
+     *
+     * @return the number of placeholders
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Get the statement which inserts the given number of rows.
+     *
+     * @param rowCount number of rows
+     * @return the statement
+     */
+    public String getQuery(int rowCount) {
+        StringBuilder builder = new StringBuilder(prefix.length() + (row.length() + 2) * rowCount);
+        builder.append(prefix).append(row);
+        for (int i = 1; i < rowCount; i++) {
+            builder.append(", ").append(row);
+        }
+        return builder.toString();
+    }
+
+    private static boolean startsWithKeyword(String query, int index, String keyword) {
+        int end = index + keyword.length();
+        if (end > query.length() || !query.regionMatches(true, index, keyword, 0, keyword.length())) {
+            return false;
+        }
+        return (index == 0 || !isIdentifierPart(query.charAt(index - 1)))
+                && (end == query.length() || !isIdentifierPart(query.charAt(end)));
+    }
+
+    private static boolean isIdentifierPart(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '$' || ch == '.';
+    }
+
+    private static boolean isLast(String query, int index) {
+        return query.substring(index + 1).trim().isEmpty();
+    }
+}
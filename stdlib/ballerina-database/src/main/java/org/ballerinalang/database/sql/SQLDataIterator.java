@@ -42,15 +42,14 @@ import org.ballerinalang.util.codegen.StructureTypeInfo;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
-import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Struct;
-import java.sql.Time;
-import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
@@ -71,6 +70,9 @@ public class SQLDataIterator extends TableIterator {
             "Corresponding Union type in the record is not an " + "assignable nillable type";
     private static final String MISMATCHING_FIELD_ASSIGNMENT = "Trying to assign to a mismatching type";
 
+    private SQLColumnDefinition[] sqlColumnDefs;
+    private ColumnExtractor[] columnExtractors;
+
     public SQLDataIterator(Calendar utcCalendar, BStructureType structType, StructureTypeInfo timeStructInfo,
                            StructureTypeInfo zoneStructInfo, TableResourceManager rm,
                            ResultSet rs, List<ColumnDefinition> columnDefs) {
@@ -129,124 +131,123 @@ public class SQLDataIterator extends TableIterator {
         if (this.type == null) {
             throw new BallerinaException("the expected struct type is not specified in action");
         }
+        if (columnExtractors == null) {
+            createColumnExtractors();
+        }
         BMap<String, BValue> bStruct = new BMap<>(this.type);
         int index = 0;
-        String columnName = null;
-        int sqlType = -1;
         try {
-            BField[] structFields = this.type.getFields();
-            for (ColumnDefinition columnDef : columnDefs) {
-                if (columnDef instanceof SQLColumnDefinition) {
-                    SQLColumnDefinition def = (SQLColumnDefinition) columnDef;
-                    columnName = def.getName();
-                    sqlType = def.getSqlType();
-                    ++index;
-                    BField field = structFields[index - 1];
-                    BType fieldType = field.getFieldType();
-                    String fieldName = field.fieldName;
-                    switch (sqlType) {
-                    case Types.ARRAY:
-                        Array data = rs.getArray(index);
-                        handleArrayValue(bStruct, fieldName, data, fieldType);
-                        break;
-                    case Types.CHAR:
-                    case Types.VARCHAR:
-                    case Types.LONGVARCHAR:
-                    case Types.NCHAR:
-                    case Types.NVARCHAR:
-                    case Types.LONGNVARCHAR:
-                        String sValue = rs.getString(index);
-                        handleStringValue(sValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.BINARY:
-                    case Types.VARBINARY:
-                    case Types.LONGVARBINARY:
-                        byte[] binaryValue = rs.getBytes(index);
-                        handleBinaryValue(bStruct, fieldName, binaryValue, fieldType);
-                        break;
-                    case Types.BLOB:
-                        Blob blobValue = rs.getBlob(index);
-                        handleBinaryValue(bStruct, fieldName,
-                                blobValue == null ? null : blobValue.getBytes(1L, (int) blobValue.length()), fieldType);
-                        break;
-                    case Types.CLOB:
-                        String clobValue = SQLDatasourceUtils.getString((rs.getClob(index)));
-                        handleStringValue(clobValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.NCLOB:
-                        String nClobValue = SQLDatasourceUtils.getString((rs.getNClob(index)));
-                        handleStringValue(nClobValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.DATE:
-                        Date date = rs.getDate(index);
-                        handleDateValue(bStruct, fieldName, date, fieldType);
-                        break;
-                    case Types.TIME:
-                    case Types.TIME_WITH_TIMEZONE:
-                        Time time = rs.getTime(index, utcCalendar);
-                        handleDateValue(bStruct, fieldName, time, fieldType);
-                        break;
-                    case Types.TIMESTAMP:
-                    case Types.TIMESTAMP_WITH_TIMEZONE:
-                        Timestamp timestamp = rs.getTimestamp(index, utcCalendar);
-                        handleDateValue(bStruct, fieldName, timestamp, fieldType);
-                        break;
-                    case Types.ROWID:
-                        sValue = new String(rs.getRowId(index).getBytes(), "UTF-8");
-                        handleStringValue(sValue, fieldName, bStruct, fieldType);
-                        break;
-                    case Types.TINYINT:
-                    case Types.SMALLINT:
-                        long iValue = rs.getInt(index);
-                        handleLongValue(iValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.INTEGER:
-                    case Types.BIGINT:
-                        long lValue = rs.getLong(index);
-                        handleLongValue(lValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.REAL:
-                    case Types.FLOAT:
-                        double fValue = rs.getFloat(index);
-                        handleDoubleValue(fValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.DOUBLE:
-                        double dValue = rs.getDouble(index);
-                        handleDoubleValue(dValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.NUMERIC:
-                    case Types.DECIMAL:
-                        double decimalValue = 0;
-                        BigDecimal bigDecimalValue = rs.getBigDecimal(index);
-                        if (bigDecimalValue != null) {
-                            decimalValue = bigDecimalValue.doubleValue();
-                        }
-                        handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
-                        break;
-                    case Types.BIT:
-                    case Types.BOOLEAN:
-                        boolean boolValue = rs.getBoolean(index);
-                        handleBooleanValue(bStruct, fieldName, boolValue, fieldType);
-                        break;
-                    case Types.STRUCT:
-                        Struct structData = (Struct) rs.getObject(index);
-                        handleStructValue(bStruct, fieldName, structData, fieldType);
-                        break;
-                    default:
-                        throw new BallerinaException(
-                                "unsupported sql type " + sqlType + " found for the column " + columnName + " index:"
-                                        + index);
-                    }
-                }
+            for (; index < columnExtractors.length; index++) {
+                columnExtractors[index].extract(bStruct, index + 1);
             }
         } catch (Throwable e) {
+            SQLColumnDefinition def = sqlColumnDefs[index];
             throw new BallerinaException(
-                    "error in retrieving next value for column: " + columnName + ": of SQL Type: " + sqlType + ": "
-                            + "at " + "index:" + index + ":" + e.getMessage());
+                    "error in retrieving next value for column: " + def.getName() + ": of SQL Type: "
+                            + def.getSqlType() + ": " + "at " + "index:" + (index + 1) + ":" + e.getMessage());
         }
         return bStruct;
     }
 
+    /**
+     * Resolves the value extraction logic of each column once per result set, so that the SQL type of a column is
+     * not switched on for every cell of the result.
+     */
+    private void createColumnExtractors() {
+        List<SQLColumnDefinition> defs = new ArrayList<>(columnDefs.size());
+        for (ColumnDefinition columnDef : columnDefs) {
+            if (columnDef instanceof SQLColumnDefinition) {
+                defs.add((SQLColumnDefinition) columnDef);
+            }
+        }
+        BField[] structFields = this.type.getFields();
+        ColumnExtractor[] extractors = new ColumnExtractor[defs.size()];
+        for (int i = 0; i < extractors.length; i++) {
+            SQLColumnDefinition def = defs.get(i);
+            if (i < structFields.length) {
+                extractors[i] = createColumnExtractor(def, structFields[i].fieldName, structFields[i].getFieldType());
+            } else {
+                extractors[i] = (bStruct, index) -> {
+                    throw new BallerinaException("no matching field found in the record type for the column");
+                };
+            }
+        }
+        this.sqlColumnDefs = defs.toArray(new SQLColumnDefinition[0]);
+        this.columnExtractors = extractors;
+    }
+
+    private ColumnExtractor createColumnExtractor(SQLColumnDefinition def, String fieldName, BType fieldType) {
+        int sqlType = def.getSqlType();
+        switch (sqlType) {
+        case Types.ARRAY:
+            return (bStruct, index) -> handleArrayValue(bStruct, fieldName, rs.getArray(index), fieldType);
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+            return (bStruct, index) -> handleStringValue(rs.getString(index), fieldName, bStruct, fieldType);
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+            return (bStruct, index) -> handleBinaryValue(bStruct, fieldName, rs.getBytes(index), fieldType);
+        case Types.BLOB:
+            return (bStruct, index) -> {
+                Blob blobValue = rs.getBlob(index);
+                handleBinaryValue(bStruct, fieldName,
+                        blobValue == null ? null : blobValue.getBytes(1L, (int) blobValue.length()), fieldType);
+            };
+        case Types.CLOB:
+            return (bStruct, index) -> handleStringValue(SQLDatasourceUtils.getString(rs.getClob(index)), fieldName,
+                    bStruct, fieldType);
+        case Types.NCLOB:
+            return (bStruct, index) -> handleStringValue(SQLDatasourceUtils.getString(rs.getNClob(index)), fieldName,
+                    bStruct, fieldType);
+        case Types.DATE:
+            return (bStruct, index) -> handleDateValue(bStruct, fieldName, rs.getDate(index), fieldType);
+        case Types.TIME:
+        case Types.TIME_WITH_TIMEZONE:
+            return (bStruct, index) -> handleDateValue(bStruct, fieldName, rs.getTime(index, utcCalendar), fieldType);
+        case Types.TIMESTAMP:
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+            return (bStruct, index) -> handleDateValue(bStruct, fieldName, rs.getTimestamp(index, utcCalendar),
+                    fieldType);
+        case Types.ROWID:
+            return (bStruct, index) -> handleStringValue(
+                    new String(rs.getRowId(index).getBytes(), StandardCharsets.UTF_8), fieldName, bStruct, fieldType);
+        case Types.TINYINT:
+        case Types.SMALLINT:
+            return (bStruct, index) -> handleLongValue(rs.getInt(index), bStruct, fieldName, fieldType);
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return (bStruct, index) -> handleLongValue(rs.getLong(index), bStruct, fieldName, fieldType);
+        case Types.REAL:
+        case Types.FLOAT:
+            return (bStruct, index) -> handleDoubleValue(rs.getFloat(index), bStruct, fieldName, fieldType);
+        case Types.DOUBLE:
+            return (bStruct, index) -> handleDoubleValue(rs.getDouble(index), bStruct, fieldName, fieldType);
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+            return (bStruct, index) -> {
+                BigDecimal bigDecimalValue = rs.getBigDecimal(index);
+                double decimalValue = bigDecimalValue != null ? bigDecimalValue.doubleValue() : 0;
+                handleDoubleValue(decimalValue, bStruct, fieldName, fieldType);
+            };
+        case Types.BIT:
+        case Types.BOOLEAN:
+            return (bStruct, index) -> handleBooleanValue(bStruct, fieldName, rs.getBoolean(index), fieldType);
+        case Types.STRUCT:
+            return (bStruct, index) -> handleStructValue(bStruct, fieldName, (Struct) rs.getObject(index), fieldType);
+        default:
+            return (bStruct, index) -> {
+                throw new BallerinaException(
+                        "unsupported sql type " + sqlType + " found for the column " + def.getName() + " index:"
+                                + index);
+            };
+        }
+    }
+
     private void validateAndSetRefRecordField(BMap<String, BValue> bStruct, String fieldName, int expectedTypeTag,
                                               int actualTypeTag, BRefType value, String exceptionMessage) {
         if (expectedTypeTag == actualTypeTag) {
@@ -569,6 +570,15 @@ public class SQLDataIterator extends TableIterator {
         }
     }
 
+    /**
+     * Extracts the value of a column of the current row of the result set into the given record.
+     */
+    @FunctionalInterface
+    private interface ColumnExtractor {
+
+        void extract(BMap<String, BValue> bStruct, int index) throws SQLException;
+    }
+
     /**
      * This represents a column definition for a column in a table.
      */
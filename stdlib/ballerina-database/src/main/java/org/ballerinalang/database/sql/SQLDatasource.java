@@ -19,6 +19,7 @@ package org.ballerinalang.database.sql;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.connector.api.Struct;
 import org.ballerinalang.connector.api.Value;
 import org.ballerinalang.model.types.BType;
@@ -30,6 +31,9 @@ import org.ballerinalang.model.values.BRefType;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.metrics.CallbackGauge;
+import org.ballerinalang.util.metrics.DefaultMetricRegistry;
+import org.ballerinalang.util.metrics.MetricRegistry;
 
 import java.io.File;
 import java.sql.Connection;
@@ -37,6 +41,7 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import javax.sql.XADataSource;
@@ -54,6 +59,9 @@ public class SQLDatasource implements BValue {
     private String databaseProductName;
     private String connectorId;
     private boolean xaConn;
+    private StatementCache statementCache;
+    private SQLExecutor sqlExecutor;
+    private int batchInsertRows;
 
     public SQLDatasource() {
     }
@@ -62,6 +70,8 @@ public class SQLDatasource implements BValue {
             String password, String dbName, String dbOptions, Map dbOptionsMap) {
         databaseName = dbName;
         peerAddress = url;
+        statementCache = new StatementCache(getStatementCacheSize());
+        batchInsertRows = getRowsPerBatchInsert();
         buildDataSource(options, url, dbType, hostOrPath, dbName, port, username, password, dbOptions, dbOptionsMap);
         connectorId = UUID.randomUUID().toString();
         xaConn = isXADataSource();
@@ -71,6 +81,9 @@ public class SQLDatasource implements BValue {
             throw new BallerinaException("error in get connection: " + Constants.CONNECTOR_NAME + ": " + e.getMessage(),
                     e);
         }
+        registerStatementCacheMetrics();
+        sqlExecutor = SQLExecutor.createExecutor(hikariDataSource.getMaximumPoolSize());
+        registerExecutorMetrics();
         return true;
     }
 
@@ -115,6 +128,34 @@ public class SQLDatasource implements BValue {
         return this.connectorId;
     }
 
+    /**
+     * Get the cache of the statements which are executed through this datasource.
+     *
+     * @return The statement cache.
+     */
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Get the executor of the actions of this datasource, if they are executed asynchronously.
+     *
+     * @return The executor, or null if the actions are executed in the calling worker.
+     */
+    public SQLExecutor getSQLExecutor() {
+        return sqlExecutor;
+    }
+
+    /**
+     * Get the maximum number of rows which are inserted with a single statement, when a batch of single row INSERT
+     * statements is rewritten to multi-row INSERT statements.
+     *
+     * @return The maximum number of rows, or a value less than 2 if the batches are not rewritten.
+     */
+    public int getBatchInsertRows() {
+        return batchInsertRows;
+    }
+
     public boolean isXAConnection() {
         return this.xaConn;
     }
@@ -130,6 +171,9 @@ public class SQLDatasource implements BValue {
     }
 
     public void closeConnectionPool() {
+        if (sqlExecutor != null) {
+            sqlExecutor.shutdown();
+        }
         hikariDataSource.close();
     }
 
@@ -197,6 +241,9 @@ public class SQLDatasource implements BValue {
             } else {
                 config.setJdbcUrl(jdbcurl);
             }
+            if (config.getJdbcUrl() != null) {
+                setStatementCacheProperties(config, jdbcurl);
+            }
             hikariDataSource = new HikariDataSource(config);
         } catch (Throwable t) {
             throw new BallerinaException("error in sql connector configuration:" + t.getMessage());
@@ -403,6 +450,90 @@ public class SQLDatasource implements BValue {
         }
     }
 
+    /**
+     * Configure the JDBC driver to cache the prepared statements of the connections, and to prepare them on the
+     * server, unless the driver properties are given explicitly. Hikari does not cache statements, and leaves it to
+     * the driver.
+     */
+    private void setStatementCacheProperties(HikariConfig config, String jdbcurl) {
+        int cacheSize = statementCache.getMaxSize();
+        if (cacheSize <= 0) {
+            return;
+        }
+        Properties properties = config.getDataSourceProperties();
+        if (jdbcurl.startsWith("jdbc:mysql:")) {
+            properties.putIfAbsent(Constants.StatementCacheConfig.MYSQL_CACHE_PREPARED_STATEMENTS, true);
+            properties.putIfAbsent(Constants.StatementCacheConfig.MYSQL_USE_SERVER_PREPARED_STATEMENTS, true);
+            properties.putIfAbsent(Constants.StatementCacheConfig.MYSQL_PREPARED_STATEMENT_CACHE_SIZE, cacheSize);
+            properties.putIfAbsent(Constants.StatementCacheConfig.MYSQL_PREPARED_STATEMENT_CACHE_SQL_LIMIT,
+                    Constants.StatementCacheConfig.MAX_CACHED_SQL_LENGTH);
+        } else if (jdbcurl.startsWith("jdbc:postgresql:")) {
+            properties.putIfAbsent(Constants.StatementCacheConfig.POSTGRES_PREPARED_STATEMENT_CACHE_QUERIES,
+                    cacheSize);
+        }
+    }
+
+    private static int getStatementCacheSize() {
+        String cacheSize = ConfigRegistry.getInstance().getAsString(
+                Constants.StatementCacheConfig.CACHE_SIZE_CONFIG);
+        if (cacheSize != null) {
+            try {
+                return Integer.parseInt(cacheSize.trim());
+            } catch (NumberFormatException e) {
+                // Fall back to the default cache size
+            }
+        }
+        return Constants.StatementCacheConfig.DEFAULT_CACHE_SIZE;
+    }
+
+    private static int getRowsPerBatchInsert() {
+        String rows = ConfigRegistry.getInstance().getAsString(
+                Constants.BatchInsertConfig.ROWS_PER_INSERT_CONFIG);
+        if (rows != null) {
+            try {
+                return Integer.parseInt(rows.trim());
+            } catch (NumberFormatException e) {
+                // Fall back to the default number of rows
+            }
+        }
+        return Constants.BatchInsertConfig.DEFAULT_ROWS_PER_INSERT;
+    }
+
+    private void registerStatementCacheMetrics() {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null || statementCache.getMaxSize() <= 0) {
+            return;
+        }
+        CallbackGauge.builder("ballerina_sql_statement_cache_hits", statementCache, StatementCache::getHitCount)
+                .description("Number of statements which were found in the statement cache of a datasource")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+        CallbackGauge.builder("ballerina_sql_statement_cache_misses", statementCache, StatementCache::getMissCount)
+                .description("Number of statements which were not found in the statement cache of a datasource")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+        CallbackGauge.builder("ballerina_sql_statement_cache_size", statementCache, StatementCache::size)
+                .description("Number of statements in the statement cache of a datasource")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+    }
+
+    private void registerExecutorMetrics() {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null || sqlExecutor == null) {
+            return;
+        }
+        CallbackGauge.builder("ballerina_sql_executor_queued", sqlExecutor, SQLExecutor::getQueueSize)
+                .description("Number of actions of a datasource which are waiting to be executed")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+        CallbackGauge.builder("ballerina_sql_executor_active", sqlExecutor, SQLExecutor::getActiveCount)
+                .description("Number of actions of a datasource which are being executed")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+        CallbackGauge.builder("ballerina_sql_executor_rejected", sqlExecutor, SQLExecutor::getRejectedCount)
+                .description("Number of actions of a datasource which were rejected since the queue was full")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+        CallbackGauge.builder("ballerina_sql_executor_timeouts", sqlExecutor, SQLExecutor::getTimedOutCount)
+                .description("Number of actions of a datasource which timed out while waiting in the queue")
+                .tag("peer_address", peerAddress).tag("connector_id", connectorId).register(metricRegistry);
+    }
+
     @Override
     public String stringValue() {
         return null;
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BLangVMErrors;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded executor of the SQL actions of a datasource, which is used when the actions are executed asynchronously.
+ * The JDBC calls are made in the threads of the executor, and the Ballerina worker which invoked the action is resumed
+ * through its callback once the call completes, so that the workers are not held while waiting for the database.
+ * <p>
+ * The number of threads is the maximum size of the connection pool of the datasource, since a call cannot proceed
+ * without a connection. The calls which are waiting for a thread are queued up to a limit, beyond which they are
+ * rejected, and a call which has been queued for longer than the queue timeout fails without being executed.
+ *
+ * @since 0.976.1
+ */
+public class SQLExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    public SQLExecutor(int poolSize, int queueSize, long queueTimeoutMillis) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new BLangThreadFactory("BLangSQL"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+    }
+
+    /**
+     * Create the executor of a datasource if the SQL actions are configured to be executed asynchronously.
+     *
+     * @param poolSize maximum size of the connection pool of the datasource
+     * @return the executor, or null if the actions are executed in the calling worker
+     */
+    public static SQLExecutor createExecutor(int poolSize) {
+        if (!isAsyncEnabled()) {
+            return null;
+        }
+        int queueSize = (int) getConfigValue(Constants.AsyncExecutionConfig.QUEUE_SIZE_CONFIG,
+                Constants.AsyncExecutionConfig.DEFAULT_QUEUE_SIZE);
+        long queueTimeout = getConfigValue(Constants.AsyncExecutionConfig.QUEUE_TIMEOUT_CONFIG,
+                Constants.AsyncExecutionConfig.DEFAULT_QUEUE_TIMEOUT);
+        return new SQLExecutor(Math.max(poolSize, 1), Math.max(queueSize, 1), queueTimeout);
+    }
+
+    /**
+     * Check whether the SQL actions are configured to be executed asynchronously.
+     *
+     * @return true if the actions are executed asynchronously
+     */
+    public static boolean isAsyncEnabled() {
+        return ConfigRegistry.getInstance().getAsBoolean(Constants.AsyncExecutionConfig.ENABLED_CONFIG);
+    }
+
+    /**
+     * Execute the given SQL action in a thread of the executor, and notify the callback once it completes. The
+     * callback is notified with an error if the action is rejected, or times out in the queue.
+     *
+     * @param context  context of the action
+     * @param action   the blocking SQL action
+     * @param callback callback of the worker which invoked the action
+     */
+    public void execute(Context context, Runnable action, CallableUnitCallback callback) {
+        long queuedTime = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                if (queueTimeoutNanos > 0 && System.nanoTime() - queuedTime > queueTimeoutNanos) {
+                    timedOutCount.increment();
+                    notifyError(context, callback, "execution of the sql action timed out while waiting for the "
+                            + "database: " + Constants.CONNECTOR_NAME);
+                    return;
+                }
+                try {
+                    action.run();
+                } catch (Throwable e) {
+                    callback.notifyFailure(BLangVMErrors.createError(context, e.getMessage()));
+                    return;
+                }
+                callback.notifySuccess();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            notifyError(context, callback, "execution of the sql action was rejected since too many actions are "
+                    + "waiting for the database: " + Constants.CONNECTOR_NAME);
+        }
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    /**
+     * Shut down the executor, after the actions which are already submitted are executed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static void notifyError(Context context, CallableUnitCallback callback, String message) {
+        try {
+            context.setReturnValues(SQLDatasourceUtils.getSQLConnectorError(context, new BallerinaException(message)));
+            SQLDatasourceUtils.handleErrorOnTransaction(context);
+        } catch (Throwable e) {
+            callback.notifyFailure(BLangVMErrors.createError(context, e.getMessage()));
+            return;
+        }
+        callback.notifySuccess();
+    }
+
+    private static long getConfigValue(String key, long defaultValue) {
+        String value = ConfigRegistry.getInstance().getAsString(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                // Fall back to the default value
+            }
+        }
+        return defaultValue;
+    }
+}
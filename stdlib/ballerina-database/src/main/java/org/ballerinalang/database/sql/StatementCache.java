@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.database.sql;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A size bounded cache of the statements which are executed through a datasource. A statement is identified by its
+ * query and the shape of its parameters, i.e. the number of placeholders which each parameter is expanded to, and
+ * the cache holds the query which is prepared for it. Least recently used statements are evicted first.
+ * <p>
+ * The prepared statements themselves are bound to the connections, so they are cached by the JDBC driver of the
+ * connections, which is configured by {@link SQLDatasource}.
+ *
+ * @since 0.976.1
+ */
+public class StatementCache {
+
+    private final int maxSize;
+    private final Map<StatementKey, String> statements;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<StatementKey, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, String> eldest) {
+                return size() > StatementCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the processed query of a statement, which is created with the given supplier if it is not cached.
+     *
+     * @param query          query of the statement
+     * @param parameterShape number of placeholders which each parameter is expanded to
+     * @param queryProcessor supplier of the processed query
+     * @return the processed query
+     */
+    public String getProcessedQuery(String query, int[] parameterShape, Supplier<String> queryProcessor) {
+        if (maxSize <= 0) {
+            return queryProcessor.get();
+        }
+        StatementKey key = new StatementKey(query, parameterShape);
+        String processedQuery;
+        synchronized (statements) {
+            processedQuery = statements.get(key);
+        }
+        if (processedQuery != null) {
+            hitCount.increment();
+            return processedQuery;
+        }
+        missCount.increment();
+        processedQuery = queryProcessor.get();
+        synchronized (statements) {
+            statements.put(key, processedQuery);
+        }
+        return processedQuery;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Key of a cached statement.
+     */
+    private static final class StatementKey {
+
+        private final String query;
+        private final int[] parameterShape;
+        private final int hashCode;
+
+        private StatementKey(String query, int[] parameterShape) {
+            this.query = query;
+            this.parameterShape = parameterShape;
+            this.hashCode = 31 * query.hashCode() + Arrays.hashCode(parameterShape);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return hashCode == other.hashCode && query.equals(other.query)
+                    && Arrays.equals(parameterShape, other.parameterShape);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
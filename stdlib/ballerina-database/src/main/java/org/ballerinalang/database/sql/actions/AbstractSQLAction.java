@@ -21,16 +21,20 @@ import com.sun.rowset.CachedRowSetImpl;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
 import org.ballerinalang.database.sql.Constants;
+import org.ballerinalang.database.sql.MultiRowInsert;
 import org.ballerinalang.database.sql.SQLDataIterator;
 import org.ballerinalang.database.sql.SQLDatasource;
 import org.ballerinalang.database.sql.SQLDatasourceUtils;
+import org.ballerinalang.database.sql.SQLExecutor;
 import org.ballerinalang.database.table.BCursorTable;
 import org.ballerinalang.database.table.BMirrorTable;
 import org.ballerinalang.model.ColumnDefinition;
 import org.ballerinalang.model.types.BArrayType;
 import org.ballerinalang.model.types.BStructureType;
 import org.ballerinalang.model.types.BTupleType;
+import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBlob;
@@ -113,8 +117,30 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.TIMEZONE_UTC));
     }
 
+    /**
+     * Execute the action in the executor of the datasource if the actions are executed asynchronously, and resume the
+     * calling worker through the callback once it completes. Otherwise the action is executed in the calling thread.
+     */
+    @Override
+    public void execute(Context context, CallableUnitCallback callback) {
+        SQLExecutor executor = callback != null ? getSQLExecutor(context) : null;
+        if (executor == null) {
+            execute(context);
+            if (callback != null) {
+                callback.notifySuccess();
+            }
+            return;
+        }
+        executor.execute(context, () -> execute(context), callback);
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return !SQLExecutor.isAsyncEnabled();
+    }
+
     protected void executeQuery(Context context, SQLDatasource datasource, String query, BRefValueArray parameters,
-            BStructureType structType, boolean loadSQLTableToMemory) {
+            BStructureType structType, boolean loadSQLTableToMemory, int fetchSize) {
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
@@ -122,8 +148,8 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
-            stmt = getPreparedStatement(conn, datasource, processedQuery, loadSQLTableToMemory);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
+            stmt = getPreparedStatement(conn, datasource, processedQuery, loadSQLTableToMemory, fetchSize);
             createProcessedStatement(conn, stmt, generatedParams);
             rs = stmt.executeQuery();
             TableResourceManager rm = new TableResourceManager(conn, stmt);
@@ -151,7 +177,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
             stmt = conn.prepareStatement(processedQuery);
             createProcessedStatement(conn, stmt, generatedParams, datasource.getDatabaseProductName());
             int count = stmt.executeUpdate();
@@ -172,7 +198,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         try {
             BRefValueArray generatedParams = constructParameters(context, parameters);
             conn = SQLDatasourceUtils.getDatabaseConnection(context, datasource, isInTransaction);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = getProcessedQuery(datasource, query, generatedParams);
             int keyColumnCount = 0;
             if (keyColumns != null) {
                 keyColumnCount = (int) keyColumns.size();
@@ -261,6 +287,11 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
 
     protected void executeBatchUpdate(Context context, SQLDatasource datasource, String query,
             BRefValueArray parameters) throws SQLException {
+        MultiRowInsert multiRowInsert = getMultiRowInsert(datasource, query, parameters);
+        if (multiRowInsert != null) {
+            executeMultiRowInsert(context, datasource, multiRowInsert, parameters);
+            return;
+        }
         Connection conn = null;
         PreparedStatement stmt = null;
         int[] updatedCount;
@@ -309,6 +340,127 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         context.setReturnValues(countArray);
     }
 
+    /**
+     * Get the multi-row form of the statement of a batch, if the batches of the datasource are rewritten, and the
+     * statement is a single row INSERT statement which is executed for more than a single row of parameters.
+     */
+    private MultiRowInsert getMultiRowInsert(SQLDatasource datasource, String query, BRefValueArray parameters) {
+        // Oracle does not support multiple rows of values in an INSERT statement
+        if (datasource.getBatchInsertRows() < 2 || parameters == null || parameters.size() < 2
+                || datasource.getDatabaseProductName().contains("oracle")) {
+            return null;
+        }
+        MultiRowInsert multiRowInsert = MultiRowInsert.parse(query);
+        if (multiRowInsert == null) {
+            return null;
+        }
+        int paramArrayCount = (int) parameters.size();
+        for (int index = 0; index < paramArrayCount; index++) {
+            if (!isInsertRow((BRefValueArray) parameters.get(index), multiRowInsert.getParameterCount())) {
+                return null;
+            }
+        }
+        return multiRowInsert;
+    }
+
+    /**
+     * Check whether the given parameters bind a single row of values, i.e. there is an IN parameter for each
+     * placeholder of the row, and none of them are expanded to multiple placeholders.
+     */
+    private boolean isInsertRow(BRefValueArray params, int parameterCount) {
+        if (params == null || params.size() != parameterCount) {
+            return false;
+        }
+        for (int i = 0; i < parameterCount; i++) {
+            BRefType param = params.get(i);
+            if (param == null) {
+                return false;
+            }
+            int typeTag = param.getType().getTag();
+            if (typeTag == TypeTags.OBJECT_TYPE_TAG || typeTag == TypeTags.RECORD_TYPE_TAG) {
+                BMap<String, BValue> paramStruct = (BMap<String, BValue>) param;
+                if (getParameterCount(paramStruct) != 1
+                        || getParameterDirection(paramStruct) != Constants.QueryParamDirection.IN) {
+                    return false;
+                }
+            } else if (typeTag == TypeTags.ARRAY_TAG) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Execute a batch of single row INSERT statements as multi-row INSERT statements, each of which inserts a chunk
+     * of the rows. As in a batch, the batch is rolled back if a chunk fails, and the rows of the failed chunk and the
+     * rest are reported as failed. The update count of a chunk is reported for each of its rows, as 1 if all the
+     * rows were inserted, or else as an unknown count.
+     */
+    private void executeMultiRowInsert(Context context, SQLDatasource datasource, MultiRowInsert multiRowInsert,
+            BRefValueArray parameters) {
+        int paramArrayCount = (int) parameters.size();
+        int chunkSize = Math.min(Math.min(datasource.getBatchInsertRows(),
+                Constants.BatchInsertConfig.MAX_ROWS_PER_INSERT),
+                Math.max(1, Constants.BatchInsertConfig.MAX_PARAMETERS_PER_INSERT
+                        / multiRowInsert.getParameterCount()));
+        long[] updatedCount = new long[paramArrayCount];
+        Arrays.fill(updatedCount, Statement.EXECUTE_FAILED);
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        try {
+            conn = datasource.getSQLConnection();
+            conn.setAutoCommit(false);
+            int stmtRows = 0;
+            boolean failed = false;
+            for (int start = 0; start < paramArrayCount && !failed; start += chunkSize) {
+                int rows = Math.min(chunkSize, paramArrayCount - start);
+                if (rows != stmtRows) {
+                    // Only the last chunk may have fewer rows, hence a statement is prepared at most twice
+                    if (stmt != null) {
+                        stmt.close();
+                        stmt = null;
+                    }
+                    stmt = conn.prepareStatement(multiRowInsert.getQuery(rows));
+                    stmtRows = rows;
+                }
+                int ordinal = 0;
+                for (int index = start; index < start + rows; index++) {
+                    BRefValueArray generatedParams = constructParameters(context,
+                            (BRefValueArray) parameters.get(index));
+                    ordinal = createProcessedStatement(conn, stmt, generatedParams, null, ordinal);
+                }
+                try {
+                    int count = stmt.executeUpdate();
+                    Arrays.fill(updatedCount, start, start + rows, count == rows ? 1 : Statement.SUCCESS_NO_INFO);
+                } catch (SQLException e) {
+                    failed = true;
+                }
+            }
+            if (failed) {
+                conn.rollback();
+            } else {
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            rollback(conn);
+            throw new BallerinaException("execute batch update failed: " + e.getMessage(), e);
+        } finally {
+            SQLDatasourceUtils.cleanupResources(stmt, conn, false);
+        }
+        context.setReturnValues(new BIntArray(updatedCount));
+    }
+
+    private void rollback(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            // The error which caused the rollback is reported
+        }
+    }
+
     protected void createMirroredTable(Context context, SQLDatasource datasource, String tableName,
             BStructureType structType) {
         try {
@@ -348,6 +500,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
     private BRefValueArray constructParameters(Context context, BRefValueArray parameters) {
         BRefValueArray parametersNew = new BRefValueArray();
         int paramCount = (int) parameters.size();
+        BType paramStructType = null;
         for (int i = 0; i < paramCount; ++i) {
             BRefType typeValue = parameters.get(i);
             BMap<String, BValue> paramStruct;
@@ -355,7 +508,10 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
                     || typeValue.getType().getTag() == TypeTags.RECORD_TYPE_TAG) {
                 paramStruct = (BMap<String, BValue>) typeValue;
             } else {
-                paramStruct = getSQLParameter(context);
+                if (paramStructType == null) {
+                    paramStructType = getSQLParameterType(context);
+                }
+                paramStruct = new BMap<>(paramStructType);
                 paramStruct.put(PARAMETER_SQL_TYPE_FIELD,
                         new BString(SQLDatasourceUtils.getSQLType(typeValue.getType())));
                 paramStruct.put(PARAMETER_VALUE_FIELD, typeValue);
@@ -366,10 +522,51 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         return parametersNew;
     }
 
-    private static BMap<String, BValue> getSQLParameter(Context context) {
+    private static BType getSQLParameterType(Context context) {
         PackageInfo sqlPackageInfo = context.getProgramFile().getPackageInfo(Constants.SQL_PACKAGE_PATH);
         StructureTypeInfo paramStructInfo = sqlPackageInfo.getStructInfo(Constants.SQL_PARAMETER);
-        return new BMap<>(paramStructInfo.getType());
+        return paramStructInfo.getType();
+    }
+
+    /**
+     * Get the query to be prepared for the given parameters, from the statement cache of the datasource. The query
+     * depends only on the number of placeholders which each parameter is expanded to, so the query is cached by
+     * it.
+     */
+    private String getProcessedQuery(SQLDatasource datasource, String query, BRefValueArray parameters) {
+        int[] parameterShape = null;
+        int paramCount = parameters != null ? (int) parameters.size() : 0;
+        for (int i = 0; i < paramCount; i++) {
+            BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
+            int count = paramValue != null ? getParameterCount(paramValue) : -1;
+            if (count != 1 && parameterShape == null) {
+                parameterShape = new int[paramCount];
+                Arrays.fill(parameterShape, 0, i, 1);
+            }
+            if (parameterShape != null) {
+                parameterShape[i] = count;
+            }
+        }
+        if (parameterShape == null) {
+            // None of the parameters are expanded, hence the query is used as it is
+            return query;
+        }
+        return datasource.getStatementCache().getProcessedQuery(query, parameterShape,
+                () -> createProcessedQueryString(query, parameters));
+    }
+
+    /**
+     * Get the number of placeholders which a parameter is expanded to. Arrays of parameters, i.e. arrays which are
+     * not of the sql array type, are expanded to a placeholder for each element.
+     */
+    private int getParameterCount(BMap<String, BValue> paramValue) {
+        String sqlType = getSQLType(paramValue);
+        BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
+        if (value != null && value.getType().getTag() == TypeTags.ARRAY_TAG && !Constants.SQLDataTypes.ARRAY
+                .equalsIgnoreCase(sqlType)) {
+            return (int) ((BNewArray) value).size();
+        }
+        return 1;
     }
 
     /**
@@ -387,14 +584,7 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
                 // types.bal Parameter
                 BMap<String, BValue> paramValue = (BMap<String, BValue>) parameters.get(i);
                 if (paramValue != null) {
-                    String sqlType = getSQLType(paramValue);
-                    BValue value = paramValue.get(PARAMETER_VALUE_FIELD);
-                    if (value != null && value.getType().getTag() == TypeTags.ARRAY_TAG && !Constants.SQLDataTypes.ARRAY
-                            .equalsIgnoreCase(sqlType)) {
-                        count = (int) ((BNewArray) value).size();
-                    } else {
-                        count = 1;
-                    }
+                    count = getParameterCount(paramValue);
                     vals = this.expandQuery(start, count, currentQuery);
                     start = (Integer) vals[0];
                     currentQuery = (String) vals[1];
@@ -442,26 +632,45 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
         return builder.toString();
     }
 
+    private SQLExecutor getSQLExecutor(Context context) {
+        BValue connector = context.getNullableRefArgument(0);
+        if (!(connector instanceof BMap)) {
+            return null;
+        }
+        Object datasource = ((BMap<?, ?>) connector).getNativeData(Constants.CALLER_ACTIONS);
+        return datasource instanceof SQLDatasource ? ((SQLDatasource) datasource).getSQLExecutor() : null;
+    }
+
     protected void closeConnections(SQLDatasource datasource) {
         datasource.closeConnectionPool();
     }
 
     private PreparedStatement getPreparedStatement(Connection conn, SQLDatasource datasource, String query,
-            boolean loadToMemory) throws SQLException {
+            boolean loadToMemory, int fetchSize) throws SQLException {
         PreparedStatement stmt;
         boolean mysql = datasource.getDatabaseProductName().contains("mysql");
         /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
-           Following properties are set to stream the results back one row at a time.*/
-        if (mysql && !loadToMemory) {
+           Following properties are set to stream the results back one row at a time, unless a fetch size is
+           explicitly given.*/
+        if (!loadToMemory && (mysql || fetchSize > 0)) {
             stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
             // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
             try {
-                stmt.setFetchSize(Integer.MIN_VALUE);
+                stmt.setFetchSize(fetchSize > 0 ? fetchSize : Integer.MIN_VALUE);
             } catch (SQLException e) {
                 stmt.close();
+                throw e;
             }
         } else {
             stmt = conn.prepareStatement(query);
+            if (fetchSize > 0) {
+                try {
+                    stmt.setFetchSize(fetchSize);
+                } catch (SQLException e) {
+                    stmt.close();
+                    throw e;
+                }
+            }
         }
         return stmt;
     }
@@ -535,11 +744,20 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
 
     private void createProcessedStatement(Connection conn, PreparedStatement stmt, BRefValueArray params,
             String databaseProductName) {
+        createProcessedStatement(conn, stmt, params, databaseProductName, 0);
+    }
+
+    /**
+     * Set the given parameters to the statement, starting from the given ordinal, and return the ordinal following
+     * the last parameter.
+     */
+    private int createProcessedStatement(Connection conn, PreparedStatement stmt, BRefValueArray params,
+            String databaseProductName, int firstOrdinal) {
         if (params == null) {
-            return;
+            return firstOrdinal;
         }
         int paramCount = (int) params.size();
-        int currentOrdinal = 0;
+        int currentOrdinal = firstOrdinal;
         for (int index = 0; index < paramCount; index++) {
             BMap<String, BValue> paramStruct = (BMap<String, BValue>) params.get(index);
             if (paramStruct != null) {
@@ -593,10 +811,11 @@ public abstract class AbstractSQLAction extends BlockingNativeCallableUnit {
                     currentOrdinal++;
                 }
             } else {
-                SQLDatasourceUtils.setNullObject(stmt, index);
+                SQLDatasourceUtils.setNullObject(stmt, firstOrdinal + index);
                 currentOrdinal++;
             }
         }
+        return currentOrdinal;
     }
 
     private void setParameter(Connection conn, PreparedStatement stmt, String sqlType, BValue value, int direction,
@@ -49,4 +49,10 @@ public class Close extends AbstractSQLAction {
         SQLDatasource datasource = (SQLDatasource) bConnector.getNativeData(Constants.CALLER_ACTIONS);
         closeConnections(datasource);
     }
+
+    @Override
+    public boolean isBlocking() {
+        // The connection pool and the executor of the datasource are shut down in the calling thread
+        return true;
+    }
 }
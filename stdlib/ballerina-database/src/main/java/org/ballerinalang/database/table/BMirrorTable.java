@@ -59,7 +59,7 @@ public class BMirrorTable extends BTable {
 
     public BMirrorTable(SQLDatasource datasource, String tableName, BStructureType constraintType,
                         StructureTypeInfo timeStructInfo, StructureTypeInfo timeZoneStructInfo, Calendar utcCalendar) {
-        super(tableName, constraintType);
+        super(constraintType);
         this.datasource = datasource;
         this.tableName = tableName;
         this.timeStructInfo = timeStructInfo;
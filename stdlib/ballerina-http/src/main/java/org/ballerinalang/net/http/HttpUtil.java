@@ -19,6 +19,7 @@
 package org.ballerinalang.net.http;
 
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
@@ -44,7 +45,6 @@ import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
-import org.ballerinalang.mime.util.MultipartDecoder;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
@@ -75,6 +75,7 @@ import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -260,26 +261,21 @@ public class HttpUtil {
         HTTPCarbonMessage httpCarbonMessage = HttpUtil
                 .getCarbonMsg(httpMessageStruct, HttpUtil.createHttpCarbonMessage(isRequest));
         HttpMessageDataStreamer httpMessageDataStreamer = new HttpMessageDataStreamer(httpCarbonMessage);
-        String contentType = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_TYPE.toString());
-        if (MimeUtil.isNotNullAndEmpty(contentType) && contentType.startsWith(MULTIPART_AS_PRIMARY_TYPE)
-                && context != null) {
-            MultipartDecoder.parseBody(context, entity, contentType, httpMessageDataStreamer.getInputStream());
-        } else {
-            long contentLength = NO_CONTENT_LENGTH_FOUND;
-            String lengthStr = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
-            try {
-                contentLength = lengthStr != null ? Long.parseLong(lengthStr) : contentLength;
-                if (contentLength == NO_CONTENT_LENGTH_FOUND) {
-                    //Read one byte to make sure the incoming stream has data
-                    contentLength = httpCarbonMessage.countMessageLengthTill(ONE_BYTE);
-                }
-            } catch (NumberFormatException e) {
-                throw new BallerinaException("Invalid content length");
-            }
-            if (contentLength > 0) {
-                entity.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(
-                        new EntityBodyChannel(httpMessageDataStreamer.getInputStream())));
+        // A multipart body is kept as a byte channel too, and is decoded when its body parts are asked for
+        long contentLength = NO_CONTENT_LENGTH_FOUND;
+        String lengthStr = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+        try {
+            contentLength = lengthStr != null ? Long.parseLong(lengthStr) : contentLength;
+            if (contentLength == NO_CONTENT_LENGTH_FOUND) {
+                //Read one byte to make sure the incoming stream has data
+                contentLength = httpCarbonMessage.countMessageLengthTill(ONE_BYTE);
             }
+        } catch (NumberFormatException e) {
+            throw new BallerinaException("Invalid content length");
+        }
+        if (contentLength > 0) {
+            entity.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(
+                    new EntityBodyChannel(httpMessageDataStreamer.getInputStream())));
         }
         httpMessageStruct.put(isRequest ? REQUEST_ENTITY_FIELD : RESPONSE_ENTITY_FIELD, entity);
         httpMessageStruct.addNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET, true);
@@ -304,6 +300,26 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Add the body of a given entity to a message as a single content, when the body can be obtained as a buffer
+     * without copying it, i.e. when it is a blob or a file. The buffer is wrapped as the content, rather than being
+     * copied into the message output stream. The output stream should still be closed to complete the message.
+     *
+     * @param message      Represent the outbound message
+     * @param entityStruct Represent the entity that holds the actual body
+     * @return true if the body is added to the message
+     * @throws IOException When an error occurs while mapping the body
+     */
+    public static boolean addEntityBodyAsBuffer(HTTPCarbonMessage message, BMap<String, BValue> entityStruct)
+            throws IOException {
+        ByteBuffer body = EntityBodyHandler.getBodyAsBuffer(entityStruct);
+        if (body == null || !body.hasRemaining()) {
+            return false;
+        }
+        message.addHttpContent(new DefaultHttpContent(Unpooled.wrappedBuffer(body)));
+        return true;
+    }
+
     public static void prepareOutboundResponse(Context context, HTTPCarbonMessage inboundRequestMsg,
                                                HTTPCarbonMessage outboundResponseMsg,
                                                BMap<String, BValue> outboundResponseStruct) {
@@ -352,9 +352,9 @@ public abstract class AbstractHTTPAction implements NativeCallableUnit {
         }
         try {
             if (boundaryString != null) {
-                serializeMultiparts(dataContext.context, messageOutputStream, boundaryString);
+                serializeMultiparts(dataContext.context, outboundRequestMsg, messageOutputStream, boundaryString);
             } else {
-                serializeDataSource(dataContext.context, messageOutputStream);
+                serializeDataSource(dataContext.context, outboundRequestMsg, messageOutputStream);
             }
         } catch (IOException | EncoderException serializerException) {
             // We don't have to do anything here as the client connector will notify
@@ -387,11 +387,12 @@ public abstract class AbstractHTTPAction implements NativeCallableUnit {
      * if it exist as a byte channel.
      *
      * @param context             Represent the ballerina context which is the runtime state of the program
-     * @param boundaryString      Boundary string that should be used in encoding body parts
+     * @param outboundRequestMsg  Outbound request message
      * @param messageOutputStream Output stream to which the payload is written
+     * @param boundaryString      Boundary string that should be used in encoding body parts
      */
-    private void serializeMultiparts(Context context, OutputStream messageOutputStream, String boundaryString)
-            throws IOException {
+    private void serializeMultiparts(Context context, HTTPCarbonMessage outboundRequestMsg,
+                                     OutputStream messageOutputStream, String boundaryString) throws IOException {
         BMap<String, BValue> entityStruct = getEntityStruct(context);
         if (entityStruct != null) {
             BRefValueArray bodyParts = EntityBodyHandler.getBodyPartArray(entityStruct);
@@ -399,7 +400,7 @@ public abstract class AbstractHTTPAction implements NativeCallableUnit {
                 serializeMultipartDataSource(messageOutputStream, boundaryString,
                                              entityStruct);
             } else { //If the content is in a byte channel
-                serializeDataSource(context, messageOutputStream);
+                serializeDataSource(context, outboundRequestMsg, messageOutputStream);
             }
         }
     }
@@ -423,7 +424,8 @@ public abstract class AbstractHTTPAction implements NativeCallableUnit {
         HttpUtil.closeMessageOutputStream(messageOutputStream);
     }
 
-    private void serializeDataSource(Context context, OutputStream messageOutputStream) throws IOException {
+    private void serializeDataSource(Context context, HTTPCarbonMessage outboundRequestMsg,
+                                     OutputStream messageOutputStream) throws IOException {
         BMap<String, BValue> requestStruct = ((BMap<String, BValue>) context.getNullableRefArgument(1));
         if (requestStruct == null) {
             return;
@@ -431,6 +433,11 @@ public abstract class AbstractHTTPAction implements NativeCallableUnit {
 
         BMap<String, BValue> entityStruct = extractEntity(requestStruct);
         if (entityStruct != null) {
+            // Blob and file payloads are added to the message as a buffer, without copying them
+            if (HttpUtil.addEntityBodyAsBuffer(outboundRequestMsg, entityStruct)) {
+                HttpUtil.closeMessageOutputStream(messageOutputStream);
+                return;
+            }
             MessageDataSource messageDataSource = EntityBodyHandler.getMessageDataSource(entityStruct);
             if (messageDataSource != null) {
                 messageDataSource.serializeData(messageOutputStream);
@@ -69,8 +69,7 @@ public abstract class ConnectionAction implements NativeCallableUnit {
             if (boundaryString != null) {
                 serializeMultiparts(boundaryString, entityStruct, messageOutputStream);
             } else {
-                MessageDataSource outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityStruct);
-                serializeMsgDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+                serializeEntityBody(responseMessage, entityStruct, messageOutputStream);
             }
         }
     }
@@ -107,6 +106,28 @@ public abstract class ConnectionAction implements NativeCallableUnit {
         outResponseStatusFuture.setHttpConnectorListener(outboundResStatusConnectorListener);
     }
 
+    /**
+     * Serialize the entity body. Blob and file bodies are added to the message as a buffer, without copying them into
+     * the output stream.
+     *
+     * @param message             Represent the outbound message
+     * @param entityStruct        Represent the entity that holds the actual body
+     * @param messageOutputStream Represent the output stream
+     */
+    protected void serializeEntityBody(HTTPCarbonMessage message, BMap<String, BValue> entityStruct,
+                                       OutputStream messageOutputStream) {
+        try {
+            if (HttpUtil.addEntityBodyAsBuffer(message, entityStruct)) {
+                HttpUtil.closeMessageOutputStream(messageOutputStream);
+                return;
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Error occurred while serializing message data source : " + e.getMessage());
+        }
+        MessageDataSource outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityStruct);
+        serializeMsgDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+    }
+
     protected void serializeMsgDataSource(MessageDataSource outboundMessageSource, BMap<String, BValue> entityStruct,
                                           OutputStream messageOutputStream) {
         try {
@@ -4,6 +4,7 @@ import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
 import org.ballerinalang.mime.util.EntityBodyChannel;
+import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
@@ -11,6 +12,7 @@ import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.io.IOConstants;
+import org.ballerinalang.nativeimpl.io.channels.base.Channel;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.Receiver;
 import org.ballerinalang.natives.annotations.ReturnType;
@@ -19,6 +21,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 import static org.ballerinalang.mime.util.Constants.BYTE_CHANNEL_STRUCT;
+import static org.ballerinalang.mime.util.Constants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.Constants.FIRST_PARAMETER_INDEX;
 
 /**
@@ -38,6 +41,14 @@ public class GetBodyPartsAsChannel extends BlockingNativeCallableUnit {
     public void execute(Context context) {
         BMap<String, BValue> byteChannelStruct;
         BMap<String, BValue> entityStruct = (BMap<String, BValue>) context.getRefArgument(FIRST_PARAMETER_INDEX);
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entityStruct);
+        if (EntityBodyHandler.getBodyPartArray(entityStruct).size() == 0 && byteChannel != null) {
+            // The body parts of a received message are decoded when they are first asked for
+            EntityBodyHandler.decodeEntityBody(context, entityStruct, byteChannel);
+            if (EntityBodyHandler.getBodyPartArray(entityStruct).size() != 0) {
+                entityStruct.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            }
+        }
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
         MultipartDataSource multipartDataSource = new MultipartDataSource(entityStruct, multipartDataBoundary);
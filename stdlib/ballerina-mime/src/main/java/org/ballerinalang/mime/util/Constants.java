@@ -135,6 +135,7 @@ public class Constants {
 
     public static final short ONE_BYTE = 1;
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
+    public static final int MAX_INITIAL_BUFFER_SIZE = 65536; //64KB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
 
     public static final String UTF_8 = "UTF-8";
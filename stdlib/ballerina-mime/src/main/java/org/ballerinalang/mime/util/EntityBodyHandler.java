@@ -41,6 +41,7 @@ import org.jvnet.mimepull.MIMEPart;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -119,6 +120,9 @@ public class EntityBodyHandler {
 
     /**
      * Construct BlobDataSource from the underneath byte channel which is associated with the entity struct.
+     * <p>
+     * Files are mapped into memory rather than read. Other content is read into a byte array of the length given by
+     * the entity, when the length is known.
      *
      * @param entityStruct Represent an entity struct
      * @return BlobDataSource Data source for binary data which is kept in memory
@@ -129,9 +133,41 @@ public class EntityBodyHandler {
         if (byteChannel == null) {
             return null;
         }
-        byte[] byteData = MimeUtil.getByteArray(byteChannel.getInputStream());
+        ByteBuffer content = byteChannel.mapContent();
+        if (content == null) {
+            content = MimeUtil.getByteBuffer(byteChannel.getInputStream(), MimeUtil.getContentLength(entityStruct));
+        }
         byteChannel.close();
-        return new BlobDataSource(byteData);
+        return new BlobDataSource(content);
+    }
+
+    /**
+     * Get the body of a given entity as a buffer, if it can be obtained without copying it, i.e. when the body is a
+     * blob, a file or an in memory byte channel. The byte channel of the entity is consumed when its content is
+     * returned.
+     *
+     * @param entityStruct Represent a ballerina entity
+     * @return A buffer which holds the entity body, or null if the body cannot be obtained without copying it
+     * @throws IOException When an error occurs while mapping the byte channel content
+     */
+    public static ByteBuffer getBodyAsBuffer(BMap<String, BValue> entityStruct) throws IOException {
+        MessageDataSource messageDataSource = getMessageDataSource(entityStruct);
+        if (messageDataSource != null) {
+            return messageDataSource instanceof BlobDataSource ?
+                    ((BlobDataSource) messageDataSource).getBuffer() : null;
+        }
+
+        Channel byteChannel = getByteChannel(entityStruct);
+        if (byteChannel == null) {
+            return null;
+        }
+        ByteBuffer content = byteChannel.mapContent();
+        if (content != null) {
+            byteChannel.close();
+            //Set the byte channel to null, once it is consumed
+            entityStruct.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        }
+        return content;
     }
 
     /**
@@ -266,6 +302,16 @@ public class EntityBodyHandler {
                 mimePart));
     }
 
+    /**
+     * Populate ballerina body part with the content of a body part, which is decoded as a byte channel.
+     *
+     * @param bodyPart    Represent ballerina body part
+     * @param byteChannel Represent the content of the decoded body part
+     */
+    public static void populateBodyContent(BMap<String, BValue> bodyPart, Channel byteChannel) {
+        bodyPart.addNativeData(ENTITY_BYTE_CHANNEL, byteChannel);
+    }
+
     /**
      * Write byte channel stream directly into outputstream without converting it to a data source.
      *
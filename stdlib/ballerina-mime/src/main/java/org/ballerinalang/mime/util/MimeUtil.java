@@ -36,6 +36,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Set;
 
@@ -54,9 +56,11 @@ import static org.ballerinalang.mime.util.Constants.CONTENT_DISPOSITION_PARA_MAP
 import static org.ballerinalang.mime.util.Constants.DISPOSITION_FIELD;
 import static org.ballerinalang.mime.util.Constants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.Constants.FORM_DATA_PARAM;
+import static org.ballerinalang.mime.util.Constants.MAX_INITIAL_BUFFER_SIZE;
 import static org.ballerinalang.mime.util.Constants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.Constants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.Constants.MULTIPART_FORM_DATA;
+import static org.ballerinalang.mime.util.Constants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.Constants.PARAMETER_MAP_FIELD;
 import static org.ballerinalang.mime.util.Constants.PRIMARY_TYPE_FIELD;
 import static org.ballerinalang.mime.util.Constants.READABLE_BUFFER_SIZE;
@@ -72,6 +76,9 @@ import static org.ballerinalang.mime.util.Constants.SUFFIX_FIELD;
  */
 public class MimeUtil {
 
+    // Largest array length which is allocated by the JVMs
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
     /**
      * Given a ballerina entity, get the content-type as a base type.
      *
@@ -325,6 +332,17 @@ public class MimeUtil {
         entityStruct.put(SIZE_FIELD, new BInteger(length));
     }
 
+    /**
+     * Get the body size of a given 'Entity'.
+     *
+     * @param entityStruct Represent 'Entity'
+     * @return Size of the entity body, or NO_CONTENT_LENGTH_FOUND if it is not known
+     */
+    public static long getContentLength(BMap<String, BValue> entityStruct) {
+        BValue length = entityStruct.get(SIZE_FIELD);
+        return length != null ? ((BInteger) length).intValue() : NO_CONTENT_LENGTH_FOUND;
+    }
+
     /**
      * Write a given inputstream to a given outputstream.
      *
@@ -359,6 +377,50 @@ public class MimeUtil {
     }
 
     /**
+     * Given an input stream, read its content into a buffer. When the length of the content is known, the content is
+     * read directly into a byte array of that length, without any intermediate copies. As the length is given by the
+     * sender, the array is allocated up to MAX_INITIAL_BUFFER_SIZE at first, and grows as the content is read.
+     *
+     * @param input          Represent an input stream
+     * @param expectedLength Expected length of the content, or NO_CONTENT_LENGTH_FOUND if it is not known
+     * @return A buffer which holds the content
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static ByteBuffer getByteBuffer(InputStream input, long expectedLength) throws IOException {
+        byte[] content = new byte[expectedLength > 0 ? (int) Math.min(expectedLength, MAX_INITIAL_BUFFER_SIZE) :
+                READABLE_BUFFER_SIZE];
+        int count = 0;
+        while (true) {
+            if (count == content.length) {
+                int nextByte = input.read();
+                if (nextByte == -1) {
+                    break;
+                }
+                content = Arrays.copyOf(content, getGrownLength(content.length, expectedLength));
+                content[count++] = (byte) nextByte;
+            }
+            int len = input.read(content, count, content.length - count);
+            if (len == -1) {
+                break;
+            }
+            count += len;
+        }
+        return ByteBuffer.wrap(content, 0, count);
+    }
+
+    private static int getGrownLength(int length, long expectedLength) throws IOException {
+        if (length >= MAX_ARRAY_LENGTH) {
+            throw new IOException("content is too large to be read into memory");
+        }
+        long grownLength = (long) length * 2;
+        if (expectedLength > length && expectedLength < grownLength) {
+            // Grow to the expected length, if it is within reach, as the content is likely to end there
+            grownLength = expectedLength;
+        }
+        return (int) Math.min(grownLength, MAX_ARRAY_LENGTH);
+    }
+
+        /**
      * Check whether the given string is not null and empty.
      *
      * @param textValue Represent a text value
@@ -18,19 +18,21 @@
 
 package org.ballerinalang.mime.util;
 
-import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.io.channels.base.Channel;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.jvnet.mimepull.MIMEConfig;
 import org.jvnet.mimepull.MIMEMessage;
 import org.jvnet.mimepull.MIMEPart;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +53,9 @@ import static org.ballerinalang.mime.util.Constants.PROTOCOL_PACKAGE_MIME;
 
 /**
  * Responsible for decoding an inputstream to get a set of multiparts.
+ * <p>
+ * Ballerina body parts are decoded with the {@link MultipartStreamDecoder}, which spills large parts to temp files as
+ * they are read.
  *
  * @since 0.963.0
  */
@@ -66,14 +71,21 @@ public class MultipartDecoder {
      */
     public static void parseBody(Context context, BMap<String, BValue> entity, String contentType,
                                  InputStream inputStream) {
+        ArrayList<BMap<String, BValue>> bodyParts = new ArrayList<>();
         try {
-            List<MIMEPart> mimeParts = decodeBodyParts(contentType, inputStream);
-            if (mimeParts != null && !mimeParts.isEmpty()) {
-                populateBallerinaParts(context, entity, mimeParts);
+            MimeType mimeType = new MimeType(contentType);
+            MultipartStreamDecoder decoder = new MultipartStreamDecoder(inputStream,
+                    mimeType.getParameter(BOUNDARY));
+            while (decoder.hasNext()) {
+                bodyParts.add(createBallerinaPart(context, decoder.next()));
             }
-        } catch (MimeTypeParseException e) {
+        } catch (MimeTypeParseException | IOException e) {
+            closeBodyParts(bodyParts);
             throw new BallerinaException("Error occurred while decoding body parts from inputstream " + e.getMessage());
         }
+        if (!bodyParts.isEmpty()) {
+            EntityBodyHandler.setPartsToTopLevelEntity(entity, bodyParts);
+        }
     }
 
     /**
@@ -114,48 +126,47 @@ public class MultipartDecoder {
     }
 
     /**
-     * Populate ballerina body parts from the given mime parts and set it to top level entity.
+     * Create a ballerina body part from a decoded body part.
      *
-     * @param context   Represent ballerina context
-     * @param entity    Represent top level entity that the body parts needs to be attached to
-     * @param mimeParts List of decoded mime parts
+     * @param context  Represent ballerina context
+     * @param bodyPart Represent a decoded body part
+     * @return a ballerina body part which is filled with the headers and the content of the decoded part
      */
-    private static void populateBallerinaParts(Context context, BMap<String, BValue> entity,
-                                               List<MIMEPart> mimeParts) {
-        ArrayList<BMap<String, BValue>> bodyParts = new ArrayList<>();
-        for (final MIMEPart mimePart : mimeParts) {
-            BMap<String, BValue> partStruct =
-                    BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, ENTITY);
-            BMap<String, BValue> mediaType =
-                    BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, MEDIA_TYPE);
-            populateBodyPart(context, mimePart, partStruct, mediaType);
-            bodyParts.add(partStruct);
+    private static BMap<String, BValue> createBallerinaPart(Context context, MultipartStreamDecoder.BodyPart bodyPart) {
+        BMap<String, BValue> partStruct = BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, ENTITY);
+        BMap<String, BValue> mediaType = BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, MEDIA_TYPE);
+        HttpHeaders headers = bodyPart.getHeaders();
+        partStruct.addNativeData(ENTITY_HEADERS, headers);
+        populateContentLength(headers.getAll(HttpHeaderNames.CONTENT_LENGTH), partStruct);
+        partStruct.put(CONTENT_ID_FIELD, new BString(bodyPart.getContentId()));
+        MimeUtil.setContentType(mediaType, partStruct, bodyPart.getContentType());
+        List<String> contentDispositionHeaders = headers.getAll(HttpHeaderNames.CONTENT_DISPOSITION);
+        if (HeaderUtil.isHeaderExist(contentDispositionHeaders)) {
+            BMap<String, BValue> contentDisposition =
+                    BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, CONTENT_DISPOSITION_STRUCT);
+            populateContentDisposition(partStruct, contentDispositionHeaders, contentDisposition);
         }
-        EntityBodyHandler.setPartsToTopLevelEntity(entity, bodyParts);
+        EntityBodyHandler.populateBodyContent(partStruct, bodyPart.getContent());
+        return partStruct;
     }
 
     /**
-     * Populate ballerina body part with header info and actual body.
+     * Close the content of the body parts which were decoded before an error, so that their temp files are deleted.
      *
-     * @param context    Represent ballerina context
-     * @param mimePart   Represent a decoded mime part
-     * @param partStruct Represent a ballerina body part that needs to be filled with data
-     * @param mediaType  Represent the content type of the body part
+     * @param bodyParts Represent ballerina body parts
      */
-    private static void populateBodyPart(Context context, MIMEPart mimePart, BMap<String, BValue> partStruct,
-                                         BMap<String, BValue> mediaType) {
-        partStruct.addNativeData(ENTITY_HEADERS, HeaderUtil.setBodyPartHeaders(mimePart.getAllHeaders(),
-                new DefaultHttpHeaders()));
-        populateContentLength(mimePart, partStruct);
-        populateContentId(mimePart, partStruct);
-        populateContentType(mimePart, partStruct, mediaType);
-        List<String> contentDispositionHeaders = mimePart.getHeader(HttpHeaderNames.CONTENT_DISPOSITION.toString());
-        if (HeaderUtil.isHeaderExist(contentDispositionHeaders)) {
-            BMap<String, BValue> contentDisposition =
-                    BLangConnectorSPIUtil.createObject(context, PROTOCOL_PACKAGE_MIME, CONTENT_DISPOSITION_STRUCT);
-            populateContentDisposition(partStruct, contentDispositionHeaders, contentDisposition);
+    private static void closeBodyParts(List<BMap<String, BValue>> bodyParts) {
+        for (BMap<String, BValue> bodyPart : bodyParts) {
+            Channel byteChannel = EntityBodyHandler.getByteChannel(bodyPart);
+            if (byteChannel == null) {
+                continue;
+            }
+            try {
+                byteChannel.close();
+            } catch (IOException e) {
+                // Continue closing the rest of the parts
+            }
         }
-        EntityBodyHandler.populateBodyContent(partStruct, mimePart);
     }
 
     private static void populateContentDisposition(BMap<String, BValue> partStruct,
@@ -165,17 +176,7 @@ public class MultipartDecoder {
                 .get(FIRST_ELEMENT));
     }
 
-    private static void populateContentType(MIMEPart mimePart, BMap<String, BValue> partStruct,
-                                            BMap<String, BValue> mediaType) {
-        MimeUtil.setContentType(mediaType, partStruct, mimePart.getContentType());
-    }
-
-    private static void populateContentId(MIMEPart mimePart, BMap<String, BValue> partStruct) {
-        partStruct.put(CONTENT_ID_FIELD, new BString(mimePart.getContentId()));
-    }
-
-    private static void populateContentLength(MIMEPart mimePart, BMap<String, BValue> partStruct) {
-        List<String> lengthHeaders = mimePart.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+    private static void populateContentLength(List<String> lengthHeaders, BMap<String, BValue> partStruct) {
         if (HeaderUtil.isHeaderExist(lengthHeaders)) {
             MimeUtil.setContentLength(partStruct, Integer.parseInt(lengthHeaders.get(FIRST_ELEMENT)));
         } else {
@@ -0,0 +1,433 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.mime.util;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.nativeimpl.io.channels.BlobChannel;
+import org.ballerinalang.nativeimpl.io.channels.BlobIOChannel;
+import org.ballerinalang.nativeimpl.io.channels.base.Channel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.ballerinalang.mime.util.Constants.READABLE_BUFFER_SIZE;
+import static org.ballerinalang.mime.util.Constants.TEMP_FILE_EXTENSION;
+import static org.ballerinalang.mime.util.Constants.TEMP_FILE_NAME;
+
+/**
+ * Decodes the body parts of a multipart message one part at a time, as they are read from the input stream.
+ * <p>
+ * The content of each part is exposed as a byte channel. The parts of a message are kept in memory up to the spill
+ * threshold in total. A part which does not fit within what is left of the threshold is written to a temp file while
+ * it is being read, and is exposed as a {@link org.ballerinalang.nativeimpl.io.channels.TempFileIOChannel}, which
+ * deletes the file once it is closed. Hence no more than the spill threshold and the working buffer are held in memory
+ * for a message, regardless of its size or the number of its parts.
+ * <p>
+ * The spill threshold, in bytes, can be set with the "b7a.mime.multipart.spillthreshold" configuration. It is 1MB by
+ * default.
+ *
+ * @since 0.976.1
+ */
+public class MultipartStreamDecoder {
+
+    private static final String SPILL_THRESHOLD_CONFIG_PROP = "b7a.mime.multipart.spillthreshold";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] DASH_BOUNDARY = {'-', '-'};
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final long DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+    private static final int MAX_HEADER_LINE_LENGTH = 8192;
+    private static final int MAX_HEADERS_LENGTH = 65536;
+
+    private final InputStream inputStream;
+    private final byte[] delimiter;
+    // Content which may still be kept in memory, for the rest of the parts of the message
+    private int memoryAvailable;
+
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    private boolean started;
+    private boolean completed;
+    private int partIndex;
+
+    public MultipartStreamDecoder(InputStream inputStream, String boundary) {
+        this(inputStream, boundary, getSpillThreshold());
+    }
+
+    public MultipartStreamDecoder(InputStream inputStream, String boundary, long spillThreshold) {
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.memoryAvailable = (int) Math.min(Math.max(spillThreshold, 0), MAX_ARRAY_SIZE);
+        this.buffer = new byte[Math.max(READABLE_BUFFER_SIZE, delimiter.length * 2)];
+        // The first boundary may start the message without a preceding line break
+        System.arraycopy(CRLF, 0, buffer, 0, CRLF.length);
+        this.limit = CRLF.length;
+    }
+
+    /**
+     * Check whether there are more body parts in the message. The preamble of the message is skipped when this is
+     * called for the first time.
+     *
+     * @return true if there is another body part to be read
+     * @throws IOException If an error occurred while reading the message, or if the message does not have a boundary
+     */
+    public boolean hasNext() throws IOException {
+        if (!started) {
+            started = true;
+            if (!readUntilDelimiter(null)) {
+                throw new IOException("missing start boundary");
+            }
+            readDelimiterSuffix();
+        }
+        return !completed;
+    }
+
+    /**
+     * Read the next body part of the message. The content of the part is read completely, before it is returned.
+     *
+     * @return the next body part
+     * @throws IOException If an error occurred while reading the message, or if the message ends before the part
+     */
+    public BodyPart next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        HttpHeaders headers = readHeaders();
+        PartContent content = new PartContent();
+        try {
+            if (!readUntilDelimiter(content)) {
+                throw new IOException("Reached EOF, but there is no closing MIME boundary");
+            }
+            readDelimiterSuffix();
+        } catch (IOException e) {
+            content.discard();
+            throw e;
+        }
+        return new BodyPart(headers, partIndex++, content.toChannel());
+    }
+
+    /**
+     * Read the content up to the next delimiter, and skip the delimiter.
+     *
+     * @param content where the content is written to, or null if the content should be discarded
+     * @return true if a delimiter was found, false if the message ended
+     * @throws IOException If an error occurred while reading the message
+     */
+    private boolean readUntilDelimiter(PartContent content) throws IOException {
+        while (true) {
+            ensureAvailable(delimiter.length);
+            int index = indexOfDelimiter();
+            if (index >= 0) {
+                if (content != null) {
+                    content.write(buffer, position, index - position);
+                }
+                position = index + delimiter.length;
+                return true;
+            }
+            // A delimiter may start within the last bytes of the buffer, hence they are kept until more is read
+            int end = endOfStream ? limit : Math.max(position, limit - delimiter.length + 1);
+            if (content != null) {
+                content.write(buffer, position, end - position);
+            }
+            position = end;
+            if (endOfStream) {
+                return false;
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Read what follows a delimiter, which is either "--" for the last delimiter, or an optional padding and a line
+     * break.
+     *
+     * @throws IOException If an error occurred while reading the message
+     */
+    private void readDelimiterSuffix() throws IOException {
+        ensureAvailable(DASH_BOUNDARY.length);
+        if (startsWith(DASH_BOUNDARY)) {
+            // The epilogue which follows the last delimiter is not read
+            completed = true;
+            return;
+        }
+        if (readLine() == null) {
+            completed = true;
+        }
+    }
+
+    private HttpHeaders readHeaders() throws IOException {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        String name = null;
+        StringBuilder value = new StringBuilder();
+        String line;
+        int length = 0;
+        while ((line = readLine()) != null && !line.isEmpty()) {
+            length += line.length();
+            if (length > MAX_HEADERS_LENGTH) {
+                throw new IOException("headers of the body part are longer than " + MAX_HEADERS_LENGTH + " bytes");
+            }
+            if (name != null && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                // Continuation of a folded header
+                value.append(' ').append(line.trim());
+                continue;
+            }
+            if (name != null) {
+                headers.add(name, value.toString());
+            }
+            int separatorIndex = line.indexOf(':');
+            if (separatorIndex <= 0) {
+                name = null;
+                continue;
+            }
+            name = line.substring(0, separatorIndex).trim();
+            value.setLength(0);
+            value.append(line.substring(separatorIndex + 1).trim());
+        }
+        if (name != null) {
+            headers.add(name, value.toString());
+        }
+        return headers;
+    }
+
+    /**
+     * Read a line which ends with a line break, without the line break.
+     *
+     * @return the line, or null if the message ended
+     * @throws IOException If an error occurred while reading the message
+     */
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = null;
+        int length = 0;
+        while (true) {
+            ensureAvailable(1);
+            if (position == limit) {
+                return line == null ? null : decodeLine(line);
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            if (line == null) {
+                line = new ByteArrayOutputStream();
+            }
+            line.write(buffer, start, position - start);
+            length += position - start;
+            if (length > MAX_HEADER_LINE_LENGTH) {
+                throw new IOException("header line is longer than " + MAX_HEADER_LINE_LENGTH + " bytes");
+            }
+            if (position < limit) {
+                position++;
+                return decodeLine(line);
+            }
+        }
+    }
+
+    private static String decodeLine(ByteArrayOutputStream line) {
+        String value = new String(line.toByteArray(), StandardCharsets.UTF_8);
+        return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    private int indexOfDelimiter() {
+        byte first = delimiter[0];
+        int last = limit - delimiter.length;
+        for (int i = position; i <= last; i++) {
+            if (buffer[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < delimiter.length && buffer[i + j] == delimiter[j]) {
+                j++;
+            }
+            if (j == delimiter.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean startsWith(byte[] prefix) {
+        if (limit - position < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[position + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureAvailable(int count) throws IOException {
+        while (limit - position < count && !endOfStream) {
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfStream = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * Get the spill threshold from the configuration, or the default threshold.
+     *
+     * @return spill threshold in bytes
+     */
+    private static long getSpillThreshold() {
+        String spillThresholdConfigProp = ConfigRegistry.getInstance().getAsString(SPILL_THRESHOLD_CONFIG_PROP);
+        if (spillThresholdConfigProp != null) {
+            try {
+                return Long.parseLong(spillThresholdConfigProp.trim());
+            } catch (NumberFormatException e) {
+                // Fall back to the default threshold
+            }
+        }
+        return DEFAULT_SPILL_THRESHOLD;
+    }
+
+    /**
+     * Content of the body part which is being read. It is kept in a buffer until it exceeds the memory which is left
+     * for the message, and is written to a temp file afterwards.
+     */
+    private class PartContent {
+
+        private byte[] data = new byte[Math.min(READABLE_BUFFER_SIZE, memoryAvailable)];
+        private int count;
+        private File tempFile;
+        private FileChannel fileChannel;
+
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            if (fileChannel == null && length > memoryAvailable - count) {
+                spill();
+            }
+            if (fileChannel != null) {
+                ByteBuffer source = ByteBuffer.wrap(bytes, offset, length);
+                while (source.hasRemaining()) {
+                    fileChannel.write(source);
+                }
+                return;
+            }
+            if (count + length > data.length) {
+                data = Arrays.copyOf(data, (int) Math.min(Math.max((long) data.length * 2, count + length),
+                        memoryAvailable));
+            }
+            System.arraycopy(bytes, offset, data, count, length);
+            count += length;
+        }
+
+        private void spill() throws IOException {
+            tempFile = File.createTempFile(TEMP_FILE_NAME, TEMP_FILE_EXTENSION);
+            fileChannel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE);
+            ByteBuffer source = ByteBuffer.wrap(data, 0, count);
+            while (source.hasRemaining()) {
+                fileChannel.write(source);
+            }
+            data = null;
+        }
+
+        Channel toChannel() throws IOException {
+            if (fileChannel == null) {
+                memoryAvailable -= count;
+                return new BlobIOChannel(new BlobChannel(ByteBuffer.wrap(data, 0, count)));
+            }
+            fileChannel.close();
+            return EntityBodyHandler.getByteChannelForTempFile(tempFile.getAbsolutePath());
+        }
+
+        void discard() throws IOException {
+            data = null;
+            if (fileChannel != null) {
+                fileChannel.close();
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * A decoded body part, with its headers and content.
+     */
+    public static class BodyPart {
+
+        private final HttpHeaders headers;
+        private final int index;
+        private final Channel content;
+
+        BodyPart(HttpHeaders headers, int index, Channel content) {
+            this.headers = headers;
+            this.index = index;
+            this.content = content;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        public String getContentType() {
+            String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+            return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+        }
+
+        /**
+         * Get the content id of the part, without the enclosing angle brackets. The index of the part is used if the
+         * part does not have a content id.
+         *
+         * @return content id of the part
+         */
+        public String getContentId() {
+            String contentId = headers.get(HttpHeaderNames.CONTENT_ID);
+            if (contentId == null) {
+                return Integer.toString(index);
+            }
+            if (contentId.length() > 2 && contentId.charAt(0) == '<' && contentId.endsWith(">")) {
+                return contentId.substring(1, contentId.length() - 1);
+            }
+            return contentId;
+        }
+
+        public Channel getContent() {
+            return content;
+        }
+    }
+}
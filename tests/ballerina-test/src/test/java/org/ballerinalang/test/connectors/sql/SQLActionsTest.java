@@ -16,6 +16,7 @@
  */
 package org.ballerinalang.test.connectors.sql;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
@@ -278,6 +279,14 @@ public class SQLActionsTest {
         Assert.assertEquals(retValue.stringValue(), expected);
     }
 
+    @Test(groups = CONNECTOR_TEST)
+    public void testArrayofQueryParametersOfDifferentSizes() {
+        BValue[] returns = BRunUtil.invoke(result, "testArrayofQueryParametersOfDifferentSizes", connectionArgs);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+    }
+
     @Test(groups = CONNECTOR_TEST)
     public void testBoolArrayofQueryParameters() {
         BValue[] returns = BRunUtil.invoke(result, "testBoolArrayofQueryParameters", connectionArgs);
@@ -530,6 +539,24 @@ public class SQLActionsTest {
         Assert.assertEquals(retValue.get(1), 1);
     }
 
+    @Test(groups = CONNECTOR_TEST, description = "Test batch update rewritten to multi-row inserts")
+    public void testBatchUpdateWithMultiRowInsert() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration("b7a.sql.batch.insert.rows", 2);
+        BValue[] returns;
+        try {
+            returns = BRunUtil.invoke(result, "testBatchUpdateWithMultiRowInsert", connectionArgs);
+        } finally {
+            configRegistry.removeConfiguration("b7a.sql.batch.insert.rows");
+        }
+        BIntArray retValue = (BIntArray) returns[0];
+        Assert.assertEquals(retValue.size(), 3);
+        Assert.assertEquals(retValue.get(0), 1);
+        Assert.assertEquals(retValue.get(1), 1);
+        Assert.assertEquals(retValue.get(2), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+    }
+
     @Test(groups = CONNECTOR_TEST)
     public void testBatchUpdateWithFailure() {
         BValue[] returns = BRunUtil.invoke(result, "testBatchUpdateWithFailure", connectionArgs);
@@ -802,6 +829,14 @@ public class SQLActionsTest {
                 + " name:\"Devni\", address:\"Sri Lanka\"}, {id:3, name:\"Thurani\", address:\"Sri Lanka\"}])");
     }
 
+    @Test(groups = CONNECTOR_TEST, description = "Test streaming select with a fetch size")
+    public void testSelectWithFetchSize() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithFetchSize", connectionArgs);
+        Assert.assertEquals(returns[0].stringValue(), "[{\"id\":1,\"name\":\"Manuri\",\"address\":\"Sri Lanka\"},"
+                + "{\"id\":2,\"name\":\"Devni\",\"address\":\"Sri Lanka\"},"
+                + "{\"id\":3,\"name\":\"Thurani\",\"address\":\"Sri Lanka\"}]");
+    }
+
     @Test(groups = CONNECTOR_TEST, description = "Test iterating data of a table loaded to memory after closing")
     public void testLoadToMemorySelectAfterTableClose() throws Exception {
         BValue[] returns = BRunUtil.invokeFunction(result, "testLoadToMemorySelectAfterTableClose", connectionArgs);
@@ -16,6 +16,7 @@
  */
 package org.ballerinalang.test.connectors.sql;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
@@ -113,6 +114,20 @@ public class SQLConnectorInitTest {
         Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test(description = "Test executing the actions asynchronously in the executor of the datasource")
+    public void testConnectorWithAsyncExecution() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration("b7a.sql.async.enabled", true);
+        try {
+            BValue[] returns = BRunUtil.invoke(result, "testConnectorWithDefaultPropertiesForListedDB");
+            Assert.assertEquals(returns[0].stringValue(), "[{\"FIRSTNAME\":\"Peter\"}]");
+            returns = BRunUtil.invoke(result, "testConnectorWithWorkers");
+            Assert.assertEquals(returns[0].stringValue(), "[{\"FIRSTNAME\":\"Peter\"}]");
+        } finally {
+            configRegistry.removeConfiguration("b7a.sql.async.enabled");
+        }
+    }
+
 
     @AfterSuite
     public void cleanup() {
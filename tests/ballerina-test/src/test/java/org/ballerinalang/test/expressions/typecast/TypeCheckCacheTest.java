@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.expressions.typecast;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.Instruction.InstructionTypeCheck;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.cpentries.TypeRefCPEntry;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the results of type casts of records which are cached in the type check instructions.
+ */
+public class TypeCheckCacheTest {
+
+    private CompileResult result;
+
+    private BValue a;
+
+    private BValue b;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/expressions/typecast/type-check-cache.bal");
+        a = BRunUtil.invoke(result, "createA")[0];
+        b = BRunUtil.invoke(result, "createB")[0];
+    }
+
+    @Test(description = "Test repeated successful casts, which are answered from the cache")
+    public void testCachedSuccessfulCast() {
+        Assert.assertEquals(countCasts(a, 3), 3);
+        Assert.assertEquals(getCastInstruction().getCachedResult(a.getType()), Boolean.TRUE);
+        Assert.assertNull(getCastInstruction().getCachedResult(b.getType()));
+    }
+
+    @Test(description = "Test repeated failing casts, which are answered from the cache",
+            dependsOnMethods = "testCachedSuccessfulCast")
+    public void testCachedFailedCast() {
+        Assert.assertEquals(countCasts(b, 3), 0);
+        Assert.assertEquals(getCastInstruction().getCachedResult(b.getType()), Boolean.FALSE);
+        Assert.assertNull(getCastInstruction().getCachedResult(a.getType()));
+
+        // The cache holds the result of the last type only
+        Assert.assertEquals(countCasts(a, 2), 2);
+        Assert.assertEquals(getCastInstruction().getCachedResult(a.getType()), Boolean.TRUE);
+    }
+
+    @Test(description = "Test that type check results are cached only by the type check instructions")
+    public void testTypeCheckInstructions() {
+        PackageInfo packageInfo = result.getProgFile().getEntryPackage();
+        for (Instruction instruction : packageInfo.getInstructions()) {
+            boolean typeCheck = instruction.getOpcode() == InstructionCodes.CHECKCAST ||
+                    instruction.getOpcode() == InstructionCodes.ANY2T ||
+                    instruction.getOpcode() == InstructionCodes.ANY2C ||
+                    instruction.getOpcode() == InstructionCodes.ANY2E ||
+                    instruction.getOpcode() == InstructionCodes.IS_ASSIGNABLE;
+            Assert.assertEquals(instruction instanceof InstructionTypeCheck, typeCheck, instruction.toString());
+        }
+    }
+
+    private int countCasts(BValue value, int times) {
+        BValue[] returns = BRunUtil.invoke(result, "countCasts", new BValue[]{value, new BInteger(times)});
+        return (int) ((BInteger) returns[0]).intValue();
+    }
+
+    /**
+     * Returns the instruction of the cast to the record type A in the countCasts function.
+     */
+    private InstructionTypeCheck getCastInstruction() {
+        PackageInfo packageInfo = result.getProgFile().getEntryPackage();
+        for (Instruction instruction : packageInfo.getInstructions()) {
+            if (instruction.getOpcode() != InstructionCodes.ANY2T &&
+                    instruction.getOpcode() != InstructionCodes.CHECKCAST) {
+                continue;
+            }
+            BType targetType = ((TypeRefCPEntry) packageInfo.getCPEntry(instruction.getOperands()[1])).getType();
+            if (targetType.getName().equals("A")) {
+                return (InstructionTypeCheck) instruction;
+            }
+        }
+        throw new AssertionError("cast to A not found");
+    }
+}
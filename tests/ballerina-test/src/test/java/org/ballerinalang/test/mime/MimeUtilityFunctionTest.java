@@ -49,6 +49,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 
 import static org.ballerinalang.mime.util.Constants.CONTENT_DISPOSITION_FILENAME_FIELD;
@@ -712,4 +713,24 @@ public class MimeUtilityFunctionTest {
             log.error("Error occurred in testTempFileDeletion", e.getMessage());
         }
     }
+
+    @Test(description = "Test reading content of the declared length into a buffer")
+    public void testGetByteBufferWithContentLength() throws IOException {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        ByteBuffer buffer = MimeUtil.getByteBuffer(new ByteArrayInputStream(content), content.length);
+        byte[] readContent = new byte[buffer.remaining()];
+        buffer.get(readContent);
+        Assert.assertEquals(readContent, content);
+    }
+
+    @Test(description = "Test that a declared length larger than the content is not allocated up front")
+    public void testGetByteBufferWithLargeContentLength() throws IOException {
+        byte[] content = "Hello Ballerina".getBytes();
+        ByteBuffer buffer = MimeUtil.getByteBuffer(new ByteArrayInputStream(content), 2L * 1024 * 1024 * 1024);
+        Assert.assertEquals(buffer.remaining(), content.length);
+        Assert.assertTrue(buffer.array().length <= 64 * 1024);
+    }
 }
@@ -24,6 +24,9 @@ import org.ballerinalang.launcher.util.BServiceUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDecoder;
+import org.ballerinalang.mime.util.MultipartStreamDecoder;
+import org.ballerinalang.nativeimpl.io.channels.TempFileIOChannel;
+import org.ballerinalang.nativeimpl.io.channels.base.Channel;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.test.services.testutils.HTTPTestRequest;
 import org.ballerinalang.test.services.testutils.MessageUtils;
@@ -36,7 +39,10 @@ import org.wso2.carbon.messaging.Header;
 import org.wso2.transport.http.netty.message.HTTPCarbonMessage;
 import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -201,4 +207,122 @@ public class MultipartDecoderTest {
         Assert.assertNotNull(response, "Response message not found");
         Assert.assertEquals(ResponseReader.getReturnValue(response), " -- Part1 -- Part2" + StringUtil.NEWLINE);
     }
+
+    @Test(description = "Test decoding body parts as a stream, where the large parts are spilled to temp files")
+    public void testStreamingDecoderWithSpilledParts() throws IOException {
+        String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
+        StringBuilder largeContent = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            largeContent.append("Large part line ").append(i).append("\r\n");
+        }
+        String multipartBody = "preamble" + "\r\n" +
+                "--" + multipartDataBoundary + "\r\n" +
+                "Content-Type: text/plain" + "\r\n" +
+                "Content-ID: <part1>" + "\r\n" +
+                "\r\n" +
+                "Part1" +
+                "\r\n" +
+                "--" + multipartDataBoundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"filepart\";" + "\r\n" +
+                " filename=\"file-01.txt\"" + "\r\n" +
+                "\r\n" +
+                largeContent +
+                "\r\n" +
+                "--" + multipartDataBoundary + "--" + "\r\n";
+
+        MultipartStreamDecoder decoder = new MultipartStreamDecoder(new ByteArrayInputStream(
+                multipartBody.getBytes(StandardCharsets.UTF_8)), multipartDataBoundary, 1024);
+        Assert.assertTrue(decoder.hasNext());
+        MultipartStreamDecoder.BodyPart firstPart = decoder.next();
+        Assert.assertEquals(firstPart.getContentType(), "text/plain");
+        Assert.assertEquals(firstPart.getContentId(), "part1");
+        Assert.assertFalse(firstPart.getContent() instanceof TempFileIOChannel);
+        Assert.assertEquals(readContent(firstPart.getContent()), "Part1");
+
+        Assert.assertTrue(decoder.hasNext());
+        MultipartStreamDecoder.BodyPart secondPart = decoder.next();
+        Assert.assertEquals(secondPart.getContentType(), "application/octet-stream");
+        Assert.assertEquals(secondPart.getContentId(), "1");
+        Assert.assertEquals(secondPart.getHeaders().get(HttpHeaderNames.CONTENT_DISPOSITION),
+                "form-data; name=\"filepart\"; filename=\"file-01.txt\"");
+        Assert.assertTrue(secondPart.getContent() instanceof TempFileIOChannel);
+        Assert.assertEquals(readContent(secondPart.getContent()), largeContent.toString());
+
+        Assert.assertFalse(decoder.hasNext());
+    }
+
+    @Test(description = "Test that the parts of a message are kept in memory up to the spill threshold in total")
+    public void testStreamingDecoderSpillsWhenThresholdIsUsedUp() throws IOException {
+        String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
+        String multipartBody = "--" + multipartDataBoundary + "\r\n" +
+                "\r\n" +
+                "12345678" +
+                "\r\n" +
+                "--" + multipartDataBoundary + "\r\n" +
+                "\r\n" +
+                "abcdefgh" +
+                "\r\n" +
+                "--" + multipartDataBoundary + "--" + "\r\n";
+
+        MultipartStreamDecoder decoder = new MultipartStreamDecoder(new ByteArrayInputStream(
+                multipartBody.getBytes(StandardCharsets.UTF_8)), multipartDataBoundary, 12);
+        MultipartStreamDecoder.BodyPart firstPart = decoder.next();
+        Assert.assertFalse(firstPart.getContent() instanceof TempFileIOChannel);
+        // Only four bytes of the threshold are left for the second part
+        MultipartStreamDecoder.BodyPart secondPart = decoder.next();
+        Assert.assertTrue(secondPart.getContent() instanceof TempFileIOChannel);
+        Assert.assertEquals(readContent(firstPart.getContent()), "12345678");
+        Assert.assertEquals(readContent(secondPart.getContent()), "abcdefgh");
+        Assert.assertFalse(decoder.hasNext());
+    }
+
+    @Test(description = "Test decoding a body part with a header line which is too long",
+            expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "header line is longer than 8192 bytes")
+    public void testStreamingDecoderWithLongHeaderLine() throws IOException {
+        String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longValue.append("0123456789");
+        }
+        String multipartBody = "--" + multipartDataBoundary + "\r\n" +
+                "Content-Type: text/plain; name=" + longValue + "\r\n" +
+                "\r\n" +
+                "Part1" +
+                "\r\n" +
+                "--" + multipartDataBoundary + "--" + "\r\n";
+
+        MultipartStreamDecoder decoder = new MultipartStreamDecoder(new ByteArrayInputStream(
+                multipartBody.getBytes(StandardCharsets.UTF_8)), multipartDataBoundary, 1024);
+        decoder.next();
+    }
+
+    @Test(description = "Test decoding a body part with too many headers",
+            expectedExceptions = IOException.class,
+            expectedExceptionsMessageRegExp = "headers of the body part are longer than 65536 bytes")
+    public void testStreamingDecoderWithLongHeaders() throws IOException {
+        String multipartDataBoundary = MimeUtil.getNewMultipartDelimiter();
+        StringBuilder headers = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            headers.append("X-Header-").append(i).append(": value").append("\r\n");
+        }
+        String multipartBody = "--" + multipartDataBoundary + "\r\n" +
+                headers +
+                "\r\n" +
+                "Part1" +
+                "\r\n" +
+                "--" + multipartDataBoundary + "--" + "\r\n";
+
+        MultipartStreamDecoder decoder = new MultipartStreamDecoder(new ByteArrayInputStream(
+                multipartBody.getBytes(StandardCharsets.UTF_8)), multipartDataBoundary, 1024);
+        decoder.next();
+    }
+
+    private String readContent(Channel content) throws IOException {
+        try {
+            return new String(MimeUtil.getByteArray(content.getInputStream()), StandardCharsets.UTF_8);
+        } finally {
+            content.close();
+        }
+    }
 }
@@ -33,6 +33,8 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.model.values.BXMLItem;
 import org.ballerinalang.nativeimpl.io.IOConstants;
+import org.ballerinalang.nativeimpl.io.channels.BlobChannel;
+import org.ballerinalang.nativeimpl.io.channels.BlobIOChannel;
 import org.ballerinalang.nativeimpl.io.channels.base.Channel;
 import org.ballerinalang.nativeimpl.util.Base64ByteChannel;
 import org.ballerinalang.nativeimpl.util.Base64Wrapper;
@@ -42,13 +44,18 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.stream.Stream;
 
@@ -60,6 +67,7 @@ public class IOTest {
     private CompileResult characterInputOutputProgramFile;
     private CompileResult recordsInputOutputProgramFile;
     private CompileResult stringInputOutputProgramFile;
+    private CompileResult xmlInputOutputProgramFile;
     private String currentDirectoryPath = "/tmp";
 
     @BeforeClass
@@ -68,6 +76,7 @@ public class IOTest {
         characterInputOutputProgramFile = BCompileUtil.compileAndSetup("test-src/io/char_io.bal");
         recordsInputOutputProgramFile = BCompileUtil.compileAndSetup("test-src/io/record_io.bal");
         stringInputOutputProgramFile = BCompileUtil.compileAndSetup("test-src/io/string_io.bal");
+        xmlInputOutputProgramFile = BCompileUtil.compileAndSetup("test-src/io/xml_io.bal");
         currentDirectoryPath = System.getProperty("user.dir") + "/target";
     }
 
@@ -287,6 +296,36 @@ public class IOTest {
     }
 
 
+    @Test(description = "Test reading bytes from a memory channel in ballerina/io package")
+    public void testReadBytesFromMemoryChannel() {
+        int numberOfBytesToRead = 4;
+        BBlob readBytes;
+
+        //Will initialize the channel
+        BValue[] args = {new BBlob("123456".getBytes())};
+        BRunUtil.invokeStateful(bytesInputOutputProgramFile, "initMemoryChannel", args);
+
+        //Reads the 1st four bytes "1234"
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        BValue[] returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BBlob) returns[0];
+        Assert.assertEquals(readBytes.blobValue(), "1234".getBytes());
+
+        //Reads the remaining two bytes "56"
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BBlob) returns[0];
+        Assert.assertEquals(readBytes.blobValue(), "56".getBytes());
+
+        //Request for a get, the bytes will be empty
+        args = new BValue[]{new BInteger(numberOfBytesToRead)};
+        returns = BRunUtil.invokeStateful(bytesInputOutputProgramFile, "readBytes", args);
+        readBytes = (BBlob) returns[0];
+        Assert.assertEquals(readBytes.blobValue(), new byte[0]);
+
+        BRunUtil.invokeStateful(bytesInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test 'writeBytes' function in ballerina/io package")
     public void testWriteBytes() {
         byte[] content = {-1, 46, 77, 90, 38};
@@ -409,6 +448,64 @@ public class IOTest {
         BRunUtil.invokeStateful(characterInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test reading XML elements through an XmlElementChannel in ballerina/io package")
+    public void testReadXmlElements() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+        int expectedNumberOfElements = 26;
+
+        //Will initialize the channel
+        BValue[] args = {new BString(getAbsoluteFilePath(resourceToRead)), new BString("r"), new BString("UTF-8"),
+                new BString("CATALOG/CD")};
+        BRunUtil.invokeStateful(xmlInputOutputProgramFile, "initXmlElementChannel", args);
+
+        BValue[] returns = BRunUtil.invokeStateful(xmlInputOutputProgramFile, "nextElement");
+        BXML element = (BXML) returns[0];
+        Assert.assertEquals(element.getElementName().stringValue(), "CD");
+        Assert.assertEquals(element.children("TITLE").getTextValue().stringValue(), "Empire Burlesque");
+
+        int numberOfElements = 1;
+        returns = BRunUtil.invokeStateful(xmlInputOutputProgramFile, "hasNextElement");
+        while (((BBoolean) returns[0]).booleanValue()) {
+            returns = BRunUtil.invokeStateful(xmlInputOutputProgramFile, "nextElement");
+            Assert.assertEquals(((BXML) returns[0]).getElementName().stringValue(), "CD");
+            numberOfElements++;
+            returns = BRunUtil.invokeStateful(xmlInputOutputProgramFile, "hasNextElement");
+        }
+        Assert.assertEquals(numberOfElements, expectedNumberOfElements);
+
+        BRunUtil.invokeStateful(xmlInputOutputProgramFile, "close");
+    }
+
+    @Test(description = "Test reading invalid XML through an XmlElementChannel in ballerina/io package")
+    public void testReadInvalidXmlElements() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/web-app.json";
+
+        //Will initialize the channel
+        BValue[] args = {new BString(getAbsoluteFilePath(resourceToRead)), new BString("r"), new BString("UTF-8"),
+                new BString("")};
+        BRunUtil.invokeStateful(xmlInputOutputProgramFile, "initXmlElementChannel", args);
+
+        BValue[] returns = BRunUtil.invokeStateful(xmlInputOutputProgramFile, "hasNextElement");
+        Assert.assertTrue(returns[0] instanceof BMap);
+        Assert.assertTrue(returns[0].stringValue().contains("failed to read xml"));
+
+        BRunUtil.invokeStateful(xmlInputOutputProgramFile, "close");
+    }
+
+    @Test(description = "Test copying XML elements between XmlElementChannels in ballerina/io package")
+    public void testCopyXmlElements() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+        String sourceToWrite = currentDirectoryPath + "/xmlElementsFile.xml";
+
+        BValue[] args = {new BString(getAbsoluteFilePath(resourceToRead)), new BString(sourceToWrite),
+                new BString("CATALOG/CD")};
+        BValue[] returns = BRunUtil.invoke(xmlInputOutputProgramFile, "copyElements", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 26);
+
+        String writtenContent = new String(Files.readAllBytes(Paths.get(sourceToWrite)), StandardCharsets.UTF_8);
+        Assert.assertEquals(writtenContent, readFileContent(resourceToRead), "XML content mismatch.");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" +
@@ -475,5 +572,30 @@ public class IOTest {
         Channel byteChannel = (Channel) decodedByteChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
         Assert.assertEquals(StringUtils.getStringFromInputStream(byteChannel.getInputStream()), expectedValue);
     }
-}
 
+    @Test(description = "Test transferring the content of stream and buffer backed blob channels")
+    public void testTransferBlobChannel() throws IOException {
+        byte[] content = new byte[20000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        byte[] expected = Arrays.copyOfRange(content, 100, 100 + 17000);
+
+        BlobIOChannel streamChannel = new BlobIOChannel(new BlobChannel(
+                Channels.newChannel(new ByteArrayInputStream(content))));
+        ByteArrayOutputStream streamOutput = new ByteArrayOutputStream();
+        streamChannel.transfer(100, 17000, Channels.newChannel(streamOutput));
+        Assert.assertEquals(streamOutput.toByteArray(), expected);
+
+        BlobIOChannel bufferChannel = new BlobIOChannel(new BlobChannel(ByteBuffer.wrap(content)));
+        ByteArrayOutputStream bufferOutput = new ByteArrayOutputStream();
+        bufferChannel.transfer(100, 17000, Channels.newChannel(bufferOutput));
+        Assert.assertEquals(bufferOutput.toByteArray(), expected);
+
+        // Transferring past the end of the content transfers the remaining content
+        streamChannel = new BlobIOChannel(new BlobChannel(Channels.newChannel(new ByteArrayInputStream(content))));
+        streamOutput = new ByteArrayOutputStream();
+        streamChannel.transfer(19990, 100, Channels.newChannel(streamOutput));
+        Assert.assertEquals(streamOutput.size(), 10);
+    }
+}
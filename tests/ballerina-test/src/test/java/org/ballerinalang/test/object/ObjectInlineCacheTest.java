@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.object;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.InlineCache;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.Instruction.InstructionVCALL;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the inline caches of virtual calls to the attached functions of objects.
+ */
+public class ObjectInlineCacheTest {
+
+    @Test(description = "Test a call site which sees a single receiver type")
+    public void testMonomorphicCallSite() {
+        CompileResult result = BCompileUtil.compile("test-src/object/object-inline-cache.bal");
+        Assert.assertEquals(sumAreas(result, 1), 1);
+        Assert.assertEquals(sumAreas(result, 1), 1);
+
+        InlineCache inlineCache = getInlineCache(result);
+        Assert.assertEquals(inlineCache.getEntryCount(), 1);
+        Assert.assertFalse(inlineCache.isMegamorphic());
+    }
+
+    @Test(description = "Test a call site which sees as many receiver types as it caches")
+    public void testPolymorphicCallSite() {
+        CompileResult result = BCompileUtil.compile("test-src/object/object-inline-cache.bal");
+        Assert.assertEquals(sumAreas(result, 2), 3);
+        Assert.assertEquals(sumAreas(result, InlineCache.MAX_ENTRIES), 15);
+        Assert.assertEquals(sumAreas(result, InlineCache.MAX_ENTRIES), 15);
+
+        InlineCache inlineCache = getInlineCache(result);
+        Assert.assertEquals(inlineCache.getEntryCount(), InlineCache.MAX_ENTRIES);
+        Assert.assertFalse(inlineCache.isMegamorphic());
+    }
+
+    @Test(description = "Test a call site which sees more receiver types than it caches")
+    public void testMegamorphicCallSite() {
+        CompileResult result = BCompileUtil.compile("test-src/object/object-inline-cache.bal");
+        Assert.assertEquals(sumAreas(result, 6), 63);
+
+        InlineCache inlineCache = getInlineCache(result);
+        Assert.assertEquals(inlineCache.getEntryCount(), InlineCache.MAX_ENTRIES);
+        Assert.assertTrue(inlineCache.isMegamorphic());
+
+        // Receiver types which are not cached are still resolved through their type
+        Assert.assertEquals(sumAreas(result, 6), 63);
+        Assert.assertEquals(inlineCache.getEntryCount(), InlineCache.MAX_ENTRIES);
+    }
+
+    private int sumAreas(CompileResult result, int kinds) {
+        BValue[] returns = BRunUtil.invoke(result, "sumAreas", new BValue[]{new BInteger(kinds)});
+        return (int) ((BInteger) returns[0]).intValue();
+    }
+
+    /**
+     * Returns the inline cache of the call to the area function in the sumAreas function.
+     */
+    private InlineCache getInlineCache(CompileResult result) {
+        for (Instruction instruction : result.getProgFile().getEntryPackage().getInstructions()) {
+            if (instruction instanceof InstructionVCALL &&
+                    ((InstructionVCALL) instruction).functionInfo.getName().endsWith("area")) {
+                return ((InstructionVCALL) instruction).inlineCache;
+            }
+        }
+        throw new AssertionError("call to area not found");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.record;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBlob;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.codegen.ProgramFileReader;
+import org.ballerinalang.util.diagnostic.DiagnosticListener;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
+import org.wso2.ballerinalang.programfile.ProgramFileWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+
+/**
+ * Tests the access of record fields by their position in the record type.
+ */
+public class RecordFieldAccessByPositionTest {
+
+    private static final String SOURCE_ROOT = "src/test/resources/test-src/record";
+
+    private static final String SOURCE = "record-field-access-by-position.bal";
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/record/" + SOURCE);
+    }
+
+    @Test(description = "Test that field accesses with constant names are compiled to positional instructions")
+    public void testPositionalInstructions() {
+        Set<Integer> opcodes = new HashSet<>();
+        for (Instruction instruction : getFunctionInstructions(result.getProgFile(), "copyPoint", false)) {
+            opcodes.add(instruction.getOpcode());
+        }
+        for (int opcode = InstructionCodes.IFIELDLOAD_IDX; opcode <= InstructionCodes.RFIELDSTORE_IDX; opcode++) {
+            Assert.assertTrue(opcodes.contains(opcode), "opcode " + opcode + " not found");
+        }
+        for (int opcode = InstructionCodes.IFIELDLOAD; opcode <= InstructionCodes.RFIELDLOAD; opcode++) {
+            Assert.assertFalse(opcodes.contains(opcode), "opcode " + opcode + " found");
+        }
+        for (int opcode = InstructionCodes.IFIELDSTORE; opcode <= InstructionCodes.RFIELDSTORE; opcode++) {
+            Assert.assertFalse(opcodes.contains(opcode), "opcode " + opcode + " found");
+        }
+    }
+
+    @Test(description = "Test that each positional field load and store of the loaded value is fused into a copy")
+    public void testFusedFieldCopy() {
+        Set<Integer> copiedLoadOpcodes = new HashSet<>();
+        for (Instruction instruction : getFunctionInstructions(result.getProgFile(), "copyPoint", true)) {
+            if (instruction.getOpcode() == InstructionCodes.FIELDCOPY) {
+                copiedLoadOpcodes.add(instruction.getOperands()[0]);
+            }
+        }
+        for (int opcode = InstructionCodes.IFIELDLOAD_IDX; opcode <= InstructionCodes.RFIELDLOAD_IDX; opcode++) {
+            Assert.assertTrue(copiedLoadOpcodes.contains(opcode), "copy with opcode " + opcode + " not found");
+        }
+    }
+
+    @Test(description = "Test copying the fields of a record through the fused field copies")
+    public void testCopyFields() {
+        BValue[] returns = BRunUtil.invoke(result, "testCopyPoint");
+        BMap<String, BValue> source = (BMap<String, BValue>) returns[0];
+        BMap<String, BValue> target = (BMap<String, BValue>) returns[1];
+
+        Assert.assertEquals(((BInteger) source.get("x")).intValue(), 10);
+        Assert.assertEquals(source.get("label").stringValue(), "modified");
+
+        Assert.assertEquals(((BInteger) target.get("x")).intValue(), 1);
+        Assert.assertEquals(((BFloat) target.get("weight")).floatValue(), 2.5);
+        Assert.assertEquals(target.get("label").stringValue(), "source");
+        Assert.assertTrue(((BBoolean) target.get("visible")).booleanValue());
+        Assert.assertEquals(new String(((BBlob) target.get("data")).blobValue()), "data");
+        Assert.assertSame(target.get("next"), source.get("next"));
+        Assert.assertEquals(((BMap<String, BValue>) target.get("next")).get("label").stringValue(), "next");
+    }
+
+    @Test(description = "Test loading and storing each type of field in a program read from its binary form")
+    public void testReloadedProgram() throws IOException {
+        ProgramFile programFile = new ProgramFileReader().readProgram(new ByteArrayInputStream(compileToBinary()));
+        Set<Integer> opcodes = new HashSet<>();
+        for (Instruction instruction : getFunctionInstructions(programFile, "updatePoint", false)) {
+            opcodes.add(instruction.getOpcode());
+        }
+        for (int opcode = InstructionCodes.IFIELDLOAD_IDX; opcode <= InstructionCodes.RFIELDSTORE_IDX; opcode++) {
+            Assert.assertTrue(opcodes.contains(opcode), "opcode " + opcode + " not found");
+        }
+
+        CompileResult reloaded = new CompileResult();
+        reloaded.setProgFile(programFile);
+        assertUpdatedPoint(reloaded);
+        programFile.setInstructionFusionEnabled(false);
+        assertUpdatedPoint(reloaded);
+    }
+
+    @Test(description = "Test positional access of a map which does not have the layout of a record type")
+    public void testPositionalAccessWithoutLayout() {
+        BMap<String, BValue> map = new BMap<>();
+        map.put("label", new BString("foo"));
+        map.putField(2, "x", new BInteger(1));
+
+        // The position is not used, as the map has no field layout
+        Assert.assertEquals(((BInteger) map.getField(0, "x")).intValue(), 1);
+        Assert.assertEquals(map.getField(2, "label").stringValue(), "foo");
+        Assert.assertNull(map.getField(1, "y"));
+        Assert.assertEquals(map.size(), 2);
+    }
+
+    private void assertUpdatedPoint(CompileResult compileResult) {
+        BValue point = BRunUtil.invoke(compileResult, "createPoint")[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "updatePoint", new BValue[]{point});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BFloat) returns[1]).floatValue(), 5.0);
+        Assert.assertEquals(returns[2].stringValue(), "source!");
+        Assert.assertFalse(((BBoolean) returns[3]).booleanValue());
+        Assert.assertEquals(new String(((BBlob) returns[4]).blobValue()), "updated");
+        Assert.assertEquals(((BMap<String, BValue>) returns[5]).get("label").stringValue(), "next");
+
+        BMap<String, BValue> updated = (BMap<String, BValue>) point;
+        Assert.assertEquals(((BInteger) updated.get("x")).intValue(), 2);
+        Assert.assertEquals(updated.get("label").stringValue(), "source!");
+        Assert.assertEquals(((BMap<String, BValue>) updated.get("next")).get("label").stringValue(), "new");
+    }
+
+    private static byte[] compileToBinary() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, Paths.get(SOURCE_ROOT).toAbsolutePath().toString());
+        options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+        CompileResult compileResult = new CompileResult();
+        context.put(DiagnosticListener.class, compileResult::addDiagnostic);
+
+        Compiler compiler = Compiler.getInstance(context);
+        BLangPackage packageNode = compiler.compile(SOURCE);
+        CompiledBinaryFile.ProgramFile programFile = compiler.getExecutableProgram(packageNode);
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProgramFileWriter.writeProgram(programFile, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static Instruction[] getFunctionInstructions(ProgramFile programFile, String functionName,
+                                                         boolean fused) {
+        PackageInfo packageInfo = programFile.getEntryPackage();
+        FunctionInfo functionInfo = packageInfo.getFunctionInfo(functionName);
+        int start = functionInfo.getDefaultWorkerInfo().getCodeAttributeInfo().getCodeAddrs();
+        Instruction[] code = fused ? packageInfo.getFusedInstructions() : packageInfo.getInstructions();
+        int end = start;
+        while (code[end].getOpcode() != InstructionCodes.RET) {
+            end++;
+        }
+        Instruction[] functionCode = new Instruction[end - start];
+        System.arraycopy(code, start, functionCode, 0, functionCode.length);
+        return functionCode;
+    }
+}
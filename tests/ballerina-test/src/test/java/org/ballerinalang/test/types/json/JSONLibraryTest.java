@@ -26,6 +26,7 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
 
 /**
  * The following tests will verify Ballerina's custom JSON parser and generator
@@ -325,4 +326,61 @@ public class JSONLibraryTest {
         JsonNode node = JsonParser.parse(json);
         Assert.assertEquals(node.toString(), "{\"fruits\":[\"apple\",\"orange\",\"grapes\"]}");
     }
+
+    @Test
+    public void testModifyNumericArrayElements() {
+        JsonNode node = JsonParser.parse("[1,2,3]");
+        JsonNode element = node.get(0);
+        Assert.assertSame(node.get(0), element);
+
+        element.setNumber(5);
+        Assert.assertEquals(node.get(0).longValue(), 5);
+        // Every reference to the element sees the modifications made through the others
+        JsonNode sameElement = node.get(0);
+        sameElement.setNumber(6);
+        Assert.assertEquals(element.longValue(), 6);
+        Assert.assertEquals(node.toString(), "[6,2,3]");
+
+        JsonNode floatNode = JsonParser.parse("[1.5,2.5]");
+        JsonNode floatElement = floatNode.get(1);
+        floatNode.add("a");
+        floatElement.setNumber(3.5);
+        Assert.assertSame(floatNode.get(1), floatElement);
+        Assert.assertEquals(floatNode.toString(), "[1.5,3.5,\"a\"]");
+    }
+
+    @Test
+    public void testReplaceNumericArrayElement() {
+        JsonNode node = JsonParser.parse("[1,2,3]");
+        JsonNode element = node.get(1);
+        node.set(1, new JsonNode(7));
+
+        // The replaced element is no longer part of the array
+        element.setNumber(9);
+        Assert.assertEquals(node.get(1).longValue(), 7);
+        Assert.assertEquals(node.toString(), "[1,7,3]");
+    }
+
+    @Test
+    public void testObjectsWithManyFieldNames() {
+        // Objects with distinct field names, which grow the shared field name tables past their limits
+        for (int i = 0; i < 400; i++) {
+            JsonNode node = new JsonNode();
+            node.set("a" + (i % 32), i);
+            node.set("b" + (i / 32), i);
+            for (int j = 0; j < 62; j++) {
+                node.set("c" + i + "_" + j, j);
+            }
+            Assert.assertEquals(node.get("a" + (i % 32)).longValue(), i);
+            Assert.assertEquals(node.get("c" + i + "_61").longValue(), 61);
+            Iterator<String> fieldNames = node.fieldNames();
+            Assert.assertEquals(fieldNames.next(), "a" + (i % 32));
+            Assert.assertEquals(fieldNames.next(), "b" + (i / 32));
+            Assert.assertEquals(fieldNames.next(), "c" + i + "_0");
+        }
+
+        JsonNode node = JsonParser.parse("{\"x\":1,\"y\":2}");
+        node.set("z", 3);
+        Assert.assertEquals(node.toString(), "{\"x\":1,\"y\":2,\"z\":3}");
+    }
 }
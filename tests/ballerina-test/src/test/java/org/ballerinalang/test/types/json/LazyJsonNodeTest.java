@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.json;
+
+import org.ballerinalang.model.util.JsonGenerator;
+import org.ballerinalang.model.util.JsonNode;
+import org.ballerinalang.model.util.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for JSON nodes which are parsed lazily from UTF-8 content.
+ */
+public class LazyJsonNodeTest {
+
+    private static final String JSON = "{ \"name\" : \"store\",\n"
+            + "  \"items\" : [ { \"id\" : 1, \"tags\" : [ \"a\", \"b\" ] }, { \"id\" : 2, \"tags\" : [ ] } ],\n"
+            + "  \"owner\" : { \"name\" : \"Jos\u00e9\", \"since\" : 2.5, \"active\" : true, \"manager\" : null } }";
+
+    private static final int THREADS = 8;
+
+    private static final int RECORDS = 1000;
+
+    @Test
+    public void testLazyNodeValues() {
+        JsonNode node = parseLazy(JSON);
+        Assert.assertEquals(node.toString(), JsonParser.parse(JSON).toString());
+        Assert.assertTrue(node.has("name"));
+        Assert.assertEquals(node.get("items").size(), 2);
+        Assert.assertEquals(node.get("items").get(1).get("id").longValue(), 2);
+        Assert.assertEquals(node.get("items").get(0).get("tags").get(1).stringValue(), "b");
+        Assert.assertEquals(node.get("owner").get("name").stringValue(), "Jos\u00e9");
+        Assert.assertEquals(node.get("owner").get("since").doubleValue(), 2.5);
+        Assert.assertTrue(node.get("owner").get("manager").isNull());
+        Iterator<String> fieldNames = node.get("owner").fieldNames();
+        Assert.assertEquals(fieldNames.next(), "name");
+        Assert.assertEquals(fieldNames.next(), "since");
+    }
+
+    @Test
+    public void testLazyNodeReturnsSameChildNodes() {
+        JsonNode node = parseLazy(JSON);
+        Assert.assertSame(node.get("items"), node.get("items"));
+        Assert.assertSame(node.get("items").get(0), node.get("items").get(0));
+    }
+
+    @Test
+    public void testPassThroughUnmodifiedNode() throws IOException {
+        Assert.assertEquals(serialize(parseLazy(JSON), true), JSON);
+        Assert.assertEquals(serialize(parseLazy(JSON), false), JsonParser.parse(JSON).toString());
+    }
+
+    @Test
+    public void testPassThroughModifiedNode() throws IOException {
+        JsonNode node = parseLazy(JSON);
+        node.get("items").get(1).set("id", 3L);
+        // The enclosing nodes of the modified node are written out again, while the others are passed through
+        Assert.assertEquals(serialize(node, true), "{\"name\":\"store\","
+                + "\"items\":[{ \"id\" : 1, \"tags\" : [ \"a\", \"b\" ] },{\"id\":3,\"tags\":[ ]}],"
+                + "\"owner\":{ \"name\" : \"Jos\u00e9\", \"since\" : 2.5, \"active\" : true, \"manager\" : null }}");
+    }
+
+    @Test
+    public void testPassThroughRemovedField() throws IOException {
+        JsonNode node = parseLazy(JSON);
+        node.get("owner").remove("manager");
+        Assert.assertEquals(serialize(node.get("owner"), true),
+                "{\"name\":\"Jos\u00e9\",\"since\":2.5,\"active\":true}");
+        Assert.assertEquals(serialize(node.get("items"), true),
+                "[ { \"id\" : 1, \"tags\" : [ \"a\", \"b\" ] }, { \"id\" : 2, \"tags\" : [ ] } ]");
+    }
+
+    @Test
+    public void testSingleQuotedContentIsNotPassedThrough() throws IOException {
+        JsonNode node = parseLazy("{ 'a' : [ 1, 'b' ] }");
+        Assert.assertEquals(serialize(node, true), "{\"a\":[1,\"b\"]}");
+    }
+
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        // Large enough for the threads to be loading the same nodes at the same time
+        StringBuilder builder = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < RECORDS; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"tags\":[\"t").append(i)
+                    .append("\"]}");
+        }
+        String json = builder.append("],\"owner\":{\"name\":\"Jos\u00e9\",\"active\":true}}").toString();
+        String expected = JsonParser.parse(json).toString();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < 100; i++) {
+                // Each thread starts reading the same unloaded node at the same time
+                JsonNode node = parseLazy(json);
+                CountDownLatch latch = new CountDownLatch(1);
+                List<Future<String>> results = new ArrayList<>(THREADS);
+                for (int j = 0; j < THREADS; j++) {
+                    results.add(executor.submit(readNode(node, latch, j)));
+                }
+                latch.countDown();
+                for (Future<String> result : results) {
+                    Assert.assertEquals(result.get(), expected);
+                }
+                Assert.assertEquals(serialize(node, true), json);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<String> readNode(JsonNode node, CountDownLatch latch, int order) {
+        return () -> {
+            latch.await();
+            // Threads access different nodes first, so that nested nodes are loaded concurrently as well
+            if (order % 2 == 0) {
+                Assert.assertEquals(node.get("items").get(RECORDS - 1).get("tags").get(0).stringValue(),
+                        "t" + (RECORDS - 1));
+                Assert.assertTrue(node.get("owner").get("active").booleanValue());
+            } else {
+                Assert.assertEquals(node.get("owner").get("name").stringValue(), "Jos\u00e9");
+                Assert.assertEquals(node.get("items").size(), RECORDS);
+            }
+            long sum = 0;
+            for (Iterator<JsonNode> items = node.get("items").elements(); items.hasNext(); ) {
+                sum += items.next().get("id").longValue();
+            }
+            Assert.assertEquals(sum, RECORDS * (RECORDS - 1) / 2);
+            return node.toString();
+        };
+    }
+
+    private static JsonNode parseLazy(String json) {
+        return JsonParser.parseLazy(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String serialize(JsonNode node, boolean passThrough) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(outputStream, StandardCharsets.UTF_8);
+        gen.setPassThrough(passThrough);
+        node.serialize(gen);
+        gen.flush();
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
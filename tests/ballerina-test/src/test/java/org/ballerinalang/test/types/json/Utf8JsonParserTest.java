@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.json;
+
+import org.ballerinalang.model.util.JsonNode;
+import org.ballerinalang.model.util.JsonParser;
+import org.ballerinalang.model.util.Utf8JsonParser;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Verifies that the UTF-8 JSON parser produces the same values and the same errors as the character based
+ * {@link JsonParser}.
+ */
+public class Utf8JsonParserTest {
+
+    @DataProvider(name = "validDocuments")
+    public Object[][] validDocuments() {
+        return new Object[][] {
+                {"{\"name\":\"Jos\u00e9\",\"city\":\"\u6771\u4eac\",\"emoji\":\"\uD83D\uDE00\"}"},
+                {"[\"\\u00e9\",\"\\u6771\\u4eac\",\"\\uD83D\\uDE00\",\"a\\n\\t\\\"b\\\\\\/\"]"},
+                {"\"\uD83D\uDE00\uD83D\uDE00 \u00e9\""},
+                {"{\"\u00e9\u00e9\":1, \"k\": [1.5, -2, 0.25, true, false, null], \"o\": {}, \"a\": []}"},
+                {"{'single':'quotes', \"mixed\": ['\u00e9', \"\\u00e9\"]}"},
+                {"\n\t [ [ [ \"\u6771\" ] ], { \"\uD83D\uDE00\" : { } } ] \r\n"},
+                {"[01, 1., -0]"},
+                {"123"},
+                {"null"},
+        };
+    }
+
+    @DataProvider(name = "malformedDocuments")
+    public Object[][] malformedDocuments() {
+        return new Object[][] {
+                {"{\"a\":1,}", "expected \" at line: 1 column: 9"},
+                {"{\"a\" 1}", "expected : at line: 1 column: 6"},
+                {"{", "expected \" or } at line: 1 column: 2"},
+                {"{\"a\":", "unexpected end of JSON document at line: 1 column: 6"},
+                {"{\"a\":1", "unexpected end of JSON document at line: 1 column: 8"},
+                {"{\"a\":1,", "expected \" at line: 1 column: 9"},
+                {"[1,2", "unexpected end of JSON document at line: 1 column: 7"},
+                {"[1,]", "unexpected character ']' at line: 1 column: 5"},
+                {"{\"a\":[1,,2]}", "unexpected character ',' at line: 1 column: 10"},
+                {"\"unterminated", "unexpected end of JSON document at line: 1 column: 14"},
+                {"[-]", "unrecognized token '-' at line: 1 column: 4"},
+                {"nul", "unrecognized token 'nul' at line: 1 column: 5"},
+                {"{\"a\":\"\\x\"}", "expected escaped characters at line: 1 column: 8"},
+                {"[\"\u00e9\\", "expected escaped characters at line: 1 column: 5"},
+                {"{\"a\":\"\\u12G4\"}", "expected hexadecimal value of an unicode character at line: 1 column: 11"},
+                {"", "empty JSON document at line: 1 column: 1"},
+                {"   ", "empty JSON document at line: 1 column: 4"},
+                {"[1] [2]", "JSON document has already ended at line: 1 column: 6"},
+                {"{\"a\":1}}", "JSON document has already ended at line: 1 column: 9"},
+                // Multi-byte characters are counted as a single column, and characters outside the BMP as two
+                {"[\"\u00e9\u00e9\u00e9\", x]", "unrecognized token 'x' at line: 1 column: 11"},
+                {"[\"\uD83D\uDE00\", x]", "unrecognized token 'x' at line: 1 column: 10"},
+                {"{\"\u00e9\":\"\u00e9\"\n, \"b\": tru}", "unrecognized token 'tru' at line: 2 column: 12"},
+                {"{\"\uD83D\uDE00\":\n  [true, fals]}", "unrecognized token 'fals' at line: 2 column: 16"},
+                {"{\n  \"\u6771\u4eac\": \"x\",\n  \"b\": [1, 2,, 3]\n}",
+                        "unexpected character ',' at line: 3 column: 16"},
+        };
+    }
+
+    @Test(dataProvider = "validDocuments")
+    public void testParseValidDocument(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        String expected = JsonParser.parse(json).toString();
+        Assert.assertEquals(Utf8JsonParser.parse(bytes).toString(), expected);
+        Assert.assertEquals(Utf8JsonParser.parseLazy(bytes, 0, bytes.length).toString(), expected);
+    }
+
+    @Test
+    public void testParseMultiByteCharacters() {
+        JsonNode node = Utf8JsonParser.parse("{\"\u00e9\":\"\u6771\u4eac\",\"s\":\"\uD83D\uDE00\\uD83D\\uDE00\"}"
+                .getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(node.get("\u00e9").stringValue(), "\u6771\u4eac");
+        Assert.assertEquals(node.get("s").stringValue(), "\uD83D\uDE00\uD83D\uDE00");
+    }
+
+    @Test(dataProvider = "malformedDocuments")
+    public void testParseMalformedDocument(String json, String message) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(getErrorMessage(() -> JsonParser.parse(json)), message);
+        Assert.assertEquals(getErrorMessage(() -> Utf8JsonParser.parse(bytes)), message);
+        Assert.assertEquals(getErrorMessage(() -> Utf8JsonParser.parseLazy(bytes, 0, bytes.length)), message);
+    }
+
+    @Test
+    public void testParseAfterMalformedDocument() {
+        // A failed parse must not leave any state behind for the next document parsed by the same thread
+        getErrorMessage(() -> JsonParser.parse("[\"\\u12"));
+        getErrorMessage(() -> Utf8JsonParser.parse("[\"\\u12".getBytes(StandardCharsets.UTF_8)));
+        String json = "[\"\\u00e9\", \"x\"]";
+        Assert.assertEquals(JsonParser.parse(json).toString(), "[\"\u00e9\",\"x\"]");
+        Assert.assertEquals(Utf8JsonParser.parse(json.getBytes(StandardCharsets.UTF_8)).toString(),
+                "[\"\u00e9\",\"x\"]");
+    }
+
+    private static String getErrorMessage(Supplier<JsonNode> parser) {
+        try {
+            parser.get();
+        } catch (BallerinaException e) {
+            return e.getMessage();
+        }
+        Assert.fail("expected the document to be rejected");
+        return null;
+    }
+}
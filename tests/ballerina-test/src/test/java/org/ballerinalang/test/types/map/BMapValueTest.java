@@ -20,6 +20,7 @@ package org.ballerinalang.test.types.map;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BRefType;
@@ -29,8 +30,12 @@ import org.ballerinalang.model.values.BXMLItem;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -251,4 +256,99 @@ public class BMapValueTest {
         BValue[] returnVals = BRunUtil.invoke(programFile, "testMapSynchronization", new BValue[0]);
         Assert.assertEquals(((BInteger) returnVals[0]).intValue(), 2000);
         }
+
+    @Test(description = "Testing the insertion order of a map after its removed keys are compacted")
+    public void testBMapOrderAfterCompaction() {
+        BMap<String, BString> map = new BMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, new BString("value" + i));
+        }
+        // Removing most of the keys, starting from the last, compacts the map
+        for (int i = 19; i >= 9; i--) {
+            map.remove("key" + i);
+        }
+        map.remove("key3");
+        map.put("key3", new BString("value3"));
+        map.put("key19", new BString("value19"));
+
+        List<String> keys = new ArrayList<>(map.getMap().keySet());
+        Assert.assertEquals(keys.toArray(), new String[]{"key0", "key1", "key2", "key4", "key5", "key6", "key7",
+                "key8", "key3", "key19"});
+        Assert.assertEquals(map.get("key3").stringValue(), "value3");
+        Assert.assertEquals(map.size(), 10);
+    }
+
+    @Test(description = "Testing setting map values through the entries of the map")
+    public void testBMapEntrySetValue() {
+        BMap<String, BValue> map = new BMap<>();
+        map.put("key1", new BString("foo"));
+        map.put("key2", new BString("bar"));
+
+        BMap<String, BValue> localMap = new BMap<>(BTypes.typeMap, false);
+        for (Map.Entry<String, BValue> entry : map.getMap().entrySet()) {
+            if (entry.getKey().equals("key2")) {
+                Assert.assertEquals(entry.setValue(localMap).stringValue(), "bar");
+            }
+        }
+        Assert.assertSame(map.get("key2"), localMap);
+        Assert.assertEquals(map.get("key1").stringValue(), "foo");
+        Assert.assertEquals(map.size(), 2);
+        // The map became reachable through a shared map
+        Assert.assertTrue(localMap.isShared());
+    }
+
+    @Test(description = "Testing sharing a worker local map")
+    public void testShareLocalBMap() {
+        BMap<String, BValue> map = new BMap<>(BTypes.typeMap, false);
+        BMap<String, BValue> nestedMap = new BMap<>(BTypes.typeMap, false);
+        nestedMap.put("key", new BString("foo"));
+        map.put("nested", nestedMap);
+        Assert.assertFalse(map.isShared());
+        Assert.assertFalse(nestedMap.isShared());
+
+        map.share();
+        Assert.assertTrue(map.isShared());
+        Assert.assertTrue(nestedMap.isShared());
+
+        BMap<String, BValue> laterMap = new BMap<>(BTypes.typeMap, false);
+        map.put("later", laterMap);
+        Assert.assertTrue(laterMap.isShared());
+        Assert.assertEquals(((BMap) map.get("nested")).get("key").stringValue(), "foo");
+    }
+
+    @Test(description = "Testing serializing a map gives the same output as its string value")
+    public void testBMapSerializeData() {
+        BMap<String, BValue> nestedMap = new BMap<>();
+        nestedMap.put("key", new BString("bar"));
+        BMap<String, BValue> map = new BMap<>();
+        map.put("key1", new BInteger(1));
+        map.put("key2", new BString("foo \u00e9\u0dc1"));
+        map.put("key3", null);
+        map.put("key4", nestedMap);
+        map.put("key5", new BXMLItem("<bar>hello</bar>"));
+
+        String expected = "{\"key1\":1, \"key2\":\"foo \u00e9\u0dc1\", \"key3\":null, \"key4\":{\"key\":\"bar\"}, " +
+                "\"key5\":<bar>hello</bar>}";
+        Assert.assertEquals(map.stringValue(), expected);
+        Assert.assertEquals(map.getMessageAsString(), expected);
+        Assert.assertEquals(serialize(map), expected);
+    }
+
+    @Test(dependsOnMethods = "testGrammar",
+            description = "Testing serializing a record gives the same output as its string value")
+    public void testRecordSerializeData() {
+        BValue[] returnVals = BRunUtil.invoke(programFile, "testRecordWithNestedMap", new BValue[0]);
+        BMap<?, ?> record = (BMap<?, ?>) returnVals[0];
+
+        String expected = "{name:\"Jane\", age:25, address:{\"city\":\"Colombo\", \"country\":\"Sri Lanka\"}}";
+        Assert.assertEquals(record.stringValue(), expected);
+        Assert.assertEquals(record.getMessageAsString(), expected);
+        Assert.assertEquals(serialize(record), expected);
+    }
+
+    private String serialize(BMap<?, ?> map) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        map.serializeData(outputStream);
+        return new String(outputStream.toByteArray(), Charset.defaultCharset());
+    }
 }
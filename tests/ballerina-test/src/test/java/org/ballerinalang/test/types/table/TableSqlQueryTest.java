@@ -97,6 +97,18 @@ public class TableSqlQueryTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
     }
 
+    @Test(groups = "TableQueryTest", description = "Do a select with a where on an indexed column and an order by")
+    public void testSelectWithWhereOnIndexedColumnAndOrderBy() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithWhereOnIndexedColumnAndOrderBy");
+        Assert.assertEquals(returns[0].stringValue(), "johnkane");
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a select with group by and having")
+    public void testSelectWithGroupByAndHaving() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithGroupByAndHaving");
+        Assert.assertEquals(returns[0].stringValue(), "282726");
+    }
+
     @Test(groups = "TableTest",
           description = "Verify string conversion of a table returned from ballerina sql query with no indices/primary "
                   + "keys")
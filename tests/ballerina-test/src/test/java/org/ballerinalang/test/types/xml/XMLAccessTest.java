@@ -112,4 +112,22 @@ public class XMLAccessTest {
         Assert.assertEquals(returns[3].stringValue(),
                 "<ns0:fname xmlns:ns0=\"http://test.com\" xmlns=\"http://test.com/default\">John</ns0:fname>");
     }
+
+    @Test
+    public void testRepeatedFieldBasedAccess() {
+        BValue[] returns = BRunUtil.invoke(result, "testRepeatedFieldBasedAccess");
+        Assert.assertEquals(returns[0].stringValue(), "<foo>1</foo>");
+        Assert.assertEquals(returns[1].stringValue(), "<foo>1</foo><foo>2</foo>");
+        Assert.assertEquals(returns[2].stringValue(), "<foo>3</foo>");
+        Assert.assertEquals(returns[3].stringValue(), "<foo>3</foo><foo>2</foo>");
+    }
+
+    @Test
+    public void testAccessAfterModifyingOtherDocuments() {
+        BValue[] returns = BRunUtil.invoke(result, "testAccessAfterModifyingOtherDocuments");
+        Assert.assertEquals(returns[0].stringValue(), "<foo>1</foo>");
+        Assert.assertEquals(returns[1].stringValue(), "<foo>6</foo>");
+        Assert.assertEquals(returns[2].stringValue(), "<foo>1</foo><foo><bar>7</bar></foo>");
+        Assert.assertEquals(returns[3].stringValue(), "<bar>7</bar>");
+    }
 }
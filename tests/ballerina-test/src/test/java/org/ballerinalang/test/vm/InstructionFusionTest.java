@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tests that the superinstructions created by the instruction fusion give the same results as the instructions
+ * emitted by the compiler.
+ */
+public class InstructionFusionTest {
+
+    private static final String SOURCE = "test-src/vm/instruction-fusion.bal";
+
+    private CompileResult fusedResult;
+
+    private CompileResult unfusedResult;
+
+    @BeforeClass
+    public void setup() {
+        fusedResult = BCompileUtil.compile(SOURCE);
+        Assert.assertEquals(fusedResult.getErrorCount(), 0);
+        unfusedResult = BCompileUtil.compile(SOURCE);
+        unfusedResult.getProgFile().setInstructionFusionEnabled(false);
+    }
+
+    @Test(description = "Test that the test functions are compiled to the fused instruction sequences")
+    public void testFusedInstructions() {
+        Set<Integer> opcodes = new HashSet<>();
+        for (Instruction instruction : fusedResult.getProgFile().getEntryPackage().getFusedInstructions()) {
+            opcodes.add(instruction.getOpcode());
+        }
+        for (int opcode = InstructionCodes.IGT_BR_FALSE; opcode <= InstructionCodes.FIELDCOPY; opcode++) {
+            Assert.assertTrue(opcodes.contains(opcode), "opcode " + opcode + " not found");
+        }
+    }
+
+    @Test(description = "Test fused integer comparisons followed by conditional jumps")
+    public void testCompareAndBranch() {
+        int[][] pairs = {{1, 2}, {2, 1}, {3, 3}, {-5, 5}, {Integer.MIN_VALUE, Integer.MAX_VALUE}, {0, 0}};
+        for (int[] pair : pairs) {
+            BValue[] args = {new BInteger(pair[0]), new BInteger(pair[1])};
+            assertSameResults("compareAll", args);
+        }
+
+        BValue[] returns = BRunUtil.invoke(fusedResult, "compareAll", new BValue[]{new BInteger(3), new BInteger(3)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2 + 8 + 16);
+    }
+
+    @Test(description = "Test fused integer constant additions and subtractions")
+    public void testConstArithmetic() {
+        for (int n : new int[]{0, 1, 2, 3, 100, 1000}) {
+            assertSameResults("sumInSteps", new BValue[]{new BInteger(n)});
+        }
+
+        BValue[] returns = BRunUtil.invoke(fusedResult, "sumInSteps", new BValue[]{new BInteger(1000)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 166833);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 66833);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 5000166828L);
+    }
+
+    @Test(description = "Test fused field copies")
+    public void testFieldCopy() {
+        assertSameResults("copyItems", new BValue[]{new BInteger(5)});
+    }
+
+    private void assertSameResults(String functionName, BValue[] args) {
+        BValue[] fusedReturns = BRunUtil.invoke(fusedResult, functionName, args);
+        BValue[] unfusedReturns = BRunUtil.invoke(unfusedResult, functionName, args);
+        Assert.assertEquals(fusedReturns.length, unfusedReturns.length);
+        for (int i = 0; i < fusedReturns.length; i++) {
+            Assert.assertEquals(fusedReturns[i].stringValue(), unfusedReturns[i].stringValue(),
+                    functionName + " returned a different value at " + i);
+        }
+    }
+}
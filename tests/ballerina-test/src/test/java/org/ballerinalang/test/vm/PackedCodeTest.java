@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.util.codegen.Instruction;
+import org.ballerinalang.util.codegen.InstructionCodes;
+import org.ballerinalang.util.codegen.PackageInfo;
+import org.ballerinalang.util.codegen.PackedCode;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests that the packed code of a package holds the opcode and all the operands of each instruction.
+ */
+public class PackedCodeTest {
+
+    @DataProvider(name = "sources")
+    public Object[][] sources() {
+        return new Object[][] {
+                {"test-src/vm/instruction-fusion.bal"},
+                {"test-src/vm/worker-data-pool.bal"},
+        };
+    }
+
+    @Test(description = "Test that packed instructions can be unpacked to the original instructions",
+          dataProvider = "sources")
+    public void testPackUnpack(String source) {
+        CompileResult result = BCompileUtil.compile(source);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        PackageInfo packageInfo = result.getProgFile().getEntryPackage();
+        assertUnpacked(packageInfo.getPackedCode(), packageInfo.getInstructions());
+        assertUnpacked(packageInfo.getFusedPackedCode(), packageInfo.getFusedInstructions());
+    }
+
+    @Test(description = "Test that instructions with resolved objects are packed with their operands")
+    public void testPackCallInstructions() {
+        CompileResult result = BCompileUtil.compile("test-src/vm/worker-data-pool.bal");
+        PackageInfo packageInfo = result.getProgFile().getEntryPackage();
+        Instruction[] instructions = packageInfo.getInstructions();
+        PackedCode packedCode = packageInfo.getPackedCode();
+        int calls = 0;
+        for (int ip = 0; ip < instructions.length; ip++) {
+            if (instructions[ip].getOpcode() == InstructionCodes.CALL) {
+                Assert.assertTrue(instructions[ip].getOperands().length > 0);
+                Assert.assertEquals(unpackOperands(packedCode, ip), instructions[ip].getOperands());
+                calls++;
+            }
+        }
+        Assert.assertTrue(calls > 0, "no CALL instructions found");
+    }
+
+    private static void assertUnpacked(PackedCode packedCode, Instruction[] instructions) {
+        Assert.assertEquals(packedCode.offsets.length, instructions.length);
+        for (int ip = 0; ip < instructions.length; ip++) {
+            Assert.assertEquals(packedCode.code[packedCode.offsets[ip]], instructions[ip].getOpcode(),
+                    "opcode at " + ip);
+            Assert.assertEquals(unpackOperands(packedCode, ip), instructions[ip].getOperands(),
+                    "operands at " + ip);
+        }
+    }
+
+    private static int[] unpackOperands(PackedCode packedCode, int ip) {
+        int end = ip + 1 < packedCode.offsets.length ? packedCode.offsets[ip + 1] : packedCode.code.length;
+        return Arrays.copyOfRange(packedCode.code, packedCode.offsets[ip] + 1, end);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.util.BLangConstants;
+import org.ballerinalang.util.codegen.ProgramFileReader;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Tests the version check of the program files read by the BVM.
+ */
+public class ProgramFileVersionTest {
+
+    @Test(description = "Test reading a program file of the current version")
+    public void testCurrentVersion() {
+        CompileResult result = BCompileUtil.compile("test-src/vm/control-stack-test.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        Assert.assertEquals(result.getProgFile().getVersion(), 19);
+        Assert.assertEquals(BLangConstants.VERSION_NUMBER, 19);
+    }
+
+    @Test(description = "Test reading a program file of the version before positional field access",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "ballerina: unsupported program file version 18")
+    public void testPreviousVersion() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(BLangConstants.MAGIC_NUMBER);
+        dataOutputStream.writeShort(18);
+        dataOutputStream.flush();
+        new ProgramFileReader().readProgram(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.WorkerDataPool;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.attributes.CodeAttributeInfo;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the reuse of worker local data frames from the {@link WorkerDataPool}.
+ */
+public class WorkerDataPoolTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/vm/worker-data-pool.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test that a released frame is cleared and reused for the same code attribute")
+    public void testReleasedFrameIsReused() {
+        CodeAttributeInfo ci = createCodeAttributeInfo();
+        WorkerData frame = WorkerDataPool.acquire(ci);
+        frame.longRegs[1] = 5;
+        frame.stringRegs[0] = "foo";
+        frame.refRegs[0] = new BInteger(7);
+        WorkerDataPool.release(frame);
+
+        Assert.assertNotSame(WorkerDataPool.acquire(createCodeAttributeInfo()), frame);
+        WorkerData reused = WorkerDataPool.acquire(ci);
+        Assert.assertSame(reused, frame);
+        Assert.assertEquals(reused.longRegs[1], 0);
+        Assert.assertNull(reused.stringRegs[0]);
+        Assert.assertNull(reused.refRegs[0]);
+        Assert.assertNotSame(WorkerDataPool.acquire(ci), frame);
+    }
+
+    @Test(description = "Test that a frame with expanded registers is not reused")
+    public void testExpandedFrameIsNotReused() {
+        CodeAttributeInfo ci = createCodeAttributeInfo();
+        WorkerData frame = WorkerDataPool.acquire(ci);
+        frame.longRegs = new long[ci.maxLongRegs + 1];
+        WorkerDataPool.release(frame);
+
+        WorkerData other = WorkerDataPool.acquire(ci);
+        Assert.assertNotSame(other, frame);
+        Assert.assertEquals(other.longRegs.length, ci.maxLongRegs);
+    }
+
+    @Test(description = "Test calling a function repeatedly, which reuses its frame after each return")
+    public void testReuseAfterReturn() {
+        for (int i = 0; i < 3; i++) {
+            BValue[] returns = BRunUtil.invoke(result, "callInLoop", new BValue[]{new BInteger(10)});
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 120);
+        }
+    }
+
+    @Test(description = "Test calling a function repeatedly, which reuses its frame after it fails with an error")
+    public void testReuseAfterError() {
+        for (int i = 0; i < 3; i++) {
+            BValue[] returns = BRunUtil.invoke(result, "callAfterFailures", new BValue[]{new BInteger(10)});
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 20);
+            Assert.assertEquals(((BInteger) returns[1]).intValue(), 4);
+        }
+    }
+
+    @Test(description = "Test calling functions from several workers, each of which reuses frames of its own thread")
+    public void testReuseInWorkers() {
+        for (int i = 0; i < 3; i++) {
+            BValue[] returns = BRunUtil.invoke(result, "callInWorkers");
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 1140);
+            Assert.assertEquals(((BInteger) returns[1]).intValue(), 2004);
+        }
+    }
+
+    private static CodeAttributeInfo createCodeAttributeInfo() {
+        CodeAttributeInfo ci = new CodeAttributeInfo();
+        ci.maxLongRegs = 2;
+        ci.maxStringRegs = 1;
+        ci.maxBValueRegs = 1;
+        return ci;
+    }
+}
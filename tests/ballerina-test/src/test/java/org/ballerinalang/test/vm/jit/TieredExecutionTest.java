@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.vm.jit;
+
+import org.ballerinalang.bre.bvm.WorkerData;
+import org.ballerinalang.bre.bvm.jit.CallableCompiler;
+import org.ballerinalang.bre.bvm.jit.CompiledCallable;
+import org.ballerinalang.bre.bvm.jit.TieredExecution;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.FunctionInfo;
+import org.ballerinalang.util.codegen.WorkerInfo;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests the compilation of functions to JVM bytecode in tiered execution, against the results of the interpreter.
+ */
+public class TieredExecutionTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/vm/jit/tiered-execution.bal");
+    }
+
+    @Test(description = "Test compiled integer arithmetic and loops against the interpreter")
+    public void testCompiledIntArithmetic() throws ReflectiveOperationException {
+        CompiledCallable compiledCallable = compile("sumOfOdds");
+        for (long n : new long[]{0, 1, 7, 1000}) {
+            WorkerData local = createLocal("sumOfOdds");
+            local.longRegs[0] = n;
+            WorkerData workerResult = execute("sumOfOdds", compiledCallable, local);
+            Assert.assertEquals(workerResult.longRegs[getRetReg("sumOfOdds")],
+                    ((BInteger) invoke("sumOfOdds", new BInteger(n))).intValue());
+        }
+    }
+
+    @Test(description = "Test compiled float arithmetic against the interpreter")
+    public void testCompiledFloatArithmetic() throws ReflectiveOperationException {
+        CompiledCallable compiledCallable = compile("polynomial");
+        for (double x : new double[]{0, -1.5, 2.25, 1e10}) {
+            WorkerData local = createLocal("polynomial");
+            local.doubleRegs[0] = x;
+            WorkerData workerResult = execute("polynomial", compiledCallable, local);
+            Assert.assertEquals(workerResult.doubleRegs[getRetReg("polynomial")],
+                    ((BFloat) invoke("polynomial", new BFloat(x))).floatValue());
+        }
+    }
+
+    @Test(description = "Test compiled comparisons and branches against the interpreter")
+    public void testCompiledComparisons() throws ReflectiveOperationException {
+        CompiledCallable compiledCallable = compile("isGreaterOrOpposite");
+        long[][] args = {{3, 2}, {2, 3}, {3, -3}, {0, 0}};
+        for (long[] arg : args) {
+            WorkerData local = createLocal("isGreaterOrOpposite");
+            local.longRegs[0] = arg[0];
+            local.longRegs[1] = arg[1];
+            WorkerData workerResult = execute("isGreaterOrOpposite", compiledCallable, local);
+            BValue interpreted = invoke("isGreaterOrOpposite", new BInteger(arg[0]), new BInteger(arg[1]));
+            Assert.assertEquals(workerResult.intRegs[getRetReg("isGreaterOrOpposite")] == 1,
+                    ((BBoolean) interpreted).booleanValue());
+        }
+    }
+
+    @Test(description = "Test compiled string moves against the interpreter")
+    public void testCompiledStringMoves() throws ReflectiveOperationException {
+        CompiledCallable compiledCallable = compile("pick");
+        for (long a : new long[]{1, -1}) {
+            WorkerData local = createLocal("pick");
+            local.longRegs[0] = a;
+            local.stringRegs[0] = "positive";
+            local.stringRegs[1] = "negative";
+            WorkerData workerResult = execute("pick", compiledCallable, local);
+            Assert.assertEquals(workerResult.stringRegs[getRetReg("pick")],
+                    invoke("pick", new BInteger(a), new BString("positive"), new BString("negative")).stringValue());
+        }
+    }
+
+    @Test(description = "Test that a function with instructions which can raise errors is not compiled")
+    public void testFallbackToInterpreter() throws ReflectiveOperationException {
+        Assert.assertNull(compile("divide"));
+
+        FunctionInfo functionInfo = getFunctionInfo("divide");
+        for (int i = 0; i < TieredExecution.getThreshold(); i++) {
+            Assert.assertNull(TieredExecution.getCompiledCallable(functionInfo));
+        }
+        Assert.assertTrue(functionInfo.isCompilationAttempted());
+        Assert.assertNull(functionInfo.getCompiledCallable());
+
+        // The function keeps running in the interpreter, including its errors
+        Assert.assertEquals(((BInteger) invoke("divide", new BInteger(7), new BInteger(2))).intValue(), 3);
+        try {
+            invoke("divide", new BInteger(7), new BInteger(0));
+            Assert.fail("division by zero did not fail");
+        } catch (BLangRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains(" / by zero"), e.getMessage());
+        }
+    }
+
+    @Test(description = "Test that a function invoked concurrently is compiled once it reaches the threshold")
+    public void testConcurrentInvocationCount() throws Exception {
+        FunctionInfo functionInfo = getFunctionInfo("sumOfOdds");
+        int threads = 4;
+        int invocationsPerThread = TieredExecution.getThreshold() / threads + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<CompiledCallable>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<CompiledCallable> task = () -> {
+                    CompiledCallable compiledCallable = null;
+                    for (int j = 0; j < invocationsPerThread; j++) {
+                        compiledCallable = TieredExecution.getCompiledCallable(functionInfo);
+                    }
+                    return compiledCallable;
+                };
+                futures.add(executor.submit(task));
+            }
+            for (Future<CompiledCallable> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // No invocation is lost, so the threshold is reached, and all later invocations get the same compiled form
+        CompiledCallable compiledCallable = functionInfo.getCompiledCallable();
+        Assert.assertNotNull(compiledCallable);
+        Assert.assertSame(TieredExecution.getCompiledCallable(functionInfo), compiledCallable);
+
+        WorkerData local = createLocal("sumOfOdds");
+        local.longRegs[0] = 10;
+        Assert.assertEquals(execute("sumOfOdds", compiledCallable, local).longRegs[getRetReg("sumOfOdds")], 100);
+    }
+
+    private BValue invoke(String functionName, BValue... args) {
+        return BRunUtil.invoke(result, functionName, args)[0];
+    }
+
+    private FunctionInfo getFunctionInfo(String functionName) {
+        return result.getProgFile().getEntryPackage().getFunctionInfo(functionName);
+    }
+
+    private WorkerInfo getWorkerInfo(String functionName) {
+        return getFunctionInfo(functionName).getWorkerSet().generalWorkers[0];
+    }
+
+    private CompiledCallable compile(String functionName) throws ReflectiveOperationException {
+        return CallableCompiler.compile(getFunctionInfo(functionName), getWorkerInfo(functionName));
+    }
+
+    private WorkerData createLocal(String functionName) {
+        return new WorkerData(getWorkerInfo(functionName).getCodeAttributeInfo());
+    }
+
+    private int getRetReg(String functionName) {
+        return getFunctionInfo(functionName).retWorkerIndex.retRegs[0];
+    }
+
+    private WorkerData execute(String functionName, CompiledCallable compiledCallable, WorkerData local) {
+        FunctionInfo functionInfo = getFunctionInfo(functionName);
+        WorkerData workerResult = new WorkerData(functionInfo.retWorkerIndex);
+        compiledCallable.execute(local, workerResult, functionInfo.retWorkerIndex.retRegs);
+        return workerResult;
+    }
+}
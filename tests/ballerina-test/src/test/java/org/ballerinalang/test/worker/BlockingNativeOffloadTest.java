@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.runtime.threadpool.WorkerScheduler;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the execution of blocking native calls in a separate blocking native call scheduler.
+ */
+public class BlockingNativeOffloadTest {
+
+    private static final String BLOCKING_THREAD_NAME = "test-blocking-native-thread";
+
+    private CompileResult result;
+
+    private WorkerScheduler previousScheduler;
+
+    private RecordingScheduler blockingScheduler;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/workers/blocking-native-offload.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        this.previousScheduler = ThreadPoolFactory.getInstance().getBlockingNativeScheduler();
+        this.blockingScheduler = new RecordingScheduler();
+        this.blockingScheduler.initialize(1);
+        ThreadPoolFactory.getInstance().setBlockingNativeScheduler(this.blockingScheduler);
+    }
+
+    @BeforeMethod
+    public void resetCounts() {
+        this.blockingScheduler.executedCount.set(0);
+        this.blockingScheduler.submittedInBlockingThreadCount.set(0);
+    }
+
+    @Test(description = "Test that blocking native calls are executed in the blocking native call scheduler")
+    public void testOffloadedCalls() {
+        BValue[] args = {new BString("abc"), new BInteger(10)};
+        BValue[] returns = BRunUtil.invoke(result, "toUpperInLoop", args);
+        Assert.assertEquals(returns[0].stringValue(), "ABCABCABCABCABCABCABCABCABCABC");
+        Assert.assertEquals(this.blockingScheduler.executedCount.get(), 10);
+        // The caller is resumed in the worker scheduler, hence the next call is never made by a blocking thread
+        Assert.assertEquals(this.blockingScheduler.submittedInBlockingThreadCount.get(), 0);
+    }
+
+    @Test(description = "Test that each worker is resumed with the results of its own blocking native calls")
+    public void testOffloadedCallsInWorkers() {
+        BValue[] returns = BRunUtil.invoke(result, "toUpperInWorkers");
+        Assert.assertEquals(returns[0].stringValue(), "FOOFOOFOOFOOFOO|BARBARBARBARBAR");
+        Assert.assertEquals(this.blockingScheduler.executedCount.get(), 10);
+        Assert.assertEquals(this.blockingScheduler.submittedInBlockingThreadCount.get(), 0);
+    }
+
+    @Test(description = "Test that an error of a blocking native call is thrown in the caller")
+    public void testOffloadedCallError() {
+        BValue[] returns = BRunUtil.invoke(result, "substringOutOfRange", new BValue[]{new BString("abc")});
+        Assert.assertEquals(returns[0].stringValue(),
+                "caught: String index out of range. Actual:3 requested: 0 to 100");
+        Assert.assertEquals(this.blockingScheduler.executedCount.get(), 1);
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        ThreadPoolFactory.getInstance().setBlockingNativeScheduler(this.previousScheduler);
+        this.blockingScheduler.shutdown();
+        Assert.assertTrue(this.blockingScheduler.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Blocking native call scheduler which records where the calls are made from.
+     */
+    private static class RecordingScheduler implements WorkerScheduler {
+
+        private final AtomicInteger executedCount = new AtomicInteger();
+
+        private final AtomicInteger submittedInBlockingThreadCount = new AtomicInteger();
+
+        private ExecutorService executor;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void initialize(int poolSize) {
+            this.executor = Executors.newCachedThreadPool(task -> new Thread(task, BLOCKING_THREAD_NAME));
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (BLOCKING_THREAD_NAME.equals(Thread.currentThread().getName())) {
+                this.submittedInBlockingThreadCount.incrementAndGet();
+            }
+            this.executor.execute(() -> {
+                this.executedCount.incrementAndGet();
+                task.run();
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            this.executor.shutdown();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return this.executor.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.runtime.threadpool.ElasticWorkerScheduler;
+import org.ballerinalang.runtime.threadpool.ForkJoinWorkerScheduler;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.runtime.threadpool.VirtualThreadWorkerScheduler;
+import org.ballerinalang.runtime.threadpool.WorkerScheduler;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the worker test suites with each of the worker schedulers other than the default one.
+ */
+public class WorkerSchedulerTest {
+
+    private static final Class<?>[] WORKER_TEST_SUITES = {BasicWorkerTest.class, NotSoBasicWorkerTest.class,
+            WorkerInFunctionTest.class};
+
+    @DataProvider(name = "schedulers")
+    public Object[][] schedulers() {
+        return new Object[][]{
+                {new ForkJoinWorkerScheduler()},
+                {new VirtualThreadWorkerScheduler()},
+                {new ElasticWorkerScheduler()}
+        };
+    }
+
+    @Test(description = "Test running the worker test suites with a worker scheduler", dataProvider = "schedulers")
+    public void testWorkerScheduler(WorkerScheduler scheduler) throws Exception {
+        try {
+            scheduler.initialize(4);
+        } catch (BallerinaException e) {
+            // The virtual thread scheduler is not supported in older JDKs
+            throw new SkipException(scheduler.getName() + " scheduler is not supported: " + e.getMessage());
+        }
+
+        ThreadPoolFactory threadPoolFactory = ThreadPoolFactory.getInstance();
+        WorkerScheduler previousScheduler = threadPoolFactory.getWorkerScheduler();
+        threadPoolFactory.setWorkerScheduler(scheduler);
+        try {
+            for (Class<?> suite : WORKER_TEST_SUITES) {
+                runSuite(suite);
+            }
+        } finally {
+            threadPoolFactory.setWorkerScheduler(previousScheduler);
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void runSuite(Class<?> suite) throws Exception {
+        Object instance = suite.newInstance();
+        for (Method method : suite.getMethods()) {
+            if (method.isAnnotationPresent(BeforeClass.class)) {
+                invoke(method, instance);
+            }
+        }
+        for (Method method : suite.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)) {
+                invoke(method, instance);
+            }
+        }
+    }
+
+    private static void invoke(Method method, Object instance) throws Exception {
+        try {
+            method.invoke(instance);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                    + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
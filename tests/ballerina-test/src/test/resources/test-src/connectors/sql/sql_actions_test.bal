@@ -447,6 +447,47 @@ function testArrayofQueryParameters(string jdbcUrl, string userName, string pass
     return firstName;
 }
 
+function testArrayofQueryParametersOfDifferentSizes(string jdbcUrl, string userName, string password) returns (int,
+            int, int) {
+    endpoint jdbc:Client testDB {
+        url: jdbcUrl,
+        username: userName,
+        password: password,
+        poolOptions: { maximumPoolSize: 1 }
+    };
+
+    string query = "SELECT FirstName from Customers where registrationID in (?) and lastName in (?)";
+    string[] lastNames = ["Stuart", "Watson"];
+    int[] singleId = [1];
+    int[] twoIds = [1, 2];
+    sql:Parameter lastNamesPara = { sqlType: sql:TYPE_VARCHAR, value: lastNames };
+    sql:Parameter singleIdPara = { sqlType: sql:TYPE_INTEGER, value: singleId };
+    sql:Parameter twoIdsPara = { sqlType: sql:TYPE_INTEGER, value: twoIds };
+
+    table dt1 = check testDB->select(query, ResultCustomers, singleIdPara, lastNamesPara);
+    int count1 = 0;
+    while (dt1.hasNext()) {
+        var rs = dt1.getNext();
+        count1 = count1 + 1;
+    }
+
+    table dt2 = check testDB->select(query, ResultCustomers, twoIdsPara, lastNamesPara);
+    int count2 = 0;
+    while (dt2.hasNext()) {
+        var rs = dt2.getNext();
+        count2 = count2 + 1;
+    }
+
+    table dt3 = check testDB->select(query, ResultCustomers, singleIdPara, lastNamesPara);
+    int count3 = 0;
+    while (dt3.hasNext()) {
+        var rs = dt3.getNext();
+        count3 = count3 + 1;
+    }
+    testDB.stop();
+    return (count1, count2, count3);
+}
+
 function testBoolArrayofQueryParameters(string jdbcUrl, string userName, string password) returns (int) {
     endpoint jdbc:Client testDB {
         url: jdbcUrl,
@@ -1078,6 +1119,33 @@ function testBatchUpdate(string jdbcUrl, string userName, string password) retur
     return updateCount;
 }
 
+function testBatchUpdateWithMultiRowInsert(string jdbcUrl, string userName, string password) returns (int[], int) {
+    endpoint jdbc:Client testDB {
+        url: jdbcUrl,
+        username: userName,
+        password: password,
+        poolOptions: { maximumPoolSize: 1 }
+    };
+
+    myBatchType[] parameters1 = ["Alex", "Smith", 61, 3400.5, "Colombo"];
+    myBatchType[] parameters2 = ["John", "Gates", 61, 2400.5, "NY"];
+    myBatchType[] parameters3 = ["Anne", "Frank", 61, 1400.5, "London"];
+
+    int[] updateCount = check testDB->batchUpdate("Insert into Customers (firstName,lastName,registrationID,creditLimit,country)
+                                     values (?,?,?,?,?)", parameters1, parameters2, parameters3);
+    table dt = check testDB->select("SELECT count(*) as countval from Customers where registrationID = 61",
+        ResultCount);
+
+    int count;
+    while (dt.hasNext()) {
+        ResultCount rs = check <ResultCount>dt.getNext();
+        count = rs.COUNTVAL;
+    }
+
+    testDB.stop();
+    return (updateCount, count);
+}
+
 type myBatchType string|int|float;
 
 function testBatchUpdateWithValues(string jdbcUrl, string userName, string password) returns int[] {
@@ -1456,6 +1524,23 @@ function testSelectLoadToMemory(string jdbcUrl, string userName, string password
     return (employeeArray1, employeeArray2, employeeArray3);
 }
 
+function testSelectWithFetchSize(string jdbcUrl, string userName, string password) returns (string) {
+    endpoint jdbc:Client testDB {
+        url: jdbcUrl,
+        username: userName,
+        password: password,
+        poolOptions: { maximumPoolSize: 1 }
+    };
+
+    table dt = check testDB->select("SELECT * from employeeItr", Employee, fetchSize = 2);
+
+    json j = check <json>dt;
+    string data = io:sprintf("%j", j);
+
+    testDB.stop();
+    return data;
+}
+
 function testLoadToMemorySelectAfterTableClose(string jdbcUrl, string userName, string password) returns (Employee[],
             Employee[], error) {
     endpoint jdbc:Client testDB {
@@ -0,0 +1,35 @@
+type A record {
+    string x;
+    int y;
+};
+
+type B record {
+    string x;
+};
+
+function createA() returns any {
+    A a = {x: "x-valueof-a", y: 4};
+    return a;
+}
+
+function createB() returns any {
+    B b = {x: "x-valueof-b"};
+    return b;
+}
+
+function countCasts(any value, int times) returns int {
+    int count = 0;
+    int i = 0;
+    while (i < times) {
+        var casted = <A> value;
+        match casted {
+            A a => {
+                count = count + 1;
+            }
+            error e => {
+            }
+        }
+        i = i + 1;
+    }
+    return count;
+}
@@ -6,6 +6,10 @@ function initFileChannel (string filePath, io:Mode permission) {
     channel = io:openFile(filePath, permission);
 }
 
+function initMemoryChannel (blob content) {
+    channel = io:createMemoryChannel(content);
+}
+
 function readBytes (int numberOfBytes) returns (blob|error) {
     blob empty;
     var result = channel.read(numberOfBytes);
@@ -0,0 +1,67 @@
+import ballerina/io;
+
+io:XmlElementChannel? xmlElementChannel;
+
+function initXmlElementChannel(string filePath, io:Mode permission, string encoding, string path) {
+    io:ByteChannel byteChannel = io:openFile(filePath, permission);
+    io:CharacterChannel charChannel = new io:CharacterChannel(byteChannel, encoding);
+    xmlElementChannel = new io:XmlElementChannel(charChannel, path = path);
+}
+
+function nextElement() returns xml|error {
+    var result = xmlElementChannel.getNext();
+    match result {
+        xml element => {
+            return element;
+        }
+        error err => {
+            return err;
+        }
+        () => {
+            error e = {message: "XML element channel not initialized properly"};
+            return e;
+        }
+    }
+}
+
+function hasNextElement() returns boolean|error {
+    var result = xmlElementChannel.hasNext();
+    match result {
+        boolean hasNext => {
+            return hasNext;
+        }
+        error err => {
+            return err;
+        }
+        () => {
+            error e = {message: "XML element channel not initialized properly"};
+            return e;
+        }
+    }
+}
+
+function copyElements(string sourcePath, string targetPath, string path) returns int|error {
+    io:CharacterChannel sourceChannel = new io:CharacterChannel(io:openFile(sourcePath, io:READ), "UTF-8");
+    io:CharacterChannel targetChannel = new io:CharacterChannel(io:openFile(targetPath, io:WRITE), "UTF-8");
+    io:XmlElementChannel source = new io:XmlElementChannel(sourceChannel, path = path);
+    io:XmlElementChannel target = new io:XmlElementChannel(targetChannel, path = path);
+    int count = 0;
+    while (check source.hasNext()) {
+        xml element = check source.getNext();
+        match target.write(element) {
+            error err => return err;
+            () => {
+                count = count + 1;
+            }
+        }
+    }
+    var closeSourceResult = source.close();
+    match target.close() {
+        error err => return err;
+        () => return count;
+    }
+}
+
+function close() {
+    var err = xmlElementChannel.close();
+}
@@ -0,0 +1,79 @@
+public type Shape object {
+    public function area() returns int;
+};
+
+public function Shape::area() returns int {
+    return 1;
+}
+
+public type Square object {
+    public function area() returns int;
+};
+
+public function Square::area() returns int {
+    return 2;
+}
+
+public type Circle object {
+    public function area() returns int;
+};
+
+public function Circle::area() returns int {
+    return 4;
+}
+
+public type Triangle object {
+    public function area() returns int;
+};
+
+public function Triangle::area() returns int {
+    return 8;
+}
+
+public type Hexagon object {
+    public function area() returns int;
+};
+
+public function Hexagon::area() returns int {
+    return 16;
+}
+
+public type Octagon object {
+    public function area() returns int;
+};
+
+public function Octagon::area() returns int {
+    return 32;
+}
+
+function getShape(int kind) returns Shape {
+    if (kind == 0) {
+        Shape shape = new;
+        return shape;
+    } else if (kind == 1) {
+        Square square = new;
+        return <Shape>square;
+    } else if (kind == 2) {
+        Circle circle = new;
+        return <Shape>circle;
+    } else if (kind == 3) {
+        Triangle triangle = new;
+        return <Shape>triangle;
+    } else if (kind == 4) {
+        Hexagon hexagon = new;
+        return <Shape>hexagon;
+    }
+    Octagon octagon = new;
+    return <Shape>octagon;
+}
+
+function sumAreas(int kinds) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < kinds) {
+        Shape shape = getShape(i);
+        total = total + shape.area();
+        i = i + 1;
+    }
+    return total;
+}
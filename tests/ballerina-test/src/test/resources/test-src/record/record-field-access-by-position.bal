@@ -0,0 +1,47 @@
+type Point record {
+    int x;
+    float weight;
+    string label;
+    boolean visible;
+    blob data;
+    Point? next;
+};
+
+function createPoint() returns Point {
+    Point next = {x: 2, weight: 0.5, label: "next"};
+    string text = "data";
+    Point source = {x: 1, weight: 2.5, label: "source", visible: true, data: text.toBlob("UTF-8"), next: next};
+    return source;
+}
+
+function copyPoint(Point source) returns Point {
+    Point target = {};
+    target.x = source.x;
+    target.weight = source.weight;
+    target.label = source.label;
+    target.visible = source.visible;
+    target.data = source.data;
+    target.next = source.next;
+    return target;
+}
+
+function testCopyPoint() returns (Point, Point) {
+    Point source = createPoint();
+    Point target = copyPoint(source);
+    // The copy does not share the value type fields of the source
+    source.x = 10;
+    source.label = "modified";
+    return (source, target);
+}
+
+function updatePoint(Point p) returns (int, float, string, boolean, blob, Point?) {
+    p.x = p.x + 1;
+    p.weight = p.weight * 2.0;
+    p.label = p.label + "!";
+    p.visible = !p.visible;
+    string text = "updated";
+    p.data = text.toBlob("UTF-8");
+    Point? previous = p.next;
+    p.next = {x: 3, weight: 1.5, label: "new"};
+    return (p.x, p.weight, p.label, p.visible, p.data, previous);
+}
@@ -95,3 +95,15 @@ function testMapSynchronization() returns (int)
         return lengthof m;
     }
 }
+
+type Employee record {
+    string name;
+    int age;
+    map address;
+};
+
+function testRecordWithNestedMap() returns (Employee) {
+    map address = {city: "Colombo", country: "Sri Lanka"};
+    Employee employee = {name: "Jane", age: 25, address: address};
+    return employee;
+}
@@ -26,6 +26,10 @@ type Student record {
     int age = -1,
 };
 
+type PersonAge record {
+    int age,
+};
+
 function testSimpleSelectAll() returns (int) {
 
     table<Person> personTable = table{};
@@ -269,3 +273,49 @@ function testTableToString() returns table {
 
     return personTableCopy;
 }
+
+function testSelectWithWhereOnIndexedColumnAndOrderBy() returns (string) {
+    table<Person> personTable = table{ index: ["age"], primaryKey: ["id"] };
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+    Person p4 = { id: 4, age: 28, salary: 600.50, name: "alex", married: false };
+    Person p5 = { id: 5, age: 26, salary: 700.50, name: "john", married: true };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+    _ = personTable.add(p3);
+    _ = personTable.add(p4);
+    _ = personTable.add(p5);
+
+    table<Person> personTableCopy = from personTable where age == 26 select * order by salary descending;
+    string names = "";
+    while (personTableCopy.hasNext()) {
+        Person p = check <Person>personTableCopy.getNext();
+        names = names + p.name;
+    }
+    return names;
+}
+
+function testSelectWithGroupByAndHaving() returns (string) {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+    Person p4 = { id: 4, age: 28, salary: 600.50, name: "alex", married: false };
+    Person p5 = { id: 5, age: 26, salary: 700.50, name: "john", married: true };
+
+    _ = personTable.add(p1);
+    _ = personTable.add(p2);
+    _ = personTable.add(p3);
+    _ = personTable.add(p4);
+    _ = personTable.add(p5);
+
+    table<PersonAge> ageTable = from personTable select age group by age having age > 25 order by age descending;
+    string ages = "";
+    while (ageTable.hasNext()) {
+        PersonAge a = check <PersonAge>ageTable.getNext();
+        ages = ages + a.age;
+    }
+    return ages;
+}
@@ -55,3 +55,43 @@ function testFieldBasedAccessWithNamespaces() returns (xml, xml, xml, xml) {
 
     return (x4, x5, x6, x7);
 }
+
+function testRepeatedFieldBasedAccess() returns (xml, xml, xml, xml) {
+    xml x1 = xml `<name><fname><foo>1</foo></fname><lname><foo>2</foo></lname></name>`;
+
+    xml x2 = x1.fname.foo;
+    int i = 0;
+    while (i < 3) {
+        x2 = x1.fname.foo;
+        i = i + 1;
+    }
+    xml x3 = x1.selectDescendants("foo");
+
+    xml fname = x1.fname;
+    fname.setChildren(xml `<foo>3</foo>`);
+    xml x4 = x1.fname.foo;
+    xml x5 = x1.selectDescendants("foo");
+
+    return (x2, x3, x4, x5);
+}
+
+function testAccessAfterModifyingOtherDocuments() returns (xml, xml, xml, xml) {
+    xml x1 = xml `<name><fname><foo>1</foo></fname><lname><foo>2</foo></lname></name>`;
+    xml x2 = xml `<name><fname><foo>5</foo></fname></name>`;
+
+    xml x3 = x1.fname.foo;
+    xml x4 = x2.fname.foo;
+    xml x5 = x1.selectDescendants("foo");
+
+    xml fname = x2.fname;
+    fname.setChildren(xml `<foo>6</foo>`);
+    x3 = x1.fname.foo;
+    x4 = x2.fname.foo;
+
+    // Modifying a nested element invalidates the descendants of its ancestors
+    xml foo = x1.lname.foo;
+    foo.setChildren(xml `<bar>7</bar>`);
+    x5 = x1.selectDescendants("bar");
+
+    return (x3, x4, x1.selectDescendants("foo"), x5);
+}
@@ -0,0 +1,70 @@
+type Item record {
+    int id;
+    float price;
+    string name;
+    boolean available;
+    Item? parent;
+};
+
+function compareAll(int a, int b) returns int {
+    int flags = 0;
+    if (a > b) {
+        flags = flags + 1;
+    }
+    if (a >= b) {
+        flags = flags + 2;
+    }
+    if (a < b) {
+        flags = flags + 4;
+    }
+    if (a <= b) {
+        flags = flags + 8;
+    }
+    if (a == b) {
+        flags = flags + 16;
+    }
+    if (a != b) {
+        flags = flags + 32;
+    }
+    return flags;
+}
+
+function sumInSteps(int n) returns (int, int, int) {
+    int i = 0;
+    int sum = 0;
+    while (i < n) {
+        sum = sum + i;
+        i = i + 3;
+    }
+    int countDown = sum;
+    while (countDown >= 100000) {
+        countDown = countDown - 100000;
+    }
+    // The constant does not fit into an operand, hence it is not fused
+    int large = sum + 5000000000;
+    return (sum, countDown, large - 5);
+}
+
+function copyItem(Item source) returns Item {
+    Item target = {};
+    target.id = source.id;
+    target.price = source.price;
+    target.name = source.name;
+    target.available = source.available;
+    target.parent = source.parent;
+    return target;
+}
+
+function copyItems(int count) returns Item[] {
+    Item[] items = [];
+    Item parent = {id: -1, name: "root"};
+    int i = 0;
+    float price = 0.0;
+    while (i < count) {
+        Item source = {id: i, price: price, name: "item" + i, available: i % 2 == 0, parent: parent};
+        items[i] = copyItem(source);
+        i = i + 1;
+        price = price + 1.5;
+    }
+    return items;
+}
@@ -0,0 +1,28 @@
+function sumOfOdds(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        sum = sum + i * 2 + 1;
+        i = i + 1;
+    }
+    return sum;
+}
+
+function polynomial(float x) returns float {
+    return x * x * 3.5 - x + 1.25;
+}
+
+function isGreaterOrOpposite(int a, int b) returns boolean {
+    return a > b || a == -b;
+}
+
+function pick(int a, string positive, string negative) returns string {
+    if (a >= 0) {
+        return positive;
+    }
+    return negative;
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
@@ -0,0 +1,64 @@
+function accumulate(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < n) {
+        sum = sum + i;
+        i = i + 1;
+    }
+    return sum;
+}
+
+function callInLoop(int count) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < count) {
+        total = total + accumulate(i);
+        i = i + 1;
+    }
+    return total;
+}
+
+function failIfLarge(int n) returns int {
+    int sum = accumulate(n);
+    if (sum > 10) {
+        error e = {message: "sum too large: " + sum};
+        throw e;
+    }
+    return sum;
+}
+
+function callAfterFailures(int count) returns (int, int) {
+    int total = 0;
+    int failures = 0;
+    int i = 0;
+    while (i < count) {
+        try {
+            total = total + failIfLarge(i);
+        } catch (error e) {
+            failures = failures + 1;
+        }
+        i = i + 1;
+    }
+    return (total, failures);
+}
+
+function callInWorkers() returns (int, int) {
+    worker default {
+        int fromW1;
+        int fromW2;
+        fromW1 <- w1;
+        fromW2 <- w2;
+        return (fromW1, fromW2);
+    }
+
+    worker w1 {
+        int result = callInLoop(20);
+        result -> default;
+    }
+
+    worker w2 {
+        var (total, failures) = callAfterFailures(10);
+        int result = total * 100 + failures;
+        result -> default;
+    }
+}
@@ -0,0 +1,37 @@
+function toUpperInLoop(string value, int count) returns string {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result = result + value.toUpper();
+        i = i + 1;
+    }
+    return result;
+}
+
+function toUpperInWorkers() returns string {
+    worker default {
+        string fromW1;
+        string fromW2;
+        fromW1 <- w1;
+        fromW2 <- w2;
+        return fromW1 + "|" + fromW2;
+    }
+
+    worker w1 {
+        string result = toUpperInLoop("foo", 5);
+        result -> default;
+    }
+
+    worker w2 {
+        string result = toUpperInLoop("bar", 5);
+        result -> default;
+    }
+}
+
+function substringOutOfRange(string value) returns string {
+    try {
+        return value.substring(0, 100);
+    } catch (error e) {
+        return "caught: " + e.message;
+    }
+}